@@ -0,0 +1,56 @@
+package com.enterprise.fast.bench;
+
+import com.enterprise.fast.dto.response.FastProblemResponse;
+import com.enterprise.fast.util.TicketCsvWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** CSV export (GET /api/v1/problems/export) at its default and maximum row limits. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvExportBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private List<FastProblemResponse> data;
+
+    @Setup
+    public void setUp() {
+        data = TicketFixtures.responses(TicketFixtures.tickets(rows, 0, 7));
+    }
+
+    @Benchmark
+    public String toCsv() {
+        return TicketCsvWriter.toCsv(data);
+    }
+
+    /** Field escaping alone; most values need no quoting, titles with commas or quotes do. */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String escapeCsvQuoted() {
+        return TicketCsvWriter.escapeCsv("Payment \"batch\" failure, overnight settlement");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String escapeCsvPlain() {
+        return TicketCsvWriter.escapeCsv("PBT-12345");
+    }
+}
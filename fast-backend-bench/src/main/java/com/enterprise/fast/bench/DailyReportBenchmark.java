@@ -0,0 +1,44 @@
+package com.enterprise.fast.bench;
+
+import com.enterprise.fast.dto.response.FastProblemResponse;
+import com.enterprise.fast.service.DailyReportTemplateService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Daily report e-mail body for one region. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DailyReportBenchmark {
+
+    @Param({"20", "500"})
+    private int tickets;
+
+    private final DailyReportTemplateService templateService = new DailyReportTemplateService();
+    private List<FastProblemResponse> data;
+
+    @Setup
+    public void setUp() {
+        data = TicketFixtures.responses(TicketFixtures.tickets(tickets, 0, 11));
+    }
+
+    @Benchmark
+    public String buildHtml() {
+        return templateService.buildHtml("EMEA", "2025-01-06", data);
+    }
+}
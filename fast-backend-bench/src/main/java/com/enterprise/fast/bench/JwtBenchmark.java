@@ -0,0 +1,55 @@
+package com.enterprise.fast.bench;
+
+import com.enterprise.fast.config.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthFilter cost per request: it calls isTokenValid, extractUsername and extractRole, and each one parses and
+ * verifies the token again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil("benchmark-secret-key-that-is-at-least-256-bits-long", 3_600_000);
+        token = jwtUtil.generateToken("jdoe", "ADMIN");
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtUtil.isTokenValid(token);
+    }
+
+    @Benchmark
+    public String authFilterPath() {
+        if (!jwtUtil.isTokenValid(token)) {
+            return null;
+        }
+        return jwtUtil.extractUsername(token) + jwtUtil.extractRole(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("jdoe", "ADMIN");
+    }
+}
@@ -0,0 +1,54 @@
+package com.enterprise.fast.bench;
+
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.dto.response.FastProblemResponse;
+import com.enterprise.fast.mapper.FastProblemMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** FastProblemMapper on a list page (summary) and on detail pages with growing comment threads. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"0", "20", "200"})
+    private int commentsPerTicket;
+
+    private final FastProblemMapper mapper = new FastProblemMapper();
+    private List<FastProblem> page;
+
+    @Setup
+    public void setUp() {
+        page = TicketFixtures.tickets(50, commentsPerTicket, 42);
+    }
+
+    @Benchmark
+    public FastProblemResponse toResponse() {
+        return mapper.toResponse(page.get(0));
+    }
+
+    /** One list page of 50 tickets, as served by GET /api/v1/problems. */
+    @Benchmark
+    public void toSummaryResponsePage(Blackhole bh) {
+        for (FastProblem problem : page) {
+            bh.consume(mapper.toSummaryResponse(problem));
+        }
+    }
+}
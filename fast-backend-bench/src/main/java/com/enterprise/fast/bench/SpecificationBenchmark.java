@@ -0,0 +1,81 @@
+package com.enterprise.fast.bench;
+
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.repository.FastProblemSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.hibernate5.LocalSessionFactoryBuilder;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria predicate construction for the ticket list filters, against a real Hibernate CriteriaBuilder built from the
+ * application's entities (no database round trip; H2 is only there to satisfy the bootstrap).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBenchmark {
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+    private String keyword = "payment batch";
+    private LocalDate from = LocalDate.of(2025, 1, 1);
+    private LocalDate to = LocalDate.of(2025, 3, 31);
+
+    @Setup
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1");
+        LocalSessionFactoryBuilder builder = new LocalSessionFactoryBuilder(dataSource);
+        builder.scanPackages("com.enterprise.fast.domain.entity");
+        builder.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        builder.setProperty("hibernate.hbm2ddl.auto", "none");
+        sessionFactory = builder.buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /** Default list page: only the deleted/archived predicates. */
+    @Benchmark
+    public Predicate noFilters() {
+        return toPredicate(FastProblemSpecification.withFilters(null, null, null, null, null, null, null));
+    }
+
+    /** Every filter set: keyword ORs, region and application joins, date range, status, RAG, age, impact, group. */
+    @Benchmark
+    public Predicate allFilters() {
+        return toPredicate(FastProblemSpecification.withFilters(keyword, "EMEA", "A", "Finance Portal", from, to,
+                null, null, "OPEN", "R", 5, 90, 10, 2, 3L));
+    }
+
+    private Predicate toPredicate(Specification<FastProblem> specification) {
+        CriteriaQuery<FastProblem> query = cb.createQuery(FastProblem.class);
+        Root<FastProblem> root = query.from(FastProblem.class);
+        return specification.toPredicate(root, query, cb);
+    }
+}
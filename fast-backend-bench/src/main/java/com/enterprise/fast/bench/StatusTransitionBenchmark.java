@@ -0,0 +1,45 @@
+package com.enterprise.fast.bench;
+
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.exception.InvalidStateTransitionException;
+import com.enterprise.fast.util.StatusTransitionValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Allowed transitions are a map lookup; rejected ones also pay for building the exception. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusTransitionBenchmark {
+
+    private TicketStatus from = TicketStatus.IN_PROGRESS;
+    private TicketStatus allowed = TicketStatus.ROOT_CAUSE_IDENTIFIED;
+    private TicketStatus rejected = TicketStatus.CLOSED;
+
+    @Benchmark
+    public void validTransition() {
+        StatusTransitionValidator.validate(from, allowed);
+    }
+
+    @Benchmark
+    public Object invalidTransition() {
+        try {
+            StatusTransitionValidator.validate(from, rejected);
+            return null;
+        } catch (InvalidStateTransitionException e) {
+            return e;
+        }
+    }
+}
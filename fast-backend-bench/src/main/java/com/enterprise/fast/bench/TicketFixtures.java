@@ -0,0 +1,148 @@
+package com.enterprise.fast.bench;
+
+import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.ApprovalRecord;
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.entity.FastProblemLink;
+import com.enterprise.fast.domain.entity.FastProblemProperty;
+import com.enterprise.fast.domain.entity.FastProblemRegion;
+import com.enterprise.fast.domain.entity.IncidentLink;
+import com.enterprise.fast.domain.entity.KnowledgeArticle;
+import com.enterprise.fast.domain.entity.TicketComment;
+import com.enterprise.fast.domain.entity.UserGroup;
+import com.enterprise.fast.domain.enums.ApprovalDecision;
+import com.enterprise.fast.domain.enums.ArticleStatus;
+import com.enterprise.fast.domain.enums.Classification;
+import com.enterprise.fast.domain.enums.ExternalLinkType;
+import com.enterprise.fast.domain.enums.LinkType;
+import com.enterprise.fast.domain.enums.RagStatus;
+import com.enterprise.fast.domain.enums.RegionalCode;
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.domain.enums.UserRole;
+import com.enterprise.fast.dto.response.FastProblemResponse;
+import com.enterprise.fast.mapper.FastProblemMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Detached ticket graphs shaped like production detail pages: a few applications and user groups, one to three
+ * regions, the three approval roles, properties, links and a comment thread. Seeded, so every run sees the same data.
+ */
+final class TicketFixtures {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 6, 9, 0);
+    private static final String[] WORDS = {"payment", "batch", "ledger", "timeout", "reconciliation", "feed",
+            "latency", "report", "\"urgent\"", "settlement", "FX, rates", "overnight", "job", "failure", "retry"};
+
+    private TicketFixtures() {
+    }
+
+    static List<FastProblem> tickets(int count, int commentsPerTicket, long seed) {
+        Random random = new Random(seed);
+        List<Application> applications = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            applications.add(Application.builder().id(i).name("Application " + i).code("APP" + i)
+                    .description("Finance application " + i).createdDate(BASE).updatedDate(BASE).build());
+        }
+        List<UserGroup> userGroups = new ArrayList<>();
+        for (long i = 1; i <= 12; i++) {
+            userGroups.add(UserGroup.builder().id(i).name("User group " + i).code("UG" + i)
+                    .description("Desk " + i).createdDate(BASE).build());
+        }
+        List<FastProblem> tickets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tickets.add(ticket(i + 1L, commentsPerTicket, random, applications, userGroups));
+        }
+        return tickets;
+    }
+
+    static List<FastProblemResponse> responses(List<FastProblem> tickets) {
+        FastProblemMapper mapper = new FastProblemMapper();
+        return tickets.stream().map(mapper::toResponse).toList();
+    }
+
+    private static FastProblem ticket(long id, int commentsPerTicket, Random random,
+                                      List<Application> applications, List<UserGroup> userGroups) {
+        TicketStatus status = TicketStatus.values()[random.nextInt(TicketStatus.values().length)];
+        FastProblem problem = FastProblem.builder()
+                .id(id)
+                .version((long) random.nextInt(5))
+                .servicenowIncidentNumber("INC" + (1_000_000 + id))
+                .servicenowProblemNumber("PRB" + (500_000 + id))
+                .pbtId("PBT-" + id)
+                .title(sentence(random, 6))
+                .description(sentence(random, 60))
+                .userImpactCount(random.nextInt(500))
+                .affectedApplication(applications.get(random.nextInt(applications.size())).getName())
+                .dqReference(random.nextBoolean() ? "DQ-" + id : null)
+                .impactedUserGroupNotes(sentence(random, 12))
+                .anticipatedBenefits(sentence(random, 20))
+                .classification(Classification.values()[random.nextInt(Classification.values().length)])
+                .ticketAgeDays(random.nextInt(120))
+                .ragStatus(RagStatus.values()[random.nextInt(RagStatus.values().length)])
+                .status(status)
+                .priorityScore(random.nextDouble() * 100)
+                .priority(1 + random.nextInt(5))
+                .rootCause(sentence(random, 30))
+                .workaround(sentence(random, 20))
+                .createdBy("user" + random.nextInt(200))
+                .assignedTo("user" + random.nextInt(200))
+                .assignmentGroup("FAST L2")
+                .confluenceLink("https://confluence.example.com/display/FAST/" + id)
+                .createdDate(BASE.minusDays(random.nextInt(365)))
+                .updatedDate(BASE)
+                .build();
+        for (int i = 0, n = 1 + random.nextInt(3); i < n; i++) {
+            problem.getApplications().add(applications.get(random.nextInt(applications.size())));
+        }
+        for (int i = 0, n = 1 + random.nextInt(4); i < n; i++) {
+            problem.getUserGroups().add(userGroups.get(random.nextInt(userGroups.size())));
+        }
+        for (int i = 0, n = 1 + random.nextInt(RegionalCode.values().length); i < n; i++) {
+            problem.getRegions().add(FastProblemRegion.builder().id(id * 10 + i).fastProblem(problem)
+                    .regionalCode(RegionalCode.values()[i]).build());
+        }
+        UserRole[] roles = {UserRole.REVIEWER, UserRole.APPROVER, UserRole.RTB_OWNER};
+        for (int i = 0; i < roles.length; i++) {
+            problem.getApprovalRecords().add(ApprovalRecord.builder().id(id * 10 + i).fastProblem(problem)
+                    .approvalRole(roles[i]).reviewerName("Reviewer " + i).reviewerEmail("reviewer" + i + "@example.com")
+                    .decision(ApprovalDecision.values()[random.nextInt(ApprovalDecision.values().length)])
+                    .comments(sentence(random, 8)).createdDate(BASE).build());
+        }
+        for (int i = 0; i < 5; i++) {
+            problem.getProperties().add(FastProblemProperty.builder().id(id * 10 + i).fastProblem(problem)
+                    .propertyKey("key" + i).propertyValue(sentence(random, 3)).build());
+        }
+        for (int i = 0; i < 2; i++) {
+            problem.getLinks().add(FastProblemLink.builder().id(id * 10 + i).fastProblem(problem).label("JIRA-" + id)
+                    .url("https://jira.example.com/browse/FAST-" + id).linkType(ExternalLinkType.JIRA).build());
+            problem.getIncidentLinks().add(IncidentLink.builder().id(id * 10 + i).fastProblem(problem)
+                    .incidentNumber("INC" + (2_000_000 + id * 10 + i)).linkType(LinkType.RELATED_TO)
+                    .description(sentence(random, 6)).linkedDate(BASE).build());
+        }
+        for (int i = 0; i < commentsPerTicket; i++) {
+            problem.getComments().add(TicketComment.builder().id(id * 1000 + i).fastProblem(problem)
+                    .authorUsername("user" + random.nextInt(200)).commentText(sentence(random, 25))
+                    .createdDate(BASE.plusHours(i)).build());
+        }
+        if (status == TicketStatus.RESOLVED || status == TicketStatus.CLOSED) {
+            problem.setResolvedDate(BASE.plusDays(2));
+            problem.setKnowledgeArticle(KnowledgeArticle.builder().id(id).fastProblem(problem)
+                    .title(problem.getTitle()).rootCause(problem.getRootCause()).workaround(problem.getWorkaround())
+                    .category("Batch").status(ArticleStatus.PUBLISHED).createdDate(BASE).build());
+        }
+        return problem;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.enterprise.fast.bench.load;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** "--name value" / "--name=value" command line options with defaults. */
+final class Args {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    Args(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq > 0) {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                values.put(arg.substring(2), args[++i]);
+            } else {
+                values.put(arg.substring(2), "true");
+            }
+        }
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        return value != null ? Integer.parseInt(value.replace("_", "")) : defaultValue;
+    }
+
+    long getLong(String name, long defaultValue) {
+        String value = values.get(name);
+        return value != null ? Long.parseLong(value.replace("_", "")) : defaultValue;
+    }
+
+    boolean has(String name) {
+        return values.containsKey(name);
+    }
+}
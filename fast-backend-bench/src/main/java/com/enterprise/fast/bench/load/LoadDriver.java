@@ -0,0 +1,247 @@
+package com.enterprise.fast.bench.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load against a running instance (typically prod-h2 filled by {@link TicketDataGenerator}):
+ *
+ * <pre>
+ * java -cp fast-backend-bench/target/benchmarks.jar com.enterprise.fast.bench.load.LoadDriver \
+ *     [--base-url http://localhost:5173] [--username admin] [--concurrency 32] [--warmup 15] [--duration 60] \
+ *     [--mix dashboard=20,search=30,detail=40,update=10]
+ * </pre>
+ *
+ * The driver logs in once and every worker sends that same token; each worker picks an operation by weight, waits
+ * for the response and repeats. Latencies of the warm-up period are discarded; the report lists throughput, errors and percentiles per operation. "update"
+ * adds a comment to a ticket, so it writes to the database under test.
+ */
+public final class LoadDriver {
+
+    private static final String[] SEARCH_TERMS = {"payment", "batch", "ledger", "timeout", "settlement", "feed"};
+    private static final String[] DASHBOARD_PATHS = {"/api/v1/dashboard/metrics", "/api/v1/dashboard/metrics/region",
+            "/api/v1/dashboard/metrics/aging", "/api/v1/dashboard/top10", "/api/v1/dashboard/backlog"};
+    private static final String[] REGIONS = {"EMEA", "AMER", "APAC"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+    private final Map<String, Integer> mix;
+    private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private String token;
+    private long[] ticketIds;
+
+    private LoadDriver(String baseUrl, Map<String, Integer> mix) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.mix = mix;
+        mix.keySet().forEach(op -> recorders.put(op, new Recorder()));
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Args args = new Args(argv);
+        LoadDriver driver = new LoadDriver(args.get("base-url", "http://localhost:5173"),
+                parseMix(args.get("mix", "dashboard=20,search=30,detail=40,update=10")));
+        driver.login(args.get("username", "admin"));
+        driver.sampleTicketIds(args.getInt("sample-pages", 20));
+        driver.run(args.getInt("concurrency", 32), args.getInt("warmup", 15), args.getInt("duration", 60));
+    }
+
+    static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            String op = kv[0].trim();
+            if (!List.of("dashboard", "search", "detail", "update").contains(op)) {
+                throw new IllegalArgumentException("Unknown operation in --mix: " + op);
+            }
+            mix.put(op, Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+
+    private void login(String username) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("username", username))))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed: HTTP " + response.statusCode() + " " + response.body());
+        }
+        token = objectMapper.readTree(response.body()).path("token").asText();
+    }
+
+    /** Ticket ids for detail/update calls: the newest page plus random pages across the whole table. */
+    private void sampleTicketIds(int pages) throws IOException, InterruptedException {
+        JsonNode first = getJson("/api/v1/problems?page=0&size=100");
+        int totalPages = Math.max(1, (int) Math.ceil(first.path("totalElements").asLong() / 100.0));
+        List<Long> ids = new ArrayList<>();
+        collectIds(first, ids);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 1; i < pages && totalPages > 1; i++) {
+            collectIds(getJson("/api/v1/problems?size=100&page=" + random.nextInt(totalPages)), ids);
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No tickets found; run TicketDataGenerator first");
+        }
+        ticketIds = ids.stream().mapToLong(Long::longValue).distinct().toArray();
+        System.out.printf("Sampled %,d ticket ids out of %,d tickets%n", ticketIds.length, first.path("totalElements").asLong());
+    }
+
+    private static void collectIds(JsonNode page, List<Long> ids) {
+        page.path("content").forEach(t -> ids.add(t.path("id").asLong()));
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + ": HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private void run(int concurrency, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long measureFrom = startNanos + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long endNanos = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        System.out.printf("%d workers, %ds warm-up, %ds measured, mix %s%n", concurrency, warmupSeconds, durationSeconds, mix);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            SplittableRandom random = new SplittableRandom(1000 + w);
+            workers.submit(() -> {
+                while (System.nanoTime() < endNanos) {
+                    String op = pickOperation(random);
+                    long t0 = System.nanoTime();
+                    int status = call(op, random);
+                    long t1 = System.nanoTime();
+                    if (t0 >= measureFrom) {
+                        recorders.get(op).record(t1 - t0, status);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(durationSeconds + warmupSeconds + 120L, TimeUnit.SECONDS);
+        report(durationSeconds);
+    }
+
+    private String pickOperation(SplittableRandom random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int r = random.nextInt(total);
+        for (Map.Entry<String, Integer> e : mix.entrySet()) {
+            r -= e.getValue();
+            if (r < 0) return e.getKey();
+        }
+        throw new IllegalStateException();
+    }
+
+    /** @return the HTTP status, or -1 when the request failed without a response */
+    private int call(String op, SplittableRandom random) {
+        long id = ticketIds[random.nextInt(ticketIds.length)];
+        HttpRequest.Builder builder = switch (op) {
+            case "dashboard" -> request(DASHBOARD_PATHS[random.nextInt(DASHBOARD_PATHS.length)]).GET();
+            case "search" -> request(searchPath(random)).GET();
+            case "detail" -> request("/api/v1/problems/" + id).GET();
+            case "update" -> request("/api/v1/problems/" + id + "/comments")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"text\":\"Load test comment " + sequence.incrementAndGet() + "\"}"));
+            default -> throw new IllegalArgumentException(op);
+        };
+        try {
+            return client.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private static String searchPath(SplittableRandom random) {
+        StringBuilder path = new StringBuilder("/api/v1/problems?size=20&page=").append(random.nextInt(3));
+        int shape = random.nextInt(4);
+        if (shape != 1) {
+            path.append("&q=").append(URLEncoder.encode(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], StandardCharsets.UTF_8));
+        }
+        if (shape != 0) {
+            path.append("&region=").append(REGIONS[random.nextInt(REGIONS.length)]);
+        }
+        if (shape == 3) {
+            path.append("&status=OPEN");
+        }
+        return path.toString();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/json");
+    }
+
+    private void report(int durationSeconds) {
+        System.out.printf("%n%-10s %9s %7s %8s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, Recorder> e : recorders.entrySet()) {
+            Recorder r = e.getValue();
+            long[] sorted = r.sortedLatencies();
+            System.out.printf("%-10s %9d %7d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", e.getKey(), sorted.length,
+                    r.errors.get(), sorted.length / (double) durationSeconds, millis(sorted, 0.50), millis(sorted, 0.90),
+                    millis(sorted, 0.95), millis(sorted, 0.99), millis(sorted, 0.999), millis(sorted, 1.0));
+            if (!r.statusCounts.isEmpty()) {
+                System.out.printf("%-10s non-2xx: %s%n", "", r.statusCounts);
+            }
+        }
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    /** Latencies of one operation; appended by all workers, sorted once for the report. */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+        private final Map<Integer, Long> statusCounts = new LinkedHashMap<>();
+
+        synchronized void record(long nanos, int status) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            if (status < 200 || status >= 400) {
+                errors.incrementAndGet();
+                statusCounts.merge(status, 1L, Long::sum);
+            }
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,522 @@
+package com.enterprise.fast.bench.load;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Fills a prod-h2 database with synthetic tickets for load and query-plan testing. Run it with the application
+ * stopped (the H2 file is single-process):
+ *
+ * <pre>
+ * java -cp fast-backend-bench/target/benchmarks.jar com.enterprise.fast.bench.load.TicketDataGenerator \
+ *     --tickets 1000000 [--url jdbc:h2:file:./data/fastdb;...] [--batch-size 1000] [--days 1095] [--seed 42]
+ * </pre>
+ *
+ * Creates the schema from db/init-h2.sql when the database is empty. Distributions follow the production shape:
+ * old tickets are mostly closed, recent ones spread over the open states; regions, applications,
+ * priorities and comment counts are skewed rather than uniform. Ids are taken above the current maximum and the
+ * pooled sequences are moved past them afterwards, so the application keeps inserting without collisions.
+ * No ticket is generated as ARCHIVED: archived tickets live in the archive tables, and the nightly archive job
+ * moves the generated CLOSED tickets there the way it would in production.
+ */
+public final class TicketDataGenerator {
+
+    private static final String[] LIFECYCLE = {"BACKLOG", "ASSIGNED", "ACCEPTED", "IN_PROGRESS",
+            "ROOT_CAUSE_IDENTIFIED", "FIX_IN_PROGRESS", "RESOLVED", "CLOSED", "ARCHIVED"};
+    private static final String[] RECENT_STATUSES = {"BACKLOG", "ASSIGNED", "ACCEPTED", "IN_PROGRESS",
+            "ROOT_CAUSE_IDENTIFIED", "FIX_IN_PROGRESS", "RESOLVED", "CLOSED", "REJECTED"};
+    private static final int[] RECENT_WEIGHTS = {20, 15, 10, 20, 8, 8, 10, 7, 2};
+    private static final String[] OLD_STATUSES = {"BACKLOG", "IN_PROGRESS", "FIX_IN_PROGRESS", "RESOLVED", "CLOSED",
+            "REJECTED"};
+    private static final int[] OLD_WEIGHTS = {3, 4, 3, 15, 70, 5};
+    private static final String[] REGIONS = {"EMEA", "AMER", "APAC"};
+    private static final int[] REGION_WEIGHTS = {45, 35, 20};
+    private static final String[] CLASSIFICATIONS = {"A", "R", "P"};
+    private static final int[] CLASSIFICATION_WEIGHTS = {60, 25, 15};
+    private static final int[] PRIORITY_WEIGHTS = {5, 15, 50, 20, 10};
+    private static final String[] APPROVAL_ROLES = {"REVIEWER", "APPROVER", "RTB_OWNER"};
+    private static final String[] WORDS = {"payment", "batch", "ledger", "timeout", "reconciliation", "feed",
+            "latency", "report", "settlement", "overnight", "job", "failure", "retry", "interface", "upstream",
+            "mismatch", "duplicate", "missing", "rates", "booking", "trade", "position", "limit", "extract",
+            "journal", "posting", "close", "month-end", "accrual", "invoice", "vendor", "GL", "FX", "cash"};
+    private static final String[] SEQUENCED_TABLES = {"fast_problem", "fast_problem_region", "approval_record",
+            "audit_log", "fast_problem_property", "fast_problem_link", "ticket_comment"};
+
+    private final Connection connection;
+    private final Random random;
+    private final int days;
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+    private final Map<String, Long> nextIds = new LinkedHashMap<>();
+    private final Map<String, Long> rowCounts = new LinkedHashMap<>();
+    private final List<Long> applicationIds = new ArrayList<>();
+    private final List<String> applicationNames = new ArrayList<>();
+    private final List<Long> userGroupIds = new ArrayList<>();
+    private final List<String> usernames = new ArrayList<>();
+
+    private PreparedStatement problemInsert;
+    private PreparedStatement regionInsert;
+    private PreparedStatement applicationLinkInsert;
+    private PreparedStatement userGroupLinkInsert;
+    private PreparedStatement approvalInsert;
+    private PreparedStatement commentInsert;
+    private PreparedStatement incidentLinkInsert;
+    private PreparedStatement propertyInsert;
+    private PreparedStatement linkInsert;
+    private PreparedStatement articleInsert;
+    private PreparedStatement auditInsert;
+
+    private TicketDataGenerator(Connection connection, long seed, int days) {
+        this.connection = connection;
+        this.random = new Random(seed);
+        this.days = days;
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Args args = new Args(argv);
+        String schema = System.getenv().getOrDefault("H2_SCHEMA", "FAST");
+        String url = args.get("url", "jdbc:h2:file:" + System.getenv().getOrDefault("H2_DATABASE_PATH", "./data/fastdb")
+                + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;INIT=CREATE SCHEMA IF NOT EXISTS " + schema
+                + "\\;SET SCHEMA " + schema);
+        int tickets = args.getInt("tickets", 100_000);
+        int batchSize = args.getInt("batch-size", 1_000);
+        try (Connection connection = DriverManager.getConnection(url, args.get("user", "sa"), args.get("password", ""))) {
+            connection.setAutoCommit(false);
+            TicketDataGenerator generator = new TicketDataGenerator(connection, args.getLong("seed", 42), args.getInt("days", 1095));
+            generator.run(tickets, batchSize);
+        }
+    }
+
+    private void run(int tickets, int batchSize) throws SQLException {
+        ensureSchema();
+        loadReferenceData();
+        reserveIds();
+        prepareStatements();
+        long start = System.nanoTime();
+        for (int i = 1; i <= tickets; i++) {
+            ticket();
+            if (i % batchSize == 0 || i == tickets) {
+                flush();
+                if (i % (batchSize * 50) == 0 || i == tickets) {
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    System.out.printf("%,d / %,d tickets (%,.0f tickets/s)%n", i, tickets, i / seconds);
+                }
+            }
+        }
+        advanceSequences();
+        connection.commit();
+        System.out.printf("Done in %s. Rows: %s%n", Duration.ofNanos(System.nanoTime() - start).withNanos(0), rowCounts);
+    }
+
+    private void ensureSchema() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.executeQuery("SELECT 1 FROM fast_problem WHERE 1 = 0").close();
+        } catch (SQLException missing) {
+            connection.rollback();
+            System.out.println("Empty database: creating schema from db/init-h2.sql");
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/init-h2.sql"));
+            connection.commit();
+        }
+    }
+
+    /** Makes sure there are enough applications and user groups to spread tickets over, then loads their ids. */
+    private void loadReferenceData() throws SQLException {
+        topUp("applications", "Load Test App ", "LTA", 40);
+        topUp("user_group", "Load Test Group ", "LTG", 15);
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT id, name FROM applications ORDER BY id")) {
+            while (rs.next()) {
+                applicationIds.add(rs.getLong(1));
+                applicationNames.add(rs.getString(2));
+            }
+        }
+        userGroupIds.addAll(ids("SELECT id FROM user_group WHERE active = TRUE ORDER BY id"));
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery("SELECT username FROM users")) {
+            while (rs.next()) usernames.add(rs.getString(1));
+        }
+        for (int i = 1; i <= 200; i++) {
+            usernames.add(String.format("user%03d", i));
+        }
+        connection.commit();
+    }
+
+    private void topUp(String table, String namePrefix, String codePrefix, int minimum) throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery("SELECT name FROM " + table)) {
+            while (rs.next()) names.add(rs.getString(1));
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO " + table + " (name, code, description) VALUES (?, ?, ?)")) {
+            for (int i = 1; names.size() < minimum; i++) {
+                String name = namePrefix + i;
+                if (names.add(name)) {
+                    ps.setString(1, name);
+                    ps.setString(2, codePrefix + i);
+                    ps.setString(3, "Generated for load testing");
+                    ps.addBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private List<Long> ids(String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            while (rs.next()) ids.add(rs.getLong(1));
+        }
+        return ids;
+    }
+
+    /** First free id per sequenced table: above existing rows and above any block the application may hold. */
+    private void reserveIds() throws SQLException {
+        for (String table : SEQUENCED_TABLES) {
+            long maxId = ids("SELECT COALESCE(MAX(id), 0) FROM " + table).get(0);
+            long sequenceNext = ids("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = '"
+                    + (table + "_seq").toUpperCase() + "' AND SEQUENCE_SCHEMA = SCHEMA()").stream().findFirst().orElse(1L);
+            nextIds.put(table, Math.max(maxId + 1, sequenceNext + 50));
+        }
+    }
+
+    private void advanceSequences() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            for (Map.Entry<String, Long> e : nextIds.entrySet()) {
+                st.execute("ALTER SEQUENCE " + e.getKey() + "_seq RESTART WITH " + e.getValue());
+            }
+        }
+    }
+
+    private long nextId(String table) {
+        return nextIds.merge(table, 1L, Long::sum) - 1;
+    }
+
+    private void prepareStatements() throws SQLException {
+        problemInsert = connection.prepareStatement("INSERT INTO fast_problem (id, servicenow_incident_number, "
+                + "servicenow_problem_number, pbt_id, title, description, user_impact_count, affected_application, "
+                + "dq_reference, classification, ticket_age_days, rag_status, status_indicator, status, priority_score, "
+                + "priority, target_resolution_hours, root_cause, workaround, permanent_fix, created_by, assigned_to, "
+                + "assignment_group, confluence_link, created_date, updated_date, resolved_date, in_progress_date, "
+                + "closed_date, last_comment_date, comment_count, deleted, archived, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        regionInsert = connection.prepareStatement(
+                "INSERT INTO fast_problem_region (id, fast_problem_id, regional_code) VALUES (?, ?, ?)");
+        applicationLinkInsert = connection.prepareStatement(
+                "INSERT INTO fast_problem_application (fast_problem_id, application_id) VALUES (?, ?)");
+        userGroupLinkInsert = connection.prepareStatement(
+                "INSERT INTO fast_problem_user_group (fast_problem_id, user_group_id) VALUES (?, ?)");
+        approvalInsert = connection.prepareStatement("INSERT INTO approval_record (id, fast_problem_id, approval_role, "
+                + "reviewer_name, reviewer_email, decision, comments, decision_date, created_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        commentInsert = connection.prepareStatement("INSERT INTO ticket_comment (id, fast_problem_id, author_username, "
+                + "comment_text, created_date) VALUES (?, ?, ?, ?, ?)");
+        incidentLinkInsert = connection.prepareStatement("INSERT INTO incident_link (fast_problem_id, incident_number, "
+                + "link_type, description, linked_date) VALUES (?, ?, ?, ?, ?)");
+        propertyInsert = connection.prepareStatement("INSERT INTO fast_problem_property (id, fast_problem_id, "
+                + "property_key, property_value) VALUES (?, ?, ?, ?)");
+        linkInsert = connection.prepareStatement("INSERT INTO fast_problem_link (id, fast_problem_id, label, url, "
+                + "link_type) VALUES (?, ?, ?, ?, ?)");
+        articleInsert = connection.prepareStatement("INSERT INTO knowledge_article (fast_problem_id, title, root_cause, "
+                + "workaround, permanent_fix, category, status, created_date, published_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        auditInsert = connection.prepareStatement("INSERT INTO audit_log (id, fast_problem_id, action, performed_by, "
+                + "field_changed, old_value, new_value, timestamp) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+    }
+
+    private void flush() throws SQLException {
+        // Parents first so the foreign keys hold
+        execute("fast_problem", problemInsert);
+        execute("fast_problem_region", regionInsert);
+        execute("fast_problem_application", applicationLinkInsert);
+        execute("fast_problem_user_group", userGroupLinkInsert);
+        execute("approval_record", approvalInsert);
+        execute("ticket_comment", commentInsert);
+        execute("incident_link", incidentLinkInsert);
+        execute("fast_problem_property", propertyInsert);
+        execute("fast_problem_link", linkInsert);
+        execute("knowledge_article", articleInsert);
+        execute("audit_log", auditInsert);
+        connection.commit();
+    }
+
+    private void execute(String table, PreparedStatement ps) throws SQLException {
+        rowCounts.merge(table, (long) ps.executeBatch().length, Long::sum);
+    }
+
+    private void ticket() throws SQLException {
+        long id = nextId("fast_problem");
+        LocalDateTime created = now.minusMinutes((long) (Math.pow(random.nextDouble(), 1.6) * days * 24 * 60));
+        boolean old = created.isBefore(now.minusDays(60));
+        String status = old ? pick(OLD_STATUSES, OLD_WEIGHTS) : pick(RECENT_STATUSES, RECENT_WEIGHTS);
+        int stage = stage(status);
+        LocalDateTime inProgress = stage >= stage("IN_PROGRESS") ? created.plusHours(1 + random.nextInt(72)) : null;
+        LocalDateTime resolved = stage >= stage("RESOLVED")
+                ? before(now, (inProgress != null ? inProgress : created).plusHours((long) exponential(240))) : null;
+        LocalDateTime closed = stage >= stage("CLOSED") || "REJECTED".equals(status)
+                ? before(now, (resolved != null ? resolved : created).plusHours((long) exponential(96))) : null;
+        LocalDateTime updated = closed != null ? closed : resolved != null ? resolved : inProgress != null ? inProgress : created;
+        int ageDays = (int) Duration.between(created, resolved != null ? resolved : now).toDays();
+        String assignee = stage >= stage("ASSIGNED") ? username() : null;
+        String application = applicationNames.get(skewed(applicationNames.size()));
+        int commentCount = commentCount(stage);
+        long commentSpanMinutes = Math.max(1, Duration.between(created, updated).toMinutes());
+        LocalDateTime lastComment = commentCount > 0
+                ? commentDate(created, commentSpanMinutes, commentCount - 1, commentCount) : null;
+
+        int p = 1;
+        problemInsert.setLong(p++, id);
+        problemInsert.setString(p++, "INC" + (1_000_000 + id));
+        problemInsert.setString(p++, random.nextInt(10) < 7 ? "PRB" + (500_000 + id) : null);
+        problemInsert.setString(p++, "PBT-" + id);
+        problemInsert.setString(p++, capitalize(words(4 + random.nextInt(8))));
+        problemInsert.setString(p++, words(20 + random.nextInt(120)));
+        problemInsert.setInt(p++, (int) Math.min(50_000, Math.exp(random.nextGaussian() * 1.5 + 3)));
+        problemInsert.setString(p++, application);
+        problemInsert.setString(p++, random.nextInt(10) < 3 ? "DQ-" + id : null);
+        problemInsert.setString(p++, pick(CLASSIFICATIONS, CLASSIFICATION_WEIGHTS));
+        problemInsert.setInt(p++, ageDays);
+        problemInsert.setString(p++, ageDays <= 15 ? "G" : ageDays <= 20 ? "A" : "R");
+        problemInsert.setString(p++, resolved != null ? "B16" : "R16");
+        problemInsert.setString(p++, status);
+        problemInsert.setDouble(p++, Math.round(random.nextDouble() * 10_000) / 100.0);
+        problemInsert.setInt(p++, 1 + pick(PRIORITY_WEIGHTS));
+        problemInsert.setInt(p++, new int[]{4, 8, 24, 72}[random.nextInt(4)]);
+        problemInsert.setString(p++, stage >= stage("ROOT_CAUSE_IDENTIFIED") ? words(15 + random.nextInt(40)) : null);
+        problemInsert.setString(p++, random.nextBoolean() ? words(10 + random.nextInt(30)) : null);
+        problemInsert.setString(p++, stage >= stage("RESOLVED") ? words(10 + random.nextInt(30)) : null);
+        problemInsert.setString(p++, username());
+        problemInsert.setString(p++, assignee);
+        problemInsert.setString(p++, assignee != null ? "FAST L" + (2 + random.nextInt(2)) : null);
+        problemInsert.setString(p++, random.nextInt(10) < 2 ? "https://confluence.example.com/display/FAST/" + id : null);
+        problemInsert.setTimestamp(p++, Timestamp.valueOf(created));
+        problemInsert.setTimestamp(p++, Timestamp.valueOf(updated));
+        problemInsert.setTimestamp(p++, timestamp(resolved));
+        problemInsert.setTimestamp(p++, timestamp(inProgress));
+        problemInsert.setTimestamp(p++, timestamp(closed));
+        problemInsert.setTimestamp(p++, timestamp(lastComment));
+        problemInsert.setInt(p++, commentCount);
+        problemInsert.setBoolean(p++, random.nextInt(200) == 0);
+        problemInsert.setBoolean(p++, false);
+        problemInsert.setLong(p, stage + random.nextInt(3));
+        problemInsert.addBatch();
+
+        regions(id);
+        distinct(id, applicationIds, 1 + (random.nextInt(5) == 0 ? 1 : 0) + (random.nextInt(20) == 0 ? 1 : 0), applicationLinkInsert);
+        distinct(id, userGroupIds, random.nextInt(4), userGroupLinkInsert);
+        approvals(id, status, stage, created);
+        comments(id, created, commentSpanMinutes, commentCount);
+        children(id, created, stage, status);
+        audit(id, status, stage, created, updated);
+    }
+
+    private void regions(long problemId) throws SQLException {
+        Set<String> chosen = new HashSet<>();
+        chosen.add(pick(REGIONS, REGION_WEIGHTS));
+        if (random.nextInt(4) == 0) chosen.add(pick(REGIONS, REGION_WEIGHTS));
+        if (random.nextInt(10) == 0) chosen.add(pick(REGIONS, REGION_WEIGHTS));
+        for (String region : chosen) {
+            regionInsert.setLong(1, nextId("fast_problem_region"));
+            regionInsert.setLong(2, problemId);
+            regionInsert.setString(3, region);
+            regionInsert.addBatch();
+        }
+    }
+
+    private void distinct(long problemId, List<Long> ids, int count, PreparedStatement ps) throws SQLException {
+        Set<Long> chosen = new HashSet<>();
+        for (int i = 0; i < count && !ids.isEmpty(); i++) {
+            Long ref = ids.get(skewed(ids.size()));
+            if (chosen.add(ref)) {
+                ps.setLong(1, problemId);
+                ps.setLong(2, ref);
+                ps.addBatch();
+            }
+        }
+    }
+
+    private void approvals(long problemId, String status, int stage, LocalDateTime created) throws SQLException {
+        if (stage < stage("ASSIGNED") && !"REJECTED".equals(status)) {
+            return;
+        }
+        for (int i = 0; i < APPROVAL_ROLES.length; i++) {
+            String decision = "REJECTED".equals(status) ? (i == 0 ? "REJECTED" : "PENDING")
+                    : stage >= stage("ACCEPTED") ? "APPROVED" : "PENDING";
+            LocalDateTime decided = "PENDING".equals(decision) ? null : created.plusHours(2 + random.nextInt(48));
+            approvalInsert.setLong(1, nextId("approval_record"));
+            approvalInsert.setLong(2, problemId);
+            approvalInsert.setString(3, APPROVAL_ROLES[i]);
+            approvalInsert.setString(4, decided != null ? username() : null);
+            approvalInsert.setString(5, null);
+            approvalInsert.setString(6, decision);
+            approvalInsert.setString(7, decided != null && random.nextBoolean() ? words(5 + random.nextInt(15)) : null);
+            approvalInsert.setTimestamp(8, timestamp(decided));
+            approvalInsert.setTimestamp(9, Timestamp.valueOf(created));
+            approvalInsert.addBatch();
+        }
+    }
+
+    /** Long-tailed: most tickets have a handful of comments, a few have hundreds. */
+    private int commentCount(int stage) {
+        int count = (int) Math.min(200, exponential(1 + stage));
+        return random.nextInt(100) == 0 ? 50 + random.nextInt(150) : count;
+    }
+
+    /** Comments evenly spaced between creation and the last update; the ticket row carries the last one's date. */
+    private static LocalDateTime commentDate(LocalDateTime created, long spanMinutes, int index, int count) {
+        return created.plusMinutes(spanMinutes * (index + 1) / (count + 1));
+    }
+
+    private void comments(long problemId, LocalDateTime created, long spanMinutes, int count) throws SQLException {
+        for (int i = 0; i < count; i++) {
+            commentInsert.setLong(1, nextId("ticket_comment"));
+            commentInsert.setLong(2, problemId);
+            commentInsert.setString(3, username());
+            commentInsert.setString(4, capitalize(words(5 + (int) exponential(25))));
+            commentInsert.setTimestamp(5, Timestamp.valueOf(commentDate(created, spanMinutes, i, count)));
+            commentInsert.addBatch();
+        }
+    }
+
+    private void children(long problemId, LocalDateTime created, int stage, String status) throws SQLException {
+        for (int i = 0, n = weightedCount(50, 30, 15, 5); i < n; i++) {
+            incidentLinkInsert.setLong(1, problemId);
+            incidentLinkInsert.setString(2, "INC" + (2_000_000 + random.nextInt(8_000_000)));
+            incidentLinkInsert.setString(3, random.nextInt(3) == 0 ? "CAUSED_BY" : "RELATED_TO");
+            incidentLinkInsert.setString(4, random.nextBoolean() ? words(4 + random.nextInt(8)) : null);
+            incidentLinkInsert.setTimestamp(5, Timestamp.valueOf(created.plusHours(random.nextInt(48))));
+            incidentLinkInsert.addBatch();
+        }
+        for (int i = 0, n = weightedCount(70, 20, 10); i < n; i++) {
+            propertyInsert.setLong(1, nextId("fast_problem_property"));
+            propertyInsert.setLong(2, problemId);
+            propertyInsert.setString(3, new String[]{"vendor", "desk", "system"}[i]);
+            propertyInsert.setString(4, words(1 + random.nextInt(3)));
+            propertyInsert.addBatch();
+        }
+        for (int i = 0, n = weightedCount(75, 20, 5); i < n; i++) {
+            linkInsert.setLong(1, nextId("fast_problem_link"));
+            linkInsert.setLong(2, problemId);
+            linkInsert.setString(3, "FAST-" + problemId + "-" + i);
+            linkInsert.setString(4, "https://jira.example.com/browse/FAST-" + problemId);
+            linkInsert.setString(5, random.nextBoolean() ? "JIRA" : "OTHER");
+            linkInsert.addBatch();
+        }
+        if (stage >= stage("RESOLVED") && !"REJECTED".equals(status) && random.nextInt(10) < 3) {
+            boolean published = random.nextInt(10) < 7;
+            articleInsert.setLong(1, problemId);
+            articleInsert.setString(2, capitalize(words(4 + random.nextInt(6))));
+            articleInsert.setString(3, words(20 + random.nextInt(40)));
+            articleInsert.setString(4, words(10 + random.nextInt(30)));
+            articleInsert.setString(5, words(10 + random.nextInt(30)));
+            articleInsert.setString(6, new String[]{"Batch", "Interface", "Data Quality", "Access"}[random.nextInt(4)]);
+            articleInsert.setString(7, published ? "PUBLISHED" : "DRAFT");
+            articleInsert.setTimestamp(8, Timestamp.valueOf(created.plusDays(1)));
+            articleInsert.setTimestamp(9, published ? Timestamp.valueOf(created.plusDays(2)) : null);
+            articleInsert.addBatch();
+        }
+    }
+
+    /** CREATED, one STATUS_CHANGED per lifecycle step reached, and a few field edits. */
+    private void audit(long problemId, String status, int stage, LocalDateTime created, LocalDateTime updated)
+            throws SQLException {
+        long spanMinutes = Math.max(1, Duration.between(created, updated).toMinutes());
+        addAudit(problemId, "CREATED", null, null, null, created);
+        int steps = "REJECTED".equals(status) ? 1 : stage;
+        for (int i = 1; i <= steps; i++) {
+            String to = "REJECTED".equals(status) ? "REJECTED" : LIFECYCLE[i];
+            addAudit(problemId, "STATUS_CHANGED", "status", LIFECYCLE[i - 1], to,
+                    created.plusMinutes(spanMinutes * i / (steps + 1)));
+        }
+        for (int i = 0, n = random.nextInt(6); i < n; i++) {
+            addAudit(problemId, "FIELD_UPDATED", new String[]{"priority", "assignedTo", "title", "userImpactCount"}[random.nextInt(4)],
+                    words(1), words(1), created.plusMinutes((long) (random.nextDouble() * spanMinutes)));
+        }
+    }
+
+    private void addAudit(long problemId, String action, String field, String oldValue, String newValue,
+                          LocalDateTime at) throws SQLException {
+        auditInsert.setLong(1, nextId("audit_log"));
+        auditInsert.setLong(2, problemId);
+        auditInsert.setString(3, action);
+        auditInsert.setString(4, username());
+        auditInsert.setString(5, field);
+        auditInsert.setString(6, oldValue);
+        auditInsert.setString(7, newValue);
+        auditInsert.setTimestamp(8, Timestamp.valueOf(at));
+        auditInsert.addBatch();
+    }
+
+    private static int stage(String status) {
+        for (int i = 0; i < LIFECYCLE.length; i++) {
+            if (LIFECYCLE[i].equals(status)) return i;
+        }
+        return 0; // REJECTED: rejected from the backlog
+    }
+
+    private String pick(String[] values, int[] weights) {
+        return values[pick(weights)];
+    }
+
+    private int pick(int[] weights) {
+        int total = 0;
+        for (int w : weights) total += w;
+        int r = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            r -= weights[i];
+            if (r < 0) return i;
+        }
+        return weights.length - 1;
+    }
+
+    /** 0 with weights[0], 1 with weights[1], ... */
+    private int weightedCount(int... weights) {
+        return pick(weights);
+    }
+
+    /** Index biased towards the start of the list, so a few applications and groups carry most tickets. */
+    private int skewed(int size) {
+        return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), 2.5)));
+    }
+
+    private double exponential(double mean) {
+        return -Math.log(1 - random.nextDouble()) * mean;
+    }
+
+    private String username() {
+        return usernames.get(skewed(usernames.size()));
+    }
+
+    private String words(int count) {
+        StringBuilder sb = new StringBuilder(count * 8);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[skewed(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String capitalize(String s) {
+        return s.isEmpty() ? s : Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+
+    private static LocalDateTime before(LocalDateTime limit, LocalDateTime value) {
+        return value.isAfter(limit) ? limit : value;
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
@@ -1,10 +1,12 @@
 package com.enterprise.fast.config;
 
-import com.enterprise.fast.domain.entity.User;
 import com.enterprise.fast.domain.enums.UserRole;
 import com.enterprise.fast.dto.response.ApiErrorResponse;
-import com.enterprise.fast.repository.UserRepository;
 import com.enterprise.fast.service.BamService;
+import com.enterprise.fast.service.ReferenceDataCache;
+import com.enterprise.fast.service.ReferenceDataCache.CachedUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -40,8 +42,9 @@ public class BamAuthenticationFilter extends OncePerRequestFilter {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    private final UserRepository userRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final BamService bamService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${app.auth.mode:local}")
     private String authMode;
@@ -53,6 +56,7 @@ public class BamAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
                 if ("local".equalsIgnoreCase(authMode)) {
@@ -69,6 +73,8 @@ public class BamAuthenticationFilter extends OncePerRequestFilter {
             }
         } catch (Exception e) {
             log.error("Error processing authentication", e);
+        } finally {
+            sample.stop(meterRegistry.timer("fast.auth.filter", "filter", "bam"));
         }
         filterChain.doFilter(request, response);
     }
@@ -83,16 +89,16 @@ public class BamAuthenticationFilter extends OncePerRequestFilter {
 
         log.debug("LOCAL MODE: Auto-authenticating user: {}", username);
 
-        Optional<User> userOptional = userRepository.findByUsernameIgnoreCase(username);
+        Optional<CachedUser> userOptional = referenceDataCache.findUser(username);
         UserRole role;
         String fullName;
         String region = null;
 
         if (userOptional.isPresent()) {
-            User user = userOptional.get();
-            role = user.getRole();
-            fullName = user.getFullName();
-            region = user.getRegion();
+            CachedUser user = userOptional.get();
+            role = user.role();
+            fullName = user.fullName();
+            region = user.region();
         } else {
             role = UserRole.READ_ONLY;
             fullName = username;
@@ -141,17 +147,17 @@ public class BamAuthenticationFilter extends OncePerRequestFilter {
 
         log.info("BAM MODE: Authenticating user: {}", username);
 
-        Optional<User> userOptional = userRepository.findByUsernameIgnoreCase(username);
+        Optional<CachedUser> userOptional = referenceDataCache.findUser(username);
         UserRole role;
 
         if (userOptional.isPresent()) {
-            User user = userOptional.get();
-            if (!user.getActive()) {
+            CachedUser user = userOptional.get();
+            if (!user.active()) {
                 log.warn("403 FORBIDDEN path={} message=User account is inactive user={}", path, username);
                 writeJsonError(response, path, HttpServletResponse.SC_FORBIDDEN, "FORBIDDEN", "User account is inactive");
                 return true;
             }
-            role = user.getRole();
+            role = user.role();
             log.info("User {} authenticated with role: {}", username, role);
         } else {
             role = UserRole.READ_ONLY;
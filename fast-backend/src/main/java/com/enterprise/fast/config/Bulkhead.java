@@ -0,0 +1,86 @@
+package com.enterprise.fast.config;
+
+import com.enterprise.fast.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps concurrent calls into one blocking dependency so a slow dependency ties up at most maxConcurrent request
+ * threads instead of all of them. Callers wait up to maxWait for a permit, then get {@link BulkheadFullException}.
+ * Meters (tag "name"): fast.bulkhead.in_use, fast.bulkhead.max (gauges), fast.bulkhead.wait (timer, permit wait)
+ * and fast.bulkhead.rejected (counter).
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+        Gauge.builder("fast.bulkhead.in_use", this, Bulkhead::getInUse)
+                .description("Permits currently held").tag("name", name).register(meterRegistry);
+        Gauge.builder("fast.bulkhead.max", this, Bulkhead::getMaxConcurrent)
+                .description("Configured permits").tag("name", name).register(meterRegistry);
+        this.waitTimer = Timer.builder("fast.bulkhead.wait")
+                .description("Time spent waiting for a permit").tag("name", name).register(meterRegistry);
+        this.rejected = Counter.builder("fast.bulkhead.rejected")
+                .description("Calls rejected after waiting maxWait").tag("name", name).register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> action) {
+        acquire();
+        try {
+            return action.get();
+        } finally {
+            release();
+        }
+    }
+
+    /** Takes a permit; pair with {@link #release()} in a finally block. */
+    public void acquire() {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        long waited = System.nanoTime() - start;
+        waitTimer.record(waited, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejected.increment();
+            throw new BulkheadFullException(name, TimeUnit.NANOSECONDS.toMillis(waited));
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getInUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
@@ -0,0 +1,79 @@
+package com.enterprise.fast.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bulkheads around the blocking dependencies (database pool, AD, BAM SSO and phonebook over HTTP, SMTP), configured
+ * under app.bulkhead.{name}.max-concurrent / max-wait-ms. They matter most with spring.threads.virtual.enabled,
+ * where request concurrency is no longer capped by the Tomcat thread pool.
+ */
+@Configuration
+@Slf4j
+public class BulkheadConfig {
+
+    private static final Map<String, int[]> DEFAULTS = Map.of(
+            Bulkheads.DATABASE, new int[]{10, 5000},
+            Bulkheads.DATABASE_REPLICA, new int[]{10, 5000},
+            Bulkheads.AD, new int[]{10, 2000},
+            Bulkheads.BAM_SSO, new int[]{10, 2000},
+            Bulkheads.PHONEBOOK, new int[]{10, 1000},
+            Bulkheads.SMTP, new int[]{4, 10000});
+
+    @Bean
+    public Bulkheads bulkheads(Environment environment, MeterRegistry meterRegistry) {
+        Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+        DEFAULTS.forEach((name, defaults) -> {
+            String prefix = "app.bulkhead." + name + ".";
+            int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class, defaults[0]);
+            long maxWaitMs = environment.getProperty(prefix + "max-wait-ms", Long.class, (long) defaults[1]);
+            bulkheads.put(name, new Bulkhead(name, maxConcurrent, Duration.ofMillis(maxWaitMs), meterRegistry));
+        });
+        return new Bulkheads(bulkheads);
+    }
+
+    /**
+     * Wraps the bean named "dataSource" so every JDBC connection holds a database bulkhead permit while open. With
+     * read-replica routing the bulkheads sit on the two pools instead (see {@link ReadReplicaDataSourceConfig}), each
+     * sized to its own pool.
+     */
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(ObjectProvider<Bulkheads> bulkheads,
+                                                                    Environment environment) {
+        boolean replicaRouting = environment.getProperty("app.datasource.replica.enabled", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!replicaRouting && "dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, bulkheads.getObject().get(Bulkheads.DATABASE));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingMode(ApplicationReadyEvent event) {
+        boolean requested = event.getApplicationContext().getEnvironment()
+                .getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        int javaVersion = Runtime.version().feature();
+        if (requested && javaVersion < 21) {
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; using platform threads", javaVersion);
+        } else {
+            log.info("Request, @Scheduled and @Async execution on {} threads", requested ? "virtual" : "platform");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.enterprise.fast.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds a {@link Bulkhead} permit for as long as a connection is open, so callers queue (and give up) on the
+ * bulkhead with a bounded wait instead of on the pool's connection timeout.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Bulkhead bulkhead;
+
+    public BulkheadDataSource(DataSource target, Bulkhead bulkhead) {
+        super(target);
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        bulkhead.acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        bulkhead.acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+
+    private Connection releasingOnClose(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            try {
+                                target.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    bulkhead.release();
+                                }
+                            }
+                            return null;
+                        default:
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                    }
+                });
+    }
+}
@@ -0,0 +1,28 @@
+package com.enterprise.fast.config;
+
+import java.util.Map;
+
+/** The application's bulkheads by name; see {@link BulkheadConfig} for their limits. */
+public class Bulkheads {
+
+    public static final String DATABASE = "database";
+    public static final String DATABASE_REPLICA = "database-replica";
+    public static final String AD = "ad";
+    public static final String BAM_SSO = "bam-sso";
+    public static final String PHONEBOOK = "phonebook";
+    public static final String SMTP = "smtp";
+
+    private final Map<String, Bulkhead> byName;
+
+    public Bulkheads(Map<String, Bulkhead> byName) {
+        this.byName = Map.copyOf(byName);
+    }
+
+    public Bulkhead get(String name) {
+        Bulkhead bulkhead = byName.get(name);
+        if (bulkhead == null) {
+            throw new IllegalArgumentException("No bulkhead named " + name);
+        }
+        return bulkhead;
+    }
+}
@@ -0,0 +1,114 @@
+package com.enterprise.fast.config;
+
+import com.enterprise.fast.exception.CircuitOpenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Consecutive-failure circuit breaker for one remote dependency. After failureThreshold failures in a row the
+ * breaker opens and calls fail fast with {@link CircuitOpenException}; once openDuration has passed a single trial
+ * call is let through (half-open) and its outcome closes or re-opens the breaker. Only exceptions matching
+ * isFailure count; others (e.g. 4xx responses) pass through and reset the streak like a success.
+ * Meters (tag "name"): fast.circuit.state (0 closed, 1 half-open, 2 open) and fast.circuit.rejected.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Predicate<Throwable> isFailure;
+    private final Clock clock;
+    private final Counter rejected;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMillis;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, Predicate<Throwable> isFailure,
+                          MeterRegistry meterRegistry) {
+        this(name, failureThreshold, openDuration, isFailure, meterRegistry, Clock.systemUTC());
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, Predicate<Throwable> isFailure,
+                   MeterRegistry meterRegistry, Clock clock) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+        this.isFailure = isFailure;
+        this.clock = clock;
+        Gauge.builder("fast.circuit.state", this, b -> b.getState().ordinal())
+                .description("0 closed, 1 half-open, 2 open").tag("name", name).register(meterRegistry);
+        this.rejected = Counter.builder("fast.circuit.rejected")
+                .description("Calls refused while the circuit was open").tag("name", name).register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> action) {
+        beforeCall();
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            if (isFailure.test(e)) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            throw e;
+        } catch (Error e) {
+            // Not the dependency's fault, but the trial slot must be freed or the breaker stays half-open for good
+            onFailure();
+            throw e;
+        }
+        onSuccess();
+        return result;
+    }
+
+    private synchronized void beforeCall() {
+        if (state == State.CLOSED) {
+            return;
+        }
+        long now = clock.millis();
+        long reopenAt = openedAtMillis + openDuration.toMillis();
+        if (state == State.OPEN && now >= reopenAt) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return;
+        }
+        rejected.increment();
+        throw new CircuitOpenException(name, Math.max(1, (reopenAt - now + 999) / 1000));
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    private synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtMillis = clock.millis();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
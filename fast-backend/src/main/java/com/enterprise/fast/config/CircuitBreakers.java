@@ -0,0 +1,25 @@
+package com.enterprise.fast.config;
+
+import java.util.Map;
+
+/** The application's circuit breakers by name; see {@link IntegrationHttpConfig} for their settings. */
+public class CircuitBreakers {
+
+    public static final String AD = Bulkheads.AD;
+    public static final String BAM_SSO = Bulkheads.BAM_SSO;
+    public static final String PHONEBOOK = "phonebook";
+
+    private final Map<String, CircuitBreaker> byName;
+
+    public CircuitBreakers(Map<String, CircuitBreaker> byName) {
+        this.byName = Map.copyOf(byName);
+    }
+
+    public CircuitBreaker get(String name) {
+        CircuitBreaker breaker = byName.get(name);
+        if (breaker == null) {
+            throw new IllegalArgumentException("No circuit breaker named " + name);
+        }
+        return breaker;
+    }
+}
@@ -0,0 +1,98 @@
+package com.enterprise.fast.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbound HTTP for the BAM SSO, AD and phonebook integrations: one pooled Apache HttpClient with connect, read
+ * and pool-wait timeouts and keep-alive (app.http-client.*), plus a circuit breaker per dependency
+ * (app.circuit-breaker.{name}.*). Pool meters are published as httpcomponents.httpclient.pool.* (tag
+ * httpclient=integration) and request timings as http.client.requests.
+ */
+@Configuration
+public class IntegrationHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager integrationConnectionManager(
+            @Value("${app.http-client.max-connections:50}") int maxConnections,
+            @Value("${app.http-client.max-connections-per-route:20}") int maxPerRoute,
+            @Value("${app.http-client.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${app.http-client.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${app.http-client.time-to-live-seconds:300}") long timeToLiveSeconds,
+            MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "integration").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient integrationHttpClient(
+            PoolingHttpClientConnectionManager integrationConnectionManager,
+            @Value("${app.http-client.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${app.http-client.pool-wait-ms:1000}") long poolWaitMs,
+            @Value("${app.http-client.keep-alive-seconds:60}") long keepAliveSeconds) {
+        TimeValue keepAlive = TimeValue.ofSeconds(keepAliveSeconds);
+        return HttpClients.custom()
+                .setConnectionManager(integrationConnectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate integrationRestTemplate(RestTemplateBuilder builder, CloseableHttpClient integrationHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(integrationHttpClient))
+                .build();
+    }
+
+    /** Client errors (4xx) mean the dependency answered; only timeouts, I/O errors and 5xx trip a breaker. */
+    @Bean
+    public CircuitBreakers circuitBreakers(Environment environment, MeterRegistry meterRegistry) {
+        Map<String, CircuitBreaker> breakers = new LinkedHashMap<>();
+        for (String name : List.of(CircuitBreakers.AD, CircuitBreakers.BAM_SSO, CircuitBreakers.PHONEBOOK)) {
+            String prefix = "app.circuit-breaker." + name + ".";
+            int failureThreshold = environment.getProperty(prefix + "failure-threshold", Integer.class, 5);
+            long openSeconds = environment.getProperty(prefix + "open-seconds", Long.class, 30L);
+            breakers.put(name, new CircuitBreaker(name, failureThreshold, Duration.ofSeconds(openSeconds),
+                    e -> !(e instanceof HttpClientErrorException), meterRegistry));
+        }
+        return new CircuitBreakers(breakers);
+    }
+}
@@ -1,8 +1,10 @@
 package com.enterprise.fast.config;
 
-import com.enterprise.fast.domain.entity.User;
 import com.enterprise.fast.domain.enums.UserRole;
-import com.enterprise.fast.repository.UserRepository;
+import com.enterprise.fast.service.ReferenceDataCache;
+import com.enterprise.fast.service.ReferenceDataCache.CachedUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,12 +33,14 @@ import java.util.Optional;
 @Slf4j
 public class LdapAuthenticationFilter extends OncePerRequestFilter {
 
-    private final UserRepository userRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             // Extract username from Windows authentication header
             // Common headers: REMOTE_USER, X-Authenticated-User, or custom header
@@ -46,22 +50,22 @@ public class LdapAuthenticationFilter extends OncePerRequestFilter {
                 log.debug("Processing LDAP authentication for user: {}", username);
 
                 // Look up user in database
-                Optional<User> userOptional = userRepository.findByUsernameIgnoreCase(username);
+                Optional<CachedUser> userOptional = referenceDataCache.findUser(username);
 
                 UserRole role;
                 String fullName;
                 String region = null;
 
                 if (userOptional.isPresent()) {
-                    User user = userOptional.get();
-                    if (!user.getActive()) {
+                    CachedUser user = userOptional.get();
+                    if (!user.active()) {
                         log.warn("User {} is inactive", username);
                         response.sendError(HttpServletResponse.SC_FORBIDDEN, "User account is inactive");
                         return;
                     }
-                    role = user.getRole();
-                    fullName = user.getFullName();
-                    region = user.getRegion();
+                    role = user.role();
+                    fullName = user.fullName();
+                    region = user.region();
                     log.info("User {} authenticated with role: {}", username, role);
                 } else {
                     // User not in database - grant read-only access
@@ -81,6 +85,8 @@ public class LdapAuthenticationFilter extends OncePerRequestFilter {
             }
         } catch (Exception e) {
             log.error("Error processing LDAP authentication", e);
+        } finally {
+            sample.stop(meterRegistry.timer("fast.auth.filter", "filter", "ldap"));
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,19 @@
+package com.enterprise.fast.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer wiring. HTTP endpoints (http.server.requests), Hikari pools (hikaricp.*) and JVM meters come from
+ * Spring Boot; this adds {@code @Timed} support for service methods. Application meters are prefixed "fast.".
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
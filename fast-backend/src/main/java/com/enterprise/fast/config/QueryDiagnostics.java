@@ -0,0 +1,144 @@
+package com.enterprise.fast.config;
+
+import com.enterprise.fast.dto.response.QueryHotspotResponse;
+import com.enterprise.fast.dto.response.SlowQueryResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Collects what {@link QueryObservingDataSource} and {@link QueryObservationFilter} observe: statements slower than
+ * the threshold (bounded ring buffer, oldest overwritten) and requests that repeat one statement often enough to be
+ * an N+1 (second ring buffer). Both are in memory only and reset on restart.
+ */
+@Slf4j
+public class QueryDiagnostics {
+
+    private static final int MAX_SQL_LENGTH = 2000;
+
+    private final long slowThresholdNanos;
+    private final int nPlusOneThreshold;
+    private final Ring<SlowQueryResponse> slowQueries;
+    private final Ring<QueryHotspotResponse> hotspots;
+    private final Counter nPlusOneCounter;
+
+    public QueryDiagnostics(long slowThresholdMs, int slowBufferSize, int nPlusOneThreshold, int hotspotBufferSize,
+                            MeterRegistry meterRegistry) {
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000L;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.slowQueries = new Ring<>(slowBufferSize);
+        this.hotspots = new Ring<>(hotspotBufferSize);
+        this.nPlusOneCounter = Counter.builder("fast.sql.n_plus_one")
+                .description("Requests that repeated one SQL statement at least the N+1 threshold times")
+                .register(meterRegistry);
+    }
+
+    /** Called for every executed statement; the bind shape is only built when the statement is slow. */
+    void onStatement(String sql, Supplier<String> bindShape, int batchSize, long elapsedNanos) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.record(sql, elapsedNanos);
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            slowQueries.add(SlowQueryResponse.builder()
+                    .timestamp(Instant.now().toString())
+                    .durationMs(elapsedNanos / 1_000_000.0)
+                    .sql(truncate(sql))
+                    .bindShape(bindShape.get())
+                    .batchSize(batchSize)
+                    .context(stats != null ? stats.getContext() : Thread.currentThread().getName())
+                    .build());
+        }
+    }
+
+    /** Flags the request if one statement ran at least the N+1 threshold times. */
+    void onRequestComplete(String method, String uri, QueryStats stats) {
+        int repeats = stats.getMaxRepeats();
+        if (repeats < nPlusOneThreshold) {
+            return;
+        }
+        String sql = truncate(stats.getMostRepeatedSql());
+        nPlusOneCounter.increment();
+        hotspots.add(QueryHotspotResponse.builder()
+                .timestamp(Instant.now().toString())
+                .method(method)
+                .uri(uri)
+                .queryCount(stats.getCount())
+                .queryTimeMs(stats.getTotalMillis())
+                .repeats(repeats)
+                .repeatedSql(sql)
+                .build());
+        log.warn("Possible N+1: {} {} ran {} queries, {} x {}", method, uri, stats.getCount(), repeats, sql);
+    }
+
+    public boolean isNPlusOne(QueryStats stats) {
+        return stats.getMaxRepeats() >= nPlusOneThreshold;
+    }
+
+    /** Captured slow statements, slowest first. */
+    public List<SlowQueryResponse> getSlowQueries() {
+        List<SlowQueryResponse> list = slowQueries.snapshot();
+        list.sort(Comparator.comparingDouble(SlowQueryResponse::getDurationMs).reversed());
+        return list;
+    }
+
+    /** Flagged requests, newest first. */
+    public List<QueryHotspotResponse> getHotspots() {
+        List<QueryHotspotResponse> list = hotspots.snapshot();
+        Collections.reverse(list);
+        return list;
+    }
+
+    public void clear() {
+        slowQueries.clear();
+        hotspots.clear();
+    }
+
+    private static String truncate(String sql) {
+        if (sql == null) return null;
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        return compact.length() > MAX_SQL_LENGTH ? compact.substring(0, MAX_SQL_LENGTH) + "..." : compact;
+    }
+
+    /** Fixed-size buffer that overwrites its oldest entry. */
+    private static final class Ring<T> {
+        private final Object[] items;
+        private int next;
+        private int size;
+
+        Ring(int capacity) {
+            this.items = new Object[Math.max(1, capacity)];
+        }
+
+        synchronized void add(T item) {
+            items[next] = item;
+            next = (next + 1) % items.length;
+            size = Math.min(size + 1, items.length);
+        }
+
+        /** Oldest first. */
+        @SuppressWarnings("unchecked")
+        synchronized List<T> snapshot() {
+            List<T> list = new ArrayList<>(size);
+            int start = (next - size + items.length) % items.length;
+            for (int i = 0; i < size; i++) {
+                list.add((T) items[(start + i) % items.length]);
+            }
+            return list;
+        }
+
+        synchronized void clear() {
+            Arrays.fill(items, null);
+            next = 0;
+            size = 0;
+        }
+    }
+}
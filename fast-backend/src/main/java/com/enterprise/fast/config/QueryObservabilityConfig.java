@@ -0,0 +1,61 @@
+package com.enterprise.fast.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL observability: wraps the application DataSource in {@link QueryObservingDataSource} and registers
+ * {@link QueryObservationFilter}. Replaces spring.jpa.show-sql; results are served by SqlDiagnosticsController.
+ * Disable entirely with app.sql-observability.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-observability.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryObservabilityConfig {
+
+    @Bean
+    public QueryDiagnostics queryDiagnostics(
+            @Value("${app.sql-observability.slow-threshold-ms:200}") long slowThresholdMs,
+            @Value("${app.sql-observability.slow-buffer-size:100}") int slowBufferSize,
+            @Value("${app.sql-observability.n-plus-one-threshold:10}") int nPlusOneThreshold,
+            @Value("${app.sql-observability.hotspot-buffer-size:50}") int hotspotBufferSize,
+            MeterRegistry meterRegistry) {
+        return new QueryDiagnostics(slowThresholdMs, slowBufferSize, nPlusOneThreshold, hotspotBufferSize,
+                meterRegistry);
+    }
+
+    /**
+     * Wraps the bean named "dataSource" (Hikari, or the replica router when app.datasource.replica.enabled) so every
+     * connection handed to Hibernate and JdbcTemplate is observed. Static so it does not initialise this class early.
+     */
+    @Bean
+    public static BeanPostProcessor queryObservingDataSourcePostProcessor(ObjectProvider<QueryDiagnostics> diagnostics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof QueryObservingDataSource)) {
+                    return new QueryObservingDataSource(dataSource, diagnostics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryObservationFilter> queryObservationFilter(QueryDiagnostics diagnostics) {
+        FilterRegistrationBean<QueryObservationFilter> registration =
+                new FilterRegistrationBean<>(new QueryObservationFilter(diagnostics));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
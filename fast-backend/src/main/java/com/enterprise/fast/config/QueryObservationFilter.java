@@ -0,0 +1,38 @@
+package com.enterprise.fast.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds a {@link QueryStats} to the request thread and hands it to {@link QueryDiagnostics} for N+1 detection
+ * once the request completes. Registered ahead of Spring Security so queries made by the auth filters count too.
+ */
+@RequiredArgsConstructor
+public class QueryObservationFilter extends OncePerRequestFilter {
+
+    private final QueryDiagnostics diagnostics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        QueryStats stats = QueryStats.begin(method + " " + uri);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            try {
+                diagnostics.onRequestComplete(method, uri, stats);
+            } finally {
+                QueryStats.end();
+            }
+        }
+    }
+}
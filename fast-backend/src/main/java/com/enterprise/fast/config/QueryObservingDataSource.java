@@ -0,0 +1,129 @@
+package com.enterprise.fast.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Times every JDBC execute call and reports it to {@link QueryDiagnostics}. Connections and statements are wrapped
+ * in JDK proxies; bind calls (setLong, setString, ...) only record the parameter type so captured statements show
+ * their bind shape without leaking values.
+ */
+public class QueryObservingDataSource extends DelegatingDataSource {
+
+    private final QueryDiagnostics diagnostics;
+
+    public QueryObservingDataSource(DataSource target, QueryDiagnostics diagnostics) {
+        super(target);
+        this.diagnostics = diagnostics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object identity = identity(proxy, method, args);
+                    if (identity != null) {
+                        return identity;
+                    }
+                    Object result = invoke(target, method, args);
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> statement((Statement) result, (String) args[0], PreparedStatement.class);
+                        case "prepareCall" -> statement((Statement) result, (String) args[0], CallableStatement.class);
+                        case "createStatement" -> statement((Statement) result, null, Statement.class);
+                        default -> result;
+                    };
+                });
+    }
+
+    private Object statement(Statement target, String preparedSql, Class<? extends Statement> type) {
+        BindShape binds = new BindShape();
+        int[] batched = {0};
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                boolean batch = name.equals("executeBatch");
+                long start = System.nanoTime();
+                try {
+                    return invoke(target, method, args);
+                } finally {
+                    diagnostics.onStatement(sql, binds::toString, batch ? batched[0] : 1, System.nanoTime() - start);
+                    if (batch) {
+                        batched[0] = 0;
+                    }
+                }
+            }
+            if (name.equals("addBatch")) {
+                batched[0]++;
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                binds.set(index, name.equals("setObject") && args[1] != null ? args[1].getClass().getSimpleName()
+                        : name.equals("setNull") ? "null" : name.substring(3));
+            } else if (name.equals("clearParameters")) {
+                binds.clear();
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    /** equals/hashCode on the proxy itself so pools and transaction holders can compare handles. */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> args != null && args.length == 1 ? proxy == args[0] : null;
+            case "hashCode" -> method.getParameterCount() == 0 ? System.identityHashCode(proxy) : null;
+            default -> null;
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /** Parameter types by 1-based bind index; the last set call per index wins, as in JDBC. */
+    private static final class BindShape {
+        private final List<String> types = new ArrayList<>();
+
+        void set(int index, String type) {
+            while (types.size() < index) {
+                types.add("?");
+            }
+            types.set(index - 1, type);
+        }
+
+        void clear() {
+            types.clear();
+        }
+
+        @Override
+        public String toString() {
+            return types.isEmpty() ? "" : "(" + String.join(", ", types) + ")";
+        }
+    }
+}
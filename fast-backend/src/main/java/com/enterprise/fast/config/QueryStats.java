@@ -0,0 +1,70 @@
+package com.enterprise.fast.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC statements executed by the current request thread. Bound by {@link QueryObservationFilter}; statements run
+ * outside a request (schedulers, async work) are not counted here but still reach the slow-query log.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final String context;
+    private int count;
+    private long nanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    private QueryStats(String context) {
+        this.context = context;
+    }
+
+    /** @param context request description, e.g. "GET /api/v1/problems" */
+    public static QueryStats begin(String context) {
+        QueryStats stats = new QueryStats(context);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** The stats of the current request, or null outside a request. */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, long elapsedNanos) {
+        count++;
+        nanos += elapsedNanos;
+        if (sql != null) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public String getContext() {
+        return context;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getTotalMillis() {
+        return nanos / 1_000_000L;
+    }
+
+    /** Executions of the most repeated statement: the N in an N+1 (or 0 when nothing ran). */
+    public int getMaxRepeats() {
+        return executionsBySql.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    public String getMostRepeatedSql() {
+        return executionsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+}
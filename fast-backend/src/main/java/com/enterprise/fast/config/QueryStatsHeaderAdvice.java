@@ -0,0 +1,37 @@
+package com.enterprise.fast.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds X-Query-Count, X-Query-Time-Ms and X-Query-Max-Repeats to API responses so the query cost of an endpoint is
+ * visible in the browser dev tools. Enabled in local and dev only (app.sql-observability.response-headers).
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "app.sql-observability.response-headers", havingValue = "true")
+public class QueryStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set("X-Query-Count", String.valueOf(stats.getCount()));
+            response.getHeaders().set("X-Query-Time-Ms", String.valueOf(stats.getTotalMillis()));
+            response.getHeaders().set("X-Query-Max-Repeats", String.valueOf(stats.getMaxRepeats()));
+        }
+        return body;
+    }
+}
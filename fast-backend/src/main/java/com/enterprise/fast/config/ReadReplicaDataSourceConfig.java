@@ -0,0 +1,99 @@
+package com.enterprise.fast.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read-replica routing, enabled with app.datasource.replica.enabled=true. The primary pool is built from the
+ * usual spring.datasource.* settings; the replica pool from app.datasource.replica.*. Spring Boot's own
+ * DataSource auto-configuration backs off because this config defines the primary DataSource bean.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:}") String username,
+            @Value("${app.datasource.replica.password:}") String password,
+            @Value("${app.datasource.replica.driver-class-name:}") String driverClassName,
+            @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.datasource.replica.connection-timeout-ms:2000}") long connectionTimeoutMs) {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setPoolName("replica");
+        ds.setJdbcUrl(url);
+        ds.setUsername(username);
+        ds.setPassword(password);
+        if (!driverClassName.isBlank()) {
+            ds.setDriverClassName(driverClassName);
+        }
+        ds.setMaximumPoolSize(maximumPoolSize);
+        // Short wait: a read blocked on an exhausted or unreachable replica pool should fail fast, not hold a
+        // request thread for Hikari's 30s default
+        ds.setConnectionTimeout(connectionTimeoutMs);
+        ds.setReadOnly(true);
+        // Do not fail startup when the replica is down; routing falls back to the primary
+        ds.setInitializationFailTimeout(-1);
+        return ds;
+    }
+
+    @Bean
+    public ReplicaStickiness replicaStickiness(@Value("${app.datasource.replica.stickiness-ms:5000}") long stickinessMs) {
+        return new ReplicaStickiness(stickinessMs);
+    }
+
+    /** Each pool behind its own bulkhead, so a burst of reads cannot take the permits writes need (and vice versa). */
+    @Bean
+    public ReadReplicaRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                          @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                          ReplicaStickiness replicaStickiness,
+                                                          Bulkheads bulkheads) {
+        return new ReadReplicaRoutingDataSource(
+                new BulkheadDataSource(primaryDataSource, bulkheads.get(Bulkheads.DATABASE)),
+                new BulkheadDataSource(replicaDataSource, bulkheads.get(Bulkheads.DATABASE_REPLICA)),
+                replicaStickiness);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                     ReadReplicaRoutingDataSource routingDataSource,
+                                                     ReplicaStickiness replicaStickiness,
+                                                     @Value("${app.datasource.replica.lag-query:}") String lagQuery,
+                                                     @Value("${app.datasource.replica.max-lag-seconds:30}") long maxLagSeconds) {
+        return new ReplicaHealthMonitor(replicaDataSource, routingDataSource, replicaStickiness, lagQuery, maxLagSeconds);
+    }
+
+    @Bean
+    public MeterBinder replicaHealthMetrics(ReadReplicaRoutingDataSource routingDataSource) {
+        return registry -> Gauge.builder("fast.datasource.replica.healthy", routingDataSource, r -> r.isReplicaHealthy() ? 1 : 0)
+                .description("1 while read-only transactions may use the replica, 0 while they fall back to the primary")
+                .register(registry);
+    }
+}
@@ -0,0 +1,100 @@
+package com.enterprise.fast.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to the replica and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy so the connection is fetched after the transaction's
+ * read-only flag is known. Reads stay on the primary when the replica is marked unhealthy, when the
+ * current user wrote recently (see {@link ReplicaStickiness}), or when a replica connection cannot be opened.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaStickiness stickiness;
+    private volatile boolean replicaHealthy = true;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaStickiness stickiness) {
+        this.primary = primary;
+        this.replica = replica;
+        this.stickiness = stickiness;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        String username = currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (username != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                // Start the stickiness window at commit, when the write becomes visible to replication
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        stickiness.recordWrite(username);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+        if (!replicaHealthy || stickiness.isPinnedToPrimary(username)) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            if (target != replica) {
+                throw e;
+            }
+            markReplicaHealthy(false, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    public void markReplicaHealthy(boolean healthy, String reason) {
+        if (replicaHealthy != healthy) {
+            if (healthy) {
+                log.info("Read replica is healthy again; read-only transactions go to the replica");
+            } else {
+                log.warn("Read replica marked unhealthy ({}); read-only transactions fall back to the primary", reason);
+            }
+        }
+        replicaHealthy = healthy;
+    }
+
+    private static String currentUsername() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken || !auth.isAuthenticated()) {
+            return null;
+        }
+        return auth.getName();
+    }
+}
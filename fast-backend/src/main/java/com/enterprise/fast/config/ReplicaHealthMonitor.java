@@ -0,0 +1,59 @@
+package com.enterprise.fast.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Periodically validates the replica and, when app.datasource.replica.lag-query is set (a query returning
+ * replication lag in seconds), takes it out of rotation while lag exceeds max-lag-seconds.
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    private final DataSource replica;
+    private final ReadReplicaRoutingDataSource routing;
+    private final ReplicaStickiness stickiness;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    public ReplicaHealthMonitor(DataSource replica, ReadReplicaRoutingDataSource routing, ReplicaStickiness stickiness,
+                                String lagQuery, long maxLagSeconds) {
+        this.replica = replica;
+        this.routing = routing;
+        this.stickiness = stickiness;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        if (lagQuery == null || lagQuery.isBlank()) {
+            log.warn("app.datasource.replica.lag-query is not set: replication lag is not checked and read-only "
+                    + "transactions may see arbitrarily stale data while the replica falls behind");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval-ms:10000}")
+    public void check() {
+        stickiness.purgeExpired();
+        try (Connection c = replica.getConnection()) {
+            if (!c.isValid(2)) {
+                routing.markReplicaHealthy(false, "connection validation failed");
+                return;
+            }
+            if (lagQuery != null && !lagQuery.isBlank()) {
+                try (Statement st = c.createStatement(); ResultSet rs = st.executeQuery(lagQuery)) {
+                    long lag = rs.next() ? rs.getLong(1) : 0L;
+                    if (lag > maxLagSeconds) {
+                        routing.markReplicaHealthy(false, "replication lag " + lag + "s > " + maxLagSeconds + "s");
+                        return;
+                    }
+                }
+            }
+            routing.markReplicaHealthy(true, null);
+        } catch (Exception e) {
+            routing.markReplicaHealthy(false, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.enterprise.fast.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-your-writes guard for replica routing: after a user's write commits, that user's reads stay on the
+ * primary for a window long enough to cover normal replica lag. Other users keep reading from the replica.
+ */
+public class ReplicaStickiness {
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReplicaStickiness(long windowMs) {
+        this.windowNanos = windowMs * 1_000_000L;
+    }
+
+    public void recordWrite(String username) {
+        if (username != null) {
+            lastWriteNanos.put(username, System.nanoTime());
+        }
+    }
+
+    /** True while the user's last committed write may not have reached the replica yet. */
+    public boolean isPinnedToPrimary(String username) {
+        if (username == null) return false;
+        Long last = lastWriteNanos.get(username);
+        return last != null && System.nanoTime() - last < windowNanos;
+    }
+
+    /** Drops expired entries so the map only holds recently active writers. */
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(t -> now - t >= windowNanos);
+    }
+}
@@ -42,21 +42,30 @@ public class SecurityConfig {
                         // Public endpoints (no auth needed)
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                        // Metrics (/actuator/prometheus, /actuator/metrics): scrape with an ADMIN service account token
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        // Phonebook photos are personal data: only for signed-in users, unlike the SSO bootstrap calls
+                        .requestMatchers("/api/v1/bam/photo/**").authenticated()
                         .requestMatchers("/api/v1/bam/**").permitAll() // BAM SSO endpoints
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/login").permitAll() // AD auth: username -> JWT
                         // Static SPA assets (unified deployment)
                         .requestMatchers("/", "/index.html", "/assets/**", "/fastlogo.svg", "/config.json", "/favicon.ico").permitAll()
 
+                        // Operational endpoints (cache statistics etc.) — ADMIN only, including GET
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+
                         // Allow all authenticated users (including READ_ONLY) to view data
                         .requestMatchers(HttpMethod.GET, "/api/v1/**").authenticated()
 
                         // Problem endpoints — ADMIN creates tickets
-                        .requestMatchers(HttpMethod.POST, "/api/v1/problems")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/problems", "/api/v1/problems/import", "/api/v1/problems/duplicates/check")
                         .hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/v1/problems/**")
                         .hasAnyRole("ADMIN", "RTB_OWNER", "TECH_LEAD")
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/problems/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.PATCH, "/api/v1/problems/bulk/**")
+                        .hasAnyRole("ADMIN", "RTB_OWNER", "TECH_LEAD")
                         .requestMatchers(HttpMethod.PATCH, "/api/v1/problems/*/status", "/api/v1/problems/*/btb-tech-lead")
                         .hasAnyRole("ADMIN", "RTB_OWNER", "TECH_LEAD")
                         .requestMatchers(HttpMethod.POST, "/api/v1/problems/*/send-email")
@@ -69,14 +78,15 @@ public class SecurityConfig {
                         // Approval endpoints — ADMIN submits; REVIEWER, APPROVER, RTB_OWNER approve/reject
                         .requestMatchers(HttpMethod.POST, "/api/v1/approvals/problems/*/submit")
                         .hasRole("ADMIN")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/approvals/*/approve", "/api/v1/approvals/*/reject")
+                        .requestMatchers(HttpMethod.PUT, "/api/v1/approvals/*/approve", "/api/v1/approvals/*/reject",
+                                "/api/v1/approvals/bulk/approve", "/api/v1/approvals/bulk/reject")
                         .hasAnyRole("REVIEWER", "APPROVER", "RTB_OWNER", "ADMIN")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/approvals/pending")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/approvals/pending", "/api/v1/approvals/pending/page")
                         .authenticated()
 
                         // Admin endpoints
                         .requestMatchers("/api/v1/auth/register").hasRole("ADMIN")
-                        .requestMatchers("/api/v1/audit/recent").hasRole("ADMIN")
+                        .requestMatchers("/api/v1/audit/recent", "/api/v1/audit/entries").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/settings").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/v1/settings/daily-report-preview").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/v1/settings").hasRole("ADMIN")
@@ -1,10 +1,14 @@
 package com.enterprise.fast.controller;
 
 import com.enterprise.fast.dto.request.ApprovalRequest;
+import com.enterprise.fast.dto.request.BulkApprovalRequest;
 import com.enterprise.fast.dto.response.ApprovalResponse;
+import com.enterprise.fast.dto.response.BulkOperationResponse;
+import com.enterprise.fast.dto.response.PagedResponse;
 import com.enterprise.fast.service.ApprovalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +40,15 @@ public class ApprovalController {
         return ResponseEntity.ok(approvalService.getPendingApprovals(authentication.getName()));
     }
 
+    @GetMapping("/pending/page")
+    @Operation(summary = "Get one page of pending approvals for the current reviewer, oldest first")
+    public ResponseEntity<PagedResponse<ApprovalResponse>> getPendingApprovalsPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        return ResponseEntity.ok(approvalService.getPendingApprovals(authentication.getName(), page, size));
+    }
+
     @PutMapping("/{approvalId}/approve")
     @Operation(summary = "Approve a problem ticket")
     public ResponseEntity<ApprovalResponse> approve(
@@ -56,6 +69,22 @@ public class ApprovalController {
         return ResponseEntity.ok(approvalService.reject(approvalId, request, authentication.getName()));
     }
 
+    @PutMapping("/bulk/approve")
+    @Operation(summary = "Approve many approval slots in one transaction (per-item result report)")
+    public ResponseEntity<BulkOperationResponse> bulkApprove(
+            @Valid @RequestBody BulkApprovalRequest request,
+            Authentication authentication) {
+        return ResponseEntity.ok(approvalService.bulkApprove(request.getIds(), request.getComments(), authentication.getName()));
+    }
+
+    @PutMapping("/bulk/reject")
+    @Operation(summary = "Reject many approval slots in one transaction (per-item result report)")
+    public ResponseEntity<BulkOperationResponse> bulkReject(
+            @Valid @RequestBody BulkApprovalRequest request,
+            Authentication authentication) {
+        return ResponseEntity.ok(approvalService.bulkReject(request.getIds(), request.getComments(), authentication.getName()));
+    }
+
     @GetMapping("/problems/{problemId}/history")
     @Operation(summary = "Get approval history for a problem")
     public ResponseEntity<List<ApprovalResponse>> getApprovalHistory(@PathVariable Long problemId) {
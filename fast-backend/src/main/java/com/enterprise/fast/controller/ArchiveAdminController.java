@@ -0,0 +1,55 @@
+package com.enterprise.fast.controller;
+
+import com.enterprise.fast.dto.response.ArchiveSegmentResponse;
+import com.enterprise.fast.dto.response.ArchivedTicketResponse;
+import com.enterprise.fast.exception.ResourceNotFoundException;
+import com.enterprise.fast.service.ArchiveSegmentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/archive")
+@RequiredArgsConstructor
+@Tag(name = "Archive", description = "Long-term archive segments (Admin only)")
+public class ArchiveAdminController {
+
+    private final ArchiveSegmentService segmentService;
+
+    @GetMapping("/segments")
+    @Operation(summary = "Archive segment files with their ticket id and closed date ranges")
+    public ResponseEntity<List<ArchiveSegmentResponse>> getSegments() {
+        return ResponseEntity.ok(segmentService.getSegments());
+    }
+
+    @GetMapping("/tickets/{id}")
+    @Operation(summary = "A ticket sealed into an archive segment, with its comments and audit trail")
+    public ResponseEntity<ArchivedTicketResponse> getTicket(@PathVariable Long id) {
+        return ResponseEntity.ok(segmentService.findTicket(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ArchivedTicket", "id", id)));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream the sealed tickets closed within the date range as JSON lines")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+        headers.setContentDispositionFormData("attachment", "archived-tickets.ndjson");
+        return ResponseEntity.ok().headers(headers).body(out -> segmentService.export(from, to, out));
+    }
+}
@@ -1,13 +1,16 @@
 package com.enterprise.fast.controller;
 
 import com.enterprise.fast.domain.entity.AuditLog;
+import com.enterprise.fast.dto.response.KeysetPageResponse;
 import com.enterprise.fast.service.AuditLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,6 +30,15 @@ public class AuditLogController {
         return ResponseEntity.ok(logs.stream().map(this::toMap).collect(Collectors.toList()));
     }
 
+    @GetMapping("/problem/{problemId}/page")
+    @Operation(summary = "Get a page of the audit trail of a problem ticket, newest first (pass nextCursor as cursor for the next page)")
+    public ResponseEntity<KeysetPageResponse<Map<String, Object>>> getAuditTrailPage(
+            @PathVariable Long problemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(toMaps(auditLogService.getAuditTrailPage(problemId, cursor, limit)));
+    }
+
     @GetMapping("/recent")
     @Operation(summary = "Get recent audit entries (Admin only)")
     public ResponseEntity<List<Map<String, Object>>> getRecentEntries(
@@ -35,6 +47,26 @@ public class AuditLogController {
         return ResponseEntity.ok(logs.stream().map(this::toMap).collect(Collectors.toList()));
     }
 
+    @GetMapping("/entries")
+    @Operation(summary = "Get audit entries with a timestamp in [from, to), newest first (Admin only; defaults to the last 30 days)")
+    public ResponseEntity<KeysetPageResponse<Map<String, Object>>> getEntries(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(30);
+        return ResponseEntity.ok(toMaps(auditLogService.getEntries(start, end, cursor, limit)));
+    }
+
+    private KeysetPageResponse<Map<String, Object>> toMaps(KeysetPageResponse<AuditLog> page) {
+        return KeysetPageResponse.<Map<String, Object>>builder()
+                .content(page.getContent().stream().map(this::toMap).collect(Collectors.toList()))
+                .size(page.getSize())
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
     private Map<String, Object> toMap(AuditLog log) {
         return Map.of(
                 "id", log.getId(),
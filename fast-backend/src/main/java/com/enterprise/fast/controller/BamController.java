@@ -2,14 +2,19 @@ package com.enterprise.fast.controller;
 
 import com.enterprise.fast.dto.response.AdUserResponse;
 import com.enterprise.fast.dto.response.BamAuthResponse;
+import com.enterprise.fast.dto.response.ProfilePhotoResponse;
 import com.enterprise.fast.service.BamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Controller for BAM SSO authentication endpoints
  */
@@ -39,4 +44,15 @@ public class BamController {
         AdUserResponse adUser = bamService.getAdUserDetails();
         return ResponseEntity.ok(adUser);
     }
+
+    @GetMapping("/photo/{employeeId}")
+    @Operation(summary = "Get a profile photo from the phonebook (cached server-side)")
+    public ResponseEntity<byte[]> getProfilePhoto(@PathVariable String employeeId) {
+        return bamService.getProfilePhoto(employeeId)
+                .map(photo -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS))
+                        .contentType(MediaType.parseMediaType(photo.getContentType()))
+                        .body(photo.getContent()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
@@ -0,0 +1,36 @@
+package com.enterprise.fast.controller;
+
+import com.enterprise.fast.dto.response.CacheStatsResponse;
+import com.enterprise.fast.service.ReferenceDataCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@RequiredArgsConstructor
+@Tag(name = "Caches", description = "Reference data cache statistics (Admin only)")
+public class CacheAdminController {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    @GetMapping
+    @Operation(summary = "Hit/miss statistics of the reference data caches")
+    public ResponseEntity<List<CacheStatsResponse>> getStats() {
+        return ResponseEntity.ok(referenceDataCache.getStats());
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Drop all cached reference data (e.g. after editing the tables directly in the database)")
+    public ResponseEntity<Void> evictAll() {
+        referenceDataCache.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.enterprise.fast.controller;
 
+import com.enterprise.fast.dto.response.CommentaryComplianceResponse;
 import com.enterprise.fast.dto.response.DashboardMetricsResponse;
 import com.enterprise.fast.dto.response.FastProblemResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
@@ -40,6 +41,12 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardService.getInProgressWithoutRecentComment());
     }
 
+    @GetMapping("/commentary-compliance")
+    @Operation(summary = "Daily commentary compliance per assignee of In Progress tickets, most overdue first")
+    public ResponseEntity<List<CommentaryComplianceResponse>> getCommentaryCompliance() {
+        return ResponseEntity.ok(dashboardService.getCommentaryComplianceByAssignee());
+    }
+
     @GetMapping("/top10")
     @Operation(summary = "Top 10 Finance Daily Production issues by impact (optional region filter)")
     public ResponseEntity<List<FastProblemResponse>> getTop10(
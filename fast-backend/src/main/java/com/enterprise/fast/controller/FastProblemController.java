@@ -1,26 +1,45 @@
 package com.enterprise.fast.controller;
 
+import com.enterprise.fast.dto.request.BulkAssignmentRequest;
+import com.enterprise.fast.dto.request.BulkStatusUpdateRequest;
+import com.enterprise.fast.dto.request.BulkTagRequest;
 import com.enterprise.fast.dto.request.CreateFastProblemRequest;
+import com.enterprise.fast.dto.request.DuplicateCheckRequest;
 import com.enterprise.fast.dto.request.StatusUpdateRequest;
 import com.enterprise.fast.dto.request.UpdateFastProblemRequest;
+import com.enterprise.fast.dto.response.ApiErrorResponse;
+import com.enterprise.fast.dto.response.BulkOperationResponse;
+import com.enterprise.fast.dto.response.DuplicateCandidateResponse;
 import com.enterprise.fast.dto.response.FastProblemResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
+import com.enterprise.fast.exception.ResourceNotFoundException;
+import com.enterprise.fast.exception.VersionConflictException;
 import com.enterprise.fast.service.FastProblemService;
+import com.enterprise.fast.util.ETags;
+import com.enterprise.fast.util.TicketCsvWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/problems")
@@ -28,6 +47,9 @@ import java.util.List;
 @Tag(name = "FAST Problems", description = "Problem ticket CRUD operations")
 public class FastProblemController {
 
+    /** Clients may keep ticket representations but must revalidate them (If-None-Match) on every use. */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final FastProblemService problemService;
 
     @PostMapping
@@ -39,6 +61,12 @@ public class FastProblemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/duplicates/check")
+    @Operation(summary = "Find open tickets that look like the same problem, before creating a ticket")
+    public ResponseEntity<List<DuplicateCandidateResponse>> checkDuplicates(@Valid @RequestBody DuplicateCheckRequest request) {
+        return ResponseEntity.ok(problemService.findDuplicateCandidates(request.getTitle(), request.getDescription()));
+    }
+
     @GetMapping
     @Operation(summary = "List all problem tickets (paginated, with optional filters)")
     public ResponseEntity<PagedResponse<FastProblemResponse>> getAll(
@@ -58,7 +86,8 @@ public class FastProblemController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            WebRequest webRequest) {
         boolean hasFilters = (q != null && !q.isBlank()) || (region != null && !region.isBlank())
                 || (classification != null && !classification.isBlank())
                 || (application != null && !application.isBlank())
@@ -67,43 +96,84 @@ public class FastProblemController {
                 || (ragStatus != null && !ragStatus.isBlank())
                 || ageMin != null || ageMax != null || minImpact != null || priority != null || impactedUserGroupId != null;
         if (hasFilters) {
-            return ResponseEntity.ok(problemService.findWithFilters(q, region, classification, application, fromDate, toDate, status, ragStatus, ageMin, ageMax, minImpact, priority, impactedUserGroupId, page, size, sortBy, direction));
+            return conditionalList(webRequest, status, () -> problemService.findWithFilters(q, region, classification, application, fromDate, toDate, status, ragStatus, ageMin, ageMax, minImpact, priority, impactedUserGroupId, page, size, sortBy, direction));
         }
-        return ResponseEntity.ok(problemService.getAll(page, size, sortBy, direction));
+        return conditionalList(webRequest, null, () -> problemService.getAll(page, size, sortBy, direction));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get problem ticket by ID")
-    public ResponseEntity<FastProblemResponse> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(problemService.getById(id));
+    @Operation(summary = "Get problem ticket by ID (supports If-None-Match; 304 when unchanged)")
+    public ResponseEntity<FastProblemResponse> getById(@PathVariable Long id, WebRequest webRequest) {
+        // Version lookup is a single indexed read; the full graph is only loaded when the client copy is stale
+        String currentETag = ETags.forProblem(id, problemService.getVersion(id));
+        if (webRequest.checkNotModified(currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).cacheControl(REVALIDATE).build();
+        }
+        FastProblemResponse response = problemService.getById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.forProblem(id, response.getVersion()))
+                .cacheControl(REVALIDATE)
+                .body(response);
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Update a problem ticket")
+    @Operation(summary = "Update a problem ticket (optional If-Match; 409 with current state when stale)")
     public ResponseEntity<FastProblemResponse> update(
             @PathVariable Long id,
             @Valid @RequestBody UpdateFastProblemRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
-        return ResponseEntity.ok(problemService.update(id, request, authentication.getName()));
+        Long expectedVersion = ETags.parseProblemVersion(id, ifMatch);
+        return withETag(problemService.update(id, request, authentication.getName(), expectedVersion));
     }
 
     @PatchMapping("/{id}/btb-tech-lead")
-    @Operation(summary = "Update only the BTB Tech Lead for a problem ticket")
+    @Operation(summary = "Update only the BTB Tech Lead for a problem ticket (optional If-Match)")
     public ResponseEntity<FastProblemResponse> updateBtbTechLead(
             @PathVariable Long id,
             @RequestBody java.util.Map<String, String> body,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
         String username = body != null ? body.get("btbTechLeadUsername") : null;
-        return ResponseEntity.ok(problemService.updateBtbTechLead(id, username, authentication.getName()));
+        Long expectedVersion = ETags.parseProblemVersion(id, ifMatch);
+        return withETag(problemService.updateBtbTechLead(id, username, authentication.getName(), expectedVersion));
     }
 
     @PatchMapping("/{id}/status")
-    @Operation(summary = "Update problem ticket status")
+    @Operation(summary = "Update problem ticket status (optional If-Match)")
     public ResponseEntity<FastProblemResponse> updateStatus(
             @PathVariable Long id,
             @Valid @RequestBody StatusUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            Authentication authentication) {
+        Long expectedVersion = ETags.parseProblemVersion(id, ifMatch);
+        return withETag(problemService.updateStatus(id, request.getStatus(), authentication.getName(), expectedVersion));
+    }
+
+    @PatchMapping("/bulk/status")
+    @Operation(summary = "Change status of many tickets (per-item result report)")
+    public ResponseEntity<BulkOperationResponse> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusUpdateRequest request,
+            Authentication authentication) {
+        return ResponseEntity.ok(problemService.bulkUpdateStatus(request.getIds(), request.getStatus(), authentication.getName()));
+    }
+
+    @PatchMapping("/bulk/assignment")
+    @Operation(summary = "Set assignee and/or assignment group on many tickets (per-item result report)")
+    public ResponseEntity<BulkOperationResponse> bulkAssign(
+            @Valid @RequestBody BulkAssignmentRequest request,
+            Authentication authentication) {
+        return ResponseEntity.ok(problemService.bulkAssign(request.getIds(), request.getAssignedTo(),
+                request.getAssignmentGroup(), authentication.getName()));
+    }
+
+    @PatchMapping("/bulk/tags")
+    @Operation(summary = "Replace regions and/or impacted user groups on many tickets (per-item result report)")
+    public ResponseEntity<BulkOperationResponse> bulkTag(
+            @Valid @RequestBody BulkTagRequest request,
             Authentication authentication) {
-        return ResponseEntity.ok(problemService.updateStatus(id, request.getStatus(), authentication.getName()));
+        return ResponseEntity.ok(problemService.bulkTag(request.getIds(), request.getRegionalCodes(),
+                request.getImpactedUserGroupIds(), authentication.getName()));
     }
 
     @DeleteMapping("/{id}")
@@ -125,14 +195,16 @@ public class FastProblemController {
     }
 
     @PutMapping("/{id}/properties/{key}")
-    @Operation(summary = "Update a custom property value")
+    @Operation(summary = "Update a custom property value (optional If-Match)")
     public ResponseEntity<FastProblemResponse> updateProperty(
             @PathVariable Long id,
             @PathVariable String key,
             @RequestBody java.util.Map<String, String> body,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
         String value = body.get("value");
-        return ResponseEntity.ok(problemService.updateProperty(id, key, value != null ? value : ""));
+        Long expectedVersion = ETags.parseProblemVersion(id, ifMatch);
+        return withETag(problemService.updateProperty(id, key, value != null ? value : "", expectedVersion));
     }
 
     @DeleteMapping("/{id}/properties/{key}")
@@ -193,8 +265,9 @@ public class FastProblemController {
     public ResponseEntity<PagedResponse<FastProblemResponse>> getByRegion(
             @PathVariable String code,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        return ResponseEntity.ok(problemService.getByRegion(code, page, size));
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, null, () -> problemService.getByRegion(code, page, size));
     }
 
     @GetMapping("/classification/{classification}")
@@ -202,8 +275,9 @@ public class FastProblemController {
     public ResponseEntity<PagedResponse<FastProblemResponse>> getByClassification(
             @PathVariable String classification,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        return ResponseEntity.ok(problemService.getByClassification(classification, page, size));
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, null, () -> problemService.getByClassification(classification, page, size));
     }
 
     @GetMapping("/status/{status}")
@@ -211,8 +285,9 @@ public class FastProblemController {
     public ResponseEntity<PagedResponse<FastProblemResponse>> getByStatus(
             @PathVariable String status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        return ResponseEntity.ok(problemService.getByStatus(status, page, size));
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, status, () -> problemService.getByStatus(status, page, size));
     }
 
     @GetMapping("/search")
@@ -220,8 +295,9 @@ public class FastProblemController {
     public ResponseEntity<PagedResponse<FastProblemResponse>> search(
             @RequestParam String q,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        return ResponseEntity.ok(problemService.search(q, page, size));
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        return conditionalList(webRequest, null, () -> problemService.search(q, page, size));
     }
 
     @GetMapping("/export")
@@ -242,7 +318,7 @@ public class FastProblemController {
             @RequestParam(required = false) Long impactedUserGroupId,
             @RequestParam(defaultValue = "1000") int limit) {
         List<FastProblemResponse> data = problemService.exportWithFilters(q, region, classification, application, fromDate, toDate, status, ragStatus, ageMin, ageMax, minImpact, priority, impactedUserGroupId, limit);
-        String csv = toCsv(data);
+        String csv = TicketCsvWriter.toCsv(data);
         byte[] utf8Bom = new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
         byte[] csvBytes = csv.getBytes(StandardCharsets.UTF_8);
         byte[] body = new byte[utf8Bom.length + csvBytes.length];
@@ -254,43 +330,65 @@ public class FastProblemController {
         return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
-    private String toCsv(List<FastProblemResponse> data) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("id,title,pbtId,incidentNumber,problemNumber,classification,regions,status,userImpact,priority,dqReference,impactedUserGroups,impactedUserGroupNotes,confluenceLink,createdBy,createdDate\n");
-        if (data == null) return sb.toString();
-        for (FastProblemResponse r : data) {
-            if (r == null) continue;
-            String impactedGroups = r.getImpactedUserGroups() == null ? "" : r.getImpactedUserGroups().stream()
-                    .filter(g -> g != null && g.getName() != null && !g.getName().isBlank())
-                    .map(g -> g.getCode() != null && !g.getCode().isBlank() ? g.getName() + " (" + g.getCode() + ")" : g.getName())
-                    .distinct()
-                    .collect(java.util.stream.Collectors.joining(";"));
-            sb.append(escapeCsv(r.getId())).append(",");
-            sb.append(escapeCsv(r.getTitle())).append(",");
-            sb.append(escapeCsv(r.getPbtId())).append(",");
-            sb.append(escapeCsv(r.getServicenowIncidentNumber())).append(",");
-            sb.append(escapeCsv(r.getServicenowProblemNumber())).append(",");
-            sb.append(escapeCsv(r.getClassification())).append(",");
-            sb.append(escapeCsv(r.getRegionalCodes() != null ? String.join(";", r.getRegionalCodes()) : "")).append(",");
-            sb.append(escapeCsv(r.getStatus())).append(",");
-            sb.append(r.getUserImpactCount() != null ? r.getUserImpactCount() : "").append(",");
-            sb.append(r.getPriority() != null ? r.getPriority() : "").append(",");
-            sb.append(escapeCsv(r.getDqReference())).append(",");
-            sb.append(escapeCsv(impactedGroups)).append(",");
-            sb.append(escapeCsv(r.getImpactedUserGroupNotes())).append(",");
-            sb.append(escapeCsv(r.getConfluenceLink())).append(",");
-            sb.append(escapeCsv(r.getCreatedBy())).append(",");
-            sb.append(escapeCsv(r.getCreatedDate() != null ? r.getCreatedDate().toString() : "")).append("\n");
+    /**
+     * Write conflicts on a ticket: 409 with the current representation and its ETag, so the client can merge
+     * and retry with a fresh If-Match. Covers both a stale If-Match and a concurrent commit caught at flush.
+     */
+    @ExceptionHandler({VersionConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ApiErrorResponse> handleConflict(RuntimeException ex, HttpServletRequest request) {
+        String message = ex instanceof VersionConflictException
+                ? ex.getMessage()
+                : "The ticket was modified by someone else. Reload and try again.";
+        ApiErrorResponse.ApiErrorResponseBuilder body = ApiErrorResponse.builder()
+                .timestamp(Instant.now().toString())
+                .status(HttpStatus.CONFLICT.value())
+                .error(HttpStatus.CONFLICT.getReasonPhrase())
+                .code("VERSION_CONFLICT")
+                .message(message)
+                .path(request.getRequestURI());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CONFLICT);
+        Long id = pathId(request);
+        if (id != null) {
+            try {
+                FastProblemResponse current = problemService.getById(id);
+                body.current(current);
+                response.eTag(ETags.forProblem(id, current.getVersion()));
+            } catch (ResourceNotFoundException ignored) {
+                // Deleted concurrently; the 409 without current state is still accurate
+            }
         }
-        return sb.toString();
+        return response.body(body.build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long pathId(HttpServletRequest request) {
+        Object vars = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(vars instanceof java.util.Map)) return null;
+        Object id = ((java.util.Map<String, String>) vars).get("id");
+        try {
+            return id != null ? Long.valueOf(id.toString()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private ResponseEntity<FastProblemResponse> withETag(FastProblemResponse response) {
+        return ResponseEntity.ok().eTag(ETags.forProblem(response.getId(), response.getVersion())).body(response);
     }
 
-    private String escapeCsv(Object value) {
-        if (value == null) return "";
-        String s = value.toString();
-        if (s.contains(",") || s.contains("\"") || s.contains("\n")) {
-            return "\"" + s.replace("\"", "\"\"") + "\"";
+    /**
+     * Serves a list page with a collection-level ETag scoped to the path and query parameters. The stamp is read before
+     * the page query, so the returned body is never older than its ETag; a 304 skips the page query, count and mapping.
+     * {@code status} is the list's status filter (null for none); the ARCHIVED view's stamp also covers the archive.
+     */
+    private ResponseEntity<PagedResponse<FastProblemResponse>> conditionalList(
+            WebRequest webRequest, String status, Supplier<PagedResponse<FastProblemResponse>> query) {
+        String path = webRequest instanceof ServletWebRequest servletRequest ? servletRequest.getRequest().getRequestURI() : null;
+        String etag = ETags.forProblemList(problemService.getCollectionVersion(status),
+                ETags.queryHash(path, webRequest.getParameterMap()));
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
         }
-        return s;
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(query.get());
     }
 }
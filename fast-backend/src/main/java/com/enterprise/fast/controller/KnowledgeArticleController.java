@@ -1,6 +1,8 @@
 package com.enterprise.fast.controller;
 
+import com.enterprise.fast.dto.response.ArticleRecommendationResponse;
 import com.enterprise.fast.dto.response.KnowledgeArticleResponse;
+import com.enterprise.fast.dto.response.KnowledgeSearchResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
 import com.enterprise.fast.service.KnowledgeArticleService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -31,6 +34,31 @@ public class KnowledgeArticleController {
         return ResponseEntity.ok(articleService.getAll(page, size));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search knowledge articles (ranked full text, category/status facets, highlights)")
+    public ResponseEntity<KnowledgeSearchResponse> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(articleService.search(q, category, status, page, size));
+    }
+
+    @GetMapping("/recommendations")
+    @Operation(summary = "Recommend knowledge articles for a ticket (problemId) or free text (q), best match first")
+    public ResponseEntity<List<ArticleRecommendationResponse>> recommend(
+            @RequestParam(required = false) Long problemId,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "5") int limit) {
+        if ((problemId == null) == (q == null)) {
+            throw new IllegalArgumentException("Exactly one of problemId or q is required");
+        }
+        return ResponseEntity.ok(problemId != null
+                ? articleService.recommendForProblem(problemId, limit)
+                : articleService.recommend(q, limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get knowledge article by ID")
     public ResponseEntity<KnowledgeArticleResponse> getById(@PathVariable Long id) {
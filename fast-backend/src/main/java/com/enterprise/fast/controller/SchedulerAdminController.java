@@ -0,0 +1,28 @@
+package com.enterprise.fast.controller;
+
+import com.enterprise.fast.dto.response.SchedulerLockResponse;
+import com.enterprise.fast.service.SchedulerLockService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/scheduler")
+@RequiredArgsConstructor
+@Tag(name = "Scheduler", description = "Cluster lock holders and last runs of scheduled jobs (Admin only)")
+public class SchedulerAdminController {
+
+    private final SchedulerLockService schedulerLockService;
+
+    @GetMapping("/locks")
+    @Operation(summary = "Lock holder, lease and last run (start, duration, outcome, node) per scheduled job")
+    public ResponseEntity<List<SchedulerLockResponse>> getLocks() {
+        return ResponseEntity.ok(schedulerLockService.getLocks());
+    }
+}
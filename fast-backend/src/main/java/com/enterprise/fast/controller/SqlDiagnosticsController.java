@@ -0,0 +1,86 @@
+package com.enterprise.fast.controller;
+
+import com.enterprise.fast.config.QueryDiagnostics;
+import com.enterprise.fast.dto.response.QueryHotspotResponse;
+import com.enterprise.fast.dto.response.SlowQueryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/sql")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.sql-observability.enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "SQL Diagnostics", description = "Slow statements, N+1 suspects and Hibernate statistics (Admin only)")
+public class SqlDiagnosticsController {
+
+    private final QueryDiagnostics queryDiagnostics;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @GetMapping("/slow")
+    @Operation(summary = "Slowest captured statements with their bind parameter types")
+    public ResponseEntity<List<SlowQueryResponse>> getSlowQueries() {
+        return ResponseEntity.ok(queryDiagnostics.getSlowQueries());
+    }
+
+    @GetMapping("/n-plus-one")
+    @Operation(summary = "Recent requests that repeated one statement at least the N+1 threshold times")
+    public ResponseEntity<List<QueryHotspotResponse>> getHotspots() {
+        return ResponseEntity.ok(queryDiagnostics.getHotspots());
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Clear captured slow statements and N+1 suspects")
+    public ResponseEntity<Void> clear() {
+        queryDiagnostics.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/hibernate")
+    @Operation(summary = "Hibernate session factory statistics (needs HIBERNATE_STATISTICS=true)")
+    public ResponseEntity<Map<String, Object>> getHibernateStatistics(@RequestParam(defaultValue = "20") int top) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", stats.isStatisticsEnabled());
+        result.put("since", stats.getStart());
+        result.put("queryExecutionCount", stats.getQueryExecutionCount());
+        result.put("queryExecutionMaxTimeMs", stats.getQueryExecutionMaxTime());
+        result.put("queryExecutionMaxTimeQuery", stats.getQueryExecutionMaxTimeQueryString());
+        result.put("prepareStatementCount", stats.getPrepareStatementCount());
+        result.put("entityLoadCount", stats.getEntityLoadCount());
+        result.put("entityFetchCount", stats.getEntityFetchCount());
+        result.put("collectionLoadCount", stats.getCollectionLoadCount());
+        result.put("collectionFetchCount", stats.getCollectionFetchCount());
+        result.put("topQueriesByTotalTime", Arrays.stream(stats.getQueries())
+                .map(query -> Map.entry(query, stats.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong((Map.Entry<String, QueryStatistics> e) ->
+                        e.getValue().getExecutionTotalTime()).reversed())
+                .limit(Math.max(0, top))
+                .map(e -> Map.of(
+                        "query", e.getKey(),
+                        "executions", e.getValue().getExecutionCount(),
+                        "totalTimeMs", e.getValue().getExecutionTotalTime(),
+                        "avgTimeMs", e.getValue().getExecutionAvgTime(),
+                        "maxTimeMs", e.getValue().getExecutionMaxTime(),
+                        "rows", e.getValue().getExecutionRowCount()))
+                .toList());
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,42 @@
+package com.enterprise.fast.controller;
+
+import com.enterprise.fast.dto.response.TicketImportResponse;
+import com.enterprise.fast.service.TicketImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/problems")
+@RequiredArgsConstructor
+@Tag(name = "FAST Problem Import", description = "Bulk ticket creation from CSV")
+public class TicketImportController {
+
+    private final TicketImportService importService;
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import tickets from CSV (dryRun=true validates only; commit refuses invalid files unless skipInvalid=true)")
+    public ResponseEntity<TicketImportResponse> importCsv(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "true") boolean dryRun,
+            @RequestParam(defaultValue = "false") boolean skipInvalid,
+            Authentication authentication) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("CSV file is required");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importCsv(in, dryRun, skipInvalid, authentication.getName()));
+        }
+    }
+}
@@ -10,6 +10,8 @@ import com.enterprise.fast.dto.response.UserResponse;
 import com.enterprise.fast.exception.ResourceNotFoundException;
 import com.enterprise.fast.repository.ApplicationRepository;
 import com.enterprise.fast.repository.UserRepository;
+import com.enterprise.fast.service.ReferenceDataCache;
+import com.enterprise.fast.service.UserApplicationIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +28,7 @@ import com.enterprise.fast.domain.enums.UserRole;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -40,6 +43,8 @@ public class UserController {
 
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final UserApplicationIndex userApplicationIndex;
 
     private UserResponse toUserResponse(User u) {
         List<ApplicationResponse> apps = u.getApplications() != null ? u.getApplications().stream()
@@ -92,7 +97,9 @@ public class UserController {
             @RequestParam(required = false) List<Long> applicationIds) {
         List<User> techLeads;
         if (applicationIds != null && !applicationIds.isEmpty()) {
-            techLeads = new ArrayList<>(userRepository.findTechLeadsByApplicationIds(UserRole.TECH_LEAD, applicationIds));
+            List<Long> ids = userApplicationIndex.findActiveUserIds(UserRole.TECH_LEAD, applicationIds);
+            techLeads = ids.isEmpty() ? List.of() : new ArrayList<>(userRepository.findWithApplicationsByIdIn(ids));
+            techLeads.sort(Comparator.comparing(User::getId));
         } else {
             techLeads = userRepository.findByRoleInAndActiveTrue(Collections.singletonList(UserRole.TECH_LEAD));
         }
@@ -149,6 +156,8 @@ public class UserController {
         user.getApplications().clear();
         user.getApplications().addAll(applications);
         userRepository.save(user);
+        referenceDataCache.evictUser(user.getUsername());
+        userApplicationIndex.update(user);
         return ResponseEntity.ok(toUserResponse(user));
     }
 
@@ -160,6 +169,8 @@ public class UserController {
             @RequestBody UpdateUserRequest request) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        // Old username too: a rename must not leave the previous name resolvable from the cache
+        referenceDataCache.evictUser(user.getUsername());
 
         if (request.getUsername() != null) {
             String normalizedUsername = request.getUsername().trim().toLowerCase();
@@ -213,6 +224,8 @@ public class UserController {
         }
 
         userRepository.save(user);
+        referenceDataCache.evictUser(user.getUsername());
+        userApplicationIndex.update(user);
         return ResponseEntity.ok(toUserResponse(user));
     }
 }
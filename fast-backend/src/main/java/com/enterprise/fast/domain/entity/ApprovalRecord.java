@@ -4,6 +4,7 @@ import com.enterprise.fast.domain.enums.ApprovalDecision;
 import com.enterprise.fast.domain.enums.UserRole;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -17,7 +18,8 @@ import java.time.LocalDateTime;
 public class ApprovalRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "approval_record_seq")
+    @SequenceGenerator(name = "approval_record_seq", sequenceName = "approval_record_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,4 +52,10 @@ public class ApprovalRecord {
     @Column(name = "created_date")
     @Builder.Default
     private LocalDateTime createdDate = LocalDateTime.now();
+
+    /** Row version; two approvers deciding the same slot concurrently cannot both succeed. */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_log_seq")
+    @SequenceGenerator(name = "audit_log_seq", sequenceName = "audit_log_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,7 +38,7 @@ public class AuditLog {
     @Column(name = "new_value", length = 500)
     private String newValue;
 
-    @Column(name = "timestamp")
+    @Column(name = "timestamp", nullable = false)
     @Builder.Default
     private LocalDateTime timestamp = LocalDateTime.now();
 }
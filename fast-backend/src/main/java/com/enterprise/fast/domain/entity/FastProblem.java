@@ -3,6 +3,7 @@ package com.enterprise.fast.domain.entity;
 import com.enterprise.fast.domain.enums.*;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,7 +19,9 @@ import java.util.List;
 public class FastProblem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence (50 ids per round trip) so inserts can be JDBC-batched; IDENTITY disables batching
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fast_problem_seq")
+    @SequenceGenerator(name = "fast_problem_seq", sequenceName = "fast_problem_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "servicenow_incident_number", length = 20)
@@ -167,6 +170,15 @@ public class FastProblem {
     @Column(name = "closed_date")
     private LocalDateTime closedDate;
 
+    /** Creation time of the newest comment, kept by addComment so the daily-commentary check needs no join. */
+    @Column(name = "last_comment_date")
+    private LocalDateTime lastCommentDate;
+
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    @Builder.Default
+    private Integer commentCount = 0;
+
     @Builder.Default
     private Boolean deleted = false;
 
@@ -174,6 +186,12 @@ public class FastProblem {
     @Builder.Default
     private Boolean archived = false;
 
+    /** Row version, incremented on every write to the ticket. Drives the ETag on detail responses. */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "fastProblem", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ApprovalRecord> approvalRecords = new ArrayList<>();
@@ -206,4 +224,12 @@ public class FastProblem {
     public void preUpdate() {
         this.updatedDate = LocalDateTime.now();
     }
+
+    /**
+     * Marks the ticket as modified when only child rows (comments, links, properties, approvals) changed,
+     * so the version and updatedDate still move and cached representations are invalidated.
+     */
+    public void touch() {
+        this.updatedDate = LocalDateTime.now();
+    }
 }
@@ -14,7 +14,8 @@ import lombok.*;
 public class FastProblemLink {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fast_problem_link_seq")
+    @SequenceGenerator(name = "fast_problem_link_seq", sequenceName = "fast_problem_link_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -15,7 +15,8 @@ import lombok.*;
 public class FastProblemProperty {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fast_problem_property_seq")
+    @SequenceGenerator(name = "fast_problem_property_seq", sequenceName = "fast_problem_property_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
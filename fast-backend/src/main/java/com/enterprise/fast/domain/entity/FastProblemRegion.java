@@ -16,7 +16,8 @@ import lombok.*;
 public class FastProblemRegion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fast_problem_region_seq")
+    @SequenceGenerator(name = "fast_problem_region_seq", sequenceName = "fast_problem_region_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
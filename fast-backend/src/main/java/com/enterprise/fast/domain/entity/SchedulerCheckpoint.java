@@ -0,0 +1,46 @@
+package com.enterprise.fast.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One id range of a nightly batch job that has been committed today. Written in the same transaction as the
+ * range's ticket updates, so a range is either done and checkpointed or neither; an interrupted run skips the
+ * checkpointed ranges when it resumes. A failed run adds a marker row with range start -n for the day's n-th failure
+ * (real ranges start at 0 or above). Rows are removed when the job completes.
+ */
+@Entity
+@Table(name = "scheduler_checkpoint",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "run_date", "range_start"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 64)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    @Column(name = "rows_processed", nullable = false)
+    private Integer rowsProcessed;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
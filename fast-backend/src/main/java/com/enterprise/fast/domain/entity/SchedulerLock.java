@@ -0,0 +1,48 @@
+package com.enterprise.fast.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cluster-wide lease for one scheduled job (see {@link com.enterprise.fast.scheduler.ClusterLock}). A node owns the
+ * job while lock_until is in the future; the last_* columns describe the most recent completed run.
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "lock_until", nullable = false)
+    private LocalDateTime lockUntil;
+
+    @Column(name = "last_started_at")
+    private LocalDateTime lastStartedAt;
+
+    @Column(name = "last_finished_at")
+    private LocalDateTime lastFinishedAt;
+
+    @Column(name = "last_duration_ms")
+    private Long lastDurationMs;
+
+    @Column(name = "last_outcome", length = 20)
+    private String lastOutcome;
+
+    @Column(name = "last_run_by")
+    private String lastRunBy;
+}
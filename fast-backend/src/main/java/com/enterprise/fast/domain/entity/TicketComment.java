@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class TicketComment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_comment_seq")
+    @SequenceGenerator(name = "ticket_comment_seq", sequenceName = "ticket_comment_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,24 @@
+package com.enterprise.fast.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkApprovalRequest {
+
+    @NotEmpty(message = "At least one approval id is required")
+    @Size(max = 500, message = "At most 500 approvals per bulk request")
+    private List<Long> ids;
+
+    /** Applied to every decided approval. */
+    private String comments;
+}
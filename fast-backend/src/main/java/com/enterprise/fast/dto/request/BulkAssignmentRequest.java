@@ -0,0 +1,26 @@
+package com.enterprise.fast.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** Null fields are left unchanged; a blank value clears the field. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkAssignmentRequest {
+
+    @NotEmpty(message = "At least one ticket id is required")
+    @Size(max = 500, message = "At most 500 tickets per bulk request")
+    private List<Long> ids;
+
+    private String assignedTo;
+
+    private String assignmentGroup;
+}
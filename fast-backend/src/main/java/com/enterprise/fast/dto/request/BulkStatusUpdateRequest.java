@@ -0,0 +1,25 @@
+package com.enterprise.fast.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one ticket id is required")
+    @Size(max = 500, message = "At most 500 tickets per bulk request")
+    private List<Long> ids;
+
+    @NotNull(message = "Status is required")
+    private String status;
+}
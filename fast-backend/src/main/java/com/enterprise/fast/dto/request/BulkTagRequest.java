@@ -0,0 +1,26 @@
+package com.enterprise.fast.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** Replaces regions and/or impacted user groups on every ticket; a null list leaves that tag set unchanged. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTagRequest {
+
+    @NotEmpty(message = "At least one ticket id is required")
+    @Size(max = 500, message = "At most 500 tickets per bulk request")
+    private List<Long> ids;
+
+    private List<String> regionalCodes;
+
+    private List<Long> impactedUserGroupIds;
+}
@@ -0,0 +1,19 @@
+package com.enterprise.fast.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DuplicateCheckRequest {
+
+    @NotBlank(message = "Title is required")
+    private String title;
+
+    private String description;
+}
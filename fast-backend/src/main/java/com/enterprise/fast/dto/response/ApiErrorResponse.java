@@ -26,6 +26,8 @@ public class ApiErrorResponse {
     String path;
     /** Field-level validation errors (for 400 validation). */
     Map<String, String> details;
+    /** Current server state of the resource (409 version conflicts), so the client can merge and retry. */
+    Object current;
 
     public static ApiErrorResponse of(int status, String error, String message, String code, String path, Map<String, String> details) {
         return ApiErrorResponse.builder()
@@ -0,0 +1,26 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/** One immutable archive segment file. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchiveSegmentResponse {
+
+    private String file;
+    private String month;
+    private long sizeBytes;
+    private int tickets;
+    private int blocks;
+    private Long minTicketId;
+    private Long maxTicketId;
+    private LocalDate minClosedDate;
+    private LocalDate maxClosedDate;
+}
@@ -0,0 +1,19 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** A ticket read back from an archive segment file: the full ticket as the detail view shows it, plus its audit trail. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedTicketResponse {
+
+    private FastProblemResponse ticket;
+    private List<AuditEntryResponse> auditTrail;
+}
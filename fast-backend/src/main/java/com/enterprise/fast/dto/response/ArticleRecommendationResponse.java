@@ -0,0 +1,22 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A knowledge article ranked against a ticket or free text; fetch it by id for the full text. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArticleRecommendationResponse {
+
+    private Long id;
+    private Long fastProblemId;
+    private String title;
+    private String category;
+    private String status;
+    /** BM25 relevance; only comparable within one response. */
+    private double score;
+}
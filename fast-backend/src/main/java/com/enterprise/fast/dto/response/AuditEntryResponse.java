@@ -0,0 +1,24 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** One audit log entry of an archived ticket (segment files keep the audit trail next to the ticket). */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditEntryResponse {
+
+    private Long id;
+    private String action;
+    private String performedBy;
+    private String fieldChanged;
+    private String oldValue;
+    private String newValue;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,35 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** Per-item report for bulk ticket and approval operations. Items are listed in request order. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOperationResponse {
+
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemResult {
+        private Long id;
+        private boolean success;
+        /** Null on success; otherwise NOT_FOUND, INVALID_STATE, BAD_REQUEST, FORBIDDEN, VERSION_CONFLICT or ERROR. */
+        private String code;
+        private String message;
+        /** Ticket version after the change (for a subsequent If-Match). */
+        private Long version;
+    }
+}
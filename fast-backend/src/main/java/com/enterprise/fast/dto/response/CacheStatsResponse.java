@@ -0,0 +1,24 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Hit/miss counters of one in-memory cache since startup. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponse {
+
+    private String name;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long loadCount;
+    private long loadFailureCount;
+    private double averageLoadMillis;
+    private long evictionCount;
+}
@@ -0,0 +1,27 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** Daily-commentary compliance of one assignee's In Progress tickets over the last 24 hours. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentaryComplianceResponse {
+
+    /** Null for unassigned tickets. */
+    private String assignedTo;
+    private long inProgress;
+    private long commented;
+    /** In Progress tickets without a comment in the last 24 hours, including those never commented. */
+    private long overdue;
+    private long neverCommented;
+    /** Oldest latest-comment time among the assignee's commented tickets. */
+    private LocalDateTime oldestLastComment;
+    private double compliancePercentage;
+}
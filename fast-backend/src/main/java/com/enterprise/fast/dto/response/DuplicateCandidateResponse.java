@@ -0,0 +1,20 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** An open ticket whose title and description closely match the text being checked. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DuplicateCandidateResponse {
+
+    private Long id;
+    private String title;
+    private String status;
+    /** Estimated Jaccard similarity of title + description shingles, 0..1. */
+    private double similarity;
+}
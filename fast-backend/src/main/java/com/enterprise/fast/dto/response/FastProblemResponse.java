@@ -1,5 +1,6 @@
 package com.enterprise.fast.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,7 @@ import java.util.List;
 public class FastProblemResponse {
 
     private Long id;
+    private Long version;
     private String servicenowIncidentNumber;
     private String servicenowProblemNumber;
     private String pbtId;
@@ -56,4 +58,7 @@ public class FastProblemResponse {
     private List<TicketPropertyResponse> properties;
     private List<TicketCommentResponse> comments;
     private KnowledgeArticleResponse knowledgeArticle;
+    /** Only on the create response: open tickets that look like the same problem. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<DuplicateCandidateResponse> possibleDuplicates;
 }
@@ -0,0 +1,20 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** One page of a keyset-paged listing; pass nextCursor back as {@code cursor} for the next page (null on the last). */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeysetPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/** A knowledge article matching a search, with highlighted fragments of the fields that matched. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KnowledgeSearchHitResponse {
+
+    private Long id;
+    private Long fastProblemId;
+    private String title;
+    private String category;
+    private String status;
+    /** BM25 relevance; only comparable within one search. */
+    private double score;
+    /** Field name (title, rootCause, workaround, permanentFix) to an HTML-escaped fragment with {@code <mark>} tags. */
+    private Map<String, String> highlights;
+}
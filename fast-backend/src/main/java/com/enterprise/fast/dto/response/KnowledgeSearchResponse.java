@@ -0,0 +1,26 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One page of knowledge search results, best match first, with facet counts over all matches. Each facet ignores
+ * its own filter (category counts apply only the status filter and the other way round), so the other choices stay
+ * visible after one is picked.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KnowledgeSearchResponse {
+
+    private PagedResponse<KnowledgeSearchHitResponse> results;
+    /** Matching articles per category, most first. */
+    private Map<String, Long> categories;
+    /** Matching articles per status, most first. */
+    private Map<String, Long> statuses;
+}
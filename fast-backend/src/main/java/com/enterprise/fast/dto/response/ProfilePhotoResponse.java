@@ -0,0 +1,16 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Phonebook profile photo as served by GET /api/v1/bam/photo/{employeeId}. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfilePhotoResponse {
+    private byte[] content;
+    private String contentType;
+}
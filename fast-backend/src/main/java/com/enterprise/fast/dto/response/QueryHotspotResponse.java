@@ -0,0 +1,22 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A request that repeated one statement at least the N+1 threshold times. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QueryHotspotResponse {
+
+    private String timestamp;
+    private String method;
+    private String uri;
+    private int queryCount;
+    private long queryTimeMs;
+    private int repeats;
+    private String repeatedSql;
+}
@@ -0,0 +1,27 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** Current holder and last completed run of one cluster-locked scheduled job. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLockResponse {
+
+    private String name;
+    private boolean held;
+    private String lockedBy;
+    private LocalDateTime lockedAt;
+    private LocalDateTime lockUntil;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastFinishedAt;
+    private Long lastDurationMs;
+    private String lastOutcome;
+    private String lastRunBy;
+}
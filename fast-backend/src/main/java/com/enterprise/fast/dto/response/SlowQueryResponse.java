@@ -0,0 +1,24 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One captured slow JDBC statement. Bind values are never captured, only their types. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlowQueryResponse {
+
+    private String timestamp;
+    private double durationMs;
+    private String sql;
+    /** Parameter types in bind order, e.g. "(Long, String, null)"; empty for plain statements. */
+    private String bindShape;
+    /** Rows sent in one executeBatch call; 1 for single executions. */
+    private int batchSize;
+    /** "GET /api/v1/problems" for request threads, otherwise the thread name. */
+    private String context;
+}
@@ -0,0 +1,37 @@
+package com.enterprise.fast.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** Result of a CSV ticket import (dry run or commit). Row numbers are CSV lines, header = line 1. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketImportResponse {
+
+    private boolean dryRun;
+    /** True when rows were inserted. */
+    private boolean committed;
+    private int totalRows;
+    private int validRows;
+    private int invalidRows;
+    private int created;
+    /** Per-row problems; capped, see {@link #errorsTruncated}. */
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+        private long row;
+        private String column;
+        private String message;
+    }
+}
@@ -0,0 +1,18 @@
+package com.enterprise.fast.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a bulkhead has no free permit within its maximum wait (the protected dependency is saturated).
+ * Mapped to 503 SERVICE_UNAVAILABLE with Retry-After.
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkhead;
+
+    public BulkheadFullException(String bulkhead, long waitedMs) {
+        super(String.format("%s is busy (no capacity after %d ms); try again shortly", bulkhead, waitedMs));
+        this.bulkhead = bulkhead;
+    }
+}
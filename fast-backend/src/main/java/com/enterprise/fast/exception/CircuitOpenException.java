@@ -0,0 +1,20 @@
+package com.enterprise.fast.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a circuit breaker is open: recent calls to the dependency failed, so calls are refused until the
+ * breaker lets a trial call through. Mapped to 503 SERVICE_UNAVAILABLE with Retry-After.
+ */
+@Getter
+public class CircuitOpenException extends RuntimeException {
+
+    private final String circuit;
+    private final long retryAfterSeconds;
+
+    public CircuitOpenException(String circuit, long retryAfterSeconds) {
+        super(String.format("%s is unavailable after repeated failures; try again in %d s", circuit, retryAfterSeconds));
+        this.circuit = circuit;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -53,6 +55,59 @@ public class GlobalExceptionHandler {
                 .body(build(HttpStatus.BAD_REQUEST, "INVALID_STATE", ex.getMessage(), path, null));
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ApiErrorResponse> handleVersionConflict(
+            VersionConflictException ex, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        log.warn("409 VERSION_CONFLICT path={} message={}", path, ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(build(HttpStatus.CONFLICT, "VERSION_CONFLICT", ex.getMessage(), path, null));
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiErrorResponse> handlePreconditionFailed(
+            PreconditionFailedException ex, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        log.warn("412 PRECONDITION_FAILED path={} message={}", path, ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(build(HttpStatus.PRECONDITION_FAILED, "PRECONDITION_FAILED", ex.getMessage(), path, null));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        log.warn("409 VERSION_CONFLICT path={} message={}", path, ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(build(HttpStatus.CONFLICT, "VERSION_CONFLICT",
+                        "The record was modified by someone else. Reload and try again.", path, null));
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ApiErrorResponse> handleBulkheadFull(
+            BulkheadFullException ex, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        log.warn("503 BULKHEAD_FULL path={} bulkhead={}", path, ex.getBulkhead());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(build(HttpStatus.SERVICE_UNAVAILABLE, "BULKHEAD_FULL", ex.getMessage(), path, null));
+    }
+
+    @ExceptionHandler(CircuitOpenException.class)
+    public ResponseEntity<ApiErrorResponse> handleCircuitOpen(
+            CircuitOpenException ex, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        log.warn("503 CIRCUIT_OPEN path={} circuit={}", path, ex.getCircuit());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(build(HttpStatus.SERVICE_UNAVAILABLE, "CIRCUIT_OPEN", ex.getMessage(), path, null));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiErrorResponse> handleIllegalArgument(
             IllegalArgumentException ex, HttpServletRequest request) {
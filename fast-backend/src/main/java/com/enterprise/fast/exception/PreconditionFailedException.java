@@ -0,0 +1,9 @@
+package com.enterprise.fast.exception;
+
+/** A conditional request header that can never match, e.g. a weak ETag in If-Match (RFC 9110 requires strong comparison). */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.enterprise.fast.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a write was based on a stale version of a resource (If-Match mismatch or concurrent update).
+ * Mapped to 409 CONFLICT.
+ */
+@Getter
+public class VersionConflictException extends RuntimeException {
+
+    private final Long resourceId;
+    private final Long expectedVersion;
+    private final Long currentVersion;
+
+    public VersionConflictException(String resource, Long resourceId, Long expectedVersion, Long currentVersion) {
+        super(String.format("%s %s was modified by someone else (your version: %s, current version: %s)",
+                resource, resourceId, expectedVersion, currentVersion));
+        this.resourceId = resourceId;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+}
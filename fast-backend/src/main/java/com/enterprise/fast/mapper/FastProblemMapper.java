@@ -50,6 +50,7 @@ public class FastProblemMapper {
     public FastProblemResponse toResponse(FastProblem entity) {
         return FastProblemResponse.builder()
                 .id(entity.getId())
+                .version(entity.getVersion())
                 .servicenowIncidentNumber(entity.getServicenowIncidentNumber())
                 .servicenowProblemNumber(entity.getServicenowProblemNumber())
                 .pbtId(entity.getPbtId())
@@ -127,6 +128,7 @@ public class FastProblemMapper {
     public FastProblemResponse toSummaryResponse(FastProblem entity) {
         return FastProblemResponse.builder()
                 .id(entity.getId())
+                .version(entity.getVersion())
                 .servicenowIncidentNumber(entity.getServicenowIncidentNumber())
                 .servicenowProblemNumber(entity.getServicenowProblemNumber())
                 .pbtId(entity.getPbtId())
@@ -3,14 +3,29 @@ package com.enterprise.fast.repository;
 import com.enterprise.fast.domain.entity.ApprovalRecord;
 import com.enterprise.fast.domain.enums.ApprovalDecision;
 import com.enterprise.fast.domain.enums.UserRole;
+import com.enterprise.fast.dto.response.ApprovalResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ApprovalRecordRepository extends JpaRepository<ApprovalRecord, Long> {
 
+    /** Approval slot counts of one ticket, for deciding whether a batch of decisions completes it. */
+    interface DecisionCounts {
+        Long getProblemId();
+
+        Long getTotal();
+
+        Long getApproved();
+    }
+
     List<ApprovalRecord> findByFastProblemId(Long fastProblemId);
 
     List<ApprovalRecord> findByDecision(ApprovalDecision decision);
@@ -20,4 +35,44 @@ public interface ApprovalRecordRepository extends JpaRepository<ApprovalRecord,
     List<ApprovalRecord> findByReviewerNameAndDecision(String reviewerName, ApprovalDecision decision);
 
     long countByFastProblemIdAndDecision(Long fastProblemId, ApprovalDecision decision);
+
+    /** The records with their tickets and the tickets' applications, in one query (bulk decisions). */
+    @Query("SELECT r FROM ApprovalRecord r JOIN FETCH r.fastProblem p LEFT JOIN FETCH p.applications WHERE r.id IN :ids")
+    List<ApprovalRecord> findAllWithProblemByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT r.fastProblem.id AS problemId, COUNT(r) AS total, "
+            + "SUM(CASE WHEN r.decision = com.enterprise.fast.domain.enums.ApprovalDecision.APPROVED THEN 1 ELSE 0 END) AS approved "
+            + "FROM ApprovalRecord r WHERE r.fastProblem.id IN :problemIds GROUP BY r.fastProblem.id")
+    List<DecisionCounts> countDecisionsByProblemIds(@Param("problemIds") Collection<Long> problemIds);
+
+    /** All pending approval slots (admin inbox), oldest first, projected straight to the response. */
+    @Query(value = "SELECT new com.enterprise.fast.dto.response.ApprovalResponse(r.id, p.id, p.title, "
+            + "CAST(r.approvalRole AS String), r.reviewerName, r.reviewerEmail, CAST(r.decision AS String), "
+            + "r.comments, r.decisionDate, r.createdDate) "
+            + "FROM ApprovalRecord r JOIN r.fastProblem p "
+            + "WHERE r.decision = com.enterprise.fast.domain.enums.ApprovalDecision.PENDING ORDER BY r.id",
+            countQuery = "SELECT COUNT(r) FROM ApprovalRecord r "
+                    + "WHERE r.decision = com.enterprise.fast.domain.enums.ApprovalDecision.PENDING")
+    Page<ApprovalResponse> findPendingResponses(Pageable pageable);
+
+    /**
+     * Pending slots of one role that the user may decide: the ticket has no applications, or shares one with the
+     * user. The membership check runs in the database (fast_problem_application against user_application), so the
+     * inbox is one query with no entity loads.
+     */
+    @Query(value = "SELECT new com.enterprise.fast.dto.response.ApprovalResponse(r.id, p.id, p.title, "
+            + "CAST(r.approvalRole AS String), r.reviewerName, r.reviewerEmail, CAST(r.decision AS String), "
+            + "r.comments, r.decisionDate, r.createdDate) "
+            + "FROM ApprovalRecord r JOIN r.fastProblem p "
+            + "WHERE r.decision = com.enterprise.fast.domain.enums.ApprovalDecision.PENDING AND r.approvalRole = :role "
+            + "AND (p.applications IS EMPTY OR EXISTS (SELECT 1 FROM User u JOIN u.applications ua "
+            + "WHERE u.id = :userId AND ua MEMBER OF p.applications)) "
+            + "ORDER BY r.id",
+            countQuery = "SELECT COUNT(r) FROM ApprovalRecord r JOIN r.fastProblem p "
+                    + "WHERE r.decision = com.enterprise.fast.domain.enums.ApprovalDecision.PENDING AND r.approvalRole = :role "
+                    + "AND (p.applications IS EMPTY OR EXISTS (SELECT 1 FROM User u JOIN u.applications ua "
+                    + "WHERE u.id = :userId AND ua MEMBER OF p.applications))")
+    Page<ApprovalResponse> findPendingResponsesForUser(@Param("role") UserRole role,
+                                                       @Param("userId") Long userId,
+                                                       Pageable pageable);
 }
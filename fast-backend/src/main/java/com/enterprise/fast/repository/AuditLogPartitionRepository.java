@@ -0,0 +1,87 @@
+package com.enterprise.fast.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+/**
+ * Month-at-a-time removal of audit_log rows for the retention job. On Oracle audit_log is interval-partitioned by
+ * month (see db/init-oracle.sql), so a month goes with one DROP PARTITION; elsewhere (H2, or an Oracle schema not
+ * migrated yet) the month is deleted in chunks over the (timestamp, id) index.
+ */
+@Repository
+@Slf4j
+public class AuditLogPartitionRepository {
+
+    private static final DateTimeFormatter PARTITION_KEY = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private volatile Boolean partitioned;
+
+    public AuditLogPartitionRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** Whether audit_log is a partitioned Oracle table (checked once). */
+    public boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            try {
+                Long count = jdbc.getJdbcTemplate().queryForObject(
+                        "SELECT COUNT(*) FROM user_part_tables WHERE table_name = 'AUDIT_LOG'", Long.class);
+                result = count != null && count > 0;
+            } catch (DataAccessException e) {
+                result = false;
+            }
+            if (!result) {
+                log.info("audit_log is not partitioned; audit retention deletes expired months in chunks");
+            }
+            partitioned = result;
+        }
+        return result;
+    }
+
+    /** Timestamp of the oldest entry before the cutoff, if any. */
+    public Optional<LocalDateTime> findOldestBefore(LocalDateTime cutoff) {
+        Timestamp oldest = jdbc.queryForObject("SELECT MIN(timestamp) FROM audit_log WHERE timestamp < :cutoff",
+                new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)), Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    public long countMonth(YearMonth month) {
+        Long count = jdbc.queryForObject("SELECT COUNT(*) FROM audit_log WHERE timestamp >= :from AND timestamp < :to",
+                monthBounds(month), Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Drops the month's partition. Global indexes are maintained asynchronously by Oracle, so this is a dictionary
+     * operation regardless of the number of rows.
+     */
+    public void dropMonthPartition(YearMonth month) {
+        // DDL cannot take bind variables; the literal is built from a YearMonth, not from user input
+        jdbc.getJdbcTemplate().execute("ALTER TABLE audit_log DROP PARTITION FOR (TIMESTAMP '"
+                + month.atDay(1).atStartOfDay().format(PARTITION_KEY) + "') UPDATE GLOBAL INDEXES");
+    }
+
+    /** Deletes up to limit entries of the month. @return rows deleted */
+    public int deleteMonthChunk(YearMonth month, int limit) {
+        return jdbc.update("DELETE FROM audit_log WHERE id IN (SELECT id FROM audit_log"
+                        + " WHERE timestamp >= :from AND timestamp < :to FETCH FIRST :limit ROWS ONLY)",
+                monthBounds(month).addValue("limit", limit));
+    }
+
+    private static MapSqlParameterSource monthBounds(YearMonth month) {
+        return new MapSqlParameterSource()
+                .addValue("from", Timestamp.valueOf(month.atDay(1).atStartOfDay()))
+                .addValue("to", Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()));
+    }
+}
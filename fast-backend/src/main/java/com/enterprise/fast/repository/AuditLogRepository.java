@@ -1,11 +1,13 @@
 package com.enterprise.fast.repository;
 
 import com.enterprise.fast.domain.entity.AuditLog;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -13,5 +15,28 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
 
     List<AuditLog> findByFastProblemIdOrderByTimestampDesc(Long fastProblemId);
 
-    Page<AuditLog> findAllByOrderByTimestampDesc(Pageable pageable);
+    /** Newest entries; a List result skips the COUNT(*) over the whole table that a Page would run. */
+    List<AuditLog> findByOrderByTimestampDescIdDesc(Pageable pageable);
+
+    /**
+     * Entries in [from, to) strictly after the (beforeTimestamp, beforeId) keyset position, newest first. Bounded by
+     * timestamp so Oracle only visits the matching monthly partitions of the (timestamp, id) index.
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.timestamp >= :from AND a.timestamp < :to"
+            + " AND (a.timestamp < :beforeTimestamp OR (a.timestamp = :beforeTimestamp AND a.id < :beforeId))"
+            + " ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> findRange(@Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to,
+                             @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                             @Param("beforeId") Long beforeId,
+                             Pageable pageable);
+
+    /** One ticket's entries after the (beforeTimestamp, beforeId) keyset position, newest first. */
+    @Query("SELECT a FROM AuditLog a WHERE a.fastProblem.id = :problemId"
+            + " AND (a.timestamp < :beforeTimestamp OR (a.timestamp = :beforeTimestamp AND a.id < :beforeId))"
+            + " ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> findTrailPage(@Param("problemId") Long problemId,
+                                 @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                 @Param("beforeId") Long beforeId,
+                                 Pageable pageable);
 }
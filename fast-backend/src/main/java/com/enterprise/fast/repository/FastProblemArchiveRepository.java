@@ -0,0 +1,476 @@
+package com.enterprise.fast.repository;
+
+import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.ApprovalRecord;
+import com.enterprise.fast.domain.entity.AuditLog;
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.entity.FastProblemLink;
+import com.enterprise.fast.domain.entity.FastProblemProperty;
+import com.enterprise.fast.domain.entity.FastProblemRegion;
+import com.enterprise.fast.domain.entity.IncidentLink;
+import com.enterprise.fast.domain.entity.TicketComment;
+import com.enterprise.fast.domain.entity.UserGroup;
+import com.enterprise.fast.domain.enums.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cold storage for archived tickets: fast_problem_archive plus one *_archive table per child table, with the same
+ * columns and ids as the hot tables. {@link #moveToArchive} copies a chunk of tickets with INSERT ... SELECT and
+ * deletes them from the hot tables in the caller's transaction. The read methods rebuild detached {@link FastProblem}
+ * graphs so {@code FastProblemMapper} produces the same responses as for live tickets.
+ */
+@Repository
+@Slf4j
+public class FastProblemArchiveRepository {
+
+    private static final String TICKET_COLUMNS = "id, servicenow_incident_number, servicenow_problem_number, pbt_id, "
+            + "title, description, user_impact_count, affected_application, request_number, dq_reference, "
+            + "impacted_user_group_notes, anticipated_benefits, classification, ticket_age_days, rag_status, "
+            + "status_indicator, priority_score, priority, target_resolution_hours, api_integration_status, root_cause, "
+            + "workaround, permanent_fix, created_by, assigned_to, assignment_group, btb_tech_lead_username, "
+            + "confluence_link, created_date, updated_date, resolved_date, in_progress_date, closed_date, version";
+
+    /** Child tables and their columns; moved before the ticket row because approvals, incident links and audit do not cascade. */
+    private static final Map<String, String> CHILD_TABLES = new LinkedHashMap<>();
+
+    static {
+        CHILD_TABLES.put("fast_problem_application", "fast_problem_id, application_id");
+        CHILD_TABLES.put("fast_problem_user_group", "fast_problem_id, user_group_id");
+        CHILD_TABLES.put("fast_problem_region", "id, fast_problem_id, regional_code");
+        CHILD_TABLES.put("fast_problem_property", "id, fast_problem_id, property_key, property_value");
+        CHILD_TABLES.put("fast_problem_link", "id, fast_problem_id, label, url, link_type");
+        CHILD_TABLES.put("approval_record", "id, fast_problem_id, approval_role, reviewer_name, reviewer_email, "
+                + "decision, comments, decision_date, created_date, version");
+        CHILD_TABLES.put("incident_link", "id, fast_problem_id, incident_number, link_type, description, linked_date");
+        CHILD_TABLES.put("ticket_comment", "id, fast_problem_id, author_username, comment_text, created_date");
+        CHILD_TABLES.put("audit_log", "id, fast_problem_id, action, performed_by, field_changed, old_value, new_value, "
+                + "timestamp");
+    }
+
+    /** Sortable properties of the ticket list mapped to archive columns; anything else sorts by closed date. */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "createdDate", "created_date",
+            "updatedDate", "updated_date",
+            "resolvedDate", "resolved_date",
+            "closedDate", "closed_date",
+            "priority", "priority",
+            "priorityScore", "priority_score",
+            "ticketAgeDays", "ticket_age_days",
+            "userImpactCount", "user_impact_count");
+
+    /**
+     * Retention date of an archived ticket: its closed date, or the archive date for tickets archived without
+     * being closed. Used to assign tickets to monthly segment files.
+     */
+    private static final String RETENTION_DATE = "COALESCE(a.closed_date, a.archived_date)";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private volatile Boolean available;
+
+    public FastProblemArchiveRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Whether the archive tables exist. Checked once; schemas created before the archive (prod-h2 creates only
+     * entity tables) keep archiving in place until migration-add-fast-problem-archive.sql is run and the app restarted.
+     */
+    public boolean isAvailable() {
+        Boolean result = available;
+        if (result == null) {
+            try {
+                jdbc.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM fast_problem_archive WHERE 1 = 0", Long.class);
+                result = true;
+            } catch (DataAccessException e) {
+                log.warn("fast_problem_archive not found; archived tickets stay in fast_problem. "
+                        + "Run db/migration-add-fast-problem-archive.sql to enable cold storage.");
+                result = false;
+            }
+            available = result;
+        }
+        return result;
+    }
+
+    /**
+     * Next chunk of ids to move, lowest first: tickets already ARCHIVED (or flagged archived) and CLOSED tickets closed
+     * on or before the cutoff. Tickets with a knowledge article stay hot because the article references them.
+     */
+    public List<Long> findIdsToArchive(LocalDateTime cutoff, int limit) {
+        return jdbc.queryForList("""
+                SELECT fp.id FROM fast_problem fp
+                WHERE fp.deleted = :false
+                  AND (fp.status = 'ARCHIVED' OR fp.archived = :true
+                       OR (fp.status = 'CLOSED' AND fp.closed_date <= :cutoff))
+                  AND NOT EXISTS (SELECT 1 FROM knowledge_article ka WHERE ka.fast_problem_id = fp.id)
+                ORDER BY fp.id
+                FETCH FIRST :limit ROWS ONLY""",
+                new MapSqlParameterSource("false", false).addValue("true", true)
+                        .addValue("cutoff", Timestamp.valueOf(cutoff)).addValue("limit", limit),
+                Long.class);
+    }
+
+    /** Copies the tickets and their children to the archive tables and deletes them from the hot tables. */
+    public int moveToArchive(Collection<Long> ids, LocalDateTime archivedDate) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                .addValue("archivedDate", Timestamp.valueOf(archivedDate));
+        int moved = jdbc.update("INSERT INTO fast_problem_archive (" + TICKET_COLUMNS + ", status, archived_date) "
+                + "SELECT " + TICKET_COLUMNS + ", '" + TicketStatus.ARCHIVED.name() + "', :archivedDate "
+                + "FROM fast_problem WHERE id IN (:ids)", params);
+        for (Map.Entry<String, String> child : CHILD_TABLES.entrySet()) {
+            jdbc.update("INSERT INTO " + child.getKey() + "_archive (" + child.getValue() + ") SELECT "
+                    + child.getValue() + " FROM " + child.getKey() + " WHERE fast_problem_id IN (:ids)", params);
+            jdbc.update("DELETE FROM " + child.getKey() + " WHERE fast_problem_id IN (:ids)", params);
+        }
+        jdbc.update("DELETE FROM fast_problem WHERE id IN (:ids)", params);
+        return moved;
+    }
+
+    public long count(Filter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Long count = jdbc.queryForObject("SELECT COUNT(*) FROM fast_problem_archive a" + where(filter, params), params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    /** One page of archived tickets with the children the list view shows (regions, user groups, links). */
+    public List<FastProblem> findPage(Filter filter, long offset, int limit, Sort sort) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("offset", offset).addValue("limit", limit);
+        List<FastProblem> tickets = jdbc.query("SELECT a.* FROM fast_problem_archive a" + where(filter, params)
+                + orderBy(sort) + " OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY", params, this::mapTicket);
+        if (!tickets.isEmpty()) {
+            Map<Long, FastProblem> byId = index(tickets);
+            loadRegions(byId);
+            loadUserGroups(byId);
+            loadLinks(byId);
+        }
+        return tickets;
+    }
+
+    /** The archived ticket with all its children, for the detail view. */
+    public Optional<FastProblem> findById(Long id) {
+        return findAllById(List.of(id)).stream().findFirst();
+    }
+
+    /** Archived tickets with all their children, ordered by id. */
+    public List<FastProblem> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<FastProblem> tickets = jdbc.query("SELECT a.* FROM fast_problem_archive a WHERE a.id IN (:ids) ORDER BY a.id",
+                new MapSqlParameterSource("ids", ids), this::mapTicket);
+        if (tickets.isEmpty()) {
+            return tickets;
+        }
+        Map<Long, FastProblem> byId = index(tickets);
+        loadRegions(byId);
+        loadUserGroups(byId);
+        loadLinks(byId);
+        loadApplications(byId);
+        loadChildren(byId, "approval_record_archive", "id", (rs, problem) -> ApprovalRecord.builder()
+                .id(rs.getLong("id"))
+                .fastProblem(problem)
+                .approvalRole(enumOrNull(UserRole.class, rs.getString("approval_role")))
+                .reviewerName(rs.getString("reviewer_name"))
+                .reviewerEmail(rs.getString("reviewer_email"))
+                .decision(enumOrNull(ApprovalDecision.class, rs.getString("decision")))
+                .comments(rs.getString("comments"))
+                .decisionDate(dateTime(rs, "decision_date"))
+                .createdDate(dateTime(rs, "created_date"))
+                .version(rs.getLong("version"))
+                .build(), FastProblem::getApprovalRecords);
+        loadChildren(byId, "incident_link_archive", "id", (rs, problem) -> IncidentLink.builder()
+                .id(rs.getLong("id"))
+                .fastProblem(problem)
+                .incidentNumber(rs.getString("incident_number"))
+                .linkType(enumOrNull(LinkType.class, rs.getString("link_type")))
+                .description(rs.getString("description"))
+                .linkedDate(dateTime(rs, "linked_date"))
+                .build(), FastProblem::getIncidentLinks);
+        loadChildren(byId, "fast_problem_property_archive", "id", (rs, problem) -> FastProblemProperty.builder()
+                .id(rs.getLong("id"))
+                .fastProblem(problem)
+                .propertyKey(rs.getString("property_key"))
+                .propertyValue(rs.getString("property_value"))
+                .build(), FastProblem::getProperties);
+        loadChildren(byId, "ticket_comment_archive", "created_date DESC", (rs, problem) -> TicketComment.builder()
+                .id(rs.getLong("id"))
+                .fastProblem(problem)
+                .authorUsername(rs.getString("author_username"))
+                .commentText(rs.getString("comment_text"))
+                .createdDate(dateTime(rs, "created_date"))
+                .build(), FastProblem::getComments);
+        return tickets;
+    }
+
+    public Optional<Long> findVersionById(Long id) {
+        return jdbc.queryForList("SELECT version FROM fast_problem_archive WHERE id = :id",
+                new MapSqlParameterSource("id", id), Long.class).stream().findFirst();
+    }
+
+    /** Audit trail of an archived ticket, newest first. */
+    public List<AuditLog> findAuditTrail(Long problemId) {
+        return findAuditTrails(List.of(problemId)).getOrDefault(problemId, List.of());
+    }
+
+    /** Audit trails of archived tickets by ticket id, each newest first. */
+    public Map<Long, List<AuditLog>> findAuditTrails(Collection<Long> problemIds) {
+        Map<Long, List<AuditLog>> trails = new LinkedHashMap<>();
+        if (problemIds.isEmpty()) {
+            return trails;
+        }
+        jdbc.query("SELECT * FROM audit_log_archive WHERE fast_problem_id IN (:ids) ORDER BY fast_problem_id, timestamp DESC, id DESC",
+                new MapSqlParameterSource("ids", problemIds), (ResultSet rs) -> {
+                    long problemId = rs.getLong("fast_problem_id");
+                    trails.computeIfAbsent(problemId, k -> new ArrayList<>()).add(AuditLog.builder()
+                            .id(rs.getLong("id"))
+                            .fastProblem(FastProblem.builder().id(problemId).build())
+                            .action(rs.getString("action"))
+                            .performedBy(rs.getString("performed_by"))
+                            .fieldChanged(rs.getString("field_changed"))
+                            .oldValue(rs.getString("old_value"))
+                            .newValue(rs.getString("new_value"))
+                            .timestamp(dateTime(rs, "timestamp"))
+                            .build());
+                });
+        return trails;
+    }
+
+    /** Oldest retention date before the cutoff, or empty when nothing is due for a segment. */
+    public Optional<LocalDateTime> findOldestRetentionDateBefore(LocalDateTime cutoff) {
+        Timestamp oldest = jdbc.queryForObject("SELECT MIN(" + RETENTION_DATE + ") FROM fast_problem_archive a WHERE "
+                + RETENTION_DATE + " < :cutoff", new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)), Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    /** Keyset page of ids whose retention date falls in [from, to), ascending. */
+    public List<Long> findIdsByRetentionDate(LocalDateTime from, LocalDateTime to, long afterId, int limit) {
+        return jdbc.queryForList("SELECT a.id FROM fast_problem_archive a WHERE " + RETENTION_DATE + " >= :from AND "
+                        + RETENTION_DATE + " < :to AND a.id > :afterId ORDER BY a.id FETCH FIRST :limit ROWS ONLY",
+                new MapSqlParameterSource("from", Timestamp.valueOf(from)).addValue("to", Timestamp.valueOf(to))
+                        .addValue("afterId", afterId).addValue("limit", limit),
+                Long.class);
+    }
+
+    /** Removes tickets and their children from the archive tables (after they were written to a segment file). */
+    public int deleteAllById(Collection<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        for (String child : CHILD_TABLES.keySet()) {
+            jdbc.update("DELETE FROM " + child + "_archive WHERE fast_problem_id IN (:ids)", params);
+        }
+        return jdbc.update("DELETE FROM fast_problem_archive WHERE id IN (:ids)", params);
+    }
+
+    private static String where(Filter filter, MapSqlParameterSource params) {
+        List<String> predicates = new ArrayList<>();
+        if (filter.keyword() != null && !filter.keyword().isBlank()) {
+            params.addValue("keyword", "%" + filter.keyword().trim().toLowerCase() + "%");
+            predicates.add("(LOWER(a.title) LIKE :keyword OR LOWER(COALESCE(a.pbt_id, '')) LIKE :keyword"
+                    + " OR LOWER(COALESCE(a.servicenow_incident_number, '')) LIKE :keyword"
+                    + " OR LOWER(COALESCE(a.servicenow_problem_number, '')) LIKE :keyword"
+                    + " OR LOWER(COALESCE(a.affected_application, '')) LIKE :keyword)");
+        }
+        RegionalCode region = enumOrNull(RegionalCode.class, upper(filter.regionCode()));
+        if (region != null) {
+            params.addValue("region", region.name());
+            predicates.add("EXISTS (SELECT 1 FROM fast_problem_region_archive r"
+                    + " WHERE r.fast_problem_id = a.id AND r.regional_code = :region)");
+        }
+        Classification classification = enumOrNull(Classification.class, upper(filter.classification()));
+        if (classification != null) {
+            params.addValue("classification", classification.name());
+            predicates.add("a.classification = :classification");
+        }
+        if (filter.fromDate() != null) {
+            params.addValue("fromDate", Timestamp.valueOf(filter.fromDate().atStartOfDay()));
+            predicates.add("a.created_date >= :fromDate");
+        }
+        if (filter.toDate() != null) {
+            params.addValue("toDate", Timestamp.valueOf(filter.toDate().atTime(23, 59, 59)));
+            predicates.add("a.created_date <= :toDate");
+        }
+        if (filter.priority() != null && filter.priority() >= 1 && filter.priority() <= 5) {
+            params.addValue("priority", filter.priority());
+            predicates.add("a.priority = :priority");
+        }
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+
+    private static String orderBy(Sort sort) {
+        List<String> terms = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                terms.add("a." + column + (order.isDescending() ? " DESC" : " ASC"));
+            }
+        }
+        if (terms.isEmpty()) {
+            terms.add("a.closed_date DESC");
+        }
+        terms.add("a.id DESC");
+        return " ORDER BY " + String.join(", ", terms);
+    }
+
+    private FastProblem mapTicket(ResultSet rs, int rowNum) throws SQLException {
+        return FastProblem.builder()
+                .id(rs.getLong("id"))
+                .servicenowIncidentNumber(rs.getString("servicenow_incident_number"))
+                .servicenowProblemNumber(rs.getString("servicenow_problem_number"))
+                .pbtId(rs.getString("pbt_id"))
+                .title(rs.getString("title"))
+                .description(rs.getString("description"))
+                .userImpactCount(integer(rs, "user_impact_count"))
+                .affectedApplication(rs.getString("affected_application"))
+                .requestNumber(rs.getString("request_number"))
+                .dqReference(rs.getString("dq_reference"))
+                .impactedUserGroupNotes(rs.getString("impacted_user_group_notes"))
+                .anticipatedBenefits(rs.getString("anticipated_benefits"))
+                .classification(enumOrNull(Classification.class, rs.getString("classification")))
+                .ticketAgeDays(integer(rs, "ticket_age_days"))
+                .ragStatus(enumOrNull(RagStatus.class, rs.getString("rag_status")))
+                .statusIndicator(enumOrNull(StatusIndicator.class, rs.getString("status_indicator")))
+                .status(enumOrNull(TicketStatus.class, rs.getString("status")))
+                .priorityScore(rs.getObject("priority_score") != null ? rs.getDouble("priority_score") : null)
+                .priority(integer(rs, "priority"))
+                .targetResolutionHours(integer(rs, "target_resolution_hours"))
+                .apiIntegrationStatus(enumOrNull(ApiIntegrationStatus.class, rs.getString("api_integration_status")))
+                .rootCause(rs.getString("root_cause"))
+                .workaround(rs.getString("workaround"))
+                .permanentFix(rs.getString("permanent_fix"))
+                .createdBy(rs.getString("created_by"))
+                .assignedTo(rs.getString("assigned_to"))
+                .assignmentGroup(rs.getString("assignment_group"))
+                .btbTechLeadUsername(rs.getString("btb_tech_lead_username"))
+                .confluenceLink(rs.getString("confluence_link"))
+                .createdDate(dateTime(rs, "created_date"))
+                .updatedDate(dateTime(rs, "updated_date"))
+                .resolvedDate(dateTime(rs, "resolved_date"))
+                .inProgressDate(dateTime(rs, "in_progress_date"))
+                .closedDate(dateTime(rs, "closed_date"))
+                .deleted(false)
+                .archived(true)
+                .version(rs.getLong("version"))
+                .build();
+    }
+
+    private void loadRegions(Map<Long, FastProblem> byId) {
+        loadChildren(byId, "fast_problem_region_archive", "id", (rs, problem) -> FastProblemRegion.builder()
+                .id(rs.getLong("id"))
+                .fastProblem(problem)
+                .regionalCode(enumOrNull(RegionalCode.class, rs.getString("regional_code")))
+                .build(), FastProblem::getRegions);
+    }
+
+    private void loadLinks(Map<Long, FastProblem> byId) {
+        loadChildren(byId, "fast_problem_link_archive", "id", (rs, problem) -> FastProblemLink.builder()
+                .id(rs.getLong("id"))
+                .fastProblem(problem)
+                .label(rs.getString("label"))
+                .url(rs.getString("url"))
+                .linkType(enumOrNull(ExternalLinkType.class, rs.getString("link_type")))
+                .build(), FastProblem::getLinks);
+    }
+
+    /** User groups still in the catalog; groups deleted since archiving drop out, as they would for live tickets. */
+    private void loadUserGroups(Map<Long, FastProblem> byId) {
+        jdbc.query("SELECT x.fast_problem_id, g.* FROM fast_problem_user_group_archive x"
+                        + " JOIN user_group g ON g.id = x.user_group_id WHERE x.fast_problem_id IN (:ids) ORDER BY g.name",
+                new MapSqlParameterSource("ids", byId.keySet()), (ResultSet rs) -> {
+                    byId.get(rs.getLong("fast_problem_id")).getUserGroups().add(UserGroup.builder()
+                            .id(rs.getLong("id"))
+                            .name(rs.getString("name"))
+                            .code(rs.getString("code"))
+                            .description(rs.getString("description"))
+                            .active(rs.getObject("active") != null ? rs.getBoolean("active") : null)
+                            .createdDate(dateTime(rs, "created_date"))
+                            .updatedDate(dateTime(rs, "updated_date"))
+                            .build());
+                });
+    }
+
+    private void loadApplications(Map<Long, FastProblem> byId) {
+        jdbc.query("SELECT x.fast_problem_id, ap.* FROM fast_problem_application_archive x"
+                        + " JOIN applications ap ON ap.id = x.application_id WHERE x.fast_problem_id IN (:ids) ORDER BY ap.name",
+                new MapSqlParameterSource("ids", byId.keySet()), (ResultSet rs) -> {
+                    byId.get(rs.getLong("fast_problem_id")).getApplications().add(Application.builder()
+                            .id(rs.getLong("id"))
+                            .name(rs.getString("name"))
+                            .code(rs.getString("code"))
+                            .description(rs.getString("description"))
+                            .createdDate(dateTime(rs, "created_date"))
+                            .updatedDate(dateTime(rs, "updated_date"))
+                            .build());
+                });
+    }
+
+    private <T> void loadChildren(Map<Long, FastProblem> byId, String table, String orderBy, ChildMapper<T> mapper,
+                                  Function<FastProblem, List<T>> collection) {
+        jdbc.query("SELECT * FROM " + table + " WHERE fast_problem_id IN (:ids) ORDER BY " + orderBy,
+                new MapSqlParameterSource("ids", byId.keySet()), (ResultSet rs) -> {
+                    FastProblem problem = byId.get(rs.getLong("fast_problem_id"));
+                    collection.apply(problem).add(mapper.map(rs, problem));
+                });
+    }
+
+    private static Map<Long, FastProblem> index(List<FastProblem> tickets) {
+        Map<Long, FastProblem> byId = new LinkedHashMap<>();
+        tickets.forEach(t -> byId.put(t.getId(), t));
+        return byId;
+    }
+
+    private static Integer integer(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime dateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toLocalDateTime() : null;
+    }
+
+    private static String upper(String value) {
+        return value != null && !value.isBlank() ? value.trim().toUpperCase() : null;
+    }
+
+    private static <E extends Enum<E>> E enumOrNull(Class<E> type, String value) {
+        if (value == null) return null;
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChildMapper<T> {
+        T map(ResultSet rs, FastProblem problem) throws SQLException;
+    }
+
+    /** Filters the archived ticket list supports; the remaining ticket-list filters apply to live tickets only. */
+    public record Filter(String keyword, String regionCode, String classification, LocalDate fromDate,
+                         LocalDate toDate, Integer priority) {
+
+        public static final Filter NONE = new Filter(null, null, null, null, null, null);
+    }
+}
@@ -12,16 +12,65 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FastProblemRepository extends JpaRepository<FastProblem, Long>, JpaSpecificationExecutor<FastProblem> {
 
+    /**
+     * Row count, version sum and latest update across all tickets. Every write bumps the row version, so the sum moves
+     * on any update even when the writing node's clock is behind the latest updatedDate.
+     */
+    interface CollectionStamp {
+        long getTotal();
+
+        Long getVersionSum();
+
+        LocalDateTime getLastUpdated();
+    }
+
+    /** Text and status of a ticket, for the duplicate index. */
+    interface DuplicateSource {
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+
+        TicketStatus getStatus();
+    }
+
+    /** Daily-commentary figures for one assignee's tickets in a status. */
+    interface CommentaryCompliance {
+        String getAssignedTo();
+
+        long getTickets();
+
+        long getCommentedSinceCutoff();
+
+        long getNeverCommented();
+
+        LocalDateTime getOldestLastComment();
+    }
+
+    /** Version of a live (not deleted) ticket; single PK lookup, no entity graph is loaded. */
+    @Query("SELECT fp.version FROM FastProblem fp WHERE fp.id = :id AND fp.deleted = false")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Runs before every list request, 200s included; idx_fast_problem_version_updated covers all three aggregates, so
+     * this is a fast full scan of that index rather than of the table.
+     */
+    @Query("SELECT COUNT(fp) AS total, SUM(fp.version) AS versionSum, MAX(fp.updatedDate) AS lastUpdated FROM FastProblem fp")
+    CollectionStamp findCollectionStamp();
+
     Page<FastProblem> findByDeletedFalse(Pageable pageable);
 
     Page<FastProblem> findByDeletedFalseAndArchivedFalse(Pageable pageable);
@@ -46,11 +95,32 @@ public interface FastProblemRepository extends JpaRepository<FastProblem, Long>,
 
     List<FastProblem> findByStatusNotInAndDeletedFalse(List<TicketStatus> statuses);
 
-    Page<FastProblem> findByStatusNotInAndDeletedFalse(List<TicketStatus> statuses, Pageable pageable);
-
-    /** CLOSED tickets with closedDate older than cutoff; for archiving after 7 days. */
-    @Query("SELECT fp FROM FastProblem fp WHERE fp.status = :status AND fp.deleted = false AND fp.archived = false AND fp.closedDate IS NOT NULL AND fp.closedDate <= :cutoff")
-    List<FastProblem> findClosedForArchive(@Param("status") TicketStatus status, @Param("cutoff") LocalDateTime cutoff);
+    /** One keyset page (ids after afterId, ascending) of live tickets outside the given statuses, text only. */
+    @Query("SELECT fp.id AS id, fp.title AS title, fp.description AS description, fp.status AS status FROM FastProblem fp "
+            + "WHERE fp.status NOT IN :statuses AND fp.deleted = false AND fp.id > :afterId ORDER BY fp.id")
+    List<DuplicateSource> findDuplicateSources(@Param("statuses") List<TicketStatus> statuses,
+                                               @Param("afterId") long afterId,
+                                               Pageable pageable);
+
+    /** Ids of live tickets outside the given statuses, ascending; used to partition the nightly batch jobs. */
+    @Query("SELECT fp.id FROM FastProblem fp WHERE fp.status NOT IN :statuses AND fp.deleted = false ORDER BY fp.id")
+    List<Long> findIdsByStatusNotInAndDeletedFalse(@Param("statuses") List<TicketStatus> statuses);
+
+    @Query("SELECT fp FROM FastProblem fp WHERE fp.status NOT IN :statuses AND fp.deleted = false " +
+            "AND fp.id BETWEEN :fromId AND :toId ORDER BY fp.id")
+    List<FastProblem> findByStatusNotInAndDeletedFalseAndIdBetween(@Param("statuses") List<TicketStatus> statuses,
+                                                                  @Param("fromId") long fromId,
+                                                                  @Param("toId") long toId);
+
+    /**
+     * Marks CLOSED tickets with closedDate older than cutoff as ARCHIVED in place, in one statement. Only used when
+     * the fast_problem_archive tables are missing; otherwise the archive job moves them to cold storage.
+     */
+    @Modifying
+    @Query("UPDATE FastProblem fp SET fp.status = com.enterprise.fast.domain.enums.TicketStatus.ARCHIVED, fp.archived = true, fp.version = fp.version + 1 "
+            + "WHERE fp.status = com.enterprise.fast.domain.enums.TicketStatus.CLOSED AND fp.deleted = false AND fp.archived = false "
+            + "AND fp.closedDate IS NOT NULL AND fp.closedDate <= :cutoff")
+    int markClosedAsArchived(@Param("cutoff") LocalDateTime cutoff);
 
     @Query("SELECT COUNT(fp) FROM FastProblem fp WHERE fp.status = :status AND fp.deleted = false AND fp.archived = false")
     long countByStatus(@Param("status") TicketStatus status);
@@ -134,16 +204,27 @@ public interface FastProblemRepository extends JpaRepository<FastProblem, Long>,
                                                  @Param("region") RegionalCode region,
                                                  Pageable pageable);
 
+    /** Range scan on idx_fast_problem_status_comment (status, last_comment_date); no join to ticket_comment. */
     @Query("""
             SELECT fp FROM FastProblem fp
-            LEFT JOIN fp.comments c
             WHERE fp.status = :status AND fp.deleted = false AND fp.archived = false
-            GROUP BY fp
-            HAVING MAX(c.createdDate) IS NULL OR MAX(c.createdDate) < :cutoff
+            AND (fp.lastCommentDate IS NULL OR fp.lastCommentDate < :cutoff)
             """)
     List<FastProblem> findInProgressWithoutRecentComment(@Param("status") TicketStatus status,
                                                          @Param("cutoff") LocalDateTime cutoff);
 
+    @Query("""
+            SELECT fp.assignedTo AS assignedTo, COUNT(fp) AS tickets,
+                   SUM(CASE WHEN fp.lastCommentDate >= :cutoff THEN 1 ELSE 0 END) AS commentedSinceCutoff,
+                   SUM(CASE WHEN fp.lastCommentDate IS NULL THEN 1 ELSE 0 END) AS neverCommented,
+                   MIN(fp.lastCommentDate) AS oldestLastComment
+            FROM FastProblem fp
+            WHERE fp.status = :status AND fp.deleted = false AND fp.archived = false
+            GROUP BY fp.assignedTo
+            """)
+    List<CommentaryCompliance> findCommentaryComplianceByAssignee(@Param("status") TicketStatus status,
+                                                                   @Param("cutoff") LocalDateTime cutoff);
+
     /** Only fetch regions to avoid MultipleBagFetchException; links loaded in service for upstream. */
     @EntityGraph(attributePaths = {"regions"})
     @Query("SELECT DISTINCT fp FROM FastProblem fp JOIN fp.links l WHERE l.linkType IN :linkTypes AND fp.deleted = false AND fp.archived = false")
@@ -5,13 +5,41 @@ import com.enterprise.fast.domain.enums.ArticleStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface KnowledgeArticleRepository extends JpaRepository<KnowledgeArticle, Long> {
 
+    /** The searchable text of an article, for the recommendation index. */
+    interface IndexSource {
+        Long getId();
+
+        Long getProblemId();
+
+        String getTitle();
+
+        String getRootCause();
+
+        String getWorkaround();
+
+        String getPermanentFix();
+
+        String getCategory();
+
+        ArticleStatus getStatus();
+    }
+
+    /** One keyset page (ids after afterId, ascending) of articles, text only. */
+    @Query("SELECT a.id AS id, p.id AS problemId, a.title AS title, a.rootCause AS rootCause, a.workaround AS workaround, "
+            + "a.permanentFix AS permanentFix, a.category AS category, a.status AS status "
+            + "FROM KnowledgeArticle a LEFT JOIN a.fastProblem p WHERE a.id > :afterId ORDER BY a.id")
+    List<IndexSource> findIndexSources(@Param("afterId") long afterId, Pageable pageable);
+
     Optional<KnowledgeArticle> findByFastProblemId(Long fastProblemId);
 
     Page<KnowledgeArticle> findByStatus(ArticleStatus status, Pageable pageable);
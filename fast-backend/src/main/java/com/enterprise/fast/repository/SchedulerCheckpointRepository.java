@@ -0,0 +1,35 @@
+package com.enterprise.fast.repository;
+
+import com.enterprise.fast.domain.entity.SchedulerCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SchedulerCheckpointRepository extends JpaRepository<SchedulerCheckpoint, Long> {
+
+    /** Starts of the ranges committed on the given day, without the failed-run markers. */
+    @Query("SELECT c.rangeStart FROM SchedulerCheckpoint c WHERE c.jobName = :jobName AND c.runDate = :runDate AND c.rangeStart >= 0")
+    List<Long> findRangeStarts(@Param("jobName") String jobName, @Param("runDate") LocalDate runDate);
+
+    /** Jobs with an unfinished run on the given day (completed runs delete their checkpoints). */
+    @Query("SELECT DISTINCT c.jobName FROM SchedulerCheckpoint c WHERE c.runDate = :runDate")
+    List<String> findJobNamesWithCheckpoints(@Param("runDate") LocalDate runDate);
+
+    /** Runs of the job that failed on the given day (marker rows with a negative range start). */
+    @Query("SELECT COUNT(c) FROM SchedulerCheckpoint c WHERE c.jobName = :jobName AND c.runDate = :runDate AND c.rangeStart < 0")
+    long countFailedRuns(@Param("jobName") String jobName, @Param("runDate") LocalDate runDate);
+
+    @Modifying
+    @Query("DELETE FROM SchedulerCheckpoint c WHERE c.jobName = :jobName")
+    int deleteByJobName(@Param("jobName") String jobName);
+
+    @Modifying
+    @Query("DELETE FROM SchedulerCheckpoint c WHERE c.jobName = :jobName AND c.runDate < :runDate")
+    int deleteByJobNameBefore(@Param("jobName") String jobName, @Param("runDate") LocalDate runDate);
+}
@@ -0,0 +1,51 @@
+package com.enterprise.fast.repository;
+
+import com.enterprise.fast.domain.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Conditional updates for {@link SchedulerLock}. Each returns the number of rows changed, so 1 means this node now
+ * holds (or still holds) the lease and 0 means another node does.
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    List<SchedulerLock> findAllByOrderByNameAsc();
+
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedBy = :node, l.lockedAt = :now, l.lockUntil = :until " +
+            "WHERE l.name = :name AND l.lockUntil <= :now")
+    int acquireExpired(@Param("name") String name, @Param("node") String node,
+                       @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * Plain INSERT for the first run of a job anywhere. A concurrent insert by another node fails on the primary key
+     * with a DataIntegrityViolationException (the repository proxy translates it).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_lock (name, locked_by, locked_at, lock_until) VALUES (:name, :node, :now, :until)",
+            nativeQuery = true)
+    int insert(@Param("name") String name, @Param("node") String node,
+               @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockUntil = :until " +
+            "WHERE l.name = :name AND l.lockedBy = :node AND l.lockUntil > :now")
+    int extend(@Param("name") String name, @Param("node") String node,
+               @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockUntil = :until, l.lastStartedAt = :startedAt, " +
+            "l.lastFinishedAt = :finishedAt, l.lastDurationMs = :durationMs, l.lastOutcome = :outcome, " +
+            "l.lastRunBy = :node WHERE l.name = :name AND l.lockedBy = :node")
+    int release(@Param("name") String name, @Param("node") String node, @Param("until") LocalDateTime until,
+                @Param("startedAt") LocalDateTime startedAt, @Param("finishedAt") LocalDateTime finishedAt,
+                @Param("durationMs") long durationMs, @Param("outcome") String outcome);
+}
@@ -9,13 +9,27 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    interface MembershipRow {
+        Long getId();
+
+        UserRole getRole();
+
+        Boolean getActive();
+    }
+
+    interface ApplicationLink {
+        Long getUserId();
+
+        Long getApplicationId();
+    }
+
     Optional<User> findByUsername(String username);
 
     Optional<User> findByUsernameIgnoreCase(String username);
@@ -33,9 +47,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByRoleInAndActiveTrue(List<UserRole> roles);
 
-    /** TECH_LEAD users that are linked to at least one of the given application IDs (for BTB Tech Lead by ticket impacted apps). */
-    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.applications WHERE u.role = :role AND u.active = true AND u.id IN (SELECT u2.id FROM User u2 JOIN u2.applications a WHERE a.id IN :applicationIds)")
-    Set<User> findTechLeadsByApplicationIds(@Param("role") UserRole role, @Param("applicationIds") List<Long> applicationIds);
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.applications WHERE u.id IN :ids")
+    List<User> findWithApplicationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** Role and active flag of every user, for the membership index. */
+    @Query("SELECT u.id AS id, u.role AS role, u.active AS active FROM User u")
+    List<MembershipRow> findAllMembershipRows();
+
+    /** Every user_application row, for the membership index. */
+    @Query("SELECT u.id AS userId, a.id AS applicationId FROM User u JOIN u.applications a")
+    List<ApplicationLink> findAllApplicationLinks();
 
     boolean existsByUsername(String username);
 
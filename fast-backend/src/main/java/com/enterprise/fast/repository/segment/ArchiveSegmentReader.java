@@ -0,0 +1,192 @@
+package com.enterprise.fast.repository.segment;
+
+import com.enterprise.fast.repository.segment.ArchiveSegmentWriter.BlockIndex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Read-only view of one segment written by {@link ArchiveSegmentWriter}. The file is memory-mapped once; the block
+ * index is parsed up front, so an id lookup is a binary search over the index plus inflating a single block, and a
+ * date-range scan skips blocks whose date range does not overlap. Thread-safe: every read works on its own
+ * duplicate of the mapped buffer.
+ */
+public final class ArchiveSegmentReader {
+
+    private final Path path;
+    private final MappedByteBuffer mapped;
+    private final List<BlockIndex> blocks;
+    private final int recordCount;
+
+    private ArchiveSegmentReader(Path path, MappedByteBuffer mapped, List<BlockIndex> blocks, int recordCount) {
+        this.path = path;
+        this.mapped = mapped;
+        this.blocks = blocks;
+        this.recordCount = recordCount;
+    }
+
+    public static ArchiveSegmentReader open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Segment larger than 2 GB: " + path);
+            }
+            if (size < 8 + 4 + ArchiveSegmentWriter.TRAILER_BYTES) {
+                throw new IOException("Truncated segment: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        int size = mapped.capacity();
+        if (mapped.getInt(0) != ArchiveSegmentWriter.MAGIC || mapped.getInt(size - 4) != ArchiveSegmentWriter.MAGIC) {
+            throw new IOException("Not an archive segment: " + path);
+        }
+        if (mapped.getInt(4) != ArchiveSegmentWriter.VERSION) {
+            throw new IOException("Unsupported segment version " + mapped.getInt(4) + ": " + path);
+        }
+        int trailer = size - ArchiveSegmentWriter.TRAILER_BYTES;
+        int indexOffset = (int) mapped.getLong(trailer);
+        int recordCount = mapped.getInt(trailer + 8);
+        int blockCount = mapped.getInt(indexOffset);
+        List<BlockIndex> blocks = new ArrayList<>(blockCount);
+        ByteBuffer index = mapped.duplicate().position(indexOffset + 4);
+        for (int i = 0; i < blockCount; i++) {
+            blocks.add(new BlockIndex(index.getLong(), index.getLong(), index.getInt(), index.getInt(),
+                    index.getLong(), index.getInt(), index.getInt(), index.getInt()));
+        }
+        return new ArchiveSegmentReader(path, mapped, List.copyOf(blocks), recordCount);
+    }
+
+    /** The JSON document stored for the id, if this segment has it. */
+    public Optional<byte[]> find(long id) {
+        int low = 0;
+        int high = blocks.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            BlockIndex block = blocks.get(mid);
+            if (block.lastId() < id) {
+                low = mid + 1;
+            } else if (block.firstId() > id) {
+                high = mid - 1;
+            } else {
+                byte[][] found = new byte[1][];
+                readBlock(block, (recordId, day, document) -> {
+                    if (recordId == id) {
+                        found[0] = document;
+                    }
+                    return recordId < id;
+                });
+                return Optional.ofNullable(found[0]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean contains(long id) {
+        return find(id).isPresent();
+    }
+
+    /** Every record whose retention date is within [from, to] (either bound may be null), in id order. */
+    public void forEach(LocalDate from, LocalDate to, BiConsumer<Long, byte[]> consumer) {
+        int fromDay = from != null ? (int) from.toEpochDay() : Integer.MIN_VALUE;
+        int toDay = to != null ? (int) to.toEpochDay() : Integer.MAX_VALUE;
+        for (BlockIndex block : blocks) {
+            if (block.maxDay() < fromDay || block.minDay() > toDay) {
+                continue;
+            }
+            readBlock(block, (id, day, document) -> {
+                if (day >= fromDay && day <= toDay) {
+                    consumer.accept(id, document);
+                }
+                return true;
+            });
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getSizeBytes() {
+        return mapped.capacity();
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public int getBlockCount() {
+        return blocks.size();
+    }
+
+    public Long getMinId() {
+        return blocks.isEmpty() ? null : blocks.get(0).firstId();
+    }
+
+    public Long getMaxId() {
+        return blocks.isEmpty() ? null : blocks.get(blocks.size() - 1).lastId();
+    }
+
+    public LocalDate getMinDate() {
+        return blocks.stream().mapToInt(BlockIndex::minDay).min().stream()
+                .mapToObj(LocalDate::ofEpochDay).findFirst().orElse(null);
+    }
+
+    public LocalDate getMaxDate() {
+        return blocks.stream().mapToInt(BlockIndex::maxDay).max().stream()
+                .mapToObj(LocalDate::ofEpochDay).findFirst().orElse(null);
+    }
+
+    /** Inflates one block and feeds its records to the visitor until it returns false. */
+    private void readBlock(BlockIndex block, RecordVisitor visitor) {
+        ByteBuffer compressed = mapped.slice((int) block.offset(), block.compressedLength());
+        byte[] raw = new byte[block.uncompressedLength()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                int n = inflater.inflate(raw, length, raw.length - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += n;
+            }
+            if (length != raw.length) {
+                throw new IllegalStateException("Corrupt block at offset " + block.offset() + " in " + path);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt block at offset " + block.offset() + " in " + path, e);
+        } finally {
+            inflater.end();
+        }
+        ByteBuffer records = ByteBuffer.wrap(raw);
+        for (int i = 0; i < block.records(); i++) {
+            long id = records.getLong();
+            int day = records.getInt();
+            byte[] document = new byte[records.getInt()];
+            records.get(document);
+            if (!visitor.visit(id, day, document)) {
+                return;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        /** @return false to stop reading the block */
+        boolean visit(long id, int day, byte[] document);
+    }
+}
@@ -0,0 +1,134 @@
+package com.enterprise.fast.repository.segment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The directory of archive segment files: one or more files per retention month, named
+ * {@code tickets-<yyyy-MM>-<written at>.seg}. Segments are immutable, so readers are opened once and kept; the
+ * directory is rescanned when a segment is added or a lookup misses. On a cluster the directory must be shared
+ * storage, since any node may seal segments or serve lookups.
+ */
+@Component
+@Slf4j
+public class ArchiveSegmentStore {
+
+    private static final Pattern FILE_NAME = Pattern.compile("tickets-(\\d{4}-\\d{2})-\\d{8}T\\d{6}\\.seg");
+    private static final DateTimeFormatter WRITTEN_AT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final Path directory;
+    private final int blockRecords;
+    private final Map<Path, ArchiveSegmentReader> readers = new ConcurrentHashMap<>();
+    private FileTime scannedAt;
+
+    public ArchiveSegmentStore(@Value("${app.archive.segments.dir:./data/archive-segments}") String directory,
+                               @Value("${app.archive.segments.block-records:64}") int blockRecords) {
+        this.directory = Paths.get(directory);
+        this.blockRecords = blockRecords;
+    }
+
+    /** New segment for the month; commit it to make it visible, close it to discard it. */
+    public ArchiveSegmentWriter newSegment(YearMonth month) throws IOException {
+        Files.createDirectories(directory);
+        String writtenAt = LocalDateTime.now().format(WRITTEN_AT);
+        Path target = directory.resolve("tickets-" + month + "-" + writtenAt + ".seg");
+        for (int i = 1; Files.exists(target); i++) {
+            target = directory.resolve("tickets-" + month + "-" + LocalDateTime.now().plusSeconds(i).format(WRITTEN_AT) + ".seg");
+        }
+        return new ArchiveSegmentWriter(target, blockRecords);
+    }
+
+    /** Makes a just-committed segment visible without waiting for a rescan. */
+    public void register(Path segment) throws IOException {
+        readers.put(segment, ArchiveSegmentReader.open(segment));
+    }
+
+    /** All segments, oldest month first. */
+    public List<ArchiveSegmentReader> segments() {
+        rescan();
+        return sorted();
+    }
+
+    /** The stored document of the ticket, searching the segments from newest to oldest. */
+    public Optional<byte[]> find(long id) {
+        Optional<byte[]> found = findIn(sorted(), id);
+        if (found.isEmpty() && rescan()) {
+            found = findIn(sorted(), id);
+        }
+        return found;
+    }
+
+    private static Optional<byte[]> findIn(List<ArchiveSegmentReader> segments, long id) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            ArchiveSegmentReader segment = segments.get(i);
+            if (segment.getRecordCount() == 0 || id < segment.getMinId() || id > segment.getMaxId()) {
+                continue;
+            }
+            Optional<byte[]> found = segment.find(id);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Optional<YearMonth> monthOf(Path segment) {
+        Matcher matcher = FILE_NAME.matcher(segment.getFileName().toString());
+        return matcher.matches() ? Optional.of(YearMonth.parse(matcher.group(1))) : Optional.empty();
+    }
+
+    private List<ArchiveSegmentReader> sorted() {
+        List<ArchiveSegmentReader> list = new ArrayList<>(readers.values());
+        list.sort(Comparator.comparing(r -> r.getPath().getFileName().toString()));
+        return list;
+    }
+
+    /** Opens segments not seen yet, if the directory changed since the last scan. @return true when a new segment was found */
+    private synchronized boolean rescan() {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+        boolean added = false;
+        try (Stream<Path> files = Files.list(directory)) {
+            FileTime modified = Files.getLastModifiedTime(directory);
+            if (modified.equals(scannedAt)) {
+                return false;
+            }
+            scannedAt = modified;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (readers.containsKey(file) || monthOf(file).isEmpty()) {
+                    continue;
+                }
+                try {
+                    readers.put(file, ArchiveSegmentReader.open(file));
+                    added = true;
+                } catch (IOException e) {
+                    log.error("Skipping unreadable archive segment {}: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return added;
+    }
+}
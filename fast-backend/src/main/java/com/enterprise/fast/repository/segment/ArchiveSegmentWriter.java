@@ -0,0 +1,171 @@
+package com.enterprise.fast.repository.segment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Writes one archive segment file. Records must be appended in ascending id order; they are grouped into blocks of
+ * {@code blockRecords} records, each block deflate-compressed on its own so a lookup only inflates one block.
+ *
+ * <pre>
+ * header   magic "FSEG" (int), format version (int)
+ * blocks   deflated: per record id (long), retention date as epoch day (int), length (int), JSON bytes
+ * index    block count (int); per block first id, last id (long), min/max epoch day (int), file offset (long),
+ *          compressed and uncompressed length, record count (int)
+ * trailer  index offset (long), record count (int), magic "FSEG" (int)
+ * </pre>
+ *
+ * The file is written under a temporary name and moved into place by {@link #commit()}, so readers only ever see
+ * complete segments. A segment is never modified afterwards.
+ */
+public final class ArchiveSegmentWriter implements Closeable {
+
+    static final int MAGIC = 0x46534547;
+    static final int VERSION = 1;
+    static final int INDEX_ENTRY_BYTES = 8 + 8 + 4 + 4 + 8 + 4 + 4 + 4;
+    static final int TRAILER_BYTES = 8 + 4 + 4;
+
+    private final Path target;
+    private final Path temp;
+    private final FileChannel channel;
+    private final int blockRecords;
+    private final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    private final List<BlockIndex> index = new ArrayList<>();
+
+    private final ByteArrayOutputStream blockBytes = new ByteArrayOutputStream();
+    private final DataOutputStream blockOut = new DataOutputStream(blockBytes);
+    private int blockCount;
+    private long blockFirstId;
+    private long blockLastId;
+    private int blockMinDay;
+    private int blockMaxDay;
+
+    private long lastId = Long.MIN_VALUE;
+    private int recordCount;
+    private boolean committed;
+
+    public ArchiveSegmentWriter(Path target, int blockRecords) throws IOException {
+        this.target = target;
+        this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+        this.blockRecords = Math.max(1, blockRecords);
+        this.channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        write(ByteBuffer.allocate(8).putInt(MAGIC).putInt(VERSION).flip());
+    }
+
+    public void append(long id, LocalDate retentionDate, byte[] document) throws IOException {
+        if (committed) {
+            throw new IllegalStateException("Segment already committed: " + target);
+        }
+        if (id <= lastId) {
+            throw new IllegalArgumentException("Ids must be ascending: " + id + " after " + lastId);
+        }
+        int day = (int) retentionDate.toEpochDay();
+        if (blockCount == 0) {
+            blockFirstId = id;
+            blockMinDay = day;
+            blockMaxDay = day;
+        }
+        blockLastId = id;
+        blockMinDay = Math.min(blockMinDay, day);
+        blockMaxDay = Math.max(blockMaxDay, day);
+        blockOut.writeLong(id);
+        blockOut.writeInt(day);
+        blockOut.writeInt(document.length);
+        blockOut.write(document);
+        lastId = id;
+        recordCount++;
+        if (++blockCount == blockRecords) {
+            flushBlock();
+        }
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /** Writes the index and trailer, forces the file to disk and moves it to its final name. */
+    public Path commit() throws IOException {
+        flushBlock();
+        long indexOffset = channel.position();
+        ByteBuffer buffer = ByteBuffer.allocate(4 + index.size() * INDEX_ENTRY_BYTES + TRAILER_BYTES);
+        buffer.putInt(index.size());
+        for (BlockIndex block : index) {
+            buffer.putLong(block.firstId()).putLong(block.lastId())
+                    .putInt(block.minDay()).putInt(block.maxDay())
+                    .putLong(block.offset()).putInt(block.compressedLength())
+                    .putInt(block.uncompressedLength()).putInt(block.records());
+        }
+        buffer.putLong(indexOffset).putInt(recordCount).putInt(MAGIC);
+        write(buffer.flip());
+        channel.force(true);
+        channel.close();
+        deflater.end();
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+        return target;
+    }
+
+    /** Discards an uncommitted segment. */
+    @Override
+    public void close() {
+        if (committed) {
+            return;
+        }
+        try {
+            channel.close();
+            deflater.end();
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockCount == 0) {
+            return;
+        }
+        blockOut.flush();
+        byte[] raw = blockBytes.toByteArray();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        byte[] out = new byte[Math.max(64, raw.length / 2)];
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == out.length) {
+                out = Arrays.copyOf(out, out.length * 2);
+            }
+            length += deflater.deflate(out, length, out.length - length);
+        }
+        long offset = channel.position();
+        write(ByteBuffer.wrap(out, 0, length));
+        index.add(new BlockIndex(blockFirstId, blockLastId, blockMinDay, blockMaxDay, offset, length, raw.length, blockCount));
+        blockBytes.reset();
+        blockCount = 0;
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    record BlockIndex(long firstId, long lastId, int minDay, int maxDay, long offset, int compressedLength,
+                      int uncompressedLength, int records) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.enterprise.fast.scheduler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a {@code @Scheduled} method on at most one node of the cluster per trigger: the node that takes the
+ * scheduler_lock row runs the job, every other node skips it. The lease is renewed by a heartbeat while the job
+ * runs, so leaseSeconds only bounds how long a crashed node blocks the job.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterLock {
+
+    /** Lock name (scheduler_lock.name), unique per job. */
+    String name();
+
+    /** Lease taken on acquire and on each heartbeat (every leaseSeconds / 3). */
+    long leaseSeconds() default 600;
+
+    /** Minimum time the lock stays held after the run starts, covering clock and trigger skew between nodes. */
+    long minHoldSeconds() default 60;
+}
@@ -0,0 +1,95 @@
+package com.enterprise.fast.scheduler;
+
+import com.enterprise.fast.service.SchedulerLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link ClusterLock}. Records fast.scheduler.lock (tag job, outcome acquired|skipped|lost); skipped runs
+ * return without invoking the job, so fast.scheduler.job only counts runs that actually happened on this node.
+ * With app.scheduler-lock.enabled=false jobs run unlocked on every node (single-node deployments).
+ */
+@Aspect
+@Component
+@Slf4j
+public class ClusterLockAspect {
+
+    private final SchedulerLockService lockService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lock-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ClusterLockAspect(SchedulerLockService lockService, MeterRegistry meterRegistry,
+                             @Value("${app.scheduler-lock.enabled:true}") boolean enabled) {
+        this.lockService = lockService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Around("@annotation(clusterLock)")
+    public Object runLocked(ProceedingJoinPoint joinPoint, ClusterLock clusterLock) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        String name = clusterLock.name();
+        Duration lease = Duration.ofSeconds(clusterLock.leaseSeconds());
+        if (!lockService.tryAcquire(name, lease)) {
+            count(name, "skipped");
+            log.debug("Skipping {}: lock held by another node", name);
+            return null;
+        }
+        count(name, "acquired");
+        LocalDateTime startedAt = LocalDateTime.now();
+        long heartbeatMillis = Math.max(1000, lease.toMillis() / 3);
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(() -> renew(name, lease),
+                heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        String outcome = "failure";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            heartbeat.cancel(false);
+            lockService.release(name, startedAt, Duration.ofSeconds(clusterLock.minHoldSeconds()), outcome);
+        }
+    }
+
+    private void renew(String name, Duration lease) {
+        try {
+            if (!lockService.extend(name, lease)) {
+                count(name, "lost");
+                log.error("Lost lock {} while the job is still running on {}; another node may start it",
+                        name, lockService.getNodeId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Heartbeat for lock {} failed: {}", name, e.getMessage());
+        }
+    }
+
+    private void count(String job, String outcome) {
+        Counter.builder("fast.scheduler.lock").tag("job", job).tag("outcome", outcome).register(meterRegistry).increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+    }
+}
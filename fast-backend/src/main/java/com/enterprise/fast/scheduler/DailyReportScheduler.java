@@ -32,6 +32,7 @@ public class DailyReportScheduler {
      * Run every hour at minute 0. For each zone (APAC, EMEA, AMER), if enabled and current time matches zone's send time, send report.
      */
     @Scheduled(cron = "0 0 * * * *")
+    @ClusterLock(name = "sendDailyReports", leaseSeconds = 900)
     public void sendDailyReports() {
         Map<String, String> s = appSettingsService.getSettings(false).getSettings();
         if (!"true".equalsIgnoreCase(s.get("dailyReportEnabled"))) {
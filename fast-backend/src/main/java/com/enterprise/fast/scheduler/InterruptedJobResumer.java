@@ -0,0 +1,48 @@
+package com.enterprise.fast.scheduler;
+
+import com.enterprise.fast.repository.SchedulerCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Restarts nightly batch jobs whose run was interrupted today (checkpoints left behind by a crashed node or a failed
+ * range). The job is invoked through its {@link ClusterLock}ed entry point, so a run still in progress elsewhere
+ * (lock held) is left alone, and {@link PartitionedBatchRunner} continues after the last committed range. A job that
+ * has already failed {@value PartitionedBatchRunner#MAX_FAILED_RUNS} times today is left for tomorrow's run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InterruptedJobResumer {
+
+    private final SchedulerCheckpointRepository checkpointRepository;
+    private final TicketScheduler ticketScheduler;
+    private final PartitionedBatchRunner batchRunner;
+
+    @Scheduled(initialDelayString = "${app.scheduler.batch.resume-initial-delay-ms:120000}",
+            fixedDelayString = "${app.scheduler.batch.resume-check-ms:900000}")
+    public void resumeInterruptedJobs() {
+        Map<String, Runnable> jobs = Map.of(
+                "updateTicketAges", ticketScheduler::updateTicketAges,
+                "updateRagStatus", ticketScheduler::updateRagStatus,
+                "updateClassifications", ticketScheduler::updateClassifications);
+        LocalDate today = LocalDate.now();
+        for (String job : checkpointRepository.findJobNamesWithCheckpoints(today)) {
+            Runnable entryPoint = jobs.get(job);
+            if (entryPoint == null || batchRunner.hasGivenUp(job, today)) {
+                continue;
+            }
+            log.info("Found an unfinished {} run from today; resuming", job);
+            try {
+                entryPoint.run();
+            } catch (RuntimeException e) {
+                log.error("Resuming {} failed: {}", job, e.getMessage());
+            }
+        }
+    }
+}
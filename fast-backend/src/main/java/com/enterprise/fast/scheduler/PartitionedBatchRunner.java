@@ -0,0 +1,252 @@
+package com.enterprise.fast.scheduler;
+
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.entity.SchedulerCheckpoint;
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.repository.SchedulerCheckpointRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs a nightly ticket mutator over open tickets in parallel. The id space is cut into aligned, disjoint ranges of
+ * range-size ids; a pool of workers takes ranges from a shared queue and processes each in its own transaction,
+ * which also writes the range's {@link SchedulerCheckpoint}. If the run dies, the next run on the same day skips
+ * the checkpointed ranges (see {@link InterruptedJobResumer}); ranges are aligned to multiples of range-size so
+ * they stay the same across runs even as tickets open and close.
+ * Records fast.scheduler.worker.throughput (rows/s per worker and run, tag job).
+ */
+@Component
+@Slf4j
+public class PartitionedBatchRunner {
+
+    private static final int MAX_RANGE_ATTEMPTS = 3;
+    /** Failed runs per job and day after which {@link InterruptedJobResumer} stops restarting it until tomorrow. */
+    static final int MAX_FAILED_RUNS = 3;
+
+    private final FastProblemRepository problemRepository;
+    private final SchedulerCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int workers;
+    private final int rangeSize;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PartitionedBatchRunner(FastProblemRepository problemRepository,
+                                  SchedulerCheckpointRepository checkpointRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.scheduler.batch.workers:4}") int workers,
+                                  @Value("${app.scheduler.batch.range-size:500}") int rangeSize) {
+        this.problemRepository = problemRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.workers = Math.max(1, workers);
+        this.rangeSize = Math.max(1, rangeSize);
+    }
+
+    /**
+     * Applies the mutator to all live tickets outside excludedStatuses. The mutator may be called concurrently from
+     * several workers (with disjoint ticket lists) and again for a range retried after a concurrent user edit.
+     */
+    public void run(String job, List<TicketStatus> excludedStatuses, Consumer<List<FastProblem>> mutator) {
+        if (!running.add(job)) {
+            log.warn("{} is already running on this node; not starting it again", job);
+            return;
+        }
+        try {
+            LocalDate runDate = LocalDate.now();
+            Set<Long> done = transactionTemplate.execute(status -> {
+                checkpointRepository.deleteByJobNameBefore(job, runDate);
+                return new HashSet<>(checkpointRepository.findRangeStarts(job, runDate));
+            });
+            Queue<Long> pending = new ConcurrentLinkedQueue<>();
+            int total = 0;
+            long previous = Long.MIN_VALUE;
+            for (Long id : problemRepository.findIdsByStatusNotInAndDeletedFalse(excludedStatuses)) {
+                long start = Math.floorDiv(id, rangeSize) * (long) rangeSize;
+                if (start != previous) {
+                    total++;
+                    if (!done.contains(start)) {
+                        pending.add(start);
+                    }
+                    previous = start;
+                }
+            }
+            if (!done.isEmpty()) {
+                log.info("{}: resuming today's run, {} of {} ranges already done", job, total - pending.size(), total);
+            }
+            try {
+                runWorkers(job, runDate, excludedStatuses, mutator, pending);
+            } catch (RuntimeException e) {
+                recordFailedRun(job, runDate);
+                throw e;
+            }
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository.deleteByJobName(job));
+        } finally {
+            running.remove(job);
+        }
+    }
+
+    /** Whether the job already failed {@value #MAX_FAILED_RUNS} times on the given day. */
+    public boolean hasGivenUp(String job, LocalDate runDate) {
+        return checkpointRepository.countFailedRuns(job, runDate) >= MAX_FAILED_RUNS;
+    }
+
+    /** Adds the failed-run marker; the run's own exception is what the caller sees, so this one only logs. */
+    private void recordFailedRun(String job, LocalDate runDate) {
+        try {
+            Long failures = transactionTemplate.execute(status -> {
+                long failure = checkpointRepository.countFailedRuns(job, runDate) + 1;
+                checkpointRepository.save(SchedulerCheckpoint.builder()
+                        .jobName(job)
+                        .runDate(runDate)
+                        .rangeStart(-failure)
+                        .rangeEnd(-failure)
+                        .rowsProcessed(0)
+                        .completedAt(LocalDateTime.now())
+                        .build());
+                return failure;
+            });
+            if (failures != null && failures >= MAX_FAILED_RUNS) {
+                log.error("{} failed {} times today; it will not be resumed again before tomorrow's run", job, failures);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not record the failed {} run: {}", job, e.getMessage());
+        }
+    }
+
+    private void runWorkers(String job, LocalDate runDate, List<TicketStatus> excludedStatuses,
+                            Consumer<List<FastProblem>> mutator, Queue<Long> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        int poolSize = Math.min(workers, pending.size());
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(poolSize,
+                runnable -> new Thread(runnable, job + "-worker-" + threadNumber.incrementAndGet()));
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int w = 1; w <= poolSize; w++) {
+                int worker = w;
+                futures.add(pool.submit(() -> {
+                    long startNanos = System.nanoTime();
+                    int ranges = 0;
+                    int rows = 0;
+                    try {
+                        Long rangeStart;
+                        while (!failed.get() && (rangeStart = pending.poll()) != null) {
+                            rows += processRangeWithRetry(job, runDate, excludedStatuses, mutator, rangeStart);
+                            ranges++;
+                        }
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    } finally {
+                        recordWorker(job, worker, ranges, rows, System.nanoTime() - startNanos);
+                    }
+                }));
+            }
+            RuntimeException failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failed.set(true);
+                    failure = new IllegalStateException(job + " interrupted", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * A range that collides with a concurrent user edit (optimistic locking failure) is re-read and re-applied; the
+     * mutators only recompute derived fields, so replaying them on fresh state is safe.
+     */
+    private int processRangeWithRetry(String job, LocalDate runDate, List<TicketStatus> excludedStatuses,
+                                      Consumer<List<FastProblem>> mutator, long rangeStart) {
+        long rangeEnd = rangeStart + rangeSize - 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer rows = transactionTemplate.execute(status -> {
+                    List<FastProblem> tickets = problemRepository.findByStatusNotInAndDeletedFalseAndIdBetween(
+                            excludedStatuses, rangeStart, rangeEnd);
+                    if (!tickets.isEmpty()) {
+                        mutator.accept(tickets);
+                        problemRepository.saveAll(tickets);
+                    }
+                    checkpointRepository.save(SchedulerCheckpoint.builder()
+                            .jobName(job)
+                            .runDate(runDate)
+                            .rangeStart(rangeStart)
+                            .rangeEnd(rangeEnd)
+                            .rowsProcessed(tickets.size())
+                            .completedAt(LocalDateTime.now())
+                            .build());
+                    problemRepository.flush();
+                    entityManager.clear();
+                    return tickets.size();
+                });
+                return rows != null ? rows : 0;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_RANGE_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("{}: range {}-{} hit a concurrent ticket update, retrying (attempt {}/{})",
+                        job, rangeStart, rangeEnd, attempt + 1, MAX_RANGE_ATTEMPTS);
+            }
+        }
+    }
+
+    private void recordWorker(String job, int worker, int ranges, int rows, long nanos) {
+        double seconds = nanos / 1e9;
+        double rowsPerSecond = seconds > 0 ? rows / seconds : 0;
+        DistributionSummary.builder("fast.scheduler.worker.throughput")
+                .description("Rows processed per second by one batch worker during one run")
+                .baseUnit("rows/s")
+                .tag("job", job)
+                .register(meterRegistry)
+                .record(rowsPerSecond);
+        log.info("{} worker {}: {} ranges, {} rows in {} ms ({} rows/s)",
+                job, worker, ranges, rows, Math.round(seconds * 1000), Math.round(rowsPerSecond));
+    }
+}
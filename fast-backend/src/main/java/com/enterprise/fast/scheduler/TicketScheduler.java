@@ -5,21 +5,22 @@ import com.enterprise.fast.domain.enums.Classification;
 import com.enterprise.fast.domain.enums.RagStatus;
 import com.enterprise.fast.domain.enums.TicketStatus;
 import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.service.ArchiveSegmentService;
+import com.enterprise.fast.service.AuditRetentionService;
+import com.enterprise.fast.service.TicketArchiveService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.support.TransactionTemplate;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
 
 @Component
 @RequiredArgsConstructor
@@ -27,25 +28,30 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class TicketScheduler {
 
     private final FastProblemRepository problemRepository;
-    private final TransactionTemplate transactionTemplate;
-
-    @PersistenceContext
-    private EntityManager entityManager;
+    private final PartitionedBatchRunner batchRunner;
+    private final TicketArchiveService archiveService;
+    private final ArchiveSegmentService segmentService;
+    private final AuditRetentionService auditRetentionService;
+    private final MeterRegistry meterRegistry;
 
     private static final List<TicketStatus> CLOSED_STATUSES = List.of(
             TicketStatus.RESOLVED, TicketStatus.CLOSED, TicketStatus.REJECTED, TicketStatus.ARCHIVED
     );
-    private static final int BATCH_SIZE = 500;
 
     /**
      * Daily at 2:00 AM - Update ticket ages for all open tickets
      */
     @Scheduled(cron = "0 0 2 * * *")
+    @ClusterLock(name = "updateTicketAges")
     public void updateTicketAges() {
+        runJob("updateTicketAges", this::doUpdateTicketAges);
+    }
+
+    private int doUpdateTicketAges() {
         log.info("Starting daily ticket age update...");
 
         AtomicInteger updated = new AtomicInteger(0);
-        processOpenTicketsInBatches((tickets) -> {
+        batchRunner.run("updateTicketAges", CLOSED_STATUSES, tickets -> {
             for (FastProblem ticket : tickets) {
                 if (ticket.getCreatedDate() != null) {
                     int ageDays = (int) ChronoUnit.DAYS.between(ticket.getCreatedDate(), LocalDateTime.now());
@@ -55,17 +61,23 @@ public class TicketScheduler {
             }
         });
         log.info("Updated ages for {} tickets", updated.get());
+        return updated.get();
     }
 
     /**
      * Daily at 2:05 AM - Set RAG status for open tickets: G = age ≤15, A = 15<age≤20, R = >20
      */
     @Scheduled(cron = "0 5 2 * * *")
+    @ClusterLock(name = "updateRagStatus")
     public void updateRagStatus() {
+        runJob("updateRagStatus", this::doUpdateRagStatus);
+    }
+
+    private int doUpdateRagStatus() {
         log.info("Starting daily RAG status update...");
 
         AtomicInteger updated = new AtomicInteger(0);
-        processOpenTicketsInBatches((tickets) -> {
+        batchRunner.run("updateRagStatus", CLOSED_STATUSES, tickets -> {
             for (FastProblem ticket : tickets) {
                 int age = ticket.getTicketAgeDays() != null ? ticket.getTicketAgeDays() : 0;
                 RagStatus newRag;
@@ -83,17 +95,23 @@ public class TicketScheduler {
             }
         });
         log.info("Updated RAG status for {} tickets", updated.get());
+        return updated.get();
     }
 
     /**
      * Daily at 2:15 AM - Apply A/R/P classification based on ticket age
      */
     @Scheduled(cron = "0 15 2 * * *")
+    @ClusterLock(name = "updateClassifications")
     public void updateClassifications() {
+        runJob("updateClassifications", this::doUpdateClassifications);
+    }
+
+    private int doUpdateClassifications() {
         log.info("Starting daily classification update...");
 
         AtomicInteger updated = new AtomicInteger(0);
-        processOpenTicketsInBatches((tickets) -> {
+        batchRunner.run("updateClassifications", CLOSED_STATUSES, tickets -> {
             for (FastProblem ticket : tickets) {
                 Classification newClassification;
                 if (ticket.getTicketAgeDays() >= 20) {
@@ -111,13 +129,19 @@ public class TicketScheduler {
             }
         });
         log.info("Updated classifications for {} tickets", updated.get());
+        return updated.get();
     }
 
     /**
      * Daily at 8:00 AM - Log escalation alerts for RAG Amber and Red (and legacy Classification R/P)
      */
     @Scheduled(cron = "0 0 8 * * *")
+    @ClusterLock(name = "sendEscalationNotifications")
     public void sendEscalationNotifications() {
+        runJob("sendEscalationNotifications", this::doSendEscalationNotifications);
+    }
+
+    private int doSendEscalationNotifications() {
         log.info("Starting daily escalation check...");
 
         long ragAmberCount = problemRepository.countByStatusNotInAndDeletedFalseAndRagStatus(CLOSED_STATUSES, RagStatus.A);
@@ -132,49 +156,64 @@ public class TicketScheduler {
         }
 
         log.info("Escalation check complete. RAG Amber: {}, RAG Red: {}", ragAmberCount, ragRedCount);
+        return (int) (ragAmberCount + ragRedCount);
     }
 
     /**
-     * Daily at 2:20 AM - Archive CLOSED tickets that have been closed for 7+ days.
+     * Daily at 2:20 AM - Move CLOSED tickets that have been closed for 7+ days (and tickets archived by hand) with
+     * their children to the archive tables, in chunks.
      */
     @Scheduled(cron = "0 20 2 * * *")
+    @ClusterLock(name = "archiveClosedTickets")
     public void archiveClosedTickets() {
+        runJob("archiveClosedTickets", this::doArchiveClosedTickets);
+    }
+
+    private int doArchiveClosedTickets() {
         log.info("Starting archive of closed tickets (7+ days)...");
-        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
-        List<FastProblem> toArchive = problemRepository.findClosedForArchive(TicketStatus.CLOSED, cutoff);
-        for (FastProblem ticket : toArchive) {
-            ticket.setArchived(true);
-            ticket.setStatus(TicketStatus.ARCHIVED);
-        }
-        if (!toArchive.isEmpty()) {
-            problemRepository.saveAll(toArchive);
-            log.info("Archived {} closed tickets", toArchive.size());
+        int archived = archiveService.archiveClosedTickets(LocalDateTime.now().minusDays(7));
+        if (archived > 0) {
+            log.info("Archived {} closed tickets", archived);
         } else {
             log.info("No closed tickets to archive");
         }
+        return archived;
     }
 
-    private void processOpenTicketsInBatches(java.util.function.Consumer<List<FastProblem>> mutator) {
-        int page = 0;
-        boolean hasNext;
-        do {
-            int currentPage = page;
-            hasNext = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
-                Page<FastProblem> batch = problemRepository.findByStatusNotInAndDeletedFalse(
-                        CLOSED_STATUSES,
-                        PageRequest.of(currentPage, BATCH_SIZE, Sort.by("id"))
-                );
-                if (batch.isEmpty()) {
-                    return false;
-                }
-                List<FastProblem> tickets = batch.getContent();
-                mutator.accept(tickets);
-                problemRepository.saveAll(tickets);
-                problemRepository.flush();
-                entityManager.clear();
-                return batch.hasNext();
-            }));
-            page++;
-        } while (hasNext);
+    /**
+     * Daily at 2:40 AM - Write archived tickets past the database retention (app.archive.segments.db-retention-months)
+     * to compressed monthly segment files and drop them from the archive tables. No-op unless
+     * app.archive.segments.enabled is set.
+     */
+    @Scheduled(cron = "0 40 2 * * *")
+    @ClusterLock(name = "sealArchiveSegments")
+    public void sealArchiveSegments() {
+        runJob("sealArchiveSegments", segmentService::sealArchivedTickets);
+    }
+
+    /**
+     * Daily at 2:50 AM - Remove audit_log months older than app.audit.retention-months (dropping whole partitions on
+     * Oracle). No-op while the retention is 0.
+     */
+    @Scheduled(cron = "0 50 2 * * *")
+    @ClusterLock(name = "purgeAuditLog")
+    public void purgeAuditLog() {
+        runJob("purgeAuditLog", auditRetentionService::purgeExpiredEntries);
+    }
+
+    /**
+     * Runs a job body and records fast.scheduler.job (duration, tagged job and outcome) and
+     * fast.scheduler.rows (rows changed or flagged per run, tagged job).
+     */
+    private void runJob(String job, IntSupplier body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            int rows = body.getAsInt();
+            DistributionSummary.builder("fast.scheduler.rows").tag("job", job).register(meterRegistry).record(rows);
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("fast.scheduler.job").tag("job", job).tag("outcome", outcome).register(meterRegistry));
+        }
     }
 }
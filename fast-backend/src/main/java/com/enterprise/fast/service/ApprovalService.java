@@ -2,6 +2,8 @@ package com.enterprise.fast.service;
 
 import com.enterprise.fast.dto.request.ApprovalRequest;
 import com.enterprise.fast.dto.response.ApprovalResponse;
+import com.enterprise.fast.dto.response.BulkOperationResponse;
+import com.enterprise.fast.dto.response.PagedResponse;
 
 import java.util.List;
 
@@ -13,7 +15,13 @@ public interface ApprovalService {
 
     ApprovalResponse reject(Long approvalId, ApprovalRequest request, String username);
 
+    BulkOperationResponse bulkApprove(List<Long> approvalIds, String comments, String username);
+
+    BulkOperationResponse bulkReject(List<Long> approvalIds, String comments, String username);
+
     List<ApprovalResponse> getPendingApprovals(String reviewerName);
 
+    PagedResponse<ApprovalResponse> getPendingApprovals(String reviewerName, int page, int size);
+
     List<ApprovalResponse> getApprovalHistory(Long problemId);
 }
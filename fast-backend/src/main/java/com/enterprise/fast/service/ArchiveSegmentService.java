@@ -0,0 +1,37 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.dto.response.ArchiveSegmentResponse;
+import com.enterprise.fast.dto.response.ArchivedTicketResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Long-term retention outside the database: archived tickets older than the database retention are written, with
+ * comments and audit trail, to immutable compressed segment files (one or more per month) and removed from the
+ * archive tables. Lookups and exports read the segments directly.
+ */
+public interface ArchiveSegmentService {
+
+    /**
+     * Seals every month whose tickets are past the database retention into new segment files.
+     *
+     * @return number of tickets written to segments
+     */
+    int sealArchivedTickets();
+
+    Optional<ArchivedTicketResponse> findTicket(Long id);
+
+    List<ArchiveSegmentResponse> getSegments();
+
+    /**
+     * Writes the archived tickets whose closed date is within [from, to] (either bound may be null) as JSON lines,
+     * one {@link ArchivedTicketResponse} per line.
+     *
+     * @return number of tickets written
+     */
+    long export(LocalDate from, LocalDate to, OutputStream out) throws IOException;
+}
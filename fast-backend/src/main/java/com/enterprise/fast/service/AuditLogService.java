@@ -1,15 +1,34 @@
 package com.enterprise.fast.service;
 
 import com.enterprise.fast.domain.entity.AuditLog;
+import com.enterprise.fast.dto.response.KeysetPageResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface AuditLogService {
 
     void logAction(Long problemId, String action, String performedBy,
                    String fieldChanged, String oldValue, String newValue);
 
+    /** Persists prepared entries in one batch (bulk operations); each entry must reference its ticket. */
+    void logActions(List<AuditLog> entries);
+
+    /**
+     * One entry per ticket (ticket id to its new value) written as one batch; the tickets are looked up inside the
+     * write transaction, so callers outside a transaction pass ids only. Unknown ids are skipped.
+     */
+    void logActionPerTicket(Map<Long, String> newValueByProblemId, String action, String performedBy,
+                            String fieldChanged, String oldValue);
+
     List<AuditLog> getAuditTrail(Long problemId);
 
+    /** A ticket's audit trail newest first, one page at a time; cursor is the previous page's nextCursor. */
+    KeysetPageResponse<AuditLog> getAuditTrailPage(Long problemId, String cursor, int limit);
+
     List<AuditLog> getRecentAuditEntries(int limit);
+
+    /** All entries with a timestamp in [from, to) newest first, one page at a time. */
+    KeysetPageResponse<AuditLog> getEntries(LocalDateTime from, LocalDateTime to, String cursor, int limit);
 }
@@ -0,0 +1,15 @@
+package com.enterprise.fast.service;
+
+/**
+ * Enforces the audit_log retention (app.audit.retention-months) by removing whole expired months: one partition drop
+ * per month on partitioned Oracle tables, chunked deletes otherwise.
+ */
+public interface AuditRetentionService {
+
+    /**
+     * Removes every audit month that ended more than the retention ago. No-op when the retention is 0 (keep forever).
+     *
+     * @return number of audit entries removed
+     */
+    int purgeExpiredEntries();
+}
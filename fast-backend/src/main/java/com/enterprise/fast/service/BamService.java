@@ -2,6 +2,9 @@ package com.enterprise.fast.service;
 
 import com.enterprise.fast.dto.response.AdUserResponse;
 import com.enterprise.fast.dto.response.BamAuthResponse;
+import com.enterprise.fast.dto.response.ProfilePhotoResponse;
+
+import java.util.Optional;
 
 /**
  * Service for BAM SSO authentication
@@ -31,4 +34,12 @@ public interface BamService {
      * @return Structured AD user with profilePhotoUrl
      */
     AdUserResponse getAdUserDetails();
+
+    /**
+     * Get a profile photo from the phonebook (cached by employee id).
+     *
+     * @param employeeId Employee id (brid)
+     * @return Photo, or empty when the phonebook is not configured or has no photo for the id
+     */
+    Optional<ProfilePhotoResponse> getProfilePhoto(String employeeId);
 }
@@ -1,5 +1,6 @@
 package com.enterprise.fast.service;
 
+import com.enterprise.fast.dto.response.CommentaryComplianceResponse;
 import com.enterprise.fast.dto.response.DashboardMetricsResponse;
 import com.enterprise.fast.dto.response.FastProblemResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
@@ -27,6 +28,9 @@ public interface DashboardService {
     /** In Progress tickets with no comment in the last 24 hours (daily commentary required). */
     List<FastProblemResponse> getInProgressWithoutRecentComment();
 
+    /** Daily-commentary compliance per assignee of In Progress tickets, most overdue first. */
+    List<CommentaryComplianceResponse> getCommentaryComplianceByAssignee();
+
     /** Top 10 open tickets by impact (RAG R first, then A, then priority/age/impact). Optional region filter for Finance Daily Production. */
     List<FastProblemResponse> getTop10(String region);
 
@@ -0,0 +1,27 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.dto.response.DuplicateCandidateResponse;
+
+import java.util.List;
+
+/**
+ * In-memory MinHash/LSH index over the title and description of open tickets, for spotting the same problem raised
+ * twice (typically from different regions) without scanning description CLOBs. Built at startup, patched after
+ * commit by the ticket write paths ({@link #update(FastProblem)}), and rebuilt periodically so tickets written on
+ * other instances or by bulk jobs become visible.
+ */
+public interface DuplicateTicketIndex {
+
+    /**
+     * Open tickets whose text is at least {@code app.duplicates.similarity-threshold} similar, most similar first.
+     * The ticket with {@code excludeId} (the one being edited, may be null) is left out.
+     */
+    List<DuplicateCandidateResponse> findCandidates(String title, String description, Long excludeId);
+
+    /** Indexes the ticket's current text and status once the surrounding transaction commits; closed or deleted tickets are dropped. */
+    void update(FastProblem problem);
+
+    /** Reloads the whole index from the database. */
+    void rebuild();
+}
@@ -2,6 +2,8 @@ package com.enterprise.fast.service;
 
 import com.enterprise.fast.dto.request.CreateFastProblemRequest;
 import com.enterprise.fast.dto.request.UpdateFastProblemRequest;
+import com.enterprise.fast.dto.response.BulkOperationResponse;
+import com.enterprise.fast.dto.response.DuplicateCandidateResponse;
 import com.enterprise.fast.dto.response.FastProblemResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
 
@@ -9,10 +11,27 @@ import java.util.List;
 
 public interface FastProblemService {
 
+    /** Creates the ticket; the response lists open tickets that look like the same problem (possibleDuplicates). */
     FastProblemResponse create(CreateFastProblemRequest request, String username);
 
+    /** Open tickets whose title and description closely match, most similar first (pre-create check). */
+    List<DuplicateCandidateResponse> findDuplicateCandidates(String title, String description);
+
     FastProblemResponse getById(Long id);
 
+    /** Current version of a live ticket, without loading it. Throws ResourceNotFoundException if missing or deleted. */
+    long getVersion(Long id);
+
+    /**
+     * Opaque stamp that changes whenever any ticket is created or updated; used for list ETags. Renaming an application
+     * or user group shown in list rows does not change it, so such edits show in cached lists once a ticket changes.
+     * For the ARCHIVED view ({@code status} "ARCHIVED") the stamp also covers fast_problem_archive, which that view
+     * reads and which sealing archived months into segments shrinks without touching fast_problem.
+     *
+     * @param status status filter of the list, or null
+     */
+    String getCollectionVersion(String status);
+
     PagedResponse<FastProblemResponse> getAll(int page, int size, String sortBy, String direction);
 
     PagedResponse<FastProblemResponse> getByRegion(String regionCode, int page, int size);
@@ -34,17 +53,41 @@ public interface FastProblemService {
 
     FastProblemResponse update(Long id, UpdateFastProblemRequest request, String username);
 
+    /**
+     * Update guarded by optimistic concurrency: when expectedVersion is non-null and differs from the current
+     * version a VersionConflictException is thrown; concurrent commits surface as an optimistic locking failure.
+     */
+    FastProblemResponse update(Long id, UpdateFastProblemRequest request, String username, Long expectedVersion);
+
     /** Update only the BTB Tech Lead field (username or null/empty to clear). */
     FastProblemResponse updateBtbTechLead(Long id, String btbTechLeadUsername, String username);
 
+    FastProblemResponse updateBtbTechLead(Long id, String btbTechLeadUsername, String username, Long expectedVersion);
+
     FastProblemResponse updateStatus(Long id, String newStatus, String username);
 
+    FastProblemResponse updateStatus(Long id, String newStatus, String username, Long expectedVersion);
+
     void softDelete(Long id, String username);
 
+    /**
+     * Bulk status transition with the same rules as {@link #updateStatus}. Runs in chunked transactions and
+     * reports success or failure per ticket; one invalid ticket does not block the rest.
+     */
+    BulkOperationResponse bulkUpdateStatus(List<Long> ids, String newStatus, String username);
+
+    /** Bulk assignee / assignment group change; null leaves a field unchanged, blank clears it. */
+    BulkOperationResponse bulkAssign(List<Long> ids, String assignedTo, String assignmentGroup, String username);
+
+    /** Bulk replace of regions and/or impacted user groups; null leaves that tag set unchanged. */
+    BulkOperationResponse bulkTag(List<Long> ids, List<String> regionalCodes, List<Long> impactedUserGroupIds, String username);
+
     FastProblemResponse addProperty(Long problemId, String key, String value);
 
     FastProblemResponse updateProperty(Long problemId, String key, String value);
 
+    FastProblemResponse updateProperty(Long problemId, String key, String value, Long expectedVersion);
+
     void deleteProperty(Long problemId, String key);
 
     FastProblemResponse addLink(Long problemId, String label, String url);
@@ -0,0 +1,39 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.KnowledgeArticle;
+import com.enterprise.fast.domain.enums.ArticleStatus;
+import com.enterprise.fast.dto.response.ArticleRecommendationResponse;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory BM25 index over knowledge article title, root cause, workaround, permanent fix and category, for
+ * recommending past fixes while a ticket is investigated and for the knowledge base search. Built at startup, patched after commit when an article is
+ * created or edited ({@link #update(KnowledgeArticle)}), and rebuilt periodically for edits made on other instances.
+ */
+public interface KnowledgeArticleIndex {
+
+    /**
+     * The best matching articles for the text, highest score first. The article of {@code excludeProblemId} (the
+     * ticket being looked at, may be null) is left out.
+     */
+    List<ArticleRecommendationResponse> search(String text, Long excludeProblemId, int limit);
+
+    /**
+     * Articles matching any term of the text and the optional category (case-insensitive) and status filters, highest
+     * score first, from {@code offset}; plus the total and the category and status facets over all matches.
+     */
+    SearchPage facetedSearch(String text, String category, ArticleStatus status, int offset, int limit);
+
+    /** Indexes the article's current text once the surrounding transaction commits. */
+    void update(KnowledgeArticle article);
+
+    /** Reloads the whole index from the database. */
+    void rebuild();
+
+    /** A page of {@link #facetedSearch} hits; facet maps are ordered by count, highest first. */
+    record SearchPage(List<ArticleRecommendationResponse> hits, long total,
+                      Map<String, Long> categories, Map<String, Long> statuses) {
+    }
+}
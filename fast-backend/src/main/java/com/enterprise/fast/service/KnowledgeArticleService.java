@@ -1,8 +1,12 @@
 package com.enterprise.fast.service;
 
+import com.enterprise.fast.dto.response.ArticleRecommendationResponse;
 import com.enterprise.fast.dto.response.KnowledgeArticleResponse;
+import com.enterprise.fast.dto.response.KnowledgeSearchResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
 
+import java.util.List;
+
 public interface KnowledgeArticleService {
 
     KnowledgeArticleResponse getById(Long id);
@@ -15,4 +19,16 @@ public interface KnowledgeArticleService {
                                      String permanentFix, String category);
 
     void createFromResolvedProblem(Long problemId);
+
+    /** Articles most relevant to the ticket's title, description, root cause and workaround; its own article is left out. */
+    List<ArticleRecommendationResponse> recommendForProblem(Long problemId, int limit);
+
+    /** Articles most relevant to free text, e.g. a ticket that is still being written. */
+    List<ArticleRecommendationResponse> recommend(String text, int limit);
+
+    /**
+     * Full-text search over title, root cause, workaround and permanent fix, ranked with title matches first, optionally
+     * narrowed to a category and status (e.g. PUBLISHED), with facet counts and highlighted fragments.
+     */
+    KnowledgeSearchResponse search(String query, String category, String status, int page, int size);
 }
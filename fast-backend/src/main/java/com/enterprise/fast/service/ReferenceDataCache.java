@@ -0,0 +1,49 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.UserGroup;
+import com.enterprise.fast.domain.enums.UserRole;
+import com.enterprise.fast.dto.response.CacheStatsResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory copy of the small, rarely changing reference tables (applications, user groups) and of user lookups by
+ * username. Entities handed out are detached copies: they can be linked from a managed ticket, never modified.
+ * Code that writes these tables must call the matching evict method; eviction happens once the surrounding
+ * transaction completes so other requests cannot re-cache uncommitted rows.
+ */
+public interface ReferenceDataCache {
+
+    /** All applications ordered by name. */
+    List<Application> getApplications();
+
+    /** Applications with the given ids in request order; unknown ids are skipped (same contract as findAllById). */
+    List<Application> getApplications(Collection<Long> ids);
+
+    /** All user groups (active and inactive) ordered by name. */
+    List<UserGroup> getUserGroups();
+
+    /** User groups with the given ids in request order; unknown ids are skipped. */
+    List<UserGroup> getUserGroups(Collection<Long> ids);
+
+    /** Case-insensitive username lookup; unknown usernames are cached too. */
+    Optional<CachedUser> findUser(String username);
+
+    void evictApplications();
+
+    void evictUserGroups();
+
+    void evictUser(String username);
+
+    void evictAll();
+
+    List<CacheStatsResponse> getStats();
+
+    /** The user columns needed for authentication and ticket rules; the application links are not cached. */
+    record CachedUser(Long id, String username, String email, String fullName, UserRole role, String region,
+                      boolean active) {
+    }
+}
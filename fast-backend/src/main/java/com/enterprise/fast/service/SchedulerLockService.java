@@ -0,0 +1,39 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.dto.response.SchedulerLockResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lease-based locks in the scheduler_lock table so each scheduled job runs on one node at a time. Every call runs in
+ * its own short transaction, independent of any transaction the job itself opens.
+ */
+public interface SchedulerLockService {
+
+    /**
+     * Take the lock if it is free or its lease has expired.
+     *
+     * @return true when this node now holds the lock for the given lease
+     */
+    boolean tryAcquire(String name, Duration lease);
+
+    /**
+     * Heartbeat: push the lease of a lock this node holds forward.
+     *
+     * @return false when the lease had already expired or another node took over
+     */
+    boolean extend(String name, Duration lease);
+
+    /**
+     * Record the finished run and free the lock, keeping it held until startedAt + minHold so nodes whose trigger
+     * fires slightly later (clock skew) do not run the same job again.
+     */
+    void release(String name, LocalDateTime startedAt, Duration minHold, String outcome);
+
+    /** Identifier of this node as written to locked_by. */
+    String getNodeId();
+
+    List<SchedulerLockResponse> getLocks();
+}
@@ -0,0 +1,18 @@
+package com.enterprise.fast.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moves archived tickets out of the hot tables into fast_problem_archive and its *_archive child tables. Archived
+ * tickets are read back through {@code FastProblemArchiveRepository}.
+ */
+public interface TicketArchiveService {
+
+    /**
+     * Moves tickets already ARCHIVED and CLOSED tickets closed on or before the cutoff to the archive, one chunk per
+     * transaction. Without the archive tables the CLOSED tickets are only marked ARCHIVED in place.
+     *
+     * @return number of tickets archived
+     */
+    int archiveClosedTickets(LocalDateTime cutoff);
+}
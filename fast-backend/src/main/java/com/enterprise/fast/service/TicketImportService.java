@@ -0,0 +1,21 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.dto.response.TicketImportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bulk creation of tickets from CSV. Columns are matched by header name (case and separators ignored);
+ * multi-valued cells (regions, applications, impacted user groups) are separated by ';'.
+ */
+public interface TicketImportService {
+
+    /**
+     * Validates every row and, unless dryRun, inserts the valid ones.
+     *
+     * @param skipInvalid when false, a commit is refused (nothing inserted) if any row is invalid
+     * @throws IllegalArgumentException if the file has no title column or exceeds the row limit
+     */
+    TicketImportResponse importCsv(InputStream csv, boolean dryRun, boolean skipInvalid, String username) throws IOException;
+}
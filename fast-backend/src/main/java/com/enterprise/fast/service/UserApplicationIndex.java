@@ -0,0 +1,32 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.User;
+import com.enterprise.fast.domain.enums.UserRole;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory user to application membership (user_application) with the reverse application to users mapping, for
+ * authorization and recipient checks that would otherwise join the link tables on every request. Built at startup,
+ * patched after commit by code that edits a user's links, role or active flag ({@link #update(User)}), and rebuilt
+ * periodically so edits made on other instances become visible.
+ */
+public interface UserApplicationIndex {
+
+    /** Application ids linked to the user; empty for unknown users. */
+    Set<Long> getApplicationIds(Long userId);
+
+    /** Whether the user is linked to at least one of the applications. */
+    boolean sharesApplication(Long userId, Collection<Long> applicationIds);
+
+    /** Active users with the role linked to at least one of the applications, ascending by id. */
+    List<Long> findActiveUserIds(UserRole role, Collection<Long> applicationIds);
+
+    /** Records the user's current links, role and active flag once the surrounding transaction commits. */
+    void update(User user);
+
+    /** Reloads the whole index from the database. */
+    void rebuild();
+}
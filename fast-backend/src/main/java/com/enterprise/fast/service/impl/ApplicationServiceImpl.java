@@ -6,6 +6,7 @@ import com.enterprise.fast.dto.response.ApplicationResponse;
 import com.enterprise.fast.exception.ResourceNotFoundException;
 import com.enterprise.fast.repository.ApplicationRepository;
 import com.enterprise.fast.service.ApplicationService;
+import com.enterprise.fast.service.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +19,7 @@ import java.util.stream.Collectors;
 public class ApplicationServiceImpl implements ApplicationService {
 
     private final ApplicationRepository applicationRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     private static ApplicationResponse toResponse(Application app) {
         return ApplicationResponse.builder()
@@ -31,9 +33,8 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ApplicationResponse> findAll() {
-        return applicationRepository.findAllByOrderByNameAsc().stream()
+        return referenceDataCache.getApplications().stream()
                 .map(ApplicationServiceImpl::toResponse)
                 .collect(Collectors.toList());
     }
@@ -57,6 +58,7 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .code(request.getCode() != null ? request.getCode().trim() : null)
                 .description(request.getDescription() != null ? request.getDescription().trim() : null)
                 .build();
+        referenceDataCache.evictApplications();
         return toResponse(applicationRepository.save(app));
     }
 
@@ -68,6 +70,7 @@ public class ApplicationServiceImpl implements ApplicationService {
         app.setName(request.getName().trim());
         app.setCode(request.getCode() != null ? request.getCode().trim() : null);
         app.setDescription(request.getDescription() != null ? request.getDescription().trim() : null);
+        referenceDataCache.evictApplications();
         return toResponse(applicationRepository.save(app));
     }
 
@@ -78,5 +81,6 @@ public class ApplicationServiceImpl implements ApplicationService {
             throw new ResourceNotFoundException("Application", "id", id);
         }
         applicationRepository.deleteById(id);
+        referenceDataCache.evictApplications();
     }
 }
@@ -2,6 +2,7 @@ package com.enterprise.fast.service.impl;
 
 import com.enterprise.fast.domain.entity.Application;
 import com.enterprise.fast.domain.entity.ApprovalRecord;
+import com.enterprise.fast.domain.entity.AuditLog;
 import com.enterprise.fast.domain.entity.FastProblem;
 import com.enterprise.fast.domain.entity.User;
 import com.enterprise.fast.domain.enums.ApprovalDecision;
@@ -9,6 +10,8 @@ import com.enterprise.fast.domain.enums.TicketStatus;
 import com.enterprise.fast.domain.enums.UserRole;
 import com.enterprise.fast.dto.request.ApprovalRequest;
 import com.enterprise.fast.dto.response.ApprovalResponse;
+import com.enterprise.fast.dto.response.BulkOperationResponse;
+import com.enterprise.fast.dto.response.PagedResponse;
 import com.enterprise.fast.exception.ResourceNotFoundException;
 import com.enterprise.fast.mapper.FastProblemMapper;
 import com.enterprise.fast.repository.ApprovalRecordRepository;
@@ -16,14 +19,24 @@ import com.enterprise.fast.repository.FastProblemRepository;
 import com.enterprise.fast.repository.UserRepository;
 import com.enterprise.fast.service.ApprovalService;
 import com.enterprise.fast.service.AuditLogService;
+import com.enterprise.fast.service.DuplicateTicketIndex;
+import com.enterprise.fast.service.UserApplicationIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -36,6 +49,8 @@ public class ApprovalServiceImpl implements ApprovalService {
     private final UserRepository userRepository;
     private final FastProblemMapper mapper;
     private final AuditLogService auditLogService;
+    private final UserApplicationIndex userApplicationIndex;
+    private final DuplicateTicketIndex duplicateIndex;
 
     @Override
     @Transactional
@@ -59,6 +74,7 @@ public class ApprovalServiceImpl implements ApprovalService {
         );
 
         List<ApprovalRecord> saved = approvalRepository.saveAll(records);
+        problem.touch();
 
         auditLogService.logAction(problemId, "SUBMITTED_FOR_APPROVAL", username, null, null, null);
 
@@ -75,8 +91,11 @@ public class ApprovalServiceImpl implements ApprovalService {
             throw new IllegalArgumentException("This approval has already been decided");
         }
 
-        User user = userRepository.findByUsernameWithApplicationsIgnoreCase(username)
+        User user = userRepository.findByUsernameIgnoreCase(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        if (!holdsSlotRole(user, record)) {
+            throw new AccessDeniedException(slotRoleMessage(record));
+        }
         if (!userCanApproveTicket(user, record.getFastProblem())) {
             throw new AccessDeniedException("You are not associated with any application linked to this ticket");
         }
@@ -85,9 +104,10 @@ public class ApprovalServiceImpl implements ApprovalService {
         record.setComments(request.getComments());
         record.setDecisionDate(LocalDateTime.now());
         record.setReviewerName(username);
-        record.setReviewerEmail(userRepository.findByUsernameIgnoreCase(username).map(User::getEmail).orElse(null));
+        record.setReviewerEmail(user.getEmail());
 
         ApprovalRecord saved = approvalRepository.save(record);
+        record.getFastProblem().touch();
 
         // Move to ACCEPTED automatically when ALL approvals (Reviewer, Approver, RTB Owner) are done
         FastProblem problem = record.getFastProblem();
@@ -97,6 +117,7 @@ public class ApprovalServiceImpl implements ApprovalService {
             if (approvedCount == totalForProblem && totalForProblem >= 3) {
                 problem.setStatus(TicketStatus.ACCEPTED);
                 problemRepository.save(problem);
+                duplicateIndex.update(problem);
                 auditLogService.logAction(problem.getId(), "STATUS_CHANGED", username, "status", "BACKLOG", "ACCEPTED");
             }
         }
@@ -116,8 +137,11 @@ public class ApprovalServiceImpl implements ApprovalService {
             throw new IllegalArgumentException("This approval has already been decided");
         }
 
-        User user = userRepository.findByUsernameWithApplicationsIgnoreCase(username)
+        User user = userRepository.findByUsernameIgnoreCase(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        if (!holdsSlotRole(user, record)) {
+            throw new AccessDeniedException(slotRoleMessage(record));
+        }
         if (!userCanApproveTicket(user, record.getFastProblem())) {
             throw new AccessDeniedException("You are not associated with any application linked to this ticket");
         }
@@ -126,15 +150,18 @@ public class ApprovalServiceImpl implements ApprovalService {
         record.setComments(request.getComments());
         record.setDecisionDate(LocalDateTime.now());
         record.setReviewerName(username);
-        record.setReviewerEmail(userRepository.findByUsernameIgnoreCase(username).map(User::getEmail).orElse(null));
+        record.setReviewerEmail(user.getEmail());
 
         ApprovalRecord saved = approvalRepository.save(record);
+        record.getFastProblem().touch();
 
         // Any one rejection moves the ticket to REJECTED
         FastProblem problem = record.getFastProblem();
         if (problem.getStatus() == TicketStatus.BACKLOG) {
             problem.setStatus(TicketStatus.REJECTED);
             problemRepository.save(problem);
+            // Rejected tickets are no longer duplicate candidates
+            duplicateIndex.update(problem);
             auditLogService.logAction(problem.getId(), "STATUS_CHANGED", username, "status", "BACKLOG", "REJECTED");
         }
 
@@ -143,30 +170,177 @@ public class ApprovalServiceImpl implements ApprovalService {
         return mapper.toApprovalResponse(saved);
     }
 
+    @Override
+    @Transactional
+    public BulkOperationResponse bulkApprove(List<Long> approvalIds, String comments, String username) {
+        return decideAll(approvalIds, ApprovalDecision.APPROVED, comments, username);
+    }
+
+    @Override
+    @Transactional
+    public BulkOperationResponse bulkReject(List<Long> approvalIds, String comments, String username) {
+        return decideAll(approvalIds, ApprovalDecision.REJECTED, comments, username);
+    }
+
+    /**
+     * Same rules as approve/reject, applied to many slots in one transaction: the user is resolved once, records and
+     * tickets are loaded in one query, completion is decided from one grouped count over the affected tickets, and
+     * decisions, status changes and audit rows are written as batches. Slots that cannot be decided are reported
+     * per item and do not stop the others.
+     */
+    private BulkOperationResponse decideAll(List<Long> approvalIds, ApprovalDecision decision, String comments,
+                                            String username) {
+        List<Long> ids = approvalIds == null ? List.of()
+                : approvalIds.stream().filter(Objects::nonNull).distinct().toList();
+        User user = userRepository.findByUsernameIgnoreCase(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        Map<Long, ApprovalRecord> records = ids.isEmpty() ? Map.of()
+                : approvalRepository.findAllWithProblemByIdIn(ids).stream()
+                .collect(Collectors.toMap(ApprovalRecord::getId, r -> r));
+
+        Map<Long, BulkOperationResponse.ItemResult> results = new LinkedHashMap<>();
+        Map<Long, Boolean> allowedByProblem = new HashMap<>();
+        Map<Long, FastProblem> problems = new LinkedHashMap<>();
+        List<ApprovalRecord> decided = new ArrayList<>();
+        List<AuditLog> audit = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : ids) {
+            ApprovalRecord record = records.get(id);
+            if (record == null) {
+                results.put(id, failure(id, "NOT_FOUND", "ApprovalRecord not found with id: " + id));
+                continue;
+            }
+            if (record.getDecision() != ApprovalDecision.PENDING) {
+                results.put(id, failure(id, "INVALID_STATE", "This approval has already been decided"));
+                continue;
+            }
+            if (!holdsSlotRole(user, record)) {
+                results.put(id, failure(id, "FORBIDDEN", slotRoleMessage(record)));
+                continue;
+            }
+            FastProblem problem = record.getFastProblem();
+            if (!allowedByProblem.computeIfAbsent(problem.getId(), k -> userCanApproveTicket(user, problem))) {
+                results.put(id, failure(id, "FORBIDDEN", "You are not associated with any application linked to this ticket"));
+                continue;
+            }
+            record.setDecision(decision);
+            record.setComments(comments);
+            record.setDecisionDate(now);
+            record.setReviewerName(username);
+            record.setReviewerEmail(user.getEmail());
+            decided.add(record);
+            problems.put(problem.getId(), problem);
+            audit.add(auditEntry(problem, decision.name(), username, null, null,
+                    decision == ApprovalDecision.REJECTED ? comments : null));
+            results.put(id, BulkOperationResponse.ItemResult.builder().id(id).success(true).build());
+        }
+
+        if (!decided.isEmpty()) {
+            approvalRepository.saveAllAndFlush(decided);
+            Map<Long, ApprovalRecordRepository.DecisionCounts> counts = decision == ApprovalDecision.APPROVED
+                    ? approvalRepository.countDecisionsByProblemIds(problems.keySet()).stream()
+                    .collect(Collectors.toMap(ApprovalRecordRepository.DecisionCounts::getProblemId, c -> c))
+                    : Map.of();
+            for (FastProblem problem : problems.values()) {
+                problem.touch();
+                if (problem.getStatus() != TicketStatus.BACKLOG) {
+                    continue;
+                }
+                // Any one rejection moves the ticket to REJECTED; ACCEPTED needs all (at least 3) slots approved
+                TicketStatus next = null;
+                if (decision == ApprovalDecision.REJECTED) {
+                    next = TicketStatus.REJECTED;
+                } else {
+                    ApprovalRecordRepository.DecisionCounts c = counts.get(problem.getId());
+                    if (c != null && c.getTotal() >= 3 && c.getApproved().equals(c.getTotal())) {
+                        next = TicketStatus.ACCEPTED;
+                    }
+                }
+                if (next != null) {
+                    problem.setStatus(next);
+                    audit.add(auditEntry(problem, "STATUS_CHANGED", username, "status", "BACKLOG", next.name()));
+                    duplicateIndex.update(problem);
+                }
+            }
+            problemRepository.saveAll(problems.values());
+            auditLogService.logActions(audit);
+        }
+
+        List<BulkOperationResponse.ItemResult> items = new ArrayList<>(results.values());
+        int succeeded = (int) items.stream().filter(BulkOperationResponse.ItemResult::isSuccess).count();
+        return BulkOperationResponse.builder()
+                .requested(ids.size())
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .results(items)
+                .build();
+    }
+
+    private static BulkOperationResponse.ItemResult failure(Long id, String code, String message) {
+        return BulkOperationResponse.ItemResult.builder().id(id).success(false).code(code).message(message).build();
+    }
+
+    private static AuditLog auditEntry(FastProblem problem, String action, String username,
+                                       String field, String oldValue, String newValue) {
+        return AuditLog.builder()
+                .fastProblem(problem)
+                .action(action)
+                .performedBy(username)
+                .fieldChanged(field)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ApprovalResponse> getPendingApprovals(String username) {
-        User user = userRepository.findByUsernameWithApplicationsIgnoreCase(username)
+        return findPending(username, Pageable.unpaged()).getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<ApprovalResponse> getPendingApprovals(String username, int page, int size) {
+        Page<ApprovalResponse> pending = findPending(username, PageRequest.of(page, size));
+        return PagedResponse.<ApprovalResponse>builder()
+                .content(pending.getContent())
+                .page(pending.getNumber())
+                .size(pending.getSize())
+                .totalElements(pending.getTotalElements())
+                .totalPages(pending.getTotalPages())
+                .last(pending.isLast())
+                .build();
+    }
+
+    /**
+     * Approvals the user can decide: ADMIN sees every pending slot; reviewers, approvers and RTB owners see their
+     * role's slots on tickets without applications or sharing one with them (same rule as userCanApproveTicket).
+     */
+    private Page<ApprovalResponse> findPending(String username, Pageable pageable) {
+        User user = userRepository.findByUsernameIgnoreCase(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-        List<ApprovalRecord> pending;
         if (user.getRole() == UserRole.ADMIN) {
-            pending = approvalRepository.findByDecision(ApprovalDecision.PENDING);
-        } else if (user.getRole() == UserRole.REVIEWER || user.getRole() == UserRole.APPROVER || user.getRole() == UserRole.RTB_OWNER) {
-            pending = approvalRepository.findByDecisionAndApprovalRoleIn(ApprovalDecision.PENDING, List.of(user.getRole()));
-        } else {
-            pending = List.of();
-        }
-        // Filter to only approvals for tickets where user is associated with at least one application
-        return pending.stream()
-                .filter(r -> userCanApproveTicket(user, r.getFastProblem()))
-                .map(mapper::toApprovalResponse)
-                .collect(Collectors.toList());
+            return approvalRepository.findPendingResponses(pageable);
+        }
+        if (user.getRole() == UserRole.REVIEWER || user.getRole() == UserRole.APPROVER || user.getRole() == UserRole.RTB_OWNER) {
+            return approvalRepository.findPendingResponsesForUser(user.getRole(), user.getId(), pageable);
+        }
+        return Page.empty(pageable);
+    }
+
+    /** Each slot is decided by its own role (REVIEWER, APPROVER, RTB_OWNER); ADMIN may decide any slot. */
+    private static boolean holdsSlotRole(User user, ApprovalRecord record) {
+        return user.getRole() == UserRole.ADMIN || user.getRole() == record.getApprovalRole();
+    }
+
+    private static String slotRoleMessage(ApprovalRecord record) {
+        return "This approval can only be decided by the " + record.getApprovalRole() + " role";
     }
 
     /**
      * Returns true if the user can perform approval on the ticket.
      * ADMIN can approve any ticket. Otherwise, user must be associated with at least one
-     * application linked to the ticket (via user_application mapping).
+     * application linked to the ticket (checked against the in-memory user_application index).
      */
     private boolean userCanApproveTicket(User user, FastProblem problem) {
         if (user.getRole() == UserRole.ADMIN) {
@@ -176,12 +350,8 @@ public class ApprovalServiceImpl implements ApprovalService {
         if (ticketApps == null || ticketApps.isEmpty()) {
             return true; // no applications on ticket — allow
         }
-        List<Application> userApps = user.getApplications();
-        if (userApps == null || userApps.isEmpty()) {
-            return false;
-        }
         Set<Long> ticketAppIds = ticketApps.stream().map(Application::getId).collect(Collectors.toSet());
-        return userApps.stream().anyMatch(a -> a.getId() != null && ticketAppIds.contains(a.getId()));
+        return userApplicationIndex.sharesApplication(user.getId(), ticketAppIds);
     }
 
     @Override
@@ -0,0 +1,215 @@
+package com.enterprise.fast.service.impl;
+
+import com.enterprise.fast.domain.entity.AuditLog;
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.dto.response.ArchiveSegmentResponse;
+import com.enterprise.fast.dto.response.ArchivedTicketResponse;
+import com.enterprise.fast.dto.response.AuditEntryResponse;
+import com.enterprise.fast.mapper.FastProblemMapper;
+import com.enterprise.fast.repository.FastProblemArchiveRepository;
+import com.enterprise.fast.repository.segment.ArchiveSegmentReader;
+import com.enterprise.fast.repository.segment.ArchiveSegmentStore;
+import com.enterprise.fast.repository.segment.ArchiveSegmentWriter;
+import com.enterprise.fast.service.ArchiveSegmentService;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class ArchiveSegmentServiceImpl implements ArchiveSegmentService {
+
+    /**
+     * Own mapper rather than the web one: the segment format must not change with spring.jackson settings, and
+     * documents written by older versions must still load when fields are added or removed.
+     */
+    private static final ObjectMapper SEGMENT_JSON = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final FastProblemArchiveRepository archiveRepository;
+    private final ArchiveSegmentStore store;
+    private final FastProblemMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int dbRetentionMonths;
+    private final int chunkSize;
+
+    public ArchiveSegmentServiceImpl(FastProblemArchiveRepository archiveRepository,
+                                     ArchiveSegmentStore store,
+                                     FastProblemMapper mapper,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${app.archive.segments.enabled:false}") boolean enabled,
+                                     @Value("${app.archive.segments.db-retention-months:12}") int dbRetentionMonths,
+                                     @Value("${app.scheduler.archive.chunk-size:500}") int chunkSize) {
+        this.archiveRepository = archiveRepository;
+        this.store = store;
+        this.mapper = mapper;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.dbRetentionMonths = Math.max(0, dbRetentionMonths);
+        // Oracle caps IN lists at 1000 expressions
+        this.chunkSize = Math.max(1, Math.min(chunkSize, 1000));
+    }
+
+    @Override
+    public int sealArchivedTickets() {
+        if (!enabled || !archiveRepository.isAvailable()) {
+            return 0;
+        }
+        LocalDateTime cutoff = YearMonth.now().minusMonths(dbRetentionMonths).atDay(1).atStartOfDay();
+        int total = 0;
+        Optional<LocalDateTime> oldest;
+        while ((oldest = archiveRepository.findOldestRetentionDateBefore(cutoff)).isPresent()) {
+            YearMonth month = YearMonth.from(oldest.get());
+            SealedMonth sealed = sealMonth(month);
+            total += sealed.written();
+            if (sealed.removed() == 0) {
+                // The same month would come back as the oldest on every pass
+                log.warn("Sealing {} removed no archived tickets; stopping until the next run", month);
+                break;
+            }
+        }
+        return total;
+    }
+
+    /** Tickets written to the new segment, and tickets removed from the archive tables (written now or earlier). */
+    private record SealedMonth(int written, int removed) {
+    }
+
+    /**
+     * Writes one new segment with the month's tickets, then deletes them from the archive tables. Tickets already in
+     * a segment (a previous run died between commit and delete) are only deleted, so re-running never duplicates.
+     * Only ids that were actually sealed are deleted; an id whose ticket cannot be loaded stays in the archive tables.
+     */
+    private SealedMonth sealMonth(YearMonth month) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        List<Long> done = new ArrayList<>();
+        int written;
+        try (ArchiveSegmentWriter writer = store.newSegment(month)) {
+            long afterId = Long.MIN_VALUE;
+            List<Long> ids;
+            while (!(ids = archiveRepository.findIdsByRetentionDate(from, to, afterId, chunkSize)).isEmpty()) {
+                afterId = ids.get(ids.size() - 1);
+                List<Long> fresh = new ArrayList<>();
+                for (Long id : ids) {
+                    (store.find(id).isPresent() ? done : fresh).add(id);
+                }
+                Map<Long, List<AuditLog>> trails = archiveRepository.findAuditTrails(fresh);
+                List<FastProblem> tickets = archiveRepository.findAllById(fresh);
+                if (tickets.size() < fresh.size()) {
+                    log.warn("{} of {} archived tickets of {} could not be loaded and were not sealed",
+                            fresh.size() - tickets.size(), fresh.size(), month);
+                }
+                for (FastProblem ticket : tickets) {
+                    LocalDate retentionDate = ticket.getClosedDate() != null ? ticket.getClosedDate().toLocalDate() : month.atDay(1);
+                    writer.append(ticket.getId(), retentionDate, SEGMENT_JSON.writeValueAsBytes(
+                            toArchivedTicket(ticket, trails.getOrDefault(ticket.getId(), List.of()))));
+                    done.add(ticket.getId());
+                }
+            }
+            written = writer.getRecordCount();
+            if (written > 0) {
+                Path segment = writer.commit();
+                store.register(segment);
+                log.info("Sealed {} archived tickets of {} into {}", written, month, segment.getFileName());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive segment for " + month, e);
+        }
+        for (int i = 0; i < done.size(); i += chunkSize) {
+            List<Long> chunk = done.subList(i, Math.min(done.size(), i + chunkSize));
+            transactionTemplate.executeWithoutResult(status -> archiveRepository.deleteAllById(chunk));
+        }
+        return new SealedMonth(written, done.size());
+    }
+
+    private ArchivedTicketResponse toArchivedTicket(FastProblem ticket, List<AuditLog> trail) {
+        return ArchivedTicketResponse.builder()
+                .ticket(mapper.toResponse(ticket))
+                .auditTrail(trail.stream().map(a -> AuditEntryResponse.builder()
+                        .id(a.getId())
+                        .action(a.getAction())
+                        .performedBy(a.getPerformedBy())
+                        .fieldChanged(a.getFieldChanged())
+                        .oldValue(a.getOldValue())
+                        .newValue(a.getNewValue())
+                        .timestamp(a.getTimestamp())
+                        .build()).toList())
+                .build();
+    }
+
+    @Override
+    public Optional<ArchivedTicketResponse> findTicket(Long id) {
+        return store.find(id).map(document -> {
+            try {
+                return SEGMENT_JSON.readValue(document, ArchivedTicketResponse.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unreadable archived ticket " + id, e);
+            }
+        });
+    }
+
+    @Override
+    public List<ArchiveSegmentResponse> getSegments() {
+        return store.segments().stream().map(segment -> ArchiveSegmentResponse.builder()
+                .file(segment.getPath().getFileName().toString())
+                .month(ArchiveSegmentStore.monthOf(segment.getPath()).map(YearMonth::toString).orElse(null))
+                .sizeBytes(segment.getSizeBytes())
+                .tickets(segment.getRecordCount())
+                .blocks(segment.getBlockCount())
+                .minTicketId(segment.getMinId())
+                .maxTicketId(segment.getMaxId())
+                .minClosedDate(segment.getMinDate())
+                .maxClosedDate(segment.getMaxDate())
+                .build()).toList();
+    }
+
+    @Override
+    public long export(LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        long[] count = {0};
+        try {
+            for (ArchiveSegmentReader segment : store.segments()) {
+                Optional<YearMonth> month = ArchiveSegmentStore.monthOf(segment.getPath());
+                if (month.isPresent() && ((from != null && month.get().isBefore(YearMonth.from(from)))
+                        || (to != null && month.get().isAfter(YearMonth.from(to))))) {
+                    continue;
+                }
+                segment.forEach(from, to, (id, document) -> {
+                    try {
+                        out.write(document);
+                        out.write('\n');
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+        return count[0];
+    }
+}
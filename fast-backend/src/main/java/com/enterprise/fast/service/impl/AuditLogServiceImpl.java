@@ -2,26 +2,40 @@ package com.enterprise.fast.service.impl;
 
 import com.enterprise.fast.domain.entity.AuditLog;
 import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.dto.response.KeysetPageResponse;
 import com.enterprise.fast.exception.ResourceNotFoundException;
 import com.enterprise.fast.repository.AuditLogRepository;
+import com.enterprise.fast.repository.FastProblemArchiveRepository;
 import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.service.ArchiveSegmentService;
 import com.enterprise.fast.service.AuditLogService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class AuditLogServiceImpl implements AuditLogService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final AuditLogRepository auditLogRepository;
     private final FastProblemRepository fastProblemRepository;
+    private final FastProblemArchiveRepository archiveRepository;
+    private final ArchiveSegmentService segmentService;
 
     @Override
     @Transactional
+    @Timed(value = "fast.audit.write", histogram = true)
     public void logAction(Long problemId, String action, String performedBy,
                           String fieldChanged, String oldValue, String newValue) {
         FastProblem problem = fastProblemRepository.findById(problemId)
@@ -39,13 +53,121 @@ public class AuditLogServiceImpl implements AuditLogService {
         auditLogRepository.save(log);
     }
 
+    @Override
+    @Transactional
+    @Timed(value = "fast.audit.write", histogram = true)
+    public void logActions(List<AuditLog> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+        auditLogRepository.saveAll(entries);
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = "fast.audit.write", histogram = true)
+    public void logActionPerTicket(Map<Long, String> newValueByProblemId, String action, String performedBy,
+                                   String fieldChanged, String oldValue) {
+        if (newValueByProblemId == null || newValueByProblemId.isEmpty()) {
+            return;
+        }
+        List<AuditLog> entries = fastProblemRepository.findAllById(newValueByProblemId.keySet()).stream()
+                .map(problem -> AuditLog.builder()
+                        .fastProblem(problem)
+                        .action(action)
+                        .performedBy(performedBy)
+                        .fieldChanged(fieldChanged)
+                        .oldValue(oldValue)
+                        .newValue(newValueByProblemId.get(problem.getId()))
+                        .build())
+                .toList();
+        auditLogRepository.saveAll(entries);
+    }
+
     @Override
     public List<AuditLog> getAuditTrail(Long problemId) {
-        return auditLogRepository.findByFastProblemIdOrderByTimestampDesc(problemId);
+        List<AuditLog> trail = auditLogRepository.findByFastProblemIdOrderByTimestampDesc(problemId);
+        return trail.isEmpty() ? archivedTrail(problemId) : trail;
+    }
+
+    @Override
+    public KeysetPageResponse<AuditLog> getAuditTrailPage(Long problemId, String cursor, int limit) {
+        int size = pageSize(limit);
+        Cursor after = cursor != null ? Cursor.decode(cursor) : new Cursor(END_OF_TIME, Long.MAX_VALUE);
+        List<AuditLog> rows = auditLogRepository.findTrailPage(problemId, after.timestamp(), after.id(),
+                PageRequest.of(0, size + 1));
+        if (rows.isEmpty() && cursor == null) {
+            // Archived tickets have a frozen trail; it comes back in one page
+            List<AuditLog> archived = archivedTrail(problemId);
+            return KeysetPageResponse.<AuditLog>builder().content(archived).size(archived.size()).build();
+        }
+        return page(rows, size);
     }
 
     @Override
     public List<AuditLog> getRecentAuditEntries(int limit) {
-        return auditLogRepository.findAllByOrderByTimestampDesc(PageRequest.of(0, limit)).getContent();
+        return auditLogRepository.findByOrderByTimestampDescIdDesc(PageRequest.of(0, pageSize(limit)));
+    }
+
+    @Override
+    public KeysetPageResponse<AuditLog> getEntries(LocalDateTime from, LocalDateTime to, String cursor, int limit) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        int size = pageSize(limit);
+        Cursor after = cursor != null ? Cursor.decode(cursor) : new Cursor(to, 0L);
+        return page(auditLogRepository.findRange(from, to, after.timestamp(), after.id(), PageRequest.of(0, size + 1)), size);
+    }
+
+    private List<AuditLog> archivedTrail(Long problemId) {
+        List<AuditLog> trail = archiveRepository.isAvailable() ? archiveRepository.findAuditTrail(problemId) : List.of();
+        if (trail.isEmpty()) {
+            trail = segmentService.findTicket(problemId)
+                    .map(archived -> archived.getAuditTrail().stream().map(entry -> AuditLog.builder()
+                            .id(entry.getId())
+                            .fastProblem(FastProblem.builder().id(problemId).build())
+                            .action(entry.getAction())
+                            .performedBy(entry.getPerformedBy())
+                            .fieldChanged(entry.getFieldChanged())
+                            .oldValue(entry.getOldValue())
+                            .newValue(entry.getNewValue())
+                            .timestamp(entry.getTimestamp())
+                            .build()).toList())
+                    .orElse(List.of());
+        }
+        return trail;
+    }
+
+    /** Rows were fetched with one extra to tell whether another page follows. */
+    private static KeysetPageResponse<AuditLog> page(List<AuditLog> rows, int size) {
+        List<AuditLog> content = rows.size() > size ? rows.subList(0, size) : rows;
+        String next = rows.size() > size ? Cursor.of(content.get(content.size() - 1)).encode() : null;
+        return KeysetPageResponse.<AuditLog>builder().content(content).size(content.size()).nextCursor(next).build();
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /** Keyset position (timestamp, id) of the last entry of a page, passed to clients as an opaque string. */
+    private record Cursor(LocalDateTime timestamp, Long id) {
+
+        static Cursor of(AuditLog entry) {
+            return new Cursor(entry.getTimestamp(), entry.getId());
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((timestamp + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
     }
 }
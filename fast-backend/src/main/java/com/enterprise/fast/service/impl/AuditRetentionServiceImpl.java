@@ -0,0 +1,71 @@
+package com.enterprise.fast.service.impl;
+
+import com.enterprise.fast.repository.AuditLogPartitionRepository;
+import com.enterprise.fast.service.AuditRetentionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class AuditRetentionServiceImpl implements AuditRetentionService {
+
+    private final AuditLogPartitionRepository partitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionMonths;
+    private final int chunkSize;
+
+    public AuditRetentionServiceImpl(AuditLogPartitionRepository partitionRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${app.audit.retention-months:0}") int retentionMonths,
+                                     @Value("${app.audit.purge-chunk-size:5000}") int chunkSize) {
+        this.partitionRepository = partitionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionMonths = retentionMonths;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public int purgeExpiredEntries() {
+        if (retentionMonths <= 0) {
+            return 0;
+        }
+        // Month-aligned so that only whole partitions are removed
+        LocalDateTime cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+        long total = 0;
+        Optional<LocalDateTime> oldest;
+        while ((oldest = partitionRepository.findOldestBefore(cutoff)).isPresent()) {
+            total += purgeMonth(YearMonth.from(oldest.get()));
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    private long purgeMonth(YearMonth month) {
+        long rows = partitionRepository.countMonth(month);
+        if (partitionRepository.isPartitioned()) {
+            try {
+                partitionRepository.dropMonthPartition(month);
+                log.info("Dropped audit_log partition for {} ({} entries)", month, rows);
+                return rows;
+            } catch (DataAccessException e) {
+                log.warn("Could not drop audit_log partition for {}, deleting its entries instead: {}", month, e.getMessage());
+            }
+        }
+        long deleted = 0;
+        while (true) {
+            Integer chunk = transactionTemplate.execute(status -> partitionRepository.deleteMonthChunk(month, chunkSize));
+            if (chunk == null || chunk == 0) {
+                break;
+            }
+            deleted += chunk;
+        }
+        log.info("Deleted {} audit_log entries of {}", deleted, month);
+        return deleted;
+    }
+}
@@ -8,6 +8,7 @@ import com.enterprise.fast.dto.request.RegisterRequest;
 import com.enterprise.fast.dto.response.AuthResponse;
 import com.enterprise.fast.repository.UserRepository;
 import com.enterprise.fast.service.AuthService;
+import com.enterprise.fast.service.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +18,7 @@ public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public AuthResponse register(RegisterRequest request) {
@@ -40,6 +42,8 @@ public class AuthServiceImpl implements AuthService {
                 .build();
 
         userRepository.save(user);
+        // The name may be cached as "unknown" by an earlier request
+        referenceDataCache.evictUser(username);
 
         String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
 
@@ -1,21 +1,53 @@
 package com.enterprise.fast.service.impl;
 
+import com.enterprise.fast.config.Bulkheads;
+import com.enterprise.fast.config.CircuitBreakers;
 import com.enterprise.fast.dto.response.AdUserResponse;
 import com.enterprise.fast.dto.response.BamAuthResponse;
+import com.enterprise.fast.dto.response.ProfilePhotoResponse;
+import com.enterprise.fast.exception.BulkheadFullException;
+import com.enterprise.fast.exception.CircuitOpenException;
 import com.enterprise.fast.service.BamService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * BAM SSO, AD and phonebook integration over the pooled integration RestTemplate. Every remote call goes through
+ * the dependency's bulkhead and circuit breaker. AD user details and phonebook photos are cached with
+ * refresh-ahead: once an entry is older than refresh-after-seconds the next read still returns it and triggers a
+ * background reload, so a slow or failing AD only delays the refresh; entries are dropped after
+ * expire-after-seconds. Cache meters: cache.* with cache=adUsers|profilePhotos.
+ */
 @Service
 @Slf4j
-public class BamServiceImpl implements BamService {
+public class BamServiceImpl implements BamService, MeterBinder {
+
+    static final String AD_USERS = "adUsers";
+    static final String PROFILE_PHOTOS = "profilePhotos";
 
     @Value("${bam.sso.url:http://bam-server/authn/authenticate/sso/api}")
     private String bamSsoUrl;
@@ -28,9 +60,42 @@ public class BamServiceImpl implements BamService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
-
-    public BamServiceImpl() {
-        this.restTemplate = new RestTemplate();
+    private final Bulkheads bulkheads;
+    private final CircuitBreakers circuitBreakers;
+    private final LoadingCache<String, AdUserResponse> adUsers;
+    private final LoadingCache<String, Optional<ProfilePhotoResponse>> profilePhotos;
+
+    public BamServiceImpl(RestTemplate integrationRestTemplate,
+                          Bulkheads bulkheads,
+                          CircuitBreakers circuitBreakers,
+                          @Value("${app.cache.ad-users.refresh-after-seconds:300}") long adRefreshSeconds,
+                          @Value("${app.cache.ad-users.expire-after-seconds:86400}") long adExpireSeconds,
+                          @Value("${app.cache.profile-photos.refresh-after-seconds:3600}") long photoRefreshSeconds,
+                          @Value("${app.cache.profile-photos.expire-after-seconds:86400}") long photoExpireSeconds,
+                          @Value("${app.cache.profile-photos.maximum-size:2000}") long maxPhotos) {
+        this.restTemplate = integrationRestTemplate;
+        this.bulkheads = bulkheads;
+        this.circuitBreakers = circuitBreakers;
+        // Reloads block on HTTP, so they get their own small pool instead of the common ForkJoinPool
+        Executor refreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "bam-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.adUsers = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .refreshAfterWrite(Duration.ofSeconds(adRefreshSeconds))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(adExpireSeconds, adRefreshSeconds)))
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(caller -> fetchAdUser());
+        this.profilePhotos = Caffeine.newBuilder()
+                .maximumSize(maxPhotos)
+                .refreshAfterWrite(Duration.ofSeconds(photoRefreshSeconds))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(photoExpireSeconds, photoRefreshSeconds)))
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(this::fetchProfilePhoto);
     }
 
     @Override
@@ -45,11 +110,11 @@ public class BamServiceImpl implements BamService {
                     .toUriString();
 
             // Call BAM SSO API (Windows auth is implicit)
-            ResponseEntity<BamAuthResponse> response = restTemplate.exchange(
+            ResponseEntity<BamAuthResponse> response = remote(Bulkheads.BAM_SSO, () -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     null,
-                    BamAuthResponse.class);
+                    BamAuthResponse.class));
 
             BamAuthResponse bamResponse = response.getBody();
 
@@ -61,6 +126,8 @@ public class BamServiceImpl implements BamService {
                 throw new RuntimeException("BAM authentication failed");
             }
 
+        } catch (BulkheadFullException | CircuitOpenException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error calling BAM SSO API", e);
             throw new RuntimeException("Failed to get BAM token", e);
@@ -74,45 +141,104 @@ public class BamServiceImpl implements BamService {
         return bamToken != null && !bamToken.isEmpty();
     }
 
+    /**
+     * The AD endpoint answers for the calling user, so the employee id is only known from its response; entries are
+     * keyed by the authenticated username instead; lookups before login are not cached.
+     */
     @Override
     public AdUserResponse getAdUserDetails() {
         try {
-            log.info("Fetching AD user details");
+            String caller = callerKey();
+            // Before login there is no principal to tell callers apart, so the answer must not be shared via the cache
+            return caller != null ? adUsers.get(caller) : fetchAdUser();
+        } catch (BulkheadFullException | CircuitOpenException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error calling AD API", e);
+            throw new RuntimeException("Failed to get AD user details", e);
+        }
+    }
 
-            // Call AD API (Windows auth - credentials forwarded by proxy in production)
-            ResponseEntity<String> response = restTemplate.exchange(
-                    adUsersUrl,
-                    HttpMethod.GET,
-                    null,
-                    String.class);
+    @Override
+    public Optional<ProfilePhotoResponse> getProfilePhoto(String employeeId) {
+        if (phonebookUrl == null || phonebookUrl.isBlank() || employeeId == null || employeeId.isBlank()) {
+            return Optional.empty();
+        }
+        return profilePhotos.get(employeeId.trim());
+    }
 
-            String body = response.getBody();
-            if (body == null || body.isBlank()) {
-                throw new RuntimeException("Empty AD user response");
-            }
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, adUsers, AD_USERS);
+        CaffeineCacheMetrics.monitor(registry, profilePhotos, PROFILE_PHOTOS);
+    }
+
+    private AdUserResponse fetchAdUser() throws Exception {
+        log.info("Fetching AD user details");
 
-            JsonNode root = objectMapper.readTree(body);
-            String employeeId = root.has("employeeId") ? root.path("employeeId").asText(null) : null;
-            String profilePhotoUrl = null;
-            if (phonebookUrl != null && !phonebookUrl.isBlank() && employeeId != null && !employeeId.isBlank()) {
-                profilePhotoUrl = phonebookUrl + "?brid=" + employeeId;
+        // Call AD API (Windows auth - credentials forwarded by proxy in production)
+        ResponseEntity<String> response = remote(Bulkheads.AD, () -> restTemplate.exchange(
+                adUsersUrl,
+                HttpMethod.GET,
+                null,
+                String.class));
+
+        String body = response.getBody();
+        if (body == null || body.isBlank()) {
+            throw new RuntimeException("Empty AD user response");
+        }
+
+        JsonNode root = objectMapper.readTree(body);
+        String employeeId = root.has("employeeId") ? root.path("employeeId").asText(null) : null;
+        String profilePhotoUrl = null;
+        if (phonebookUrl != null && !phonebookUrl.isBlank() && employeeId != null && !employeeId.isBlank()) {
+            profilePhotoUrl = phonebookUrl + "?brid=" + employeeId;
+        }
+
+        return AdUserResponse.builder()
+                .samAccountName(root.has("samAccountName") ? root.path("samAccountName").asText(null) : null)
+                .userName(root.has("userName") ? root.path("userName").asText(null) : null)
+                .displayName(root.has("displayName") ? root.path("displayName").asText(null) : null)
+                .distinguishedName(root.has("distinguishedName") ? root.path("distinguishedName").asText(null) : null)
+                .emailAddress(root.has("emailAddress") ? root.path("emailAddress").asText(null) : null)
+                .employeeId(employeeId)
+                .givenName(root.has("givenName") ? root.path("givenName").asText(null) : null)
+                .surname(root.has("surname") ? root.path("surname").asText(null) : null)
+                .domain(root.has("domain") && !root.path("domain").isNull() ? root.path("domain").asText(null) : null)
+                .profilePhotoUrl(profilePhotoUrl)
+                .build();
+    }
+
+    /** Empty when the phonebook has no photo for the id (cached too, so unknown ids are not re-fetched). */
+    private Optional<ProfilePhotoResponse> fetchProfilePhoto(String employeeId) {
+        try {
+            ResponseEntity<byte[]> response = remote(Bulkheads.PHONEBOOK, () ->
+                    restTemplate.getForEntity(phonebookUrl + "?brid={brid}", byte[].class, employeeId));
+            byte[] content = response.getBody();
+            if (content == null || content.length == 0) {
+                return Optional.empty();
             }
+            MediaType contentType = response.getHeaders().getContentType();
+            return Optional.of(ProfilePhotoResponse.builder()
+                    .content(content)
+                    .contentType(contentType != null ? contentType.toString() : MediaType.IMAGE_JPEG_VALUE)
+                    .build());
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        }
+    }
 
-            return AdUserResponse.builder()
-                    .samAccountName(root.has("samAccountName") ? root.path("samAccountName").asText(null) : null)
-                    .userName(root.has("userName") ? root.path("userName").asText(null) : null)
-                    .displayName(root.has("displayName") ? root.path("displayName").asText(null) : null)
-                    .distinguishedName(root.has("distinguishedName") ? root.path("distinguishedName").asText(null) : null)
-                    .emailAddress(root.has("emailAddress") ? root.path("emailAddress").asText(null) : null)
-                    .employeeId(employeeId)
-                    .givenName(root.has("givenName") ? root.path("givenName").asText(null) : null)
-                    .surname(root.has("surname") ? root.path("surname").asText(null) : null)
-                    .domain(root.has("domain") && !root.path("domain").isNull() ? root.path("domain").asText(null) : null)
-                    .profilePhotoUrl(profilePhotoUrl)
-                    .build();
-        } catch (Exception e) {
-            log.error("Error calling AD API", e);
-            throw new RuntimeException("Failed to get AD user details", e);
+    /** Bulkhead outside the breaker: a saturated bulkhead is not a failure of the dependency. */
+    private <T> T remote(String dependency, Supplier<T> call) {
+        return bulkheads.get(dependency).call(() -> circuitBreakers.get(dependency).call(call));
+    }
+
+    private static String callerKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
         }
+        return authentication.getName().toLowerCase(Locale.ROOT);
     }
 }
@@ -7,16 +7,19 @@ import com.enterprise.fast.domain.enums.ExternalLinkType;
 import com.enterprise.fast.domain.enums.RagStatus;
 import com.enterprise.fast.domain.enums.RegionalCode;
 import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.dto.response.CommentaryComplianceResponse;
 import com.enterprise.fast.dto.response.DashboardMetricsResponse;
 import com.enterprise.fast.dto.response.FastProblemResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
 import com.enterprise.fast.mapper.FastProblemMapper;
+import com.enterprise.fast.repository.FastProblemArchiveRepository;
 import com.enterprise.fast.repository.FastProblemLinkRepository;
 import com.enterprise.fast.repository.FastProblemRegionRepository;
 import com.enterprise.fast.repository.FastProblemRepository;
 import com.enterprise.fast.repository.FastProblemSpecification;
 import com.enterprise.fast.repository.KnowledgeArticleRepository;
 import com.enterprise.fast.service.DashboardService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.criteria.JoinType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -45,9 +48,11 @@ import static com.enterprise.fast.domain.enums.TicketStatus.IN_PROGRESS;
 import static com.enterprise.fast.domain.enums.TicketStatus.RESOLVED;
 import static com.enterprise.fast.domain.enums.TicketStatus.ROOT_CAUSE_IDENTIFIED;
 
+/** Every public aggregation is timed as fast.dashboard.query, tagged with the method name. */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "fast.dashboard.query", histogram = true)
 public class DashboardServiceImpl implements DashboardService {
 
     private final FastProblemRepository problemRepository;
@@ -55,6 +60,7 @@ public class DashboardServiceImpl implements DashboardService {
     private final FastProblemRegionRepository problemRegionRepository;
     private final KnowledgeArticleRepository articleRepository;
     private final FastProblemMapper fastProblemMapper;
+    private final FastProblemArchiveRepository archiveRepository;
 
     private static final Set<TicketStatus> OPEN_STATUSES = Set.of(
             BACKLOG, ASSIGNED, ACCEPTED, IN_PROGRESS, ROOT_CAUSE_IDENTIFIED, FIX_IN_PROGRESS);
@@ -63,6 +69,8 @@ public class DashboardServiceImpl implements DashboardService {
     private static final List<TicketStatus> BACKLOG_STATUS_LIST = List.of(BACKLOG, ASSIGNED);
     private static final List<TicketStatus> RESOLVED_STATUS_LIST = List.of(RESOLVED, CLOSED);
     private static final int RESOLVED_PAGE_SIZE = 1000;
+    /** In Progress tickets need a comment at least this often. */
+    private static final Duration DAILY_COMMENTARY_WINDOW = Duration.ofHours(24);
 
     @Override
     public DashboardMetricsResponse getOverallMetrics(String region, String application, String period) {
@@ -136,7 +144,7 @@ public class DashboardServiceImpl implements DashboardService {
         long totalResolved = problemRepository.countByStatus(TicketStatus.RESOLVED);
         long totalClosed = problemRepository.countByStatus(TicketStatus.CLOSED);
 
-        long totalArchived = problemRepository.countArchived();
+        long totalArchived = countArchived();
         ResolvedMetrics resolvedMetrics = computeResolvedMetrics(resolvedSpecAll());
         return DashboardMetricsResponse.builder()
                 .totalOpenTickets(totalOpen)
@@ -178,12 +186,32 @@ public class DashboardServiceImpl implements DashboardService {
 
     @Override
     public List<FastProblemResponse> getInProgressWithoutRecentComment() {
-        LocalDateTime cutoff = LocalDateTime.now().minusHours(24);
+        LocalDateTime cutoff = LocalDateTime.now().minus(DAILY_COMMENTARY_WINDOW);
         return problemRepository.findInProgressWithoutRecentComment(IN_PROGRESS, cutoff).stream()
                 .map(fastProblemMapper::toSummaryResponse)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<CommentaryComplianceResponse> getCommentaryComplianceByAssignee() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(DAILY_COMMENTARY_WINDOW);
+        return problemRepository.findCommentaryComplianceByAssignee(IN_PROGRESS, cutoff).stream()
+                .map(row -> CommentaryComplianceResponse.builder()
+                        .assignedTo(row.getAssignedTo())
+                        .inProgress(row.getTickets())
+                        .commented(row.getCommentedSinceCutoff())
+                        .overdue(row.getTickets() - row.getCommentedSinceCutoff())
+                        .neverCommented(row.getNeverCommented())
+                        .oldestLastComment(row.getOldestLastComment())
+                        .compliancePercentage(row.getTickets() == 0 ? 100.0
+                                : Math.round(row.getCommentedSinceCutoff() * 1000.0 / row.getTickets()) / 10.0)
+                        .build())
+                .sorted(Comparator.comparingLong(CommentaryComplianceResponse::getOverdue).reversed()
+                        .thenComparing(CommentaryComplianceResponse::getAssignedTo,
+                                Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
     @Override
     public List<FastProblemResponse> getTop10(String region) {
         PageRequest page = PageRequest.of(0, 10);
@@ -329,11 +357,19 @@ public class DashboardServiceImpl implements DashboardService {
         return result;
     }
 
+    /** Archived tickets still in fast_problem plus those moved to fast_problem_archive. */
+    private long countArchived() {
+        long archived = problemRepository.countArchived();
+        return archiveRepository.isAvailable()
+                ? archived + archiveRepository.count(FastProblemArchiveRepository.Filter.NONE)
+                : archived;
+    }
+
     private Map<String, Long> getTicketsByStatus() {
         Map<String, Long> result = new LinkedHashMap<>();
         for (TicketStatus status : TicketStatus.values()) {
             long count = status == TicketStatus.ARCHIVED
-                    ? problemRepository.countArchived()
+                    ? countArchived()
                     : problemRepository.countByStatus(status);
             result.put(status.name(), count);
         }
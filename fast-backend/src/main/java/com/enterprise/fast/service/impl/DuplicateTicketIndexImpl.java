@@ -0,0 +1,212 @@
+package com.enterprise.fast.service.impl;
+
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.dto.response.DuplicateCandidateResponse;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.service.DuplicateTicketIndex;
+import com.enterprise.fast.util.MinHash;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link DuplicateTicketIndex} with 128-value MinHash signatures split into {@value #BANDS} bands of
+ * {@value #ROWS} values. Two tickets land in a shared bucket of some band with probability
+ * {@code 1 - (1 - s^4)^32} for similarity s: about 0.87 at s = 0.5 and 0.12 at s = 0.25, so a lookup only scores a
+ * handful of tickets against its signature instead of the whole open backlog.
+ */
+@Service
+public class DuplicateTicketIndexImpl extends RebuildableIndex<DuplicateTicketIndexImpl.Index>
+        implements DuplicateTicketIndex, MeterBinder {
+
+    static final int BANDS = 32;
+    static final int ROWS = 4;
+    private static final int SHINGLE_LENGTH = 5;
+    /** Long descriptions are mostly logs and stack traces; the opening text carries the problem statement. */
+    private static final int MAX_TEXT_LENGTH = 2000;
+    private static final int LOAD_PAGE_SIZE = 1000;
+    private static final List<TicketStatus> CLOSED_STATUSES = List.of(
+            TicketStatus.RESOLVED, TicketStatus.CLOSED, TicketStatus.REJECTED, TicketStatus.ARCHIVED);
+
+    private final FastProblemRepository repository;
+    private final boolean enabled;
+    private final double similarityThreshold;
+    private final int maxCandidates;
+    private final MinHash minHash = new MinHash(BANDS * ROWS, SHINGLE_LENGTH, MAX_TEXT_LENGTH, 0x5eed_fa57L);
+
+    public DuplicateTicketIndexImpl(FastProblemRepository repository,
+                                    @Value("${app.duplicates.enabled:true}") boolean enabled,
+                                    @Value("${app.duplicates.similarity-threshold:0.5}") double similarityThreshold,
+                                    @Value("${app.duplicates.max-candidates:5}") int maxCandidates) {
+        super("duplicate ticket index", "ticket edits");
+        this.repository = repository;
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    public List<DuplicateCandidateResponse> findCandidates(String title, String description, Long excludeId) {
+        if (!enabled) {
+            return List.of();
+        }
+        long[] signature = minHash.signature(text(title, description));
+        if (signature == null) {
+            return List.of();
+        }
+        List<DuplicateCandidateResponse> candidates = read(current -> {
+            List<DuplicateCandidateResponse> found = new ArrayList<>();
+            Set<Long> seen = new HashSet<>();
+            for (int band = 0; band < BANDS; band++) {
+                Set<Long> bucket = current.buckets.get(band).get(bandKey(signature, band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Long id : bucket) {
+                    if (id.equals(excludeId) || !seen.add(id)) {
+                        continue;
+                    }
+                    Entry entry = current.entries.get(id);
+                    double similarity = MinHash.similarity(signature, entry.signature());
+                    if (similarity >= similarityThreshold) {
+                        found.add(DuplicateCandidateResponse.builder()
+                                .id(id)
+                                .title(entry.title())
+                                .status(entry.status().name())
+                                .similarity(similarity)
+                                .build());
+                    }
+                }
+            }
+            return found;
+        });
+        candidates.sort(Comparator.comparingDouble(DuplicateCandidateResponse::getSimilarity).reversed()
+                .thenComparing(DuplicateCandidateResponse::getId));
+        return candidates.size() > maxCandidates ? List.copyOf(candidates.subList(0, maxCandidates)) : candidates;
+    }
+
+    @Override
+    public void update(FastProblem problem) {
+        if (!enabled || problem == null || problem.getId() == null) {
+            return;
+        }
+        Long id = problem.getId();
+        boolean open = !Boolean.TRUE.equals(problem.getDeleted()) && problem.getStatus() != null
+                && !CLOSED_STATUSES.contains(problem.getStatus());
+        Entry entry = open ? entry(id, problem.getTitle(), problem.getDescription(), problem.getStatus()) : null;
+        patch(current -> {
+            current.remove(id);
+            if (entry != null) {
+                current.add(entry);
+            }
+            return current;
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.duplicates.refresh-ms:900000}",
+            initialDelayString = "${app.duplicates.refresh-ms:900000}")
+    public void rebuild() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("fast.duplicates.indexed", this, DuplicateTicketIndexImpl::indexedCount)
+                .description("Open tickets in the in-memory duplicate (MinHash/LSH) index")
+                .register(registry);
+    }
+
+    @Override
+    protected int size(Index index) {
+        return index.entries.size();
+    }
+
+    @Override
+    protected Index load() {
+        Index built = new Index();
+        long afterId = 0;
+        List<FastProblemRepository.DuplicateSource> page;
+        do {
+            page = repository.findDuplicateSources(CLOSED_STATUSES, afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (FastProblemRepository.DuplicateSource source : page) {
+                Entry entry = entry(source.getId(), source.getTitle(), source.getDescription(), source.getStatus());
+                if (entry != null) {
+                    built.add(entry);
+                }
+                afterId = source.getId();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+        return built;
+    }
+
+    private Entry entry(Long id, String title, String description, TicketStatus status) {
+        long[] signature = minHash.signature(text(title, description));
+        return signature == null ? null : new Entry(id, title, status, signature);
+    }
+
+    private static String text(String title, String description) {
+        return description == null || description.isBlank() ? title : title + " " + description;
+    }
+
+    /** Hash of the band's {@value #ROWS} signature values; tickets agreeing on all of them share a bucket. */
+    private static long bandKey(long[] signature, int band) {
+        long key = 0;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = key * 0x9e3779b97f4a7c15L + signature[i];
+        }
+        return key;
+    }
+
+    private record Entry(Long id, String title, TicketStatus status, long[] signature) {
+    }
+
+    static final class Index {
+
+        final Map<Long, Entry> entries = new HashMap<>();
+        final List<Map<Long, Set<Long>>> buckets = new ArrayList<>(BANDS);
+
+        Index() {
+            for (int band = 0; band < BANDS; band++) {
+                buckets.add(new HashMap<>());
+            }
+        }
+
+        void add(Entry entry) {
+            entries.put(entry.id(), entry);
+            for (int band = 0; band < BANDS; band++) {
+                buckets.get(band).computeIfAbsent(bandKey(entry.signature(), band), k -> new HashSet<>()).add(entry.id());
+            }
+        }
+
+        void remove(Long id) {
+            Entry entry = entries.remove(id);
+            if (entry == null) {
+                return;
+            }
+            for (int band = 0; band < BANDS; band++) {
+                Map<Long, Set<Long>> bandBuckets = buckets.get(band);
+                long key = bandKey(entry.signature(), band);
+                Set<Long> bucket = bandBuckets.get(key);
+                if (bucket != null && bucket.remove(id) && bucket.isEmpty()) {
+                    bandBuckets.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.enterprise.fast.service.impl;
 
+import com.enterprise.fast.config.Bulkheads;
+import com.enterprise.fast.exception.BulkheadFullException;
 import com.enterprise.fast.service.AppSettingsService;
 import com.enterprise.fast.service.EmailService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -18,9 +22,30 @@ import java.util.Map;
 public class EmailServiceImpl implements EmailService {
 
     private final AppSettingsService settingsService;
+    private final MeterRegistry meterRegistry;
+    private final Bulkheads bulkheads;
 
+    /**
+     * Records fast.email.send tagged with outcome sent, failed, skipped (not configured), rejected (smtp bulkhead
+     * full) or error (exception).
+     */
     @Override
     public boolean sendEmail(String toEmail, String subject, String body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            outcome = bulkheads.get(Bulkheads.SMTP).call(() -> deliver(toEmail, subject, body));
+            return "sent".equals(outcome);
+        } catch (BulkheadFullException e) {
+            log.warn("Email to {} not sent: {}", toEmail, e.getMessage());
+            outcome = "rejected";
+            return false;
+        } finally {
+            sample.stop(meterRegistry.timer("fast.email.send", "outcome", outcome));
+        }
+    }
+
+    private String deliver(String toEmail, String subject, String body) {
         Map<String, String> settings = settingsService.getSettings(false).getSettings();
         String host = settings.get("smtpHost");
         String portStr = settings.get("smtpPort");
@@ -30,7 +55,7 @@ public class EmailServiceImpl implements EmailService {
 
         if (host == null || host.isBlank() || toEmail == null || toEmail.isBlank()) {
             log.warn("Cannot send email: missing smtpHost or toEmail");
-            return false;
+            return "skipped";
         }
 
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
@@ -62,10 +87,10 @@ public class EmailServiceImpl implements EmailService {
             }
             mailSender.send(message);
             log.info("Email sent to {}", toEmail);
-            return true;
+            return "sent";
         } catch (MessagingException e) {
             log.error("Failed to send email to {}: {}", toEmail, e.getMessage());
-            return false;
+            return "failed";
         }
     }
 }
@@ -1,20 +1,27 @@
 package com.enterprise.fast.service.impl;
 
 import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.AuditLog;
 import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.entity.FastProblemRegion;
 import com.enterprise.fast.domain.entity.User;
 import com.enterprise.fast.domain.entity.UserGroup;
 import com.enterprise.fast.domain.enums.*;
 import com.enterprise.fast.dto.request.CreateFastProblemRequest;
 import com.enterprise.fast.dto.request.UpdateFastProblemRequest;
+import com.enterprise.fast.dto.response.ArchivedTicketResponse;
+import com.enterprise.fast.dto.response.BulkOperationResponse;
+import com.enterprise.fast.dto.response.DuplicateCandidateResponse;
 import com.enterprise.fast.dto.response.FastProblemResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
+import com.enterprise.fast.exception.InvalidStateTransitionException;
 import com.enterprise.fast.exception.ResourceNotFoundException;
+import com.enterprise.fast.exception.VersionConflictException;
 import com.enterprise.fast.mapper.FastProblemMapper;
 import com.enterprise.fast.domain.entity.FastProblemLink;
 import com.enterprise.fast.domain.entity.FastProblemProperty;
 import com.enterprise.fast.domain.entity.TicketComment;
-import com.enterprise.fast.repository.ApplicationRepository;
+import com.enterprise.fast.repository.FastProblemArchiveRepository;
 import com.enterprise.fast.repository.FastProblemLinkRepository;
 import com.enterprise.fast.repository.FastProblemPropertyRepository;
 import com.enterprise.fast.repository.FastProblemRepository;
@@ -22,12 +29,19 @@ import com.enterprise.fast.repository.FastProblemSpecification;
 import com.enterprise.fast.repository.UserRepository;
 import com.enterprise.fast.repository.UserGroupRepository;
 import com.enterprise.fast.service.AppSettingsService;
+import com.enterprise.fast.service.ArchiveSegmentService;
 import com.enterprise.fast.service.AuditLogService;
+import com.enterprise.fast.service.DuplicateTicketIndex;
 import com.enterprise.fast.service.EmailService;
 import com.enterprise.fast.util.StatusTransitionValidator;
 import com.enterprise.fast.service.FastProblemService;
 import com.enterprise.fast.service.KnowledgeArticleService;
+import com.enterprise.fast.service.ReferenceDataCache;
+import com.enterprise.fast.service.ReferenceDataCache.CachedUser;
+import com.enterprise.fast.service.UserApplicationIndex;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,16 +49,25 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FastProblemServiceImpl implements FastProblemService {
@@ -52,7 +75,6 @@ public class FastProblemServiceImpl implements FastProblemService {
     private final FastProblemRepository repository;
     private final FastProblemPropertyRepository propertyRepository;
     private final FastProblemLinkRepository linkRepository;
-    private final ApplicationRepository applicationRepository;
     private final UserGroupRepository userGroupRepository;
     private final UserRepository userRepository;
     private final AppSettingsService appSettingsService;
@@ -60,27 +82,26 @@ public class FastProblemServiceImpl implements FastProblemService {
     private final FastProblemMapper mapper;
     private final AuditLogService auditLogService;
     private final KnowledgeArticleService knowledgeArticleService;
+    private final TransactionTemplate transactionTemplate;
+    private final ReferenceDataCache referenceDataCache;
+    private final FastProblemArchiveRepository archiveRepository;
+    private final ArchiveSegmentService segmentService;
+    private final UserApplicationIndex userApplicationIndex;
+    private final DuplicateTicketIndex duplicateIndex;
 
     private static final double USER_IMPACT_WEIGHT = 0.6;
     private static final double APP_CRITICALITY_WEIGHT = 0.4;
     private static final double DEFAULT_APP_CRITICALITY = 3.0;
+    private static final int BULK_CHUNK_SIZE = 50;
 
     @Override
     @Transactional
     public FastProblemResponse create(CreateFastProblemRequest request, String username) {
         FastProblem problem = mapper.toEntity(request, username);
-
-        // Calculate priority score
-        problem.setPriorityScore(calculatePriorityScore(problem.getUserImpactCount()));
-
-        // Auto-assign regional group if not provided (use first region)
-        if ((problem.getAssignmentGroup() == null || problem.getAssignmentGroup().isBlank())
-                && problem.getRegions() != null && !problem.getRegions().isEmpty()) {
-            problem.setAssignmentGroup(problem.getRegions().get(0).getRegionalCode().name() + "-Problem-Team");
-        }
+        applyCreateDefaults(problem);
 
         if (request.getApplicationIds() != null && !request.getApplicationIds().isEmpty()) {
-            List<Application> apps = applicationRepository.findAllById(request.getApplicationIds());
+            List<Application> apps = referenceDataCache.getApplications(request.getApplicationIds());
             problem.getApplications().clear();
             problem.getApplications().addAll(apps);
         }
@@ -95,16 +116,60 @@ public class FastProblemServiceImpl implements FastProblemService {
 
         auditLogService.logAction(saved.getId(), "CREATED", username, null, null, null);
 
-        return mapper.toResponse(saved);
+        FastProblemResponse response = mapper.toResponse(saved);
+        response.setPossibleDuplicates(duplicateIndex.findCandidates(saved.getTitle(), saved.getDescription(), saved.getId()));
+        duplicateIndex.update(saved);
+        return response;
+    }
+
+    @Override
+    public List<DuplicateCandidateResponse> findDuplicateCandidates(String title, String description) {
+        return duplicateIndex.findCandidates(title, description, null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public FastProblemResponse getById(Long id) {
-        FastProblem problem = findProblemOrThrow(id);
+        FastProblem problem = repository.findById(id).orElse(null);
+        if (problem == null && archiveRepository.isAvailable()) {
+            problem = archiveRepository.findById(id).orElse(null);
+        }
+        if (problem == null) {
+            return segmentService.findTicket(id)
+                    .map(ArchivedTicketResponse::getTicket)
+                    .orElseThrow(() -> new ResourceNotFoundException("FastProblem", "id", id));
+        }
+        if (problem.getDeleted()) {
+            throw new ResourceNotFoundException("FastProblem", "id", id);
+        }
         return mapper.toResponse(problem);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long getVersion(Long id) {
+        return repository.findVersionById(id)
+                .or(() -> archiveRepository.isAvailable() ? archiveRepository.findVersionById(id) : Optional.empty())
+                .or(() -> segmentService.findTicket(id).map(archived -> archived.getTicket().getVersion()))
+                .orElseThrow(() -> new ResourceNotFoundException("FastProblem", "id", id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getCollectionVersion(String status) {
+        FastProblemRepository.CollectionStamp stamp = repository.findCollectionStamp();
+        LocalDateTime lastUpdated = stamp.getLastUpdated();
+        long lastUpdatedMicros = lastUpdated == null ? 0L
+                : lastUpdated.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + lastUpdated.getNano() / 1_000L;
+        long versionSum = stamp.getVersionSum() != null ? stamp.getVersionSum() : 0L;
+        String version = Long.toHexString(stamp.getTotal()) + "-" + Long.toHexString(versionSum) + "-" + Long.toHexString(lastUpdatedMicros);
+        if ("ARCHIVED".equalsIgnoreCase(status) && archiveRepository.isAvailable()) {
+            // Archive rows are never updated in place: they are only added (with a delete from fast_problem) or removed
+            version += "-" + Long.toHexString(archiveRepository.count(FastProblemArchiveRepository.Filter.NONE));
+        }
+        return version;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<FastProblemResponse> getAll(int page, int size, String sortBy, String direction) {
@@ -135,13 +200,11 @@ public class FastProblemServiceImpl implements FastProblemService {
     @Transactional(readOnly = true)
     public PagedResponse<FastProblemResponse> getByStatus(String status, int page, int size) {
         TicketStatus ticketStatus = TicketStatus.valueOf(status.toUpperCase());
-        Page<FastProblem> problemPage;
         if (ticketStatus == TicketStatus.ARCHIVED) {
             Specification<FastProblem> spec = FastProblemSpecification.withFilters(null, null, null, null, null, null, null, null, "ARCHIVED", null, null, null, null, null, null);
-            problemPage = repository.findAll(spec, PageRequest.of(page, size, Sort.by("closedDate").descending()));
-        } else {
-            problemPage = repository.findByStatusAndDeletedFalseAndArchivedFalse(ticketStatus, PageRequest.of(page, size));
+            return archivedPage(spec, FastProblemArchiveRepository.Filter.NONE, PageRequest.of(page, size, Sort.by("closedDate").descending()));
         }
+        Page<FastProblem> problemPage = repository.findByStatusAndDeletedFalseAndArchivedFalse(ticketStatus, PageRequest.of(page, size));
         return toPagedResponse(problemPage);
     }
 
@@ -163,6 +226,10 @@ public class FastProblemServiceImpl implements FastProblemService {
         Sort sort = direction.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
+        if ("ARCHIVED".equalsIgnoreCase(status)) {
+            return archivedPage(spec, new FastProblemArchiveRepository.Filter(keyword, regionCode, classification,
+                    fromDate, toDate, priority), pageable);
+        }
         Page<FastProblem> problemPage = repository.findAll(spec, pageable);
         return toPagedResponse(problemPage);
     }
@@ -182,7 +249,14 @@ public class FastProblemServiceImpl implements FastProblemService {
     @Override
     @Transactional
     public FastProblemResponse update(Long id, UpdateFastProblemRequest request, String username) {
+        return update(id, request, username, null);
+    }
+
+    @Override
+    @Transactional
+    public FastProblemResponse update(Long id, UpdateFastProblemRequest request, String username, Long expectedVersion) {
         FastProblem problem = findProblemOrThrow(id);
+        checkVersion(problem, expectedVersion);
 
         if (request.getServicenowIncidentNumber() != null) {
             problem.setServicenowIncidentNumber(request.getServicenowIncidentNumber());
@@ -215,7 +289,7 @@ public class FastProblemServiceImpl implements FastProblemService {
         if (request.getApplicationIds() != null) {
             problem.getApplications().clear();
             if (!request.getApplicationIds().isEmpty()) {
-                List<Application> apps = applicationRepository.findAllById(request.getApplicationIds());
+                List<Application> apps = referenceDataCache.getApplications(request.getApplicationIds());
                 problem.getApplications().addAll(apps);
             }
         }
@@ -230,32 +304,7 @@ public class FastProblemServiceImpl implements FastProblemService {
             problem.setAnticipatedBenefits(request.getAnticipatedBenefits());
         }
         if (request.getRegionalCodes() != null && !request.getRegionalCodes().isEmpty()) {
-            List<RegionalCode> desired = request.getRegionalCodes().stream()
-                    .filter(c -> c != null && !c.isBlank())
-                    .distinct()
-                    .map(c -> {
-                        try {
-                            return RegionalCode.valueOf(c.trim().toUpperCase());
-                        } catch (IllegalArgumentException e) {
-                            return null;
-                        }
-                    })
-                    .filter(rc -> rc != null)
-                    .toList();
-            // Remove regions not in desired (orphanRemoval will delete rows)
-            problem.getRegions().removeIf(r -> !desired.contains(r.getRegionalCode()));
-            // Add only regions that are not already present (avoids unique constraint on save)
-            java.util.Set<RegionalCode> existing = problem.getRegions().stream()
-                    .map(com.enterprise.fast.domain.entity.FastProblemRegion::getRegionalCode)
-                    .collect(java.util.stream.Collectors.toSet());
-            for (RegionalCode rc : desired) {
-                if (!existing.contains(rc)) {
-                    problem.getRegions().add(com.enterprise.fast.domain.entity.FastProblemRegion.builder()
-                            .fastProblem(problem)
-                            .regionalCode(rc)
-                            .build());
-                }
-            }
+            replaceRegions(problem, parseRegionalCodes(request.getRegionalCodes()));
         }
         if (request.getTargetResolutionHours() != null) {
             problem.setTargetResolutionHours(request.getTargetResolutionHours());
@@ -303,8 +352,12 @@ public class FastProblemServiceImpl implements FastProblemService {
                     oldBtbTechLead, problem.getBtbTechLeadUsername());
         }
 
-        FastProblem saved = repository.save(problem);
+        problem.touch();
+        FastProblem saved = saveAndFlush(problem);
         auditLogService.logAction(id, "UPDATED", username, null, null, null);
+        if (request.getTitle() != null || request.getDescription() != null) {
+            duplicateIndex.update(saved);
+        }
 
         return mapper.toResponse(saved);
     }
@@ -312,10 +365,17 @@ public class FastProblemServiceImpl implements FastProblemService {
     @Override
     @Transactional
     public FastProblemResponse updateBtbTechLead(Long id, String btbTechLeadUsername, String username) {
+        return updateBtbTechLead(id, btbTechLeadUsername, username, null);
+    }
+
+    @Override
+    @Transactional
+    public FastProblemResponse updateBtbTechLead(Long id, String btbTechLeadUsername, String username, Long expectedVersion) {
         FastProblem problem = findProblemOrThrow(id);
+        checkVersion(problem, expectedVersion);
         String oldValue = problem.getBtbTechLeadUsername();
         applyBtbTechLead(problem, btbTechLeadUsername != null ? btbTechLeadUsername : "");
-        FastProblem saved = repository.save(problem);
+        FastProblem saved = saveAndFlush(problem);
         auditLogService.logAction(id, "FIELD_UPDATED", username, "btbTechLeadUsername", oldValue, saved.getBtbTechLeadUsername());
         return mapper.toResponse(saved);
     }
@@ -330,19 +390,45 @@ public class FastProblemServiceImpl implements FastProblemService {
             problem.setBtbTechLeadUsername(null);
             return;
         }
-        User techLead = userRepository.findByUsernameIgnoreCase(trimmed)
+        CachedUser techLead = referenceDataCache.findUser(trimmed)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + trimmed));
-        if (techLead.getRole() != UserRole.TECH_LEAD) {
+        if (techLead.role() != UserRole.TECH_LEAD) {
             throw new IllegalArgumentException("BTB Tech Lead must be a user with role TECH_LEAD: " + trimmed);
         }
-        problem.setBtbTechLeadUsername(techLead.getUsername());
+        problem.setBtbTechLeadUsername(techLead.username());
     }
 
     @Override
     @Transactional
     public FastProblemResponse updateStatus(Long id, String newStatus, String username) {
+        return updateStatus(id, newStatus, username, null);
+    }
+
+    @Override
+    @Transactional
+    public FastProblemResponse updateStatus(Long id, String newStatus, String username, Long expectedVersion) {
         FastProblem problem = findProblemOrThrow(id);
+        checkVersion(problem, expectedVersion);
         TicketStatus targetStatus = TicketStatus.valueOf(newStatus.toUpperCase());
+        String oldStatus = applyStatusChange(problem, targetStatus, () -> findUserOrThrow(username));
+
+        FastProblem saved = saveAndFlush(problem);
+        duplicateIndex.update(saved);
+
+        auditLogService.logAction(id, "STATUS_CHANGED", username, "status", oldStatus, targetStatus.name());
+        if (targetStatus == TicketStatus.ACCEPTED) {
+            sendAcceptedTicketNotifications(saved, username);
+        }
+
+        return mapper.toResponse(saved);
+    }
+
+    /**
+     * Validates and applies a status transition (role rules, tech lead requirement, date stamps, knowledge
+     * article on RESOLVED). All checks run before the entity is modified. Returns the previous status name.
+     * The acting user is only loaded when a role-restricted transition needs it.
+     */
+    private String applyStatusChange(FastProblem problem, TicketStatus targetStatus, Supplier<CachedUser> actor) {
         TicketStatus currentStatus = problem.getStatus();
 
         StatusTransitionValidator.validate(currentStatus, targetStatus);
@@ -350,16 +436,12 @@ public class FastProblemServiceImpl implements FastProblemService {
         // Only ADMIN can close or reject a ticket directly (BACKLOG/ASSIGNED/ACCEPTED -> CLOSED or REJECTED)
         if ((targetStatus == TicketStatus.CLOSED || targetStatus == TicketStatus.REJECTED)
                 && (currentStatus == TicketStatus.BACKLOG || currentStatus == TicketStatus.ASSIGNED || currentStatus == TicketStatus.ACCEPTED)) {
-            User user = userRepository.findByUsernameIgnoreCase(username)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-            if (user.getRole() != UserRole.ADMIN) {
+            if (actor.get().role() != UserRole.ADMIN) {
                 throw new IllegalArgumentException("Only ADMIN can close or reject a ticket from BACKLOG, ASSIGNED, or ACCEPTED");
             }
         }
         if (currentStatus == TicketStatus.ACCEPTED && targetStatus == TicketStatus.IN_PROGRESS) {
-            User user = userRepository.findByUsernameIgnoreCase(username)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
-            if (user.getRole() != UserRole.ADMIN) {
+            if (actor.get().role() != UserRole.ADMIN) {
                 throw new IllegalArgumentException("Only ADMIN can move ticket from ACCEPTED to IN_PROGRESS");
             }
         }
@@ -382,7 +464,7 @@ public class FastProblemServiceImpl implements FastProblemService {
             problem.setResolvedDate(LocalDateTime.now());
             problem.setStatusIndicator(StatusIndicator.B16);
             // Auto-create knowledge article
-            knowledgeArticleService.createFromResolvedProblem(id);
+            knowledgeArticleService.createFromResolvedProblem(problem.getId());
         }
 
         // Handle closed status: set closedDate for archive eligibility (7 days later)
@@ -395,15 +477,12 @@ public class FastProblemServiceImpl implements FastProblemService {
         if (targetStatus == TicketStatus.ARCHIVED) {
             problem.setArchived(true);
         }
+        return oldStatus;
+    }
 
-        FastProblem saved = repository.save(problem);
-
-        auditLogService.logAction(id, "STATUS_CHANGED", username, "status", oldStatus, targetStatus.name());
-        if (targetStatus == TicketStatus.ACCEPTED) {
-            sendAcceptedTicketNotifications(saved, username);
-        }
-
-        return mapper.toResponse(saved);
+    private CachedUser findUserOrThrow(String username) {
+        return referenceDataCache.findUser(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
     }
 
     @Override
@@ -412,6 +491,7 @@ public class FastProblemServiceImpl implements FastProblemService {
         FastProblem problem = findProblemOrThrow(id);
         problem.setDeleted(true);
         repository.save(problem);
+        duplicateIndex.update(problem);
         auditLogService.logAction(id, "DELETED", username, "deleted", "false", "true");
     }
 
@@ -434,6 +514,7 @@ public class FastProblemServiceImpl implements FastProblemService {
                     .build();
             problem.getProperties().add(prop);
         }
+        problem.touch();
         FastProblem saved = repository.save(problem);
         return mapper.toResponse(saved);
     }
@@ -441,19 +522,29 @@ public class FastProblemServiceImpl implements FastProblemService {
     @Override
     @Transactional
     public FastProblemResponse updateProperty(Long problemId, String key, String value) {
+        return updateProperty(problemId, key, value, null);
+    }
+
+    @Override
+    @Transactional
+    public FastProblemResponse updateProperty(Long problemId, String key, String value, Long expectedVersion) {
         FastProblem problem = findProblemOrThrow(problemId);
+        checkVersion(problem, expectedVersion);
         propertyRepository.findByFastProblemIdAndPropertyKey(problemId, key).ifPresent(p -> {
             p.setPropertyValue(value != null ? value : "");
             propertyRepository.save(p);
+            problem.touch();
         });
+        saveAndFlush(problem);
         return mapper.toResponse(repository.findById(problemId).orElseThrow());
     }
 
     @Override
     @Transactional
     public void deleteProperty(Long problemId, String key) {
-        findProblemOrThrow(problemId);
+        FastProblem problem = findProblemOrThrow(problemId);
         propertyRepository.deleteByFastProblemIdAndPropertyKey(problemId, key);
+        problem.touch();
     }
 
     @Override
@@ -483,6 +574,7 @@ public class FastProblemServiceImpl implements FastProblemService {
                 .linkType(type)
                 .build();
         problem.getLinks().add(link);
+        problem.touch();
         FastProblem saved = repository.save(problem);
         return mapper.toResponse(saved);
     }
@@ -491,7 +583,9 @@ public class FastProblemServiceImpl implements FastProblemService {
     @Transactional
     public void deleteLink(Long problemId, Long linkId) {
         FastProblem problem = findProblemOrThrow(problemId);
-        problem.getLinks().removeIf(l -> l.getId().equals(linkId));
+        if (problem.getLinks().removeIf(l -> l.getId().equals(linkId))) {
+            problem.touch();
+        }
         repository.save(problem);
     }
 
@@ -506,6 +600,9 @@ public class FastProblemServiceImpl implements FastProblemService {
                 .commentText(text.trim())
                 .build();
         problem.getComments().add(comment);
+        problem.setLastCommentDate(comment.getCreatedDate());
+        problem.setCommentCount((problem.getCommentCount() != null ? problem.getCommentCount() : 0) + 1);
+        problem.touch();
         FastProblem saved = repository.save(problem);
         return mapper.toResponse(saved);
     }
@@ -518,9 +615,9 @@ public class FastProblemServiceImpl implements FastProblemService {
         if (assignedTo == null || assignedTo.isBlank()) {
             throw new IllegalArgumentException("Ticket has no assignee");
         }
-        User assignee = userRepository.findByUsernameIgnoreCase(assignedTo)
+        CachedUser assignee = referenceDataCache.findUser(assignedTo)
                 .orElseThrow(() -> new IllegalArgumentException("Assignee user not found: " + assignedTo));
-        if (assignee.getEmail() == null || assignee.getEmail().isBlank()) {
+        if (assignee.email() == null || assignee.email().isBlank()) {
             throw new IllegalArgumentException("Assignee has no email address");
         }
         Map<String, String> settings = appSettingsService.getSettings(false).getSettings();
@@ -533,7 +630,7 @@ public class FastProblemServiceImpl implements FastProblemService {
                 + "<p><strong>Status:</strong> " + (problem.getStatus() != null ? problem.getStatus().name() : "") + "</p>"
                 + (problem.getDescription() != null ? "<p><strong>Description:</strong><br/>" + escapeHtml(problem.getDescription()) + "</p>" : "")
                 + (message != null && !message.isBlank() ? "<p><strong>Message:</strong><br/>" + escapeHtml(message) + "</p>" : "");
-        boolean sent = emailService.sendEmail(assignee.getEmail(), subject, body);
+        boolean sent = emailService.sendEmail(assignee.email(), subject, body);
         if (!sent) {
             throw new IllegalStateException("Failed to send email");
         }
@@ -544,6 +641,288 @@ public class FastProblemServiceImpl implements FastProblemService {
         return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
     }
 
+    // ---- Bulk operations -------------------------------------------------------------------------------
+
+    @Override
+    public BulkOperationResponse bulkUpdateStatus(List<Long> ids, String newStatus, String username) {
+        TicketStatus targetStatus = TicketStatus.valueOf(newStatus.trim().toUpperCase());
+        CachedUser[] actor = new CachedUser[1];
+        Supplier<CachedUser> actorOnce = () -> actor[0] != null ? actor[0] : (actor[0] = findUserOrThrow(username));
+        return runBulk(ids, username, (problem, audit, accepted) -> {
+            String oldStatus = applyStatusChange(problem, targetStatus, actorOnce);
+            audit.add(auditEntry(problem, "STATUS_CHANGED", username, "status", oldStatus, targetStatus.name()));
+            if (targetStatus == TicketStatus.ACCEPTED) {
+                accepted.add(problem);
+            }
+        });
+    }
+
+    @Override
+    public BulkOperationResponse bulkAssign(List<Long> ids, String assignedTo, String assignmentGroup, String username) {
+        if (assignedTo == null && assignmentGroup == null) {
+            throw new IllegalArgumentException("assignedTo or assignmentGroup is required");
+        }
+        String newAssignee = assignedTo != null ? normalizeOptionalText(assignedTo) : null;
+        String newGroup = assignmentGroup != null ? normalizeOptionalText(assignmentGroup) : null;
+        return runBulk(ids, username, (problem, audit, accepted) -> {
+            if (assignedTo != null && !Objects.equals(problem.getAssignedTo(), newAssignee)) {
+                audit.add(auditEntry(problem, "FIELD_UPDATED", username, "assignedTo", problem.getAssignedTo(), newAssignee));
+                problem.setAssignedTo(newAssignee);
+            }
+            if (assignmentGroup != null && !Objects.equals(problem.getAssignmentGroup(), newGroup)) {
+                audit.add(auditEntry(problem, "FIELD_UPDATED", username, "assignmentGroup", problem.getAssignmentGroup(), newGroup));
+                problem.setAssignmentGroup(newGroup);
+            }
+        });
+    }
+
+    @Override
+    public BulkOperationResponse bulkTag(List<Long> ids, List<String> regionalCodes, List<Long> impactedUserGroupIds, String username) {
+        if (regionalCodes == null && impactedUserGroupIds == null) {
+            throw new IllegalArgumentException("regionalCodes or impactedUserGroupIds is required");
+        }
+        // Resolved once for the whole request, not per ticket
+        List<RegionalCode> regions = regionalCodes != null ? parseRegionalCodes(regionalCodes) : null;
+        if (regions != null && regions.isEmpty()) {
+            throw new IllegalArgumentException("At least one valid regional code is required");
+        }
+        List<Long> groupIds = impactedUserGroupIds != null ? resolveUserGroups(impactedUserGroupIds).stream()
+                .map(UserGroup::getId).toList() : null;
+        String regionsValue = regions != null ? regions.stream().map(Enum::name).collect(Collectors.joining(",")) : null;
+        String groupsValue = groupIds != null ? groupIds.stream().map(String::valueOf).collect(Collectors.joining(",")) : null;
+        return runBulk(ids, username, (problem, audit, accepted) -> {
+            if (regions != null) {
+                String oldValue = problem.getRegions().stream()
+                        .map(r -> r.getRegionalCode().name()).collect(Collectors.joining(","));
+                replaceRegions(problem, regions);
+                audit.add(auditEntry(problem, "FIELD_UPDATED", username, "regionalCodes", oldValue, regionsValue));
+            }
+            if (groupIds != null) {
+                String oldValue = problem.getUserGroups().stream()
+                        .map(g -> String.valueOf(g.getId())).collect(Collectors.joining(","));
+                problem.getUserGroups().clear();
+                // References are enough for the join table; the groups were validated above
+                groupIds.forEach(gid -> problem.getUserGroups().add(userGroupRepository.getReferenceById(gid)));
+                audit.add(auditEntry(problem, "FIELD_UPDATED", username, "impactedUserGroupIds", oldValue, groupsValue));
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface BulkMutation {
+        /** Validates then mutates one ticket; throwing before mutating marks only this item as failed. */
+        void apply(FastProblem problem, List<AuditLog> audit, List<FastProblem> accepted);
+    }
+
+    /** Outcome of one committed chunk: item results plus the side effects to run after commit. */
+    private record ChunkOutcome(List<BulkOperationResponse.ItemResult> results, List<AcceptedTicket> accepted) {
+    }
+
+    /** Snapshot of an ACCEPTED ticket taken inside the transaction, for notification after commit. */
+    private record AcceptedTicket(Long id, String title, List<String> recipientEmails) {
+    }
+
+    /**
+     * Applies a mutation to many tickets in chunks of {@value #BULK_CHUNK_SIZE}, one transaction per chunk.
+     * Each chunk loads its tickets in one query, flushes updates as a JDBC batch and writes its audit rows in one
+     * batch. If a chunk fails at flush (e.g. a concurrent edit), it is replayed item by item so only the
+     * offending tickets are reported as failed. ACCEPTED notifications are merged and sent after all chunks.
+     */
+    private BulkOperationResponse runBulk(List<Long> ids, String username, BulkMutation mutation) {
+        List<Long> distinctIds = ids == null ? List.of()
+                : ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, BulkOperationResponse.ItemResult> results = new LinkedHashMap<>();
+        List<AcceptedTicket> accepted = new ArrayList<>();
+        Map<Set<Long>, List<String>> recipientCache = new HashMap<>();
+
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+            try {
+                ChunkOutcome outcome = transactionTemplate.execute(status -> applyChunk(chunk, mutation, recipientCache));
+                collect(outcome, results, accepted);
+            } catch (RuntimeException chunkFailure) {
+                log.warn("Bulk chunk of {} tickets (ids {}..{}) failed, retrying item by item",
+                        chunk.size(), chunk.get(0), chunk.get(chunk.size() - 1), chunkFailure);
+                for (Long id : chunk) {
+                    try {
+                        collect(transactionTemplate.execute(status -> applyChunk(List.of(id), mutation, recipientCache)),
+                                results, accepted);
+                    } catch (OptimisticLockingFailureException e) {
+                        results.put(id, failure(id, "VERSION_CONFLICT", "Ticket was modified concurrently; reload and retry"));
+                    } catch (RuntimeException e) {
+                        results.put(id, failure(id, "ERROR", e.getMessage()));
+                    }
+                }
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            sendMergedAcceptedNotifications(accepted, username);
+        }
+
+        List<BulkOperationResponse.ItemResult> items = new ArrayList<>(results.values());
+        int succeeded = (int) items.stream().filter(BulkOperationResponse.ItemResult::isSuccess).count();
+        return BulkOperationResponse.builder()
+                .requested(distinctIds.size())
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .results(items)
+                .build();
+    }
+
+    private ChunkOutcome applyChunk(List<Long> chunk, BulkMutation mutation, Map<Set<Long>, List<String>> recipientCache) {
+        Map<Long, FastProblem> loaded = repository.findAllById(chunk).stream()
+                .collect(Collectors.toMap(FastProblem::getId, p -> p));
+        Map<Long, BulkOperationResponse.ItemResult> results = new LinkedHashMap<>();
+        List<FastProblem> changed = new ArrayList<>();
+        List<FastProblem> acceptedProblems = new ArrayList<>();
+        List<AuditLog> audit = new ArrayList<>();
+
+        for (Long id : chunk) {
+            FastProblem problem = loaded.get(id);
+            if (problem == null || Boolean.TRUE.equals(problem.getDeleted())) {
+                results.put(id, failure(id, "NOT_FOUND", "FastProblem not found with id: " + id));
+                continue;
+            }
+            try {
+                mutation.apply(problem, audit, acceptedProblems);
+                problem.touch();
+                changed.add(problem);
+            } catch (InvalidStateTransitionException e) {
+                results.put(id, failure(id, "INVALID_STATE", e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                results.put(id, failure(id, "BAD_REQUEST", e.getMessage()));
+            } catch (ResourceNotFoundException e) {
+                results.put(id, failure(id, "NOT_FOUND", e.getMessage()));
+            }
+        }
+
+        repository.saveAll(changed);
+        repository.flush();
+        auditLogService.logActions(audit);
+        changed.forEach(duplicateIndex::update);
+
+        for (FastProblem problem : changed) {
+            results.put(problem.getId(), BulkOperationResponse.ItemResult.builder()
+                    .id(problem.getId())
+                    .success(true)
+                    .version(problem.getVersion())
+                    .build());
+        }
+        List<AcceptedTicket> accepted = acceptedProblems.stream()
+                .map(p -> new AcceptedTicket(p.getId(), p.getTitle(), acceptedRecipientEmails(p, recipientCache)))
+                .toList();
+        // Report in request order
+        List<BulkOperationResponse.ItemResult> ordered = chunk.stream().map(results::get).toList();
+        return new ChunkOutcome(ordered, accepted);
+    }
+
+    private static void collect(ChunkOutcome outcome, Map<Long, BulkOperationResponse.ItemResult> results,
+                                List<AcceptedTicket> accepted) {
+        if (outcome == null) return;
+        outcome.results().forEach(r -> results.put(r.getId(), r));
+        accepted.addAll(outcome.accepted());
+    }
+
+    private static BulkOperationResponse.ItemResult failure(Long id, String code, String message) {
+        return BulkOperationResponse.ItemResult.builder().id(id).success(false).code(code).message(message).build();
+    }
+
+    private static AuditLog auditEntry(FastProblem problem, String action, String username,
+                                       String field, String oldValue, String newValue) {
+        return AuditLog.builder()
+                .fastProblem(problem)
+                .action(action)
+                .performedBy(username)
+                .fieldChanged(field)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .build();
+    }
+
+    /** Recipients depend only on the ticket's applications, so tickets sharing them share one lookup. */
+    private List<String> acceptedRecipientEmails(FastProblem problem, Map<Set<Long>, List<String>> cache) {
+        Set<Long> appIds = problem.getApplications() == null ? Set.of()
+                : problem.getApplications().stream().map(Application::getId).filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return cache.computeIfAbsent(appIds, k -> resolveAcceptedNotificationRecipients(problem).stream()
+                .map(User::getEmail)
+                .filter(e -> e != null && !e.isBlank())
+                .map(e -> e.trim().toLowerCase())
+                .distinct()
+                .toList());
+    }
+
+    /**
+     * One email per recipient listing every ticket accepted in the bulk request (instead of one email per
+     * ticket), plus one ACCEPTED_NOTIFICATION audit row per ticket written as a single batch.
+     */
+    private void sendMergedAcceptedNotifications(List<AcceptedTicket> accepted, String username) {
+        Map<String, String> settings = appSettingsService.getSettings(false).getSettings();
+        boolean notificationEnabled = "true".equalsIgnoreCase(settings.get("acceptedTicketEmailEnabled"));
+        Map<String, List<AcceptedTicket>> byRecipient = new LinkedHashMap<>();
+        if (notificationEnabled) {
+            for (AcceptedTicket ticket : accepted) {
+                for (String email : ticket.recipientEmails()) {
+                    byRecipient.computeIfAbsent(email, k -> new ArrayList<>()).add(ticket);
+                }
+            }
+        }
+        Set<String> delivered = new HashSet<>();
+        for (Map.Entry<String, List<AcceptedTicket>> entry : byRecipient.entrySet()) {
+            List<AcceptedTicket> tickets = entry.getValue();
+            String subject = tickets.size() == 1
+                    ? "FAST Ticket #" + tickets.get(0).id() + " accepted: " + tickets.get(0).title()
+                    : "FAST: " + tickets.size() + " tickets accepted";
+            StringBuilder body = new StringBuilder("<h3>FAST Tickets Accepted</h3><p>The following tickets have moved to <strong>ACCEPTED</strong>:</p><ul>");
+            for (AcceptedTicket t : tickets) {
+                body.append("<li><strong>#").append(t.id()).append("</strong> ").append(escapeHtml(t.title())).append("</li>");
+            }
+            body.append("</ul><p>Please review and coordinate technical follow-up. Assign a BTB Tech Lead before moving to IN_PROGRESS.</p>");
+            try {
+                if (emailService.sendEmail(entry.getKey(), subject, body.toString())) {
+                    delivered.add(entry.getKey());
+                }
+            } catch (Exception ex) {
+                // counted as failed below
+            }
+        }
+
+        Map<Long, String> statusByTicket = new LinkedHashMap<>();
+        for (AcceptedTicket ticket : accepted) {
+            String status;
+            if (!notificationEnabled) {
+                status = "SKIPPED_DISABLED";
+            } else if (ticket.recipientEmails().isEmpty()) {
+                status = "SKIPPED_NO_RECIPIENTS";
+            } else {
+                long sent = ticket.recipientEmails().stream().filter(delivered::contains).count();
+                status = "SENT:" + sent + ",FAILED:" + (ticket.recipientEmails().size() - sent);
+            }
+            statusByTicket.put(ticket.id(), status);
+        }
+        // Runs after the chunk transactions; the audit service looks the tickets up in its own transaction
+        auditLogService.logActionPerTicket(statusByTicket, "ACCEPTED_NOTIFICATION", username,
+                "acceptedTicketEmailEnabled", String.valueOf(notificationEnabled));
+    }
+
+    /** Rejects the write when the caller's If-Match version is stale; null means the caller did not ask for a check. */
+    private void checkVersion(FastProblem problem, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(problem.getVersion())) {
+            throw new VersionConflictException("FastProblem", problem.getId(), expectedVersion, problem.getVersion());
+        }
+    }
+
+    /**
+     * Saves and flushes so a concurrent commit is detected here (as an optimistic locking failure) and the
+     * returned entity already carries the incremented version for the response ETag.
+     */
+    private FastProblem saveAndFlush(FastProblem problem) {
+        FastProblem saved = repository.save(problem);
+        repository.flush();
+        return saved;
+    }
+
     private FastProblem findProblemOrThrow(Long id) {
         FastProblem problem = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("FastProblem", "id", id));
@@ -553,10 +932,54 @@ public class FastProblemServiceImpl implements FastProblemService {
         return problem;
     }
 
-    private double calculatePriorityScore(int userImpactCount) {
+    /** Derived fields for a new ticket; shared with the bulk CSV import so both paths create identical rows. */
+    static void applyCreateDefaults(FastProblem problem) {
+        // Calculate priority score
+        problem.setPriorityScore(calculatePriorityScore(problem.getUserImpactCount()));
+
+        // Auto-assign regional group if not provided (use first region)
+        if ((problem.getAssignmentGroup() == null || problem.getAssignmentGroup().isBlank())
+                && problem.getRegions() != null && !problem.getRegions().isEmpty()) {
+            problem.setAssignmentGroup(problem.getRegions().get(0).getRegionalCode().name() + "-Problem-Team");
+        }
+    }
+
+    private static double calculatePriorityScore(int userImpactCount) {
         return (userImpactCount * USER_IMPACT_WEIGHT) + (DEFAULT_APP_CRITICALITY * APP_CRITICALITY_WEIGHT);
     }
 
+    private List<RegionalCode> parseRegionalCodes(List<String> codes) {
+        return codes.stream()
+                .filter(c -> c != null && !c.isBlank())
+                .distinct()
+                .map(c -> {
+                    try {
+                        return RegionalCode.valueOf(c.trim().toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        return null;
+                    }
+                })
+                .filter(rc -> rc != null)
+                .toList();
+    }
+
+    private void replaceRegions(FastProblem problem, List<RegionalCode> desired) {
+        // Remove regions not in desired (orphanRemoval will delete rows)
+        problem.getRegions().removeIf(r -> !desired.contains(r.getRegionalCode()));
+        // Add only regions that are not already present (avoids unique constraint on save)
+        Set<RegionalCode> existing = problem.getRegions().stream()
+                .map(FastProblemRegion::getRegionalCode)
+                .collect(Collectors.toSet());
+        for (RegionalCode rc : desired) {
+            if (!existing.contains(rc)) {
+                problem.getRegions().add(FastProblemRegion.builder()
+                        .fastProblem(problem)
+                        .regionalCode(rc)
+                        .build());
+            }
+        }
+    }
+
     private List<UserGroup> resolveUserGroups(List<Long> requestedIds) {
         if (requestedIds == null || requestedIds.isEmpty()) {
             return List.of();
@@ -565,7 +988,7 @@ public class FastProblemServiceImpl implements FastProblemService {
         if (ids.isEmpty()) {
             return List.of();
         }
-        List<UserGroup> groups = userGroupRepository.findAllById(ids);
+        List<UserGroup> groups = referenceDataCache.getUserGroups(ids);
         Set<Long> foundIds = groups.stream().map(UserGroup::getId).collect(Collectors.toSet());
         List<Long> missing = ids.stream().filter(id -> !foundIds.contains(id)).toList();
         if (!missing.isEmpty()) {
@@ -634,14 +1057,42 @@ public class FastProblemServiceImpl implements FastProblemService {
                 .distinct()
                 .toList();
         if (!applicationIds.isEmpty()) {
-            Set<User> matched = userRepository.findTechLeadsByApplicationIds(UserRole.TECH_LEAD, applicationIds);
+            List<Long> matched = userApplicationIndex.findActiveUserIds(UserRole.TECH_LEAD, applicationIds);
             if (!matched.isEmpty()) {
-                return new ArrayList<>(matched);
+                return userRepository.findAllById(matched);
             }
         }
         return userRepository.findByRoleInAndActiveTrue(List.of(UserRole.TECH_LEAD));
     }
 
+    /**
+     * ARCHIVED view: archived tickets still in fast_problem (knowledge-article sources, or not yet moved by the
+     * nightly job) come first, followed by fast_problem_archive, paged as one list.
+     */
+    private PagedResponse<FastProblemResponse> archivedPage(Specification<FastProblem> hotSpec,
+                                                            FastProblemArchiveRepository.Filter archiveFilter,
+                                                            Pageable pageable) {
+        Page<FastProblem> hot = repository.findAll(hotSpec, pageable);
+        if (!archiveRepository.isAvailable()) {
+            return toPagedResponse(hot);
+        }
+        List<FastProblemResponse> content = new ArrayList<>(hot.getContent().stream().map(mapper::toSummaryResponse).toList());
+        long archivedTotal = archiveRepository.count(archiveFilter);
+        long archiveOffset = Math.max(0, pageable.getOffset() - hot.getTotalElements());
+        archiveRepository.findPage(archiveFilter, archiveOffset, pageable.getPageSize() - content.size(), pageable.getSort())
+                .forEach(p -> content.add(mapper.toSummaryResponse(p)));
+        long total = hot.getTotalElements() + archivedTotal;
+        int totalPages = (int) Math.ceil(total / (double) pageable.getPageSize());
+        return PagedResponse.<FastProblemResponse>builder()
+                .content(content)
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .totalElements(total)
+                .totalPages(totalPages)
+                .last(pageable.getPageNumber() + 1 >= totalPages)
+                .build();
+    }
+
     private PagedResponse<FastProblemResponse> toPagedResponse(Page<FastProblem> page) {
         return PagedResponse.<FastProblemResponse>builder()
                 .content(page.getContent().stream().map(mapper::toSummaryResponse).toList())
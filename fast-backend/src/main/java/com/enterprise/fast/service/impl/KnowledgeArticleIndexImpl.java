@@ -0,0 +1,275 @@
+package com.enterprise.fast.service.impl;
+
+import com.enterprise.fast.domain.entity.KnowledgeArticle;
+import com.enterprise.fast.domain.enums.ArticleStatus;
+import com.enterprise.fast.dto.response.ArticleRecommendationResponse;
+import com.enterprise.fast.repository.KnowledgeArticleRepository;
+import com.enterprise.fast.service.KnowledgeArticleIndex;
+import com.enterprise.fast.util.TextNormalizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@link KnowledgeArticleIndex} as an inverted index of field-boosted term frequencies per article, scored with
+ * Okapi BM25 (k1 = 1.2, b = 0.75). A query only touches the postings of its own terms, so the
+ * cost follows the number of articles sharing a word with the ticket rather than the size of the knowledge base.
+ */
+@Service
+public class KnowledgeArticleIndexImpl extends RebuildableIndex<KnowledgeArticleIndexImpl.Index>
+        implements KnowledgeArticleIndex, MeterBinder {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    /** Field boosts: a term in the title counts three times, in the root cause twice, in the workaround 1.5 times. */
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float ROOT_CAUSE_WEIGHT = 2f;
+    private static final float WORKAROUND_WEIGHT = 1.5f;
+    /** Query terms beyond this are ignored; a long ticket description adds noise, not precision. */
+    private static final int MAX_QUERY_TERMS = 200;
+    private static final int LOAD_PAGE_SIZE = 1000;
+    private static final Comparator<Map.Entry<Long, Double>> BEST_FIRST =
+            Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final KnowledgeArticleRepository repository;
+
+    public KnowledgeArticleIndexImpl(KnowledgeArticleRepository repository) {
+        super("knowledge article index", "article edits");
+        this.repository = repository;
+    }
+
+    @Override
+    public List<ArticleRecommendationResponse> search(String text, Long excludeProblemId, int limit) {
+        Set<String> terms = queryTerms(text);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return read(current -> current.top(current.score(terms),
+                doc -> excludeProblemId == null || !excludeProblemId.equals(doc.problemId()), 0, limit));
+    }
+
+    @Override
+    public SearchPage facetedSearch(String text, String category, ArticleStatus status, int offset, int limit) {
+        Set<String> terms = queryTerms(text);
+        if (terms.isEmpty()) {
+            return new SearchPage(List.of(), 0, Map.of(), Map.of());
+        }
+        return read(current -> {
+            Map<Long, Double> scores = current.score(terms);
+            Predicate<Doc> inCategory = doc -> category == null || category.equalsIgnoreCase(doc.category());
+            Predicate<Doc> inStatus = doc -> status == null || status == doc.status();
+
+            Map<String, Long> categories = new HashMap<>();
+            Map<String, Long> statuses = new HashMap<>();
+            long total = 0;
+            for (Long id : scores.keySet()) {
+                Doc doc = current.docs.get(id);
+                boolean categoryMatches = inCategory.test(doc);
+                boolean statusMatches = inStatus.test(doc);
+                if (statusMatches && doc.category() != null) {
+                    categories.merge(doc.category(), 1L, Long::sum);
+                }
+                if (categoryMatches && doc.status() != null) {
+                    statuses.merge(doc.status().name(), 1L, Long::sum);
+                }
+                if (categoryMatches && statusMatches) {
+                    total++;
+                }
+            }
+            List<ArticleRecommendationResponse> hits = current.top(scores, inCategory.and(inStatus), offset, limit);
+            return new SearchPage(hits, total, byCount(categories), byCount(statuses));
+        });
+    }
+
+    @Override
+    public void update(KnowledgeArticle article) {
+        if (article == null || article.getId() == null) {
+            return;
+        }
+        Doc doc = doc(article.getId(), article.getFastProblem() != null ? article.getFastProblem().getId() : null,
+                article.getTitle(), article.getRootCause(), article.getWorkaround(), article.getPermanentFix(),
+                article.getCategory(), article.getStatus());
+        patch(current -> {
+            current.remove(doc.id());
+            current.add(doc);
+            return current;
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.knowledge.recommendations.refresh-ms:900000}",
+            initialDelayString = "${app.knowledge.recommendations.refresh-ms:900000}")
+    public void rebuild() {
+        reload();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("fast.knowledge.indexed", this, KnowledgeArticleIndexImpl::indexedCount)
+                .description("Knowledge articles in the in-memory recommendation index")
+                .register(registry);
+    }
+
+    @Override
+    protected int size(Index index) {
+        return index.docs.size();
+    }
+
+    @Override
+    protected Index load() {
+        Index built = new Index();
+        long afterId = 0;
+        List<KnowledgeArticleRepository.IndexSource> page;
+        do {
+            page = repository.findIndexSources(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (KnowledgeArticleRepository.IndexSource source : page) {
+                built.add(doc(source.getId(), source.getProblemId(), source.getTitle(), source.getRootCause(),
+                        source.getWorkaround(), source.getPermanentFix(), source.getCategory(), source.getStatus()));
+                afterId = source.getId();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+        return built;
+    }
+
+    /** Distinct query terms in order of appearance, at most {@value #MAX_QUERY_TERMS}. */
+    private static Set<String> queryTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : TextNormalizer.tokens(text)) {
+            if (terms.size() == MAX_QUERY_TERMS) {
+                break;
+            }
+            terms.add(term);
+        }
+        return terms;
+    }
+
+    private static Map<String, Long> byCount(Map<String, Long> counts) {
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+        return ordered;
+    }
+
+    private static Doc doc(Long id, Long problemId, String title, String rootCause, String workaround,
+                           String permanentFix, String category, ArticleStatus status) {
+        Map<String, Float> tf = new HashMap<>();
+        addTerms(tf, title, TITLE_WEIGHT);
+        addTerms(tf, rootCause, ROOT_CAUSE_WEIGHT);
+        addTerms(tf, workaround, WORKAROUND_WEIGHT);
+        addTerms(tf, permanentFix, 1f);
+        addTerms(tf, category, 1f);
+        float length = 0;
+        for (float weight : tf.values()) {
+            length += weight;
+        }
+        return new Doc(id, problemId, title, category, status, length, tf);
+    }
+
+    private static void addTerms(Map<String, Float> tf, String text, float weight) {
+        for (String term : TextNormalizer.tokens(text)) {
+            tf.merge(term, weight, Float::sum);
+        }
+    }
+
+    private record Doc(Long id, Long problemId, String title, String category, ArticleStatus status,
+                       float length, Map<String, Float> termFrequencies) {
+    }
+
+    static final class Index {
+
+        final Map<Long, Doc> docs = new HashMap<>();
+        final Map<String, Map<Long, Float>> postings = new HashMap<>();
+        double totalLength;
+
+        void add(Doc doc) {
+            docs.put(doc.id(), doc);
+            totalLength += doc.length();
+            doc.termFrequencies().forEach((term, tf) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(doc.id(), tf));
+        }
+
+        /** BM25 score of every article containing at least one of the terms. */
+        Map<Long, Double> score(Set<String> terms) {
+            Map<Long, Double> scores = new HashMap<>();
+            if (docs.isEmpty()) {
+                return scores;
+            }
+            int n = docs.size();
+            double averageLength = totalLength / n;
+            for (String term : terms) {
+                Map<Long, Float> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (n - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                for (Map.Entry<Long, Float> posting : termPostings.entrySet()) {
+                    double tf = posting.getValue();
+                    double norm = K1 * (1 - B + B * docs.get(posting.getKey()).length() / averageLength);
+                    scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+            return scores;
+        }
+
+        /** Hits {@code offset} to {@code offset + limit} of the accepted articles, keeping only that many in a heap. */
+        List<ArticleRecommendationResponse> top(Map<Long, Double> scores, Predicate<Doc> accept, int offset, int limit) {
+            int keep = (int) Math.min((long) offset + limit, scores.size());
+            if (keep <= offset) {
+                return List.of();
+            }
+            PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(keep + 1, BEST_FIRST.reversed());
+            for (Map.Entry<Long, Double> score : scores.entrySet()) {
+                if (!accept.test(docs.get(score.getKey()))) {
+                    continue;
+                }
+                heap.add(score);
+                if (heap.size() > keep) {
+                    heap.poll();
+                }
+            }
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap);
+            ranked.sort(BEST_FIRST);
+            List<ArticleRecommendationResponse> hits = new ArrayList<>(Math.max(0, ranked.size() - offset));
+            for (Map.Entry<Long, Double> score : ranked.subList(Math.min(offset, ranked.size()), ranked.size())) {
+                Doc doc = docs.get(score.getKey());
+                hits.add(ArticleRecommendationResponse.builder()
+                        .id(doc.id())
+                        .fastProblemId(doc.problemId())
+                        .title(doc.title())
+                        .category(doc.category())
+                        .status(doc.status() != null ? doc.status().name() : null)
+                        .score(score.getValue())
+                        .build());
+            }
+            return hits;
+        }
+
+        void remove(Long id) {
+            Doc doc = docs.remove(id);
+            if (doc == null) {
+                return;
+            }
+            totalLength -= doc.length();
+            for (String term : doc.termFrequencies().keySet()) {
+                Map<Long, Float> termPostings = postings.get(term);
+                if (termPostings != null && termPostings.remove(id) != null && termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -3,13 +3,19 @@ package com.enterprise.fast.service.impl;
 import com.enterprise.fast.domain.entity.FastProblem;
 import com.enterprise.fast.domain.entity.KnowledgeArticle;
 import com.enterprise.fast.domain.enums.ArticleStatus;
+import com.enterprise.fast.dto.response.ArticleRecommendationResponse;
 import com.enterprise.fast.dto.response.KnowledgeArticleResponse;
+import com.enterprise.fast.dto.response.KnowledgeSearchHitResponse;
+import com.enterprise.fast.dto.response.KnowledgeSearchResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
 import com.enterprise.fast.exception.ResourceNotFoundException;
 import com.enterprise.fast.mapper.FastProblemMapper;
 import com.enterprise.fast.repository.FastProblemRepository;
 import com.enterprise.fast.repository.KnowledgeArticleRepository;
+import com.enterprise.fast.service.KnowledgeArticleIndex;
 import com.enterprise.fast.service.KnowledgeArticleService;
+import com.enterprise.fast.util.Highlighter;
+import com.enterprise.fast.util.TextNormalizer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,15 +23,29 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class KnowledgeArticleServiceImpl implements KnowledgeArticleService {
 
+    static final int MAX_RECOMMENDATIONS = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int FRAGMENT_LENGTH = 200;
+
     private final KnowledgeArticleRepository articleRepository;
     private final FastProblemRepository problemRepository;
     private final FastProblemMapper mapper;
+    private final KnowledgeArticleIndex articleIndex;
 
     @Override
     @Transactional(readOnly = true)
@@ -71,8 +91,11 @@ public class KnowledgeArticleServiceImpl implements KnowledgeArticleService {
         if (workaround != null) article.setWorkaround(workaround);
         if (permanentFix != null) article.setPermanentFix(permanentFix);
         if (category != null) article.setCategory(category);
+        // The article is embedded in the ticket detail response, so the ticket version must move too
+        if (article.getFastProblem() != null) article.getFastProblem().touch();
 
         KnowledgeArticle saved = articleRepository.save(article);
+        articleIndex.update(saved);
         return mapper.toKnowledgeArticleResponse(saved);
     }
 
@@ -96,6 +119,102 @@ public class KnowledgeArticleServiceImpl implements KnowledgeArticleService {
                 .category(problem.getAffectedApplication())
                 .build();
 
-        articleRepository.save(article);
+        articleIndex.update(articleRepository.save(article));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArticleRecommendationResponse> recommendForProblem(Long problemId, int limit) {
+        FastProblem problem = problemRepository.findById(problemId)
+                .orElseThrow(() -> new ResourceNotFoundException("FastProblem", "id", problemId));
+        String text = Stream.of(problem.getTitle(), problem.getDescription(), problem.getRootCause(), problem.getWorkaround())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "));
+        return articleIndex.search(text, problemId, checkLimit(limit));
+    }
+
+    @Override
+    public List<ArticleRecommendationResponse> recommend(String text, int limit) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Text to match must not be blank");
+        }
+        return articleIndex.search(text, null, checkLimit(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KnowledgeSearchResponse search(String query, String category, String status, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search text must not be blank");
+        }
+        ArticleStatus articleStatus = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                articleStatus = ArticleStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Invalid article status: " + status);
+            }
+        }
+        int safePage = Math.max(0, page);
+        int safeSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        int offset = (int) Math.min((long) safePage * safeSize, Integer.MAX_VALUE);
+
+        KnowledgeArticleIndex.SearchPage result = articleIndex.facetedSearch(query,
+                category == null || category.isBlank() ? null : category.trim(), articleStatus, offset, safeSize);
+
+        // Only the page's articles are read back, for the highlighted fragments
+        Map<Long, KnowledgeArticle> articles = articleRepository.findAllById(
+                        result.hits().stream().map(ArticleRecommendationResponse::getId).toList()).stream()
+                .collect(Collectors.toMap(KnowledgeArticle::getId, Function.identity()));
+        Set<String> terms = new HashSet<>(TextNormalizer.tokens(query));
+        List<KnowledgeSearchHitResponse> hits = result.hits().stream()
+                .filter(hit -> articles.containsKey(hit.getId()))
+                .map(hit -> KnowledgeSearchHitResponse.builder()
+                        .id(hit.getId())
+                        .fastProblemId(hit.getFastProblemId())
+                        .title(hit.getTitle())
+                        .category(hit.getCategory())
+                        .status(hit.getStatus())
+                        .score(hit.getScore())
+                        .highlights(highlights(articles.get(hit.getId()), terms))
+                        .build())
+                .toList();
+
+        int totalPages = (int) Math.ceil(result.total() / (double) safeSize);
+        return KnowledgeSearchResponse.builder()
+                .results(PagedResponse.<KnowledgeSearchHitResponse>builder()
+                        .content(hits)
+                        .page(safePage)
+                        .size(safeSize)
+                        .totalElements(result.total())
+                        .totalPages(totalPages)
+                        .last(safePage >= totalPages - 1)
+                        .build())
+                .categories(result.categories())
+                .statuses(result.statuses())
+                .build();
+    }
+
+    private static Map<String, String> highlights(KnowledgeArticle article, Set<String> terms) {
+        Map<String, String> highlights = new LinkedHashMap<>();
+        putHighlight(highlights, "title", article.getTitle(), terms);
+        putHighlight(highlights, "rootCause", article.getRootCause(), terms);
+        putHighlight(highlights, "workaround", article.getWorkaround(), terms);
+        putHighlight(highlights, "permanentFix", article.getPermanentFix(), terms);
+        return highlights;
+    }
+
+    private static void putHighlight(Map<String, String> highlights, String field, String text, Set<String> terms) {
+        String fragment = Highlighter.highlight(text, terms, FRAGMENT_LENGTH);
+        if (fragment != null) {
+            highlights.put(field, fragment);
+        }
+    }
+
+    private static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_RECOMMENDATIONS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_RECOMMENDATIONS);
+        }
+        return limit;
     }
 }
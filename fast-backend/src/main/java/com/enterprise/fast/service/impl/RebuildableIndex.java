@@ -0,0 +1,150 @@
+package com.enterprise.fast.service.impl;
+
+import com.enterprise.fast.util.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Base of the in-memory indexes that are loaded from the database at startup, reloaded on a schedule (to pick up
+ * other nodes' edits) and patched in between as local edits commit. Rebuilds and patches swap or change the index
+ * under the write lock. Every patch bumps a counter, so a rebuild that loaded its rows while a patch was applied is
+ * retried rather than overwriting the patch with older rows.
+ *
+ * @param <I> the index structure; either changed in place by patches and read through {@link #read}, or immutable,
+ *            replaced by patches and read through {@link #current}
+ */
+@Slf4j
+public abstract class RebuildableIndex<I> {
+
+    /** Maximum rebuild attempts when edits are patched in while the index is being loaded. */
+    private static final int REBUILD_ATTEMPTS = 3;
+
+    private final String name;
+    private final String edits;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Replaced (and, for mutable indexes, changed) under the write lock. */
+    private volatile I index;
+    /** Guarded by lock; incremented by every patch. */
+    private long patches;
+
+    /**
+     * @param name  what the index is, for log messages ("duplicate ticket index")
+     * @param edits what patches it, for log messages ("ticket edits")
+     */
+    protected RebuildableIndex(String name, String edits) {
+        this.name = name;
+        this.edits = edits;
+    }
+
+    /** Builds a complete index from the database. Called without holding the lock. */
+    protected abstract I load();
+
+    /** Number of entries, for the debug log and the gauges. */
+    protected abstract int size(I index);
+
+    /** Reloads the index; implementations schedule it and call {@link #reload()}. */
+    public abstract void rebuild();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAtStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // Built on first use instead
+            log.warn("Could not build the {} at startup: {}", name, e.getMessage());
+        }
+    }
+
+    protected final void reload() {
+        for (int attempt = 1; attempt <= REBUILD_ATTEMPTS; attempt++) {
+            long patchesBefore;
+            lock.readLock().lock();
+            try {
+                patchesBefore = patches;
+            } finally {
+                lock.readLock().unlock();
+            }
+            I built = load();
+            lock.writeLock().lock();
+            try {
+                if (patches == patchesBefore) {
+                    index = built;
+                    log.debug("Rebuilt the {}: {} entries", name, size(built));
+                    return;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.warn("Rebuild of the {} kept racing with {}; keeping the patched index until the next refresh", name, edits);
+    }
+
+    /**
+     * Applies a change once the current transaction commits (right away outside one). The change gets the current
+     * index and returns the index to keep: the same one changed in place, or a replacement.
+     */
+    protected final void patch(UnaryOperator<I> change) {
+        AfterCommit.run(() -> {
+            ensureLoaded();
+            lock.writeLock().lock();
+            try {
+                index = change.apply(index);
+                patches++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /** Reads a mutable index under the read lock, loading it first if no build has run yet. */
+    protected final <R> R read(Function<I, R> reader) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return reader.apply(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The current immutable index without locking, loading it first if no build has run yet. */
+    protected final I current() {
+        ensureLoaded();
+        return index;
+    }
+
+    /** The index as it is, null before the first load; never triggers a load (for gauges). */
+    protected final I peek() {
+        return index;
+    }
+
+    /** Entries in the index, 0 before the first load; never triggers a load (for gauges). */
+    protected final double indexedCount() {
+        lock.readLock().lock();
+        try {
+            return index != null ? size(index) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Loads the index on first use, when a read or patch comes before the startup build. */
+    private void ensureLoaded() {
+        if (index == null) {
+            lock.writeLock().lock();
+            try {
+                if (index == null) {
+                    index = load();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.enterprise.fast.service.impl;
+
+import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.User;
+import com.enterprise.fast.domain.entity.UserGroup;
+import com.enterprise.fast.dto.response.CacheStatsResponse;
+import com.enterprise.fast.repository.ApplicationRepository;
+import com.enterprise.fast.repository.UserGroupRepository;
+import com.enterprise.fast.repository.UserRepository;
+import com.enterprise.fast.service.ReferenceDataCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Caffeine-backed {@link ReferenceDataCache}. Applications and user groups are cached as one name-ordered snapshot
+ * per table; users are cached per username. Entries also expire after a fixed time so writes made by another
+ * instance (or directly in the database) become visible without a restart. Statistics are published as the
+ * cache.* meters (tag cache=applications|userGroups|users).
+ */
+@Slf4j
+@Service
+public class ReferenceDataCacheImpl implements ReferenceDataCache, MeterBinder {
+
+    static final String APPLICATIONS = "applications";
+    static final String USER_GROUPS = "userGroups";
+    static final String USERS = "users";
+
+    private static final String ALL = "all";
+
+    private final LoadingCache<String, Map<Long, Application>> applications;
+    private final LoadingCache<String, Map<Long, UserGroup>> userGroups;
+    private final LoadingCache<String, Optional<CachedUser>> users;
+
+    public ReferenceDataCacheImpl(ApplicationRepository applicationRepository,
+                                  UserGroupRepository userGroupRepository,
+                                  UserRepository userRepository,
+                                  @Value("${app.cache.reference.expire-after-write-seconds:600}") long referenceTtlSeconds,
+                                  @Value("${app.cache.users.expire-after-write-seconds:300}") long userTtlSeconds,
+                                  @Value("${app.cache.users.maximum-size:10000}") long maxUsers) {
+        this.applications = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(referenceTtlSeconds))
+                .recordStats()
+                .build(key -> snapshot(applicationRepository.findAllByOrderByNameAsc(), Application::getId,
+                        ReferenceDataCacheImpl::copy));
+        this.userGroups = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(referenceTtlSeconds))
+                .recordStats()
+                .build(key -> snapshot(userGroupRepository.findAllByOrderByNameAsc(), UserGroup::getId,
+                        ReferenceDataCacheImpl::copy));
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(userTtlSeconds))
+                .recordStats()
+                .build(username -> userRepository.findByUsernameIgnoreCase(username).map(ReferenceDataCacheImpl::toCachedUser));
+    }
+
+    @Override
+    public List<Application> getApplications() {
+        return applications.get(ALL).values().stream().map(ReferenceDataCacheImpl::copy).toList();
+    }
+
+    @Override
+    public List<Application> getApplications(Collection<Long> ids) {
+        return pick(applications.get(ALL), ids, ReferenceDataCacheImpl::copy);
+    }
+
+    @Override
+    public List<UserGroup> getUserGroups() {
+        return userGroups.get(ALL).values().stream().map(ReferenceDataCacheImpl::copy).toList();
+    }
+
+    @Override
+    public List<UserGroup> getUserGroups(Collection<Long> ids) {
+        return pick(userGroups.get(ALL), ids, ReferenceDataCacheImpl::copy);
+    }
+
+    @Override
+    public Optional<CachedUser> findUser(String username) {
+        if (username == null || username.isBlank()) {
+            return Optional.empty();
+        }
+        return users.get(username.trim().toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public void evictApplications() {
+        evictNowAndAfterCompletion(applications::invalidateAll);
+    }
+
+    @Override
+    public void evictUserGroups() {
+        evictNowAndAfterCompletion(userGroups::invalidateAll);
+    }
+
+    @Override
+    public void evictUser(String username) {
+        if (username != null) {
+            String key = username.trim().toLowerCase(Locale.ROOT);
+            evictNowAndAfterCompletion(() -> users.invalidate(key));
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        evictNowAndAfterCompletion(() -> {
+            applications.invalidateAll();
+            userGroups.invalidateAll();
+            users.invalidateAll();
+        });
+    }
+
+    @Override
+    public List<CacheStatsResponse> getStats() {
+        return List.of(toStats(APPLICATIONS, applications), toStats(USER_GROUPS, userGroups), toStats(USERS, users));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, applications, APPLICATIONS);
+        CaffeineCacheMetrics.monitor(registry, userGroups, USER_GROUPS);
+        CaffeineCacheMetrics.monitor(registry, users, USERS);
+    }
+
+    /**
+     * Evicts right away (so the writing transaction itself reads fresh data) and again once the transaction ends,
+     * dropping anything another thread loaded from the database before the commit became visible.
+     */
+    private static void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private static <T> Map<Long, T> snapshot(List<T> rows, Function<T, Long> id, Function<T, T> copy) {
+        Map<Long, T> byId = new LinkedHashMap<>();
+        rows.forEach(row -> byId.put(id.apply(row), copy.apply(row)));
+        log.debug("Loaded {} reference rows", byId.size());
+        return Collections.unmodifiableMap(byId);
+    }
+
+    private static <T> List<T> pick(Map<Long, T> byId, Collection<Long> ids, Function<T, T> copy) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return ids.stream().filter(Objects::nonNull).distinct().map(byId::get).filter(Objects::nonNull).map(copy).toList();
+    }
+
+    private static Application copy(Application a) {
+        return Application.builder()
+                .id(a.getId())
+                .name(a.getName())
+                .code(a.getCode())
+                .description(a.getDescription())
+                .createdDate(a.getCreatedDate())
+                .updatedDate(a.getUpdatedDate())
+                .build();
+    }
+
+    private static UserGroup copy(UserGroup g) {
+        return UserGroup.builder()
+                .id(g.getId())
+                .name(g.getName())
+                .code(g.getCode())
+                .description(g.getDescription())
+                .active(g.getActive())
+                .createdDate(g.getCreatedDate())
+                .updatedDate(g.getUpdatedDate())
+                .build();
+    }
+
+    private static CachedUser toCachedUser(User u) {
+        return new CachedUser(u.getId(), u.getUsername(), u.getEmail(), u.getFullName(), u.getRole(), u.getRegion(),
+                Boolean.TRUE.equals(u.getActive()));
+    }
+
+    private static CacheStatsResponse toStats(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .loadCount(stats.loadCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.enterprise.fast.service.impl;
+
+import com.enterprise.fast.dto.response.SchedulerLockResponse;
+import com.enterprise.fast.repository.SchedulerLockRepository;
+import com.enterprise.fast.service.SchedulerLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Times are taken from this node's clock, so node clocks must agree to well within the shortest lease; release()
+ * keeps a lock for a minimum hold time to absorb small differences between nodes' trigger times.
+ */
+@Service
+@Slf4j
+public class SchedulerLockServiceImpl implements SchedulerLockService {
+
+    private final SchedulerLockRepository lockRepository;
+    private final TransactionTemplate requiresNew;
+    private final String nodeId;
+    private final Clock clock;
+
+    public SchedulerLockServiceImpl(SchedulerLockRepository lockRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.scheduler-lock.node-id:}") String nodeId) {
+        this.lockRepository = lockRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId.trim();
+        this.clock = Clock.systemDefaultZone();
+    }
+
+    @Override
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime until = now.plus(lease);
+        Integer updated = requiresNew.execute(status -> lockRepository.acquireExpired(name, nodeId, now, until));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        if (lockRepository.existsById(name)) {
+            return false;
+        }
+        // First run of this job anywhere: a plain INSERT, so a concurrent insert by another node fails on the key
+        try {
+            requiresNew.executeWithoutResult(status -> lockRepository.insert(name, nodeId, now, until));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Lock {} created concurrently by another node", name);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean extend(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Integer updated = requiresNew.execute(status -> lockRepository.extend(name, nodeId, now, now.plus(lease)));
+        return updated != null && updated > 0;
+    }
+
+    @Override
+    public void release(String name, LocalDateTime startedAt, Duration minHold, String outcome) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime holdUntil = startedAt.plus(minHold);
+        LocalDateTime until = holdUntil.isAfter(now) ? holdUntil : now;
+        long durationMs = Duration.between(startedAt, now).toMillis();
+        Integer updated = requiresNew.execute(status ->
+                lockRepository.release(name, nodeId, until, startedAt, now, durationMs, outcome));
+        if (updated == null || updated == 0) {
+            log.warn("Lock {} was taken over by another node before {} finished; run metadata not recorded", name, nodeId);
+        }
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public List<SchedulerLockResponse> getLocks() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return lockRepository.findAllByOrderByNameAsc().stream()
+                .map(l -> SchedulerLockResponse.builder()
+                        .name(l.getName())
+                        .held(l.getLockUntil() != null && l.getLockUntil().isAfter(now))
+                        .lockedBy(l.getLockedBy())
+                        .lockedAt(l.getLockedAt())
+                        .lockUntil(l.getLockUntil())
+                        .lastStartedAt(l.getLastStartedAt())
+                        .lastFinishedAt(l.getLastFinishedAt())
+                        .lastDurationMs(l.getLastDurationMs())
+                        .lastOutcome(l.getLastOutcome())
+                        .lastRunBy(l.getLastRunBy())
+                        .build())
+                .toList();
+    }
+
+    /** host:pid, unique per running instance even with several instances on one host. */
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown-host";
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+}
@@ -0,0 +1,53 @@
+package com.enterprise.fast.service.impl;
+
+import com.enterprise.fast.repository.FastProblemArchiveRepository;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.service.TicketArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+public class TicketArchiveServiceImpl implements TicketArchiveService {
+
+    private final FastProblemRepository problemRepository;
+    private final FastProblemArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public TicketArchiveServiceImpl(FastProblemRepository problemRepository,
+                                    FastProblemArchiveRepository archiveRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${app.scheduler.archive.chunk-size:500}") int chunkSize) {
+        this.problemRepository = problemRepository;
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        // Oracle caps IN lists at 1000 expressions
+        this.chunkSize = Math.max(1, Math.min(chunkSize, 1000));
+    }
+
+    @Override
+    public int archiveClosedTickets(LocalDateTime cutoff) {
+        if (!archiveRepository.isAvailable()) {
+            Integer marked = transactionTemplate.execute(status -> problemRepository.markClosedAsArchived(cutoff));
+            return marked != null ? marked : 0;
+        }
+        int total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = archiveRepository.findIdsToArchive(cutoff, chunkSize);
+                return ids.isEmpty() ? 0 : archiveRepository.moveToArchive(ids, LocalDateTime.now());
+            });
+            if (moved == null || moved == 0) {
+                return total;
+            }
+            total += moved;
+            log.debug("Archived {} tickets so far", total);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.enterprise.fast.service.impl;
+
+import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.AuditLog;
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.entity.UserGroup;
+import com.enterprise.fast.domain.enums.RegionalCode;
+import com.enterprise.fast.dto.request.CreateFastProblemRequest;
+import com.enterprise.fast.dto.response.TicketImportResponse;
+import com.enterprise.fast.dto.response.TicketImportResponse.RowError;
+import com.enterprise.fast.mapper.FastProblemMapper;
+import com.enterprise.fast.repository.ApplicationRepository;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.repository.UserGroupRepository;
+import com.enterprise.fast.service.AuditLogService;
+import com.enterprise.fast.service.DuplicateTicketIndex;
+import com.enterprise.fast.service.TicketImportService;
+import com.enterprise.fast.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming CSV import. The file is read one record at a time; records are validated in parallel blocks
+ * against application / user group lookups loaded once per import, and valid rows are inserted in chunked
+ * transactions with one audit batch per chunk.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketImportServiceImpl implements TicketImportService {
+
+    private static final int MAX_ROWS = 20_000;
+    private static final int VALIDATION_BLOCK = 1_000;
+    private static final int INSERT_CHUNK = 200;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    /** Normalized header (lowercase, letters and digits only) -> column key. */
+    private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("title", "title"),
+            Map.entry("description", "description"),
+            Map.entry("pbtid", "pbtId"),
+            Map.entry("incidentnumber", "incidentNumber"),
+            Map.entry("servicenowincidentnumber", "incidentNumber"),
+            Map.entry("problemnumber", "problemNumber"),
+            Map.entry("servicenowproblemnumber", "problemNumber"),
+            Map.entry("regions", "regions"),
+            Map.entry("region", "regions"),
+            Map.entry("regionalcodes", "regions"),
+            Map.entry("userimpact", "userImpactCount"),
+            Map.entry("userimpactcount", "userImpactCount"),
+            Map.entry("priority", "priority"),
+            Map.entry("applications", "applications"),
+            Map.entry("impactedusergroups", "userGroups"),
+            Map.entry("usergroups", "userGroups"),
+            Map.entry("impactedusergroupnotes", "userGroupNotes"),
+            Map.entry("dqreference", "dqReference"),
+            Map.entry("anticipatedbenefits", "anticipatedBenefits"),
+            Map.entry("benefits", "anticipatedBenefits"),
+            Map.entry("targetresolutionhours", "targetResolutionHours"),
+            Map.entry("assignedto", "assignedTo"),
+            Map.entry("assignmentgroup", "assignmentGroup"),
+            Map.entry("confluencelink", "confluenceLink"),
+            Map.entry("affectedapplication", "affectedApplication"),
+            Map.entry("requestnumber", "requestNumber")
+    );
+
+    private final FastProblemRepository repository;
+    private final ApplicationRepository applicationRepository;
+    private final UserGroupRepository userGroupRepository;
+    private final FastProblemMapper mapper;
+    private final AuditLogService auditLogService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final DuplicateTicketIndex duplicateIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private record RawRow(long line, Map<String, String> cells) {
+    }
+
+    private record ParsedRow(long line, CreateFastProblemRequest request, List<RowError> errors) {
+    }
+
+    /** Reference data resolved once per import: id, code or name (lowercase) -> id. */
+    private record Lookups(Map<String, Long> applications, Map<String, Long> userGroups) {
+    }
+
+    @Override
+    public TicketImportResponse importCsv(InputStream csv, boolean dryRun, boolean skipInvalid, String username) throws IOException {
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        String[] columns = header.stream()
+                .map(h -> HEADER_ALIASES.get(h.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "")))
+                .toArray(String[]::new);
+        if (!Arrays.asList(columns).contains("title")) {
+            throw new IllegalArgumentException("CSV header must include a 'title' column");
+        }
+
+        Lookups lookups = loadLookups();
+        List<ParsedRow> valid = new ArrayList<>();
+        List<RowError> errors = new ArrayList<>();
+        int total = 0;
+        int invalid = 0;
+        List<RawRow> block = new ArrayList<>(VALIDATION_BLOCK);
+        while (true) {
+            long line = reader.getLineNumber();
+            List<String> record = reader.next();
+            if (record != null && isBlankRecord(record)) {
+                continue;
+            }
+            if (record != null) {
+                if (++total > MAX_ROWS) {
+                    throw new IllegalArgumentException("CSV exceeds the limit of " + MAX_ROWS + " rows; split the file");
+                }
+                block.add(new RawRow(line, toCells(columns, record)));
+            }
+            if (block.size() == VALIDATION_BLOCK || (record == null && !block.isEmpty())) {
+                // Validation is CPU-only (lookups are in-memory maps), so rows in a block are checked in parallel
+                for (ParsedRow row : block.parallelStream().map(r -> parse(r, lookups)).toList()) {
+                    if (row.errors().isEmpty()) {
+                        valid.add(row);
+                    } else {
+                        invalid++;
+                        addErrors(errors, row.errors());
+                    }
+                }
+                block.clear();
+            }
+            if (record == null) break;
+        }
+
+        TicketImportResponse.TicketImportResponseBuilder report = TicketImportResponse.builder()
+                .dryRun(dryRun)
+                .totalRows(total)
+                .validRows(valid.size())
+                .invalidRows(invalid);
+        if (!dryRun && (invalid == 0 || skipInvalid) && !valid.isEmpty()) {
+            int created = insert(valid, username, errors);
+            report.committed(created > 0).created(created);
+        }
+        boolean truncated = errors.size() > MAX_REPORTED_ERRORS;
+        return report
+                .errors(truncated ? errors.subList(0, MAX_REPORTED_ERRORS) : errors)
+                .errorsTruncated(truncated)
+                .build();
+    }
+
+    private Lookups loadLookups() {
+        Map<String, Long> apps = new HashMap<>();
+        for (Application a : applicationRepository.findAll()) {
+            putKeys(apps, a.getId(), a.getCode(), a.getName());
+        }
+        Map<String, Long> groups = new HashMap<>();
+        for (UserGroup g : userGroupRepository.findAll()) {
+            putKeys(groups, g.getId(), g.getCode(), g.getName());
+        }
+        return new Lookups(apps, groups);
+    }
+
+    private static void putKeys(Map<String, Long> map, Long id, String code, String name) {
+        map.put(String.valueOf(id), id);
+        if (code != null && !code.isBlank()) map.putIfAbsent(code.trim().toLowerCase(Locale.ROOT), id);
+        if (name != null && !name.isBlank()) map.putIfAbsent(name.trim().toLowerCase(Locale.ROOT), id);
+    }
+
+    private ParsedRow parse(RawRow raw, Lookups lookups) {
+        Map<String, String> c = raw.cells();
+        List<RowError> errors = new ArrayList<>();
+        CreateFastProblemRequest request = CreateFastProblemRequest.builder()
+                .title(c.get("title"))
+                .description(c.get("description"))
+                .pbtId(c.get("pbtId"))
+                .servicenowIncidentNumber(c.get("incidentNumber"))
+                .servicenowProblemNumber(c.get("problemNumber"))
+                .affectedApplication(c.get("affectedApplication"))
+                .requestNumber(c.get("requestNumber"))
+                .dqReference(c.get("dqReference"))
+                .impactedUserGroupNotes(c.get("userGroupNotes"))
+                .anticipatedBenefits(c.get("anticipatedBenefits"))
+                .assignedTo(c.get("assignedTo"))
+                .assignmentGroup(c.get("assignmentGroup"))
+                .confluenceLink(c.get("confluenceLink"))
+                .userImpactCount(parseInt(raw.line(), "userImpactCount", c, errors))
+                .priority(parseInt(raw.line(), "priority", c, errors))
+                .targetResolutionHours(parseInt(raw.line(), "targetResolutionHours", c, errors))
+                .regionalCodes(parseRegions(raw.line(), c.get("regions"), errors))
+                .applicationIds(resolve(raw.line(), "applications", c.get("applications"), lookups.applications(), errors))
+                .impactedUserGroupIds(resolve(raw.line(), "userGroups", c.get("userGroups"), lookups.userGroups(), errors))
+                .build();
+        for (ConstraintViolation<CreateFastProblemRequest> v : validator.validate(request)) {
+            errors.add(new RowError(raw.line(), v.getPropertyPath().toString(), v.getMessage()));
+        }
+        return new ParsedRow(raw.line(), request, errors);
+    }
+
+    private static Integer parseInt(long line, String column, Map<String, String> cells, List<RowError> errors) {
+        String value = cells.get(column);
+        if (value == null) return null;
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            errors.add(new RowError(line, column, "Not a whole number: " + value));
+            return null;
+        }
+    }
+
+    private static List<String> parseRegions(long line, String value, List<RowError> errors) {
+        List<String> codes = new ArrayList<>();
+        for (String token : split(value)) {
+            try {
+                String code = RegionalCode.valueOf(token.toUpperCase(Locale.ROOT)).name();
+                if (!codes.contains(code)) codes.add(code);
+            } catch (IllegalArgumentException e) {
+                errors.add(new RowError(line, "regions", "Unknown region: " + token));
+            }
+        }
+        return codes;
+    }
+
+    private static List<Long> resolve(long line, String column, String value, Map<String, Long> lookup, List<RowError> errors) {
+        List<Long> ids = new ArrayList<>();
+        for (String token : split(value)) {
+            Long id = lookup.get(token.toLowerCase(Locale.ROOT));
+            if (id == null) {
+                errors.add(new RowError(line, column, "Unknown reference: " + token));
+            } else if (!ids.contains(id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static List<String> split(String value) {
+        if (value == null) return List.of();
+        List<String> tokens = new ArrayList<>();
+        for (String t : value.split(";")) {
+            if (!t.isBlank()) tokens.add(t.trim());
+        }
+        return tokens;
+    }
+
+    /**
+     * Inserts valid rows in chunks, each chunk in its own transaction. A failing chunk is reported against
+     * its rows and does not undo earlier chunks. Returns the number of tickets created.
+     */
+    private int insert(List<ParsedRow> rows, String username, List<RowError> errors) {
+        int created = 0;
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK) {
+            List<ParsedRow> chunk = rows.subList(from, Math.min(from + INSERT_CHUNK, rows.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<FastProblem> problems = chunk.stream().map(r -> toEntity(r.request(), username)).toList();
+                    repository.saveAll(problems);
+                    auditLogService.logActions(problems.stream()
+                            .map(p -> AuditLog.builder()
+                                    .fastProblem(p)
+                                    .action("CREATED")
+                                    .performedBy(username)
+                                    .newValue("CSV_IMPORT")
+                                    .build())
+                            .toList());
+                    problems.forEach(duplicateIndex::update);
+                    // Keep the persistence context small across chunks
+                    repository.flush();
+                    entityManager.clear();
+                });
+                created += chunk.size();
+            } catch (RuntimeException e) {
+                String message = "Insert failed: " + e.getMessage();
+                addErrors(errors, chunk.stream().map(r -> new RowError(r.line(), null, message)).toList());
+            }
+        }
+        return created;
+    }
+
+    private FastProblem toEntity(CreateFastProblemRequest request, String username) {
+        FastProblem problem = mapper.toEntity(request, username);
+        FastProblemServiceImpl.applyCreateDefaults(problem);
+        // Ids were validated against the preloaded lookups; references avoid a SELECT per row
+        request.getApplicationIds().forEach(id -> problem.getApplications().add(applicationRepository.getReferenceById(id)));
+        request.getImpactedUserGroupIds().forEach(id -> problem.getUserGroups().add(userGroupRepository.getReferenceById(id)));
+        return problem;
+    }
+
+    private static Map<String, String> toCells(String[] columns, List<String> record) {
+        Map<String, String> cells = new HashMap<>();
+        for (int i = 0; i < columns.length && i < record.size(); i++) {
+            String value = record.get(i).trim();
+            if (columns[i] != null && !value.isEmpty()) {
+                cells.put(columns[i], value);
+            }
+        }
+        return cells;
+    }
+
+    private static boolean isBlankRecord(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    private static void addErrors(List<RowError> errors, List<RowError> more) {
+        for (RowError e : more) {
+            // One extra entry is kept so the report can tell the list was truncated
+            if (errors.size() > MAX_REPORTED_ERRORS) return;
+            errors.add(e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.enterprise.fast.service.impl;
+
+import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.User;
+import com.enterprise.fast.domain.enums.UserRole;
+import com.enterprise.fast.repository.UserRepository;
+import com.enterprise.fast.service.UserApplicationIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * {@link UserApplicationIndex} held as an immutable snapshot: users and applications get dense ordinals, each user
+ * has a bitset of application ordinals and each application a bitset of user ordinals, plus one bitset of active
+ * users per role. Readers never lock; an update builds a new snapshot and swaps it in (edits are rare admin actions).
+ */
+@Service
+public class UserApplicationIndexImpl extends RebuildableIndex<UserApplicationIndexImpl.Snapshot>
+        implements UserApplicationIndex, MeterBinder {
+
+    private final UserRepository userRepository;
+
+    public UserApplicationIndexImpl(UserRepository userRepository) {
+        super("user/application membership index", "user edits");
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Set<Long> getApplicationIds(Long userId) {
+        Snapshot s = current();
+        Integer user = s.userOrdinals.get(userId);
+        if (user == null) {
+            return Set.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        s.appsByUser[user].stream().forEach(app -> ids.add(s.appIds[app]));
+        return Collections.unmodifiableSet(ids);
+    }
+
+    @Override
+    public boolean sharesApplication(Long userId, Collection<Long> applicationIds) {
+        Snapshot s = current();
+        Integer user = s.userOrdinals.get(userId);
+        if (user == null || applicationIds == null) {
+            return false;
+        }
+        BitSet apps = s.appsByUser[user];
+        for (Long applicationId : applicationIds) {
+            Integer app = s.appOrdinals.get(applicationId);
+            if (app != null && apps.get(app)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<Long> findActiveUserIds(UserRole role, Collection<Long> applicationIds) {
+        Snapshot s = current();
+        BitSet candidates = s.activeByRole.get(role);
+        if (candidates == null || applicationIds == null || applicationIds.isEmpty()) {
+            return List.of();
+        }
+        BitSet linked = new BitSet(s.userIds.length);
+        for (Long applicationId : applicationIds) {
+            Integer app = s.appOrdinals.get(applicationId);
+            if (app != null) {
+                linked.or(s.usersByApp[app]);
+            }
+        }
+        linked.and(candidates);
+        // User ordinals follow ascending ids
+        return linked.stream().mapToObj(user -> s.userIds[user]).toList();
+    }
+
+    @Override
+    public void update(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        Entry entry = new Entry(user.getRole(), Boolean.TRUE.equals(user.getActive()),
+                user.getApplications() == null ? new long[0] : user.getApplications().stream()
+                        .map(Application::getId).filter(Objects::nonNull).mapToLong(Long::longValue).distinct().toArray());
+        Long userId = user.getId();
+        patch(current -> {
+            Map<Long, Entry> entries = new HashMap<>(current.entries);
+            entries.put(userId, entry);
+            return Snapshot.of(entries);
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.membership-index.refresh-ms:300000}",
+            initialDelayString = "${app.membership-index.refresh-ms:300000}")
+    public void rebuild() {
+        reload();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("fast.membership.users", this, UserApplicationIndexImpl::indexedCount)
+                .description("Users in the in-memory user/application membership index")
+                .register(registry);
+        Gauge.builder("fast.membership.links", this, index -> {
+                    Snapshot s = index.peek();
+                    return s != null ? s.links : 0;
+                })
+                .description("User/application links in the in-memory membership index")
+                .register(registry);
+    }
+
+    @Override
+    protected int size(Snapshot snapshot) {
+        return snapshot.userIds.length;
+    }
+
+    @Override
+    protected Snapshot load() {
+        Map<Long, List<Long>> linksByUser = new HashMap<>();
+        for (UserRepository.ApplicationLink link : userRepository.findAllApplicationLinks()) {
+            linksByUser.computeIfAbsent(link.getUserId(), k -> new ArrayList<>()).add(link.getApplicationId());
+        }
+        Map<Long, Entry> entries = new HashMap<>();
+        for (UserRepository.MembershipRow row : userRepository.findAllMembershipRows()) {
+            long[] apps = linksByUser.getOrDefault(row.getId(), List.of()).stream().mapToLong(Long::longValue).toArray();
+            entries.put(row.getId(), new Entry(row.getRole(), Boolean.TRUE.equals(row.getActive()), apps));
+        }
+        return Snapshot.of(entries);
+    }
+
+    private record Entry(UserRole role, boolean active, long[] applicationIds) {
+    }
+
+    static final class Snapshot {
+
+        final Map<Long, Entry> entries;
+        final long[] userIds;
+        final Map<Long, Integer> userOrdinals;
+        final long[] appIds;
+        final Map<Long, Integer> appOrdinals;
+        final BitSet[] appsByUser;
+        final BitSet[] usersByApp;
+        final Map<UserRole, BitSet> activeByRole = new EnumMap<>(UserRole.class);
+        final int links;
+
+        private Snapshot(Map<Long, Entry> entries) {
+            this.entries = entries;
+            this.userIds = entries.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            this.userOrdinals = ordinals(userIds);
+            Set<Long> apps = new TreeSet<>();
+            entries.values().forEach(e -> Arrays.stream(e.applicationIds()).forEach(apps::add));
+            this.appIds = apps.stream().mapToLong(Long::longValue).toArray();
+            this.appOrdinals = ordinals(appIds);
+            this.appsByUser = new BitSet[userIds.length];
+            this.usersByApp = new BitSet[appIds.length];
+            for (int app = 0; app < appIds.length; app++) {
+                usersByApp[app] = new BitSet(userIds.length);
+            }
+            int linkCount = 0;
+            for (int user = 0; user < userIds.length; user++) {
+                Entry entry = entries.get(userIds[user]);
+                BitSet userApps = new BitSet(appIds.length);
+                for (long applicationId : entry.applicationIds()) {
+                    int app = appOrdinals.get(applicationId);
+                    userApps.set(app);
+                    usersByApp[app].set(user);
+                    linkCount++;
+                }
+                appsByUser[user] = userApps;
+                if (entry.active() && entry.role() != null) {
+                    activeByRole.computeIfAbsent(entry.role(), r -> new BitSet(userIds.length)).set(user);
+                }
+            }
+            this.links = linkCount;
+        }
+
+        static Snapshot of(Map<Long, Entry> entries) {
+            return new Snapshot(Collections.unmodifiableMap(entries));
+        }
+
+        private static Map<Long, Integer> ordinals(long[] ids) {
+            Map<Long, Integer> ordinals = new HashMap<>(ids.length * 2);
+            for (int i = 0; i < ids.length; i++) {
+                ordinals.put(ids[i], i);
+            }
+            return ordinals;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.enterprise.fast.dto.request.UserGroupRequest;
 import com.enterprise.fast.dto.response.UserGroupResponse;
 import com.enterprise.fast.exception.ResourceNotFoundException;
 import com.enterprise.fast.repository.UserGroupRepository;
+import com.enterprise.fast.service.ReferenceDataCache;
 import com.enterprise.fast.service.UserGroupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ import java.util.stream.Collectors;
 public class UserGroupServiceImpl implements UserGroupService {
 
     private final UserGroupRepository repository;
+    private final ReferenceDataCache referenceDataCache;
 
     private static UserGroupResponse toResponse(UserGroup group) {
         return UserGroupResponse.builder()
@@ -32,12 +34,11 @@ public class UserGroupServiceImpl implements UserGroupService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<UserGroupResponse> findAll(boolean activeOnly) {
-        List<UserGroup> groups = activeOnly
-                ? repository.findByActiveTrueOrderByNameAsc()
-                : repository.findAllByOrderByNameAsc();
-        return groups.stream().map(UserGroupServiceImpl::toResponse).collect(Collectors.toList());
+        return referenceDataCache.getUserGroups().stream()
+                .filter(group -> !activeOnly || Boolean.TRUE.equals(group.getActive()))
+                .map(UserGroupServiceImpl::toResponse)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -58,6 +59,7 @@ public class UserGroupServiceImpl implements UserGroupService {
         if (repository.findByNameIgnoreCase(name).isPresent()) {
             throw new IllegalArgumentException("User group with name '" + name + "' already exists");
         }
+        referenceDataCache.evictUserGroups();
         UserGroup saved = repository.save(UserGroup.builder()
                 .name(name)
                 .code(request.getCode() != null && !request.getCode().isBlank() ? request.getCode().trim() : null)
@@ -84,6 +86,7 @@ public class UserGroupServiceImpl implements UserGroupService {
         group.setName(name);
         group.setCode(request.getCode() != null && !request.getCode().isBlank() ? request.getCode().trim() : null);
         group.setDescription(request.getDescription() != null && !request.getDescription().isBlank() ? request.getDescription().trim() : null);
+        referenceDataCache.evictUserGroups();
         return toResponse(repository.save(group));
     }
 
@@ -93,6 +96,7 @@ public class UserGroupServiceImpl implements UserGroupService {
         UserGroup group = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("UserGroup", "id", id));
         group.setActive(false);
+        referenceDataCache.evictUserGroups();
         return toResponse(repository.save(group));
     }
 }
@@ -0,0 +1,28 @@
+package com.enterprise.fast.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory side effects of a write until its transaction has committed, so a rollback never leaves them
+ * behind and other threads never see them before the database does.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /** Runs the action after the current transaction commits (not at all on rollback), or right away outside one. */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
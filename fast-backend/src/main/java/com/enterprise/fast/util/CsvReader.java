@@ -0,0 +1,93 @@
+package com.enterprise.fast.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: quoted fields, doubled quotes, embedded separators and line breaks,
+ * CRLF or LF line endings, and a leading UTF-8 BOM. Reads one record at a time so large files are never
+ * held in memory. Not thread-safe.
+ */
+public final class CsvReader {
+
+    private static final int BOM = '\uFEFF';
+
+    private final Reader reader;
+    private int pushback = -2;
+    private boolean first = true;
+    private long lineNumber = 1;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /** Physical line on which the next record starts (1-based). */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the fields, or null at end of input
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (first) {
+            first = false;
+            if (c == BOM) c = read();
+        }
+        if (c == -1) return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field near line " + lineNumber);
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushback = n;
+                    }
+                } else {
+                    if (c == '\n') lineNumber++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') pushback = n;
+                }
+                if (c != -1) lineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,82 @@
+package com.enterprise.fast.util;
+
+import com.enterprise.fast.exception.PreconditionFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds and parses strong ETag values for ticket resources.
+ * Detail ETags come from the ticket row version; list ETags from the collection version stamp and the query.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String forProblem(Long id, Long version) {
+        return "\"fp-" + id + "-" + (version != null ? version : 0L) + "\"";
+    }
+
+    /**
+     * List ETag for one query: the collection stamp plus {@link #queryHash}, so two pages or filters never share a tag.
+     * Reference data shown in rows (application and user group names) is not part of the stamp.
+     */
+    public static String forProblemList(String collectionVersion, String queryHash) {
+        return "\"fpl-" + collectionVersion + "-" + queryHash + "\"";
+    }
+
+    /**
+     * Short hash of the request path and its parameters, sorted by name with blank values dropped, so the same query
+     * written in a different parameter order gets the same tag.
+     */
+    public static String queryHash(String path, Map<String, String[]> parameters) {
+        StringBuilder normalized = new StringBuilder(path != null ? path : "");
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(parameters).entrySet()) {
+            for (String value : parameter.getValue()) {
+                if (value != null && !value.isBlank()) {
+                    normalized.append('&').append(parameter.getKey()).append('=').append(value.trim());
+                }
+            }
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Extracts the expected ticket version from an If-Match header. Accepts the strong detail ETag or a bare version
+     * number. Returns null when the header is absent or "*", meaning no version check.
+     *
+     * @throws PreconditionFailedException for a weak tag: If-Match uses strong comparison, so it never matches
+     * @throws IllegalArgumentException if the header is not a version of this ticket
+     */
+    public static Long parseProblemVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new PreconditionFailedException("If-Match requires a strong ETag: " + ifMatch);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        String prefix = "fp-" + id + "-";
+        if (tag.startsWith(prefix)) {
+            tag = tag.substring(prefix.length());
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match does not identify a version of ticket " + id + ": " + ifMatch);
+        }
+    }
+}
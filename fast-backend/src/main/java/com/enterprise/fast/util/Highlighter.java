@@ -0,0 +1,76 @@
+package com.enterprise.fast.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Search result fragments with the matched words wrapped in {@code <mark>}. Words are compared after
+ * {@link TextNormalizer#normalize(String)}, so "Time-outs" in the text matches the query term "outs" exactly as the
+ * index saw it. Everything except the marks is HTML-escaped, so a fragment can be rendered as markup.
+ */
+public final class Highlighter {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}\\p{M}]+");
+    private static final String ELLIPSIS = "…";
+
+    private Highlighter() {
+    }
+
+    /**
+     * A fragment of at most {@code fragmentLength} characters of the text, starting a little before the first
+     * matched word, or null when no word of the text is one of the (normalized) terms.
+     */
+    public static String highlight(String text, Set<String> terms, int fragmentLength) {
+        if (text == null || text.isEmpty() || terms.isEmpty()) {
+            return null;
+        }
+        List<int[]> matches = new ArrayList<>();
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            if (terms.contains(TextNormalizer.normalize(matcher.group()))) {
+                matches.add(new int[]{matcher.start(), matcher.end()});
+            }
+        }
+        if (matches.isEmpty()) {
+            return null;
+        }
+
+        int from = 0;
+        int to = text.length();
+        if (text.length() > fragmentLength) {
+            // Some leading context, but the first match always inside the fragment
+            from = Math.max(0, matches.get(0)[0] - fragmentLength / 4);
+            to = Math.min(text.length(), from + fragmentLength);
+            from = Math.max(0, to - fragmentLength);
+        }
+
+        StringBuilder fragment = new StringBuilder(to - from + 32);
+        if (from > 0) {
+            fragment.append(ELLIPSIS);
+        }
+        int position = from;
+        for (int[] match : matches) {
+            if (match[0] < from) {
+                continue;
+            }
+            if (match[1] > to) {
+                break;
+            }
+            fragment.append(HtmlUtils.htmlEscape(text.substring(position, match[0])))
+                    .append("<mark>")
+                    .append(HtmlUtils.htmlEscape(text.substring(match[0], match[1])))
+                    .append("</mark>");
+            position = match[1];
+        }
+        fragment.append(HtmlUtils.htmlEscape(text.substring(position, to)));
+        if (to < text.length()) {
+            fragment.append(ELLIPSIS);
+        }
+        return fragment.toString();
+    }
+}
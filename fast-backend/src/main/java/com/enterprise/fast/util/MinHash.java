@@ -0,0 +1,97 @@
+package com.enterprise.fast.util;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures over character shingles of normalized text. The fraction of equal positions in two
+ * signatures estimates the Jaccard similarity of the two shingle sets, so near-identical wording in different
+ * order or with small edits still scores high. Signatures of the same instance (same seed) are comparable;
+ * banding them gives the locality-sensitive buckets used to find candidates without comparing every pair.
+ */
+public final class MinHash {
+
+    private final int shingleLength;
+    private final int maxTextLength;
+    private final long[] seeds;
+
+    /**
+     * @param numHashes     signature length; the similarity estimate has a standard error of about 1/sqrt(numHashes)
+     * @param shingleLength characters per shingle
+     * @param maxTextLength normalized characters taken into account; bounds the cost of long descriptions
+     * @param seed          fixes the hash functions, so signatures from the same seed are comparable
+     */
+    public MinHash(int numHashes, int shingleLength, int maxTextLength, long seed) {
+        if (numHashes <= 0 || shingleLength <= 0 || maxTextLength < shingleLength) {
+            throw new IllegalArgumentException("numHashes and shingleLength must be positive and maxTextLength at least shingleLength");
+        }
+        this.shingleLength = shingleLength;
+        this.maxTextLength = maxTextLength;
+        this.seeds = new SplittableRandom(seed).longs(numHashes).toArray();
+    }
+
+    public int getNumHashes() {
+        return seeds.length;
+    }
+
+    /** Signature of the text, or null when it has no shingle (blank or only punctuation). */
+    public long[] signature(String text) {
+        String normalized = TextNormalizer.normalize(text);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        if (normalized.length() > maxTextLength) {
+            normalized = normalized.substring(0, maxTextLength);
+        }
+        // Shorter texts still give one shingle
+        int length = Math.min(shingleLength, normalized.length());
+        long[] shingles = new long[normalized.length() - length + 1];
+        for (int start = 0; start < shingles.length; start++) {
+            shingles[start] = shingleHash(normalized, start, length);
+        }
+        shingles = Arrays.stream(shingles).distinct().toArray();
+
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < seeds.length; i++) {
+                long h = mix(shingle ^ seeds[i]);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /** Estimated Jaccard similarity: the share of positions where the signatures agree. */
+    public static double similarity(long[] left, long[] right) {
+        if (left == null || right == null || left.length != right.length) {
+            return 0;
+        }
+        int equal = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / left.length;
+    }
+
+    /** 64-bit FNV-1a of the shingle. */
+    private static long shingleHash(String text, int start, int length) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < start + length; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /** SplitMix64 finalizer: a bijection with full avalanche, so each seed acts as an independent permutation. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,52 @@
+package com.enterprise.fast.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Text normalization shared by the in-memory similarity indexes (duplicate tickets, knowledge recommendations),
+ * so indexed text and query text are always cut the same way.
+ */
+public final class TextNormalizer {
+
+    /** Frequent English words that carry no meaning for matching problems. */
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "been", "but", "by", "for", "from", "has", "have", "in",
+            "is", "it", "its", "of", "on", "or", "that", "the", "this", "to", "was", "were", "when", "which",
+            "while", "will", "with");
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    /** Anything but a letter or digit of any script, so Cyrillic, CJK or "ß" stay part of their words. */
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextNormalizer() {
+    }
+
+    /** Lower case, accents removed, every run of characters other than letters and digits collapsed to one space. */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /** Words of the normalized text, in order, without stop words and single characters. */
+    public static List<String> tokens(String text) {
+        String normalized = normalize(text);
+        List<String> tokens = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return tokens;
+        }
+        for (String token : normalized.split(" ")) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,57 @@
+package com.enterprise.fast.util;
+
+import com.enterprise.fast.dto.response.FastProblemResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Renders tickets as the CSV served by GET /api/v1/problems/export (Excel-friendly; the caller adds the UTF-8 BOM).
+ */
+public final class TicketCsvWriter {
+
+    private static final String HEADER = "id,title,pbtId,incidentNumber,problemNumber,classification,regions,status,userImpact,priority,dqReference,impactedUserGroups,impactedUserGroupNotes,confluenceLink,createdBy,createdDate\n";
+
+    private TicketCsvWriter() {
+    }
+
+    public static String toCsv(List<FastProblemResponse> data) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(HEADER);
+        if (data == null) return sb.toString();
+        for (FastProblemResponse r : data) {
+            if (r == null) continue;
+            String impactedGroups = r.getImpactedUserGroups() == null ? "" : r.getImpactedUserGroups().stream()
+                    .filter(g -> g != null && g.getName() != null && !g.getName().isBlank())
+                    .map(g -> g.getCode() != null && !g.getCode().isBlank() ? g.getName() + " (" + g.getCode() + ")" : g.getName())
+                    .distinct()
+                    .collect(Collectors.joining(";"));
+            sb.append(escapeCsv(r.getId())).append(",");
+            sb.append(escapeCsv(r.getTitle())).append(",");
+            sb.append(escapeCsv(r.getPbtId())).append(",");
+            sb.append(escapeCsv(r.getServicenowIncidentNumber())).append(",");
+            sb.append(escapeCsv(r.getServicenowProblemNumber())).append(",");
+            sb.append(escapeCsv(r.getClassification())).append(",");
+            sb.append(escapeCsv(r.getRegionalCodes() != null ? String.join(";", r.getRegionalCodes()) : "")).append(",");
+            sb.append(escapeCsv(r.getStatus())).append(",");
+            sb.append(r.getUserImpactCount() != null ? r.getUserImpactCount() : "").append(",");
+            sb.append(r.getPriority() != null ? r.getPriority() : "").append(",");
+            sb.append(escapeCsv(r.getDqReference())).append(",");
+            sb.append(escapeCsv(impactedGroups)).append(",");
+            sb.append(escapeCsv(r.getImpactedUserGroupNotes())).append(",");
+            sb.append(escapeCsv(r.getConfluenceLink())).append(",");
+            sb.append(escapeCsv(r.getCreatedBy())).append(",");
+            sb.append(escapeCsv(r.getCreatedDate() != null ? r.getCreatedDate().toString() : "")).append("\n");
+        }
+        return sb.toString();
+    }
+
+    public static String escapeCsv(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+        if (s.contains(",") || s.contains("\"") || s.contains("\n")) {
+            return "\"" + s.replace("\"", "\"\"") + "\"";
+        }
+        return s;
+    }
+}
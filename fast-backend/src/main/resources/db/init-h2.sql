@@ -124,8 +124,11 @@ CREATE TABLE IF NOT EXISTS fast_problem (
     resolved_date TIMESTAMP,
     in_progress_date TIMESTAMP,
     closed_date TIMESTAMP,
+    last_comment_date TIMESTAMP,
+    comment_count INTEGER DEFAULT 0 NOT NULL,
     deleted BOOLEAN DEFAULT FALSE,
-    archived BOOLEAN DEFAULT FALSE
+    archived BOOLEAN DEFAULT FALSE,
+    version BIGINT DEFAULT 0 NOT NULL
 );
 CREATE INDEX IF NOT EXISTS idx_fast_problem_status ON fast_problem(status);
 CREATE INDEX IF NOT EXISTS idx_fast_problem_classification ON fast_problem(classification);
@@ -144,6 +147,8 @@ CREATE INDEX IF NOT EXISTS idx_fast_problem_closed_date ON fast_problem(closed_d
 CREATE INDEX IF NOT EXISTS idx_fast_problem_archived ON fast_problem(archived);
 CREATE INDEX IF NOT EXISTS idx_fast_problem_updated_date ON fast_problem(updated_date);
 CREATE INDEX IF NOT EXISTS idx_fast_problem_assigned_to ON fast_problem(assigned_to);
+CREATE INDEX IF NOT EXISTS idx_fast_problem_status_comment ON fast_problem(status, last_comment_date);
+CREATE INDEX IF NOT EXISTS idx_fast_problem_version_updated ON fast_problem(version, updated_date);
 
 -- FAST_PROBLEM_APPLICATION (ticket can impact one-to-many applications)
 CREATE TABLE IF NOT EXISTS fast_problem_application (
@@ -176,11 +181,13 @@ CREATE TABLE IF NOT EXISTS approval_record (
     comments CLOB,
     decision_date TIMESTAMP,
     created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0 NOT NULL,
     CONSTRAINT fk_approval_problem FOREIGN KEY (fast_problem_id) REFERENCES fast_problem(id)
 );
 CREATE INDEX IF NOT EXISTS idx_approval_problem_id ON approval_record(fast_problem_id);
 CREATE INDEX IF NOT EXISTS idx_approval_decision ON approval_record(decision);
 CREATE INDEX IF NOT EXISTS idx_approval_role ON approval_record(approval_role);
+CREATE INDEX IF NOT EXISTS idx_approval_pending ON approval_record(decision, approval_role, id);
 
 -- KNOWLEDGE_ARTICLE
 CREATE TABLE IF NOT EXISTS knowledge_article (
@@ -221,11 +228,11 @@ CREATE TABLE IF NOT EXISTS audit_log (
     field_changed VARCHAR(50),
     old_value VARCHAR(500),
     new_value VARCHAR(500),
-    timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
     CONSTRAINT fk_audit_problem FOREIGN KEY (fast_problem_id) REFERENCES fast_problem(id)
 );
 CREATE INDEX IF NOT EXISTS idx_audit_problem_id ON audit_log(fast_problem_id);
-CREATE INDEX IF NOT EXISTS idx_audit_timestamp ON audit_log(timestamp);
+CREATE INDEX IF NOT EXISTS idx_audit_timestamp ON audit_log(timestamp, id);
 CREATE INDEX IF NOT EXISTS idx_audit_problem_timestamp ON audit_log(fast_problem_id, timestamp);
 
 -- FAST_PROBLEM_REGION (multi-region: APAC, EMEA, AMER)
@@ -282,6 +289,156 @@ CREATE TABLE IF NOT EXISTS app_settings (
 );
 CREATE INDEX IF NOT EXISTS idx_app_settings_key ON app_settings(setting_key);
 
+-- SCHEDULER_LOCK (one row per @ClusterLock job; the node holding an unexpired lease runs the job)
+CREATE TABLE IF NOT EXISTS scheduler_lock (
+    name VARCHAR(64) PRIMARY KEY,
+    locked_by VARCHAR(255) NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    lock_until TIMESTAMP NOT NULL,
+    last_started_at TIMESTAMP,
+    last_finished_at TIMESTAMP,
+    last_duration_ms BIGINT,
+    last_outcome VARCHAR(20),
+    last_run_by VARCHAR(255)
+);
+
+-- SCHEDULER_CHECKPOINT (id ranges of nightly batch jobs committed today; lets an interrupted run resume)
+CREATE TABLE IF NOT EXISTS scheduler_checkpoint (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_name VARCHAR(64) NOT NULL,
+    run_date DATE NOT NULL,
+    range_start BIGINT NOT NULL,
+    range_end BIGINT NOT NULL,
+    rows_processed INT NOT NULL,
+    completed_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_scheduler_checkpoint UNIQUE (job_name, run_date, range_start)
+);
+
+-- FAST_PROBLEM_ARCHIVE and *_archive children (cold storage: archived tickets moved out of the hot tables by the
+-- nightly archive job; same columns and ids as the hot tables, no foreign keys, read-only afterwards)
+CREATE TABLE IF NOT EXISTS fast_problem_archive (
+    id BIGINT PRIMARY KEY,
+    servicenow_incident_number VARCHAR(20),
+    servicenow_problem_number VARCHAR(20),
+    pbt_id VARCHAR(30),
+    title VARCHAR(255) NOT NULL,
+    description CLOB,
+    user_impact_count INTEGER,
+    affected_application VARCHAR(100),
+    request_number VARCHAR(100),
+    dq_reference VARCHAR(100),
+    impacted_user_group_notes CLOB,
+    anticipated_benefits CLOB,
+    classification VARCHAR(10),
+    ticket_age_days INTEGER,
+    rag_status VARCHAR(5),
+    status_indicator VARCHAR(10),
+    status VARCHAR(30),
+    priority_score DOUBLE,
+    priority INTEGER,
+    target_resolution_hours INTEGER,
+    api_integration_status VARCHAR(20),
+    root_cause CLOB,
+    workaround CLOB,
+    permanent_fix CLOB,
+    created_by VARCHAR(50) NOT NULL,
+    assigned_to VARCHAR(50),
+    assignment_group VARCHAR(100),
+    btb_tech_lead_username VARCHAR(50),
+    confluence_link VARCHAR(500),
+    created_date TIMESTAMP,
+    updated_date TIMESTAMP,
+    resolved_date TIMESTAMP,
+    in_progress_date TIMESTAMP,
+    closed_date TIMESTAMP,
+    version BIGINT NOT NULL,
+    archived_date TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_fast_problem_archive_closed ON fast_problem_archive(closed_date);
+CREATE INDEX IF NOT EXISTS idx_fast_problem_archive_created ON fast_problem_archive(created_date);
+CREATE TABLE IF NOT EXISTS fast_problem_application_archive (
+    fast_problem_id BIGINT NOT NULL,
+    application_id BIGINT NOT NULL,
+    PRIMARY KEY (fast_problem_id, application_id)
+);
+CREATE TABLE IF NOT EXISTS fast_problem_user_group_archive (
+    fast_problem_id BIGINT NOT NULL,
+    user_group_id BIGINT NOT NULL,
+    PRIMARY KEY (fast_problem_id, user_group_id)
+);
+CREATE TABLE IF NOT EXISTS fast_problem_region_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    regional_code VARCHAR(10) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_fp_region_archive_problem ON fast_problem_region_archive(fast_problem_id, regional_code);
+CREATE TABLE IF NOT EXISTS fast_problem_property_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    property_key VARCHAR(255) NOT NULL,
+    property_value CLOB
+);
+CREATE INDEX IF NOT EXISTS idx_fp_property_archive_problem ON fast_problem_property_archive(fast_problem_id);
+CREATE TABLE IF NOT EXISTS fast_problem_link_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    label VARCHAR(100) NOT NULL,
+    url VARCHAR(2000) NOT NULL,
+    link_type VARCHAR(20)
+);
+CREATE INDEX IF NOT EXISTS idx_fp_link_archive_problem ON fast_problem_link_archive(fast_problem_id);
+CREATE TABLE IF NOT EXISTS approval_record_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    approval_role VARCHAR(20) NOT NULL,
+    reviewer_name VARCHAR(100),
+    reviewer_email VARCHAR(100),
+    decision VARCHAR(20),
+    comments CLOB,
+    decision_date TIMESTAMP,
+    created_date TIMESTAMP,
+    version BIGINT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_approval_archive_problem ON approval_record_archive(fast_problem_id);
+CREATE TABLE IF NOT EXISTS incident_link_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    incident_number VARCHAR(20) NOT NULL,
+    link_type VARCHAR(20),
+    description VARCHAR(500),
+    linked_date TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_incident_link_archive_problem ON incident_link_archive(fast_problem_id);
+CREATE TABLE IF NOT EXISTS ticket_comment_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    author_username VARCHAR(50) NOT NULL,
+    comment_text CLOB NOT NULL,
+    created_date TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_ticket_comment_archive_problem ON ticket_comment_archive(fast_problem_id);
+CREATE TABLE IF NOT EXISTS audit_log_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    performed_by VARCHAR(50) NOT NULL,
+    field_changed VARCHAR(50),
+    old_value VARCHAR(500),
+    new_value VARCHAR(500),
+    timestamp TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_audit_archive_problem ON audit_log_archive(fast_problem_id, timestamp);
+
+-- ID SEQUENCES (pooled, allocationSize 50 in the entities; enables JDBC insert batching).
+-- Start above any ids handed out by the identity columns to seed scripts.
+CREATE SEQUENCE IF NOT EXISTS fast_problem_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS fast_problem_region_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS approval_record_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS audit_log_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS fast_problem_property_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS fast_problem_link_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS ticket_comment_seq START WITH 1000 INCREMENT BY 50;
+
 -- Local only: seed users for all roles (auth via X-Authenticated-User header). Username must match LDAP/login.
 INSERT INTO users (username, brid, email, full_name, role, region, active) VALUES
 ('admin', 'BR001', 'admin@enterprise.com', 'Thenmozi', 'ADMIN', 'AMER', true),
@@ -131,8 +131,11 @@ CREATE TABLE fast_problem (
     resolved_date               TIMESTAMP,
     in_progress_date            TIMESTAMP,
     closed_date                 TIMESTAMP,
+    last_comment_date           TIMESTAMP,
+    comment_count               NUMBER(10) DEFAULT 0 NOT NULL,
     deleted                     NUMBER(1) DEFAULT 0 NOT NULL,
     archived                    NUMBER(1) DEFAULT 0 NOT NULL,
+    version                     NUMBER(19) DEFAULT 0 NOT NULL,
     CONSTRAINT chk_fast_problem_deleted CHECK (deleted IN (0, 1)),
     CONSTRAINT chk_fast_problem_archived CHECK (archived IN (0, 1))
 );
@@ -153,6 +156,8 @@ CREATE INDEX idx_fast_problem_closed_date ON fast_problem(closed_date);
 CREATE INDEX idx_fast_problem_archived ON fast_problem(archived);
 CREATE INDEX idx_fast_problem_updated_date ON fast_problem(updated_date);
 CREATE INDEX idx_fast_problem_assigned_to ON fast_problem(assigned_to);
+CREATE INDEX idx_fast_problem_status_comment ON fast_problem(status, last_comment_date);
+CREATE INDEX idx_fast_problem_version_updated ON fast_problem(version, updated_date);
 
 -- FAST_PROBLEM_APPLICATION (ticket impacts one-to-many applications)
 CREATE TABLE fast_problem_application (
@@ -185,11 +190,13 @@ CREATE TABLE approval_record (
     comments        CLOB,
     decision_date   TIMESTAMP,
     created_date    TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version         NUMBER(19) DEFAULT 0 NOT NULL,
     CONSTRAINT fk_approval_problem FOREIGN KEY (fast_problem_id) REFERENCES fast_problem(id)
 );
 CREATE INDEX idx_approval_problem_id ON approval_record(fast_problem_id);
 CREATE INDEX idx_approval_decision ON approval_record(decision);
 CREATE INDEX idx_approval_role ON approval_record(approval_role);
+CREATE INDEX idx_approval_pending ON approval_record(decision, approval_role, id);
 
 -- KNOWLEDGE_ARTICLE
 CREATE TABLE knowledge_article (
@@ -231,11 +238,14 @@ CREATE TABLE audit_log (
     field_changed   VARCHAR2(50),
     old_value       VARCHAR2(500),
     new_value       VARCHAR2(500),
-    timestamp       TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    timestamp       TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
     CONSTRAINT fk_audit_problem FOREIGN KEY (fast_problem_id) REFERENCES fast_problem(id)
-);
+)
+-- One partition per month, created on first insert; the audit retention job drops expired months whole
+PARTITION BY RANGE (timestamp) INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+(PARTITION audit_log_p0 VALUES LESS THAN (TIMESTAMP '2000-01-01 00:00:00'));
 CREATE INDEX idx_audit_problem_id ON audit_log(fast_problem_id);
-CREATE INDEX idx_audit_timestamp ON audit_log(timestamp);
+CREATE INDEX idx_audit_timestamp ON audit_log(timestamp, id) LOCAL;
 CREATE INDEX idx_audit_problem_timestamp ON audit_log(fast_problem_id, timestamp);
 
 -- FAST_PROBLEM_REGION
@@ -292,4 +302,154 @@ CREATE TABLE app_settings (
 );
 CREATE INDEX idx_app_settings_key ON app_settings(setting_key);
 
+-- SCHEDULER_LOCK (one row per @ClusterLock job; the node holding an unexpired lease runs the job)
+CREATE TABLE scheduler_lock (
+    name             VARCHAR2(64) PRIMARY KEY,
+    locked_by        VARCHAR2(255) NOT NULL,
+    locked_at        TIMESTAMP NOT NULL,
+    lock_until       TIMESTAMP NOT NULL,
+    last_started_at  TIMESTAMP,
+    last_finished_at TIMESTAMP,
+    last_duration_ms NUMBER(19),
+    last_outcome     VARCHAR2(20),
+    last_run_by      VARCHAR2(255)
+);
+
+-- SCHEDULER_CHECKPOINT (id ranges of nightly batch jobs committed today; lets an interrupted run resume)
+CREATE TABLE scheduler_checkpoint (
+    id             NUMBER(19) GENERATED BY DEFAULT ON NULL AS IDENTITY PRIMARY KEY,
+    job_name       VARCHAR2(64) NOT NULL,
+    run_date       DATE NOT NULL,
+    range_start    NUMBER(19) NOT NULL,
+    range_end      NUMBER(19) NOT NULL,
+    rows_processed NUMBER(10) NOT NULL,
+    completed_at   TIMESTAMP NOT NULL,
+    CONSTRAINT uk_scheduler_checkpoint UNIQUE (job_name, run_date, range_start)
+);
+
+-- FAST_PROBLEM_ARCHIVE and *_archive children (cold storage: archived tickets moved out of the hot tables by the
+-- nightly archive job; same columns and ids as the hot tables, no foreign keys, read-only afterwards)
+CREATE TABLE fast_problem_archive (
+    id NUMBER(19) PRIMARY KEY,
+    servicenow_incident_number VARCHAR2(20),
+    servicenow_problem_number VARCHAR2(20),
+    pbt_id VARCHAR2(30),
+    title VARCHAR2(255) NOT NULL,
+    description CLOB,
+    user_impact_count NUMBER(10),
+    affected_application VARCHAR2(100),
+    request_number VARCHAR2(100),
+    dq_reference VARCHAR2(100),
+    impacted_user_group_notes CLOB,
+    anticipated_benefits CLOB,
+    classification VARCHAR2(10),
+    ticket_age_days NUMBER(10),
+    rag_status VARCHAR2(5),
+    status_indicator VARCHAR2(10),
+    status VARCHAR2(30),
+    priority_score BINARY_DOUBLE,
+    priority NUMBER(10),
+    target_resolution_hours NUMBER(10),
+    api_integration_status VARCHAR2(20),
+    root_cause CLOB,
+    workaround CLOB,
+    permanent_fix CLOB,
+    created_by VARCHAR2(50) NOT NULL,
+    assigned_to VARCHAR2(50),
+    assignment_group VARCHAR2(100),
+    btb_tech_lead_username VARCHAR2(50),
+    confluence_link VARCHAR2(500),
+    created_date TIMESTAMP,
+    updated_date TIMESTAMP,
+    resolved_date TIMESTAMP,
+    in_progress_date TIMESTAMP,
+    closed_date TIMESTAMP,
+    version NUMBER(19) NOT NULL,
+    archived_date TIMESTAMP NOT NULL
+);
+CREATE INDEX idx_fast_problem_archive_closed ON fast_problem_archive(closed_date);
+CREATE INDEX idx_fast_problem_archive_created ON fast_problem_archive(created_date);
+CREATE TABLE fast_problem_application_archive (
+    fast_problem_id NUMBER(19) NOT NULL,
+    application_id NUMBER(19) NOT NULL,
+    PRIMARY KEY (fast_problem_id, application_id)
+);
+CREATE TABLE fast_problem_user_group_archive (
+    fast_problem_id NUMBER(19) NOT NULL,
+    user_group_id NUMBER(19) NOT NULL,
+    PRIMARY KEY (fast_problem_id, user_group_id)
+);
+CREATE TABLE fast_problem_region_archive (
+    id NUMBER(19) PRIMARY KEY,
+    fast_problem_id NUMBER(19) NOT NULL,
+    regional_code VARCHAR2(10) NOT NULL
+);
+CREATE INDEX idx_fp_region_archive_problem ON fast_problem_region_archive(fast_problem_id, regional_code);
+CREATE TABLE fast_problem_property_archive (
+    id NUMBER(19) PRIMARY KEY,
+    fast_problem_id NUMBER(19) NOT NULL,
+    property_key VARCHAR2(255) NOT NULL,
+    property_value CLOB
+);
+CREATE INDEX idx_fp_property_archive_problem ON fast_problem_property_archive(fast_problem_id);
+CREATE TABLE fast_problem_link_archive (
+    id NUMBER(19) PRIMARY KEY,
+    fast_problem_id NUMBER(19) NOT NULL,
+    label VARCHAR2(100) NOT NULL,
+    url VARCHAR2(2000) NOT NULL,
+    link_type VARCHAR2(20)
+);
+CREATE INDEX idx_fp_link_archive_problem ON fast_problem_link_archive(fast_problem_id);
+CREATE TABLE approval_record_archive (
+    id NUMBER(19) PRIMARY KEY,
+    fast_problem_id NUMBER(19) NOT NULL,
+    approval_role VARCHAR2(20) NOT NULL,
+    reviewer_name VARCHAR2(100),
+    reviewer_email VARCHAR2(100),
+    decision VARCHAR2(20),
+    comments CLOB,
+    decision_date TIMESTAMP,
+    created_date TIMESTAMP,
+    version NUMBER(19) NOT NULL
+);
+CREATE INDEX idx_approval_archive_problem ON approval_record_archive(fast_problem_id);
+CREATE TABLE incident_link_archive (
+    id NUMBER(19) PRIMARY KEY,
+    fast_problem_id NUMBER(19) NOT NULL,
+    incident_number VARCHAR2(20) NOT NULL,
+    link_type VARCHAR2(20),
+    description VARCHAR2(500),
+    linked_date TIMESTAMP
+);
+CREATE INDEX idx_incident_link_archive_problem ON incident_link_archive(fast_problem_id);
+CREATE TABLE ticket_comment_archive (
+    id NUMBER(19) PRIMARY KEY,
+    fast_problem_id NUMBER(19) NOT NULL,
+    author_username VARCHAR2(50) NOT NULL,
+    comment_text CLOB NOT NULL,
+    created_date TIMESTAMP
+);
+CREATE INDEX idx_ticket_comment_archive_problem ON ticket_comment_archive(fast_problem_id);
+CREATE TABLE audit_log_archive (
+    id NUMBER(19) PRIMARY KEY,
+    fast_problem_id NUMBER(19) NOT NULL,
+    action VARCHAR2(50) NOT NULL,
+    performed_by VARCHAR2(50) NOT NULL,
+    field_changed VARCHAR2(50),
+    old_value VARCHAR2(500),
+    new_value VARCHAR2(500),
+    timestamp TIMESTAMP
+);
+CREATE INDEX idx_audit_archive_problem ON audit_log_archive(fast_problem_id, timestamp);
+
+-- ID SEQUENCES (pooled, allocationSize 50 in the entities; enables JDBC insert batching).
+-- Start above any ids handed out by the identity columns to seed scripts.
+CREATE SEQUENCE fast_problem_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE fast_problem_region_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE approval_record_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE audit_log_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE fast_problem_property_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE fast_problem_link_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE ticket_comment_seq START WITH 1000 INCREMENT BY 50;
+
 COMMIT;
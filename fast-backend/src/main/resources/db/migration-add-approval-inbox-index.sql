@@ -0,0 +1,8 @@
+-- Migration: index for the pending approvals inbox (decision = 'PENDING' AND approval_role = ? ORDER BY id).
+-- Optional: the inbox works without it, scanning the decision index instead.
+
+-- H2
+CREATE INDEX IF NOT EXISTS idx_approval_pending ON approval_record(decision, approval_role, id);
+
+-- Oracle (uncomment if using Oracle)
+-- CREATE INDEX idx_approval_pending ON approval_record(decision, approval_role, id);
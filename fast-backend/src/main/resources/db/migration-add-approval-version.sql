@@ -0,0 +1,10 @@
+-- Migration: add row version to approval_record (optimistic locking on concurrent approve/reject).
+-- Run on existing H2 or Oracle DBs. New installs use init-h2.sql / init-oracle.sql.
+-- Existing rows start at version 0; every subsequent decision increments it.
+
+-- H2
+ALTER TABLE approval_record ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+UPDATE approval_record SET version = 0 WHERE version IS NULL;
+
+-- Oracle (uncomment if using Oracle)
+-- ALTER TABLE approval_record ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
@@ -0,0 +1,9 @@
+-- Migration: covering index for the ticket list ETag stamp (COUNT, SUM(version), MAX(updated_date) over fast_problem).
+-- Optional: list ETags work without it, but every list request then scans the whole table for the stamp.
+-- With it the stamp is an index fast full scan over two narrow columns instead.
+
+-- H2
+CREATE INDEX IF NOT EXISTS idx_fast_problem_version_updated ON fast_problem(version, updated_date);
+
+-- Oracle (uncomment if using Oracle)
+-- CREATE INDEX idx_fast_problem_version_updated ON fast_problem(version, updated_date);
@@ -0,0 +1,232 @@
+-- Migration: add fast_problem_archive and the *_archive child tables (cold storage for archived tickets).
+-- Run on existing H2 or Oracle DBs, including prod-h2 (ddl-auto: update does not create these tables because they
+-- have no entities). New installs use init-h2.sql / init-oracle.sql. Tickets already marked ARCHIVED stay in
+-- fast_problem until the next archiveClosedTickets run moves them.
+
+-- H2
+CREATE TABLE IF NOT EXISTS fast_problem_archive (
+    id BIGINT PRIMARY KEY,
+    servicenow_incident_number VARCHAR(20),
+    servicenow_problem_number VARCHAR(20),
+    pbt_id VARCHAR(30),
+    title VARCHAR(255) NOT NULL,
+    description CLOB,
+    user_impact_count INTEGER,
+    affected_application VARCHAR(100),
+    request_number VARCHAR(100),
+    dq_reference VARCHAR(100),
+    impacted_user_group_notes CLOB,
+    anticipated_benefits CLOB,
+    classification VARCHAR(10),
+    ticket_age_days INTEGER,
+    rag_status VARCHAR(5),
+    status_indicator VARCHAR(10),
+    status VARCHAR(30),
+    priority_score DOUBLE,
+    priority INTEGER,
+    target_resolution_hours INTEGER,
+    api_integration_status VARCHAR(20),
+    root_cause CLOB,
+    workaround CLOB,
+    permanent_fix CLOB,
+    created_by VARCHAR(50) NOT NULL,
+    assigned_to VARCHAR(50),
+    assignment_group VARCHAR(100),
+    btb_tech_lead_username VARCHAR(50),
+    confluence_link VARCHAR(500),
+    created_date TIMESTAMP,
+    updated_date TIMESTAMP,
+    resolved_date TIMESTAMP,
+    in_progress_date TIMESTAMP,
+    closed_date TIMESTAMP,
+    version BIGINT NOT NULL,
+    archived_date TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_fast_problem_archive_closed ON fast_problem_archive(closed_date);
+CREATE INDEX IF NOT EXISTS idx_fast_problem_archive_created ON fast_problem_archive(created_date);
+CREATE TABLE IF NOT EXISTS fast_problem_application_archive (
+    fast_problem_id BIGINT NOT NULL,
+    application_id BIGINT NOT NULL,
+    PRIMARY KEY (fast_problem_id, application_id)
+);
+CREATE TABLE IF NOT EXISTS fast_problem_user_group_archive (
+    fast_problem_id BIGINT NOT NULL,
+    user_group_id BIGINT NOT NULL,
+    PRIMARY KEY (fast_problem_id, user_group_id)
+);
+CREATE TABLE IF NOT EXISTS fast_problem_region_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    regional_code VARCHAR(10) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_fp_region_archive_problem ON fast_problem_region_archive(fast_problem_id, regional_code);
+CREATE TABLE IF NOT EXISTS fast_problem_property_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    property_key VARCHAR(255) NOT NULL,
+    property_value CLOB
+);
+CREATE INDEX IF NOT EXISTS idx_fp_property_archive_problem ON fast_problem_property_archive(fast_problem_id);
+CREATE TABLE IF NOT EXISTS fast_problem_link_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    label VARCHAR(100) NOT NULL,
+    url VARCHAR(2000) NOT NULL,
+    link_type VARCHAR(20)
+);
+CREATE INDEX IF NOT EXISTS idx_fp_link_archive_problem ON fast_problem_link_archive(fast_problem_id);
+CREATE TABLE IF NOT EXISTS approval_record_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    approval_role VARCHAR(20) NOT NULL,
+    reviewer_name VARCHAR(100),
+    reviewer_email VARCHAR(100),
+    decision VARCHAR(20),
+    comments CLOB,
+    decision_date TIMESTAMP,
+    created_date TIMESTAMP,
+    version BIGINT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_approval_archive_problem ON approval_record_archive(fast_problem_id);
+CREATE TABLE IF NOT EXISTS incident_link_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    incident_number VARCHAR(20) NOT NULL,
+    link_type VARCHAR(20),
+    description VARCHAR(500),
+    linked_date TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_incident_link_archive_problem ON incident_link_archive(fast_problem_id);
+CREATE TABLE IF NOT EXISTS ticket_comment_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    author_username VARCHAR(50) NOT NULL,
+    comment_text CLOB NOT NULL,
+    created_date TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_ticket_comment_archive_problem ON ticket_comment_archive(fast_problem_id);
+CREATE TABLE IF NOT EXISTS audit_log_archive (
+    id BIGINT PRIMARY KEY,
+    fast_problem_id BIGINT NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    performed_by VARCHAR(50) NOT NULL,
+    field_changed VARCHAR(50),
+    old_value VARCHAR(500),
+    new_value VARCHAR(500),
+    timestamp TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_audit_archive_problem ON audit_log_archive(fast_problem_id, timestamp);
+
+-- Oracle (uncomment if using Oracle)
+-- CREATE TABLE fast_problem_archive (
+--     id NUMBER(19) PRIMARY KEY,
+--     servicenow_incident_number VARCHAR2(20),
+--     servicenow_problem_number VARCHAR2(20),
+--     pbt_id VARCHAR2(30),
+--     title VARCHAR2(255) NOT NULL,
+--     description CLOB,
+--     user_impact_count NUMBER(10),
+--     affected_application VARCHAR2(100),
+--     request_number VARCHAR2(100),
+--     dq_reference VARCHAR2(100),
+--     impacted_user_group_notes CLOB,
+--     anticipated_benefits CLOB,
+--     classification VARCHAR2(10),
+--     ticket_age_days NUMBER(10),
+--     rag_status VARCHAR2(5),
+--     status_indicator VARCHAR2(10),
+--     status VARCHAR2(30),
+--     priority_score BINARY_DOUBLE,
+--     priority NUMBER(10),
+--     target_resolution_hours NUMBER(10),
+--     api_integration_status VARCHAR2(20),
+--     root_cause CLOB,
+--     workaround CLOB,
+--     permanent_fix CLOB,
+--     created_by VARCHAR2(50) NOT NULL,
+--     assigned_to VARCHAR2(50),
+--     assignment_group VARCHAR2(100),
+--     btb_tech_lead_username VARCHAR2(50),
+--     confluence_link VARCHAR2(500),
+--     created_date TIMESTAMP,
+--     updated_date TIMESTAMP,
+--     resolved_date TIMESTAMP,
+--     in_progress_date TIMESTAMP,
+--     closed_date TIMESTAMP,
+--     version NUMBER(19) NOT NULL,
+--     archived_date TIMESTAMP NOT NULL
+-- );
+-- CREATE INDEX idx_fast_problem_archive_closed ON fast_problem_archive(closed_date);
+-- CREATE INDEX idx_fast_problem_archive_created ON fast_problem_archive(created_date);
+-- CREATE TABLE fast_problem_application_archive (
+--     fast_problem_id NUMBER(19) NOT NULL,
+--     application_id NUMBER(19) NOT NULL,
+--     PRIMARY KEY (fast_problem_id, application_id)
+-- );
+-- CREATE TABLE fast_problem_user_group_archive (
+--     fast_problem_id NUMBER(19) NOT NULL,
+--     user_group_id NUMBER(19) NOT NULL,
+--     PRIMARY KEY (fast_problem_id, user_group_id)
+-- );
+-- CREATE TABLE fast_problem_region_archive (
+--     id NUMBER(19) PRIMARY KEY,
+--     fast_problem_id NUMBER(19) NOT NULL,
+--     regional_code VARCHAR2(10) NOT NULL
+-- );
+-- CREATE INDEX idx_fp_region_archive_problem ON fast_problem_region_archive(fast_problem_id, regional_code);
+-- CREATE TABLE fast_problem_property_archive (
+--     id NUMBER(19) PRIMARY KEY,
+--     fast_problem_id NUMBER(19) NOT NULL,
+--     property_key VARCHAR2(255) NOT NULL,
+--     property_value CLOB
+-- );
+-- CREATE INDEX idx_fp_property_archive_problem ON fast_problem_property_archive(fast_problem_id);
+-- CREATE TABLE fast_problem_link_archive (
+--     id NUMBER(19) PRIMARY KEY,
+--     fast_problem_id NUMBER(19) NOT NULL,
+--     label VARCHAR2(100) NOT NULL,
+--     url VARCHAR2(2000) NOT NULL,
+--     link_type VARCHAR2(20)
+-- );
+-- CREATE INDEX idx_fp_link_archive_problem ON fast_problem_link_archive(fast_problem_id);
+-- CREATE TABLE approval_record_archive (
+--     id NUMBER(19) PRIMARY KEY,
+--     fast_problem_id NUMBER(19) NOT NULL,
+--     approval_role VARCHAR2(20) NOT NULL,
+--     reviewer_name VARCHAR2(100),
+--     reviewer_email VARCHAR2(100),
+--     decision VARCHAR2(20),
+--     comments CLOB,
+--     decision_date TIMESTAMP,
+--     created_date TIMESTAMP,
+--     version NUMBER(19) NOT NULL
+-- );
+-- CREATE INDEX idx_approval_archive_problem ON approval_record_archive(fast_problem_id);
+-- CREATE TABLE incident_link_archive (
+--     id NUMBER(19) PRIMARY KEY,
+--     fast_problem_id NUMBER(19) NOT NULL,
+--     incident_number VARCHAR2(20) NOT NULL,
+--     link_type VARCHAR2(20),
+--     description VARCHAR2(500),
+--     linked_date TIMESTAMP
+-- );
+-- CREATE INDEX idx_incident_link_archive_problem ON incident_link_archive(fast_problem_id);
+-- CREATE TABLE ticket_comment_archive (
+--     id NUMBER(19) PRIMARY KEY,
+--     fast_problem_id NUMBER(19) NOT NULL,
+--     author_username VARCHAR2(50) NOT NULL,
+--     comment_text CLOB NOT NULL,
+--     created_date TIMESTAMP
+-- );
+-- CREATE INDEX idx_ticket_comment_archive_problem ON ticket_comment_archive(fast_problem_id);
+-- CREATE TABLE audit_log_archive (
+--     id NUMBER(19) PRIMARY KEY,
+--     fast_problem_id NUMBER(19) NOT NULL,
+--     action VARCHAR2(50) NOT NULL,
+--     performed_by VARCHAR2(50) NOT NULL,
+--     field_changed VARCHAR2(50),
+--     old_value VARCHAR2(500),
+--     new_value VARCHAR2(500),
+--     timestamp TIMESTAMP
+-- );
+-- CREATE INDEX idx_audit_archive_problem ON audit_log_archive(fast_problem_id, timestamp);
@@ -0,0 +1,23 @@
+-- Migration: denormalized last_comment_date / comment_count on fast_problem, kept by addComment.
+-- The "In Progress without daily comment" dashboard check and the commentary compliance report read these
+-- columns through idx_fast_problem_status_comment instead of aggregating ticket_comment.
+-- Run before deploying the new version. The backfill recomputes both columns from ticket_comment, so it is safe
+-- to run again (e.g. after comments were added while an older version was still serving).
+
+-- H2
+ALTER TABLE fast_problem ADD COLUMN IF NOT EXISTS last_comment_date TIMESTAMP;
+ALTER TABLE fast_problem ADD COLUMN IF NOT EXISTS comment_count INTEGER DEFAULT 0 NOT NULL;
+UPDATE fast_problem fp SET
+    last_comment_date = (SELECT MAX(c.created_date) FROM ticket_comment c WHERE c.fast_problem_id = fp.id),
+    comment_count = (SELECT COUNT(*) FROM ticket_comment c WHERE c.fast_problem_id = fp.id);
+CREATE INDEX IF NOT EXISTS idx_fast_problem_status_comment ON fast_problem(status, last_comment_date);
+
+-- Oracle (uncomment if using Oracle)
+-- ALTER TABLE fast_problem ADD (last_comment_date TIMESTAMP, comment_count NUMBER(10) DEFAULT 0 NOT NULL);
+-- MERGE INTO fast_problem fp
+-- USING (SELECT fast_problem_id, MAX(created_date) AS last_comment_date, COUNT(*) AS comment_count
+--        FROM ticket_comment GROUP BY fast_problem_id) c
+-- ON (fp.id = c.fast_problem_id)
+-- WHEN MATCHED THEN UPDATE SET fp.last_comment_date = c.last_comment_date, fp.comment_count = c.comment_count;
+-- COMMIT;
+-- CREATE INDEX idx_fast_problem_status_comment ON fast_problem(status, last_comment_date) ONLINE;
@@ -0,0 +1,40 @@
+-- Migration: pooled id sequences for tickets and their child rows (JDBC insert batching).
+-- Run on existing H2 or Oracle DBs BEFORE starting the upgraded application. New installs use init-h2.sql / init-oracle.sql.
+-- Each sequence starts right after the current MAX(id) of its table (the app uses the pooled-lo optimizer,
+-- so a sequence value is the first id of a block of 50). Identity columns are kept for SQL seed scripts.
+-- prod-h2 (ddl-auto: update) would otherwise create the sequences starting at 1 and collide with existing ids.
+
+-- H2
+CREATE SEQUENCE IF NOT EXISTS fast_problem_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE fast_problem_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM fast_problem);
+CREATE SEQUENCE IF NOT EXISTS fast_problem_region_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE fast_problem_region_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM fast_problem_region);
+CREATE SEQUENCE IF NOT EXISTS approval_record_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE approval_record_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM approval_record);
+CREATE SEQUENCE IF NOT EXISTS audit_log_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE audit_log_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM audit_log);
+CREATE SEQUENCE IF NOT EXISTS fast_problem_property_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE fast_problem_property_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM fast_problem_property);
+CREATE SEQUENCE IF NOT EXISTS fast_problem_link_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE fast_problem_link_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM fast_problem_link);
+CREATE SEQUENCE IF NOT EXISTS ticket_comment_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE ticket_comment_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM ticket_comment);
+
+-- Oracle (uncomment if using Oracle)
+-- DECLARE
+--   PROCEDURE create_seq(p_seq VARCHAR2, p_table VARCHAR2) IS
+--     v_start NUMBER;
+--   BEGIN
+--     EXECUTE IMMEDIATE 'SELECT NVL(MAX(id), 0) + 1 FROM ' || p_table INTO v_start;
+--     EXECUTE IMMEDIATE 'CREATE SEQUENCE ' || p_seq || ' START WITH ' || v_start || ' INCREMENT BY 50';
+--   END;
+-- BEGIN
+--   create_seq('fast_problem_seq', 'fast_problem');
+--   create_seq('fast_problem_region_seq', 'fast_problem_region');
+--   create_seq('approval_record_seq', 'approval_record');
+--   create_seq('audit_log_seq', 'audit_log');
+--   create_seq('fast_problem_property_seq', 'fast_problem_property');
+--   create_seq('fast_problem_link_seq', 'fast_problem_link');
+--   create_seq('ticket_comment_seq', 'ticket_comment');
+-- END;
+-- /
@@ -0,0 +1,10 @@
+-- Migration: add row version to fast_problem (ETag / conditional GET on ticket detail and lists).
+-- Run on existing H2 or Oracle DBs. New installs use init-h2.sql / init-oracle.sql.
+-- Existing rows start at version 0; every subsequent write increments it.
+
+-- H2
+ALTER TABLE fast_problem ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+UPDATE fast_problem SET version = 0 WHERE version IS NULL;
+
+-- Oracle (uncomment if using Oracle)
+-- ALTER TABLE fast_problem ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
@@ -0,0 +1,27 @@
+-- Migration: add scheduler_checkpoint (resumable, partitioned nightly batch jobs).
+-- Run on existing H2 or Oracle DBs. New installs use init-h2.sql / init-oracle.sql; prod-h2 (ddl-auto: update)
+-- creates the table itself.
+
+-- H2
+CREATE TABLE IF NOT EXISTS scheduler_checkpoint (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_name VARCHAR(64) NOT NULL,
+    run_date DATE NOT NULL,
+    range_start BIGINT NOT NULL,
+    range_end BIGINT NOT NULL,
+    rows_processed INT NOT NULL,
+    completed_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_scheduler_checkpoint UNIQUE (job_name, run_date, range_start)
+);
+
+-- Oracle (uncomment if using Oracle)
+-- CREATE TABLE scheduler_checkpoint (
+--     id             NUMBER(19) GENERATED BY DEFAULT ON NULL AS IDENTITY PRIMARY KEY,
+--     job_name       VARCHAR2(64) NOT NULL,
+--     run_date       DATE NOT NULL,
+--     range_start    NUMBER(19) NOT NULL,
+--     range_end      NUMBER(19) NOT NULL,
+--     rows_processed NUMBER(10) NOT NULL,
+--     completed_at   TIMESTAMP NOT NULL,
+--     CONSTRAINT uk_scheduler_checkpoint UNIQUE (job_name, run_date, range_start)
+-- );
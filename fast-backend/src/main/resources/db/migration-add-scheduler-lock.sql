@@ -0,0 +1,29 @@
+-- Migration: add scheduler_lock (cluster-wide locks for scheduled jobs, see @ClusterLock).
+-- Run on existing H2 or Oracle DBs before deploying more than one instance. New installs use init-h2.sql /
+-- init-oracle.sql; prod-h2 (ddl-auto: update) creates the table itself. Rows are created on first run of each job.
+
+-- H2
+CREATE TABLE IF NOT EXISTS scheduler_lock (
+    name VARCHAR(64) PRIMARY KEY,
+    locked_by VARCHAR(255) NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    lock_until TIMESTAMP NOT NULL,
+    last_started_at TIMESTAMP,
+    last_finished_at TIMESTAMP,
+    last_duration_ms BIGINT,
+    last_outcome VARCHAR(20),
+    last_run_by VARCHAR(255)
+);
+
+-- Oracle (uncomment if using Oracle)
+-- CREATE TABLE scheduler_lock (
+--     name             VARCHAR2(64) PRIMARY KEY,
+--     locked_by        VARCHAR2(255) NOT NULL,
+--     locked_at        TIMESTAMP NOT NULL,
+--     lock_until       TIMESTAMP NOT NULL,
+--     last_started_at  TIMESTAMP,
+--     last_finished_at TIMESTAMP,
+--     last_duration_ms NUMBER(19),
+--     last_outcome     VARCHAR2(20),
+--     last_run_by      VARCHAR2(255)
+-- );
@@ -0,0 +1,22 @@
+-- Migration: monthly partitions for audit_log (retention drops whole months, range queries prune to the months
+-- they touch) and a (timestamp, id) index for the keyset-paged /api/v1/audit endpoints.
+-- H2 has no partitioning: only the index and NOT NULL change; retention deletes expired months in chunks there.
+-- The app works before this runs (retention falls back to chunked deletes on unpartitioned tables).
+
+-- H2
+UPDATE audit_log SET timestamp = CURRENT_TIMESTAMP WHERE timestamp IS NULL;
+ALTER TABLE audit_log ALTER COLUMN timestamp SET NOT NULL;
+DROP INDEX IF EXISTS idx_audit_timestamp;
+CREATE INDEX idx_audit_timestamp ON audit_log(timestamp, id);
+
+-- Oracle (uncomment if using Oracle; online conversion needs 12.2+)
+-- UPDATE audit_log SET timestamp = SYSTIMESTAMP WHERE timestamp IS NULL;
+-- COMMIT;
+-- ALTER TABLE audit_log MODIFY (timestamp NOT NULL);
+-- DROP INDEX idx_audit_timestamp;
+-- ALTER TABLE audit_log MODIFY
+--     PARTITION BY RANGE (timestamp) INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+--     (PARTITION audit_log_p0 VALUES LESS THAN (TIMESTAMP '2000-01-01 00:00:00'))
+--     ONLINE
+--     UPDATE INDEXES (idx_audit_problem_id GLOBAL, idx_audit_problem_timestamp GLOBAL);
+-- CREATE INDEX idx_audit_timestamp ON audit_log(timestamp, id) LOCAL;
@@ -0,0 +1,69 @@
+package com.enterprise.fast.config;
+
+import com.enterprise.fast.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void acquire_WhenFull_RejectsAfterMaxWait() {
+        Bulkhead bulkhead = new Bulkhead("ad", 1, Duration.ofMillis(20), meterRegistry);
+        bulkhead.acquire();
+
+        assertThatThrownBy(bulkhead::acquire)
+                .isInstanceOf(BulkheadFullException.class)
+                .extracting("bulkhead").isEqualTo("ad");
+        assertThat(meterRegistry.find("fast.bulkhead.rejected").tag("name", "ad").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("fast.bulkhead.wait").tag("name", "ad").timer().count()).isEqualTo(2);
+
+        bulkhead.release();
+        assertThat(bulkhead.call(() -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void call_HoldsPermitWhileRunning() {
+        Bulkhead bulkhead = new Bulkhead("smtp", 2, Duration.ZERO, meterRegistry);
+
+        double inUseDuringCall = bulkhead.call(() ->
+                meterRegistry.find("fast.bulkhead.in_use").tag("name", "smtp").gauge().value());
+
+        assertThat(inUseDuringCall).isEqualTo(1.0);
+        assertThat(bulkhead.getInUse()).isZero();
+    }
+
+    @Test
+    void dataSource_ReleasesPermitOnceWhenConnectionClosed() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:bulkhead-" + UUID.randomUUID());
+        Bulkhead bulkhead = new Bulkhead(Bulkheads.DATABASE, 1, Duration.ofMillis(10), meterRegistry);
+        BulkheadDataSource dataSource = new BulkheadDataSource(h2, bulkhead);
+
+        Connection connection = dataSource.getConnection();
+        assertThat(bulkhead.getInUse()).isEqualTo(1);
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(BulkheadFullException.class);
+
+        connection.close();
+        connection.close();
+        assertThat(bulkhead.getInUse()).isZero();
+        try (Connection again = dataSource.getConnection()) {
+            assertThat(again.isValid(1)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.enterprise.fast.config;
+
+import com.enterprise.fast.exception.CircuitOpenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private MutableClock clock;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        breaker = new CircuitBreaker("ad", 2, Duration.ofSeconds(30), e -> !(e instanceof IllegalArgumentException),
+                new SimpleMeterRegistry(), clock);
+    }
+
+    private void fail(RuntimeException e) {
+        assertThatThrownBy(() -> breaker.call(() -> { throw e; })).isSameAs(e);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures_AndFailsFast() {
+        fail(new IllegalStateException("timeout"));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        fail(new IllegalStateException("timeout"));
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.call(() -> "never"))
+                .isInstanceOf(CircuitOpenException.class)
+                .extracting("retryAfterSeconds").isEqualTo(30L);
+    }
+
+    @Test
+    void ignoredExceptions_DoNotCountAsFailures() {
+        fail(new IllegalStateException("timeout"));
+        fail(new IllegalArgumentException("404"));
+        fail(new IllegalStateException("timeout"));
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void afterOpenDuration_TrialCallClosesOrReopens() {
+        fail(new IllegalStateException("timeout"));
+        fail(new IllegalStateException("timeout"));
+
+        clock.advance(Duration.ofSeconds(30));
+        fail(new IllegalStateException("still down"));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(breaker.call(() -> "ok")).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void errorDuringTrialCall_FreesTheTrialSlot() {
+        fail(new IllegalStateException("timeout"));
+        fail(new IllegalStateException("timeout"));
+        clock.advance(Duration.ofSeconds(30));
+
+        StackOverflowError error = new StackOverflowError();
+        assertThatThrownBy(() -> breaker.call(() -> { throw error; })).isSameAs(error);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(breaker.call(() -> "ok")).isEqualTo("ok");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.enterprise.fast.config;
+
+import com.enterprise.fast.dto.response.AppSettingsResponse;
+import com.enterprise.fast.mapper.FastProblemMapper;
+import com.enterprise.fast.repository.FastProblemArchiveRepository;
+import com.enterprise.fast.repository.FastProblemLinkRepository;
+import com.enterprise.fast.repository.FastProblemRegionRepository;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.repository.KnowledgeArticleRepository;
+import com.enterprise.fast.service.AppSettingsService;
+import com.enterprise.fast.service.DashboardService;
+import com.enterprise.fast.service.impl.DashboardServiceImpl;
+import com.enterprise.fast.service.impl.EmailServiceImpl;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetricsConfigTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void dashboardQueries_AreTimedPerMethod() {
+        DashboardServiceImpl target = new DashboardServiceImpl(mock(FastProblemRepository.class),
+                mock(FastProblemLinkRepository.class), mock(FastProblemRegionRepository.class),
+                mock(KnowledgeArticleRepository.class), mock(FastProblemMapper.class),
+                mock(FastProblemArchiveRepository.class));
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new MetricsConfig().timedAspect(registry));
+        DashboardService dashboard = factory.getProxy();
+
+        dashboard.getTicketsByClassification();
+
+        Timer timer = registry.find("fast.dashboard.query").tag("method", "getTicketsByClassification").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void sendEmail_WithoutSmtpHost_RecordsSkippedOutcome() {
+        AppSettingsService settings = mock(AppSettingsService.class);
+        when(settings.getSettings(false)).thenReturn(AppSettingsResponse.builder().settings(Map.of()).build());
+        EmailServiceImpl email = new EmailServiceImpl(settings, registry,
+                new Bulkheads(Map.of(Bulkheads.SMTP, new Bulkhead(Bulkheads.SMTP, 1, Duration.ZERO, registry))));
+
+        assertThat(email.sendEmail("user@test.com", "subject", "body")).isFalse();
+
+        assertThat(registry.find("fast.email.send").tag("outcome", "skipped").timer().count()).isEqualTo(1);
+    }
+}
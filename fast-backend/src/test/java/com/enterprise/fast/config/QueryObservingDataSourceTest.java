@@ -0,0 +1,86 @@
+package com.enterprise.fast.config;
+
+import com.enterprise.fast.dto.response.QueryHotspotResponse;
+import com.enterprise.fast.dto.response.SlowQueryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryObservingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryDiagnostics diagnostics;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:observed-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(h2).execute("CREATE TABLE item (id BIGINT, name VARCHAR(20))");
+        meterRegistry = new SimpleMeterRegistry();
+        // Threshold 0 ms: every statement counts as slow, N+1 from 5 repeats
+        diagnostics = new QueryDiagnostics(0, 3, 5, 10, meterRegistry);
+        jdbc = new JdbcTemplate(new QueryObservingDataSource(h2, diagnostics));
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryStats.end();
+    }
+
+    @Test
+    void statementsInRequest_AreCountedPerSql() {
+        QueryStats stats = QueryStats.begin("GET /api/v1/items");
+        jdbc.update("INSERT INTO item VALUES (?, ?)", 1L, "a");
+        jdbc.queryForList("SELECT name FROM item WHERE id = ?", String.class, 1L);
+        jdbc.queryForList("SELECT name FROM item WHERE id = ?", String.class, 2L);
+
+        assertThat(stats.getCount()).isEqualTo(3);
+        assertThat(stats.getMaxRepeats()).isEqualTo(2);
+        assertThat(stats.getMostRepeatedSql()).isEqualTo("SELECT name FROM item WHERE id = ?");
+    }
+
+    @Test
+    void slowStatements_KeepBindTypesNotValues_AndBufferIsBounded() {
+        QueryStats.begin("POST /api/v1/items");
+        jdbc.update("INSERT INTO item VALUES (?, ?)", 1L, "secret");
+        jdbc.batchUpdate("INSERT INTO item VALUES (?, ?)", List.of(new Object[]{2L, "b"}, new Object[]{3L, "c"}));
+        jdbc.execute("DELETE FROM item WHERE id = 3");
+        jdbc.execute("DELETE FROM item WHERE id = 2");
+
+        List<SlowQueryResponse> slow = diagnostics.getSlowQueries();
+        assertThat(slow).hasSize(3);
+        assertThat(slow).extracting(SlowQueryResponse::getContext).containsOnly("POST /api/v1/items");
+        assertThat(slow).noneMatch(s -> s.getBindShape().contains("secret"));
+        SlowQueryResponse batch = slow.stream().filter(s -> s.getBatchSize() == 2).findFirst().orElseThrow();
+        assertThat(batch.getSql()).isEqualTo("INSERT INTO item VALUES (?, ?)");
+        assertThat(batch.getBindShape()).isEqualTo("(Long, String)");
+    }
+
+    @Test
+    void repeatedStatement_IsFlaggedAsNPlusOne() {
+        QueryStats stats = QueryStats.begin("GET /api/v1/items");
+        for (long id = 1; id <= 6; id++) {
+            jdbc.queryForList("SELECT name FROM item WHERE id = ?", String.class, id);
+        }
+        diagnostics.onRequestComplete("GET", "/api/v1/items", stats);
+        QueryStats quiet = QueryStats.begin("GET /api/v1/items/1");
+        jdbc.queryForList("SELECT name FROM item WHERE id = ?", String.class, 1L);
+        diagnostics.onRequestComplete("GET", "/api/v1/items/1", quiet);
+
+        assertThat(diagnostics.isNPlusOne(stats)).isTrue();
+        List<QueryHotspotResponse> hotspots = diagnostics.getHotspots();
+        assertThat(hotspots).hasSize(1);
+        assertThat(hotspots.get(0).getRepeats()).isEqualTo(6);
+        assertThat(hotspots.get(0).getRepeatedSql()).isEqualTo("SELECT name FROM item WHERE id = ?");
+        assertThat(meterRegistry.counter("fast.sql.n_plus_one").count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,108 @@
+package com.enterprise.fast.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private ReplicaStickiness stickiness;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate writeTx;
+    private ReadReplicaRoutingDataSource routing;
+
+    private static DataSource h2(String role) {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(ds).execute("CREATE TABLE node (name VARCHAR(20)); INSERT INTO node VALUES ('" + role + "')");
+        return ds;
+    }
+
+    private void wire(DataSource primary, DataSource replica) {
+        stickiness = new ReplicaStickiness(60_000);
+        routing = new ReadReplicaRoutingDataSource(primary, replica, stickiness);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTx = new TransactionTemplate(txManager);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(txManager);
+    }
+
+    @BeforeEach
+    void setUp() {
+        wire(h2("primary"), h2("replica"));
+    }
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void loginAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, "n/a", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    private String readNode(TransactionTemplate tx) {
+        return tx.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica_WritesUsePrimary() {
+        assertThat(readNode(readOnlyTx)).isEqualTo("replica");
+        assertThat(readNode(writeTx)).isEqualTo("primary");
+        assertThat(jdbc.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void afterOwnWrite_UserReadsFromPrimary_OtherUsersStillUseReplica() {
+        loginAs("alice");
+        writeTx.executeWithoutResult(status -> jdbc.update("UPDATE node SET name = 'primary'"));
+
+        assertThat(readNode(readOnlyTx)).isEqualTo("primary");
+
+        loginAs("bob");
+        assertThat(readNode(readOnlyTx)).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWrite_DoesNotPinUser() {
+        loginAs("alice");
+        writeTx.executeWithoutResult(status -> {
+            jdbc.update("UPDATE node SET name = 'primary'");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readNode(readOnlyTx)).isEqualTo("replica");
+    }
+
+    @Test
+    void unreachableReplica_FallsBackToPrimaryAndIsMarkedUnhealthy() {
+        JdbcDataSource down = new JdbcDataSource();
+        down.setURL("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+        wire(h2("primary"), down);
+
+        assertThat(readNode(readOnlyTx)).isEqualTo("primary");
+        assertThat(routing.isReplicaHealthy()).isFalse();
+
+        new ReplicaHealthMonitor(down, routing, stickiness, null, 30).check();
+        assertThat(routing.isReplicaHealthy()).isFalse();
+    }
+}
@@ -0,0 +1,96 @@
+package com.enterprise.fast.controller;
+
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.enums.Classification;
+import com.enterprise.fast.domain.enums.RagStatus;
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.mapper.FastProblemMapper;
+import com.enterprise.fast.repository.FastProblemArchiveRepository;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.repository.segment.ArchiveSegmentStore;
+import com.enterprise.fast.service.TicketArchiveService;
+import com.enterprise.fast.service.impl.ArchiveSegmentServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * List ETag of the ARCHIVED view against the archive tables. Own in-memory database, because the seed script cannot
+ * run a second time on the database FastApplicationTests has already filled.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:archived-list-etag;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+class ArchivedListETagTest {
+
+    private static final String ARCHIVED = "/api/v1/problems/status/ARCHIVED";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FastProblemRepository problemRepository;
+
+    @Autowired
+    private FastProblemArchiveRepository archiveRepository;
+
+    @Autowired
+    private TicketArchiveService archiveService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path segmentDir;
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void archivedList_AfterSealingAMonth_NoLongerMatchesTheOldETag() throws Exception {
+        problemRepository.save(FastProblem.builder()
+                .title("Sealed two years ago")
+                .classification(Classification.A)
+                .status(TicketStatus.CLOSED)
+                .ragStatus(RagStatus.G)
+                .closedDate(LocalDateTime.now().minusMonths(24))
+                .deleted(false)
+                .archived(false)
+                .createdBy("test")
+                .build());
+        archiveService.archiveClosedTickets(LocalDateTime.now().minusDays(7));
+
+        String etag = mockMvc.perform(get(ARCHIVED).param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", hasItem("Sealed two years ago")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(ARCHIVED).param("size", "100").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        int sealed = new ArchiveSegmentServiceImpl(archiveRepository, new ArchiveSegmentStore(segmentDir.toString(), 2),
+                new FastProblemMapper(), new TransactionTemplate(transactionManager), true, 12, 500).sealArchivedTickets();
+
+        assertThat(sealed).isPositive();
+        mockMvc.perform(get(ARCHIVED).param("size", "100").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", not(hasItem("Sealed two years ago"))));
+    }
+}
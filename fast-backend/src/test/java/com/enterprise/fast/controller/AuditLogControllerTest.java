@@ -2,9 +2,11 @@ package com.enterprise.fast.controller;
 
 import com.enterprise.fast.domain.entity.AuditLog;
 import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.dto.response.KeysetPageResponse;
 import com.enterprise.fast.service.AuditLogService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -15,6 +17,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,4 +68,18 @@ class AuditLogControllerTest {
         ResponseEntity<List<Map<String, Object>>> res = controller.getRecentEntries(20);
         verify(auditLogService).getRecentAuditEntries(20);
     }
+
+    @Test
+    void getEntries_DefaultsToTheLast30Days() {
+        when(auditLogService.getEntries(any(), any(), isNull(), eq(50)))
+                .thenReturn(KeysetPageResponse.<AuditLog>builder().content(List.of()).size(0).build());
+
+        ResponseEntity<KeysetPageResponse<Map<String, Object>>> res = controller.getEntries(null, null, null, 50);
+
+        assertThat(res.getBody().getContent()).isEmpty();
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> to = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(auditLogService).getEntries(from.capture(), to.capture(), isNull(), eq(50));
+        assertThat(from.getValue()).isEqualTo(to.getValue().minusDays(30));
+    }
 }
@@ -0,0 +1,57 @@
+package com.enterprise.fast.controller;
+
+import com.enterprise.fast.service.BamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Security rules of /api/v1/bam; "ad" auth mode so requests without a token stay anonymous. Own in-memory database,
+ * because the seed script cannot run a second time on the database FastApplicationTests has already filled.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+@TestPropertySource(properties = {
+        "app.auth.mode=ad",
+        "spring.datasource.url=jdbc:h2:mem:bam-security;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"})
+class BamControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BamService bamService;
+
+    @Test
+    void getProfilePhoto_Anonymous_Returns401() throws Exception {
+        mockMvc.perform(get("/api/v1/bam/photo/E123"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(bamService);
+    }
+
+    @Test
+    @WithMockUser(username = "jdoe", roles = "READ_ONLY")
+    void getProfilePhoto_Authenticated_ReachesService() throws Exception {
+        mockMvc.perform(get("/api/v1/bam/photo/E123"))
+                .andExpect(status().isNotFound());
+        verify(bamService).getProfilePhoto("E123");
+    }
+
+    @Test
+    void getAdUser_Anonymous_StaysPublicForSsoBootstrap() throws Exception {
+        mockMvc.perform(get("/api/v1/bam/ad-user"))
+                .andExpect(status().isOk());
+    }
+}
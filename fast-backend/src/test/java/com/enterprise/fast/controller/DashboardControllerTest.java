@@ -1,5 +1,6 @@
 package com.enterprise.fast.controller;
 
+import com.enterprise.fast.dto.response.CommentaryComplianceResponse;
 import com.enterprise.fast.dto.response.DashboardMetricsResponse;
 import com.enterprise.fast.service.DashboardService;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +39,15 @@ class DashboardControllerTest {
         verify(dashboardService).getOverallMetrics(null, null, null);
     }
 
+    @Test
+    void getCommentaryCompliance_ReturnsOk() {
+        CommentaryComplianceResponse row = CommentaryComplianceResponse.builder()
+                .assignedTo("alice").inProgress(4).commented(3).overdue(1).compliancePercentage(75.0).build();
+        when(dashboardService.getCommentaryComplianceByAssignee()).thenReturn(List.of(row));
+        ResponseEntity<List<CommentaryComplianceResponse>> res = controller.getCommentaryCompliance();
+        assertThat(res.getBody()).containsExactly(row);
+    }
+
     @Test
     void getResolutionTimeByRegion_ReturnsOk() {
         when(dashboardService.getResolutionTimeByRegion()).thenReturn(Map.of("AMER", 3.5));
@@ -0,0 +1,179 @@
+package com.enterprise.fast.controller;
+
+import com.enterprise.fast.dto.request.UpdateFastProblemRequest;
+import com.enterprise.fast.dto.response.ApiErrorResponse;
+import com.enterprise.fast.dto.response.FastProblemResponse;
+import com.enterprise.fast.dto.response.PagedResponse;
+import com.enterprise.fast.exception.PreconditionFailedException;
+import com.enterprise.fast.exception.VersionConflictException;
+import com.enterprise.fast.service.FastProblemService;
+import com.enterprise.fast.util.ETags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FastProblemControllerTest {
+
+    @Mock
+    private FastProblemService problemService;
+
+    @InjectMocks
+    private FastProblemController controller;
+
+    private static final String LIST_ETAG = ETags.forProblemList("5-abc", ETags.queryHash("/api/v1/problems", Map.of()));
+
+    private static ServletWebRequest getRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/problems");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    @Test
+    void getById_WithoutIfNoneMatch_ReturnsBodyAndETag() {
+        when(problemService.getVersion(1L)).thenReturn(3L);
+        when(problemService.getById(1L)).thenReturn(FastProblemResponse.builder().id(1L).version(3L).build());
+
+        ResponseEntity<FastProblemResponse> res = controller.getById(1L, getRequest(null));
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(res.getHeaders().getETag()).isEqualTo("\"fp-1-3\"");
+        assertThat(res.getBody()).isNotNull();
+    }
+
+    @Test
+    void getById_WithMatchingETag_Returns304WithoutLoadingTicket() {
+        when(problemService.getVersion(1L)).thenReturn(3L);
+
+        ResponseEntity<FastProblemResponse> res = controller.getById(1L, getRequest("\"fp-1-3\""));
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(res.getBody()).isNull();
+        verify(problemService, never()).getById(1L);
+    }
+
+    @Test
+    void getById_WithStaleETag_ReturnsFreshBody() {
+        when(problemService.getVersion(1L)).thenReturn(4L);
+        when(problemService.getById(1L)).thenReturn(FastProblemResponse.builder().id(1L).version(4L).build());
+
+        ResponseEntity<FastProblemResponse> res = controller.getById(1L, getRequest("\"fp-1-3\""));
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(res.getHeaders().getETag()).isEqualTo("\"fp-1-4\"");
+    }
+
+    @Test
+    void getAll_WithMatchingCollectionETag_Returns304WithoutQuery() {
+        when(problemService.getCollectionVersion(null)).thenReturn("5-abc");
+
+        ResponseEntity<PagedResponse<FastProblemResponse>> res = controller.getAll(null, null, null, null, null, null, null, null,
+                null, null, null, null, null, 0, 20, "createdDate", "desc", getRequest(LIST_ETAG));
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(problemService, never()).getAll(anyInt(), anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    void getAll_OtherPageWithSameCollectionStamp_GetsItsOwnETag() {
+        when(problemService.getCollectionVersion(null)).thenReturn("5-abc");
+        when(problemService.getAll(1, 20, "createdDate", "desc")).thenReturn(PagedResponse.<FastProblemResponse>builder()
+                .content(List.of()).build());
+        ServletWebRequest secondPage = getRequest(LIST_ETAG);
+        ((MockHttpServletRequest) secondPage.getRequest()).addParameter("page", "1");
+
+        ResponseEntity<PagedResponse<FastProblemResponse>> res = controller.getAll(null, null, null, null, null, null, null, null,
+                null, null, null, null, null, 1, 20, "createdDate", "desc", secondPage);
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(res.getHeaders().getETag()).isNotEqualTo(LIST_ETAG);
+    }
+
+    @Test
+    void getByStatus_ReturnsPageWithCollectionETag() {
+        when(problemService.getCollectionVersion("BACKLOG")).thenReturn("5-abc");
+        when(problemService.getByStatus("BACKLOG", 0, 20)).thenReturn(PagedResponse.<FastProblemResponse>builder()
+                .content(List.of(FastProblemResponse.builder().id(1L).build())).build());
+
+        ResponseEntity<PagedResponse<FastProblemResponse>> res = controller.getByStatus("BACKLOG", 0, 20, getRequest(null));
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(res.getHeaders().getETag()).isEqualTo(LIST_ETAG);
+        assertThat(res.getBody().getContent()).hasSize(1);
+    }
+
+    @Test
+    void update_WithIfMatch_PassesExpectedVersionAndReturnsNewETag() {
+        UpdateFastProblemRequest body = new UpdateFastProblemRequest();
+        when(problemService.update(1L, body, "analyst", 3L))
+                .thenReturn(FastProblemResponse.builder().id(1L).version(4L).build());
+
+        ResponseEntity<FastProblemResponse> res = controller.update(1L, body, "\"fp-1-3\"", auth("analyst"));
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(res.getHeaders().getETag()).isEqualTo("\"fp-1-4\"");
+    }
+
+    @Test
+    void update_WithWeakIfMatch_FailsPrecondition() {
+        UpdateFastProblemRequest body = new UpdateFastProblemRequest();
+
+        assertThatThrownBy(() -> controller.update(1L, body, "W/\"fp-1-3\"", auth("analyst")))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(problemService, never()).update(any(), any(), any(), any());
+    }
+
+    @Test
+    void update_WithoutIfMatch_SkipsVersionCheck() {
+        UpdateFastProblemRequest body = new UpdateFastProblemRequest();
+        when(problemService.update(1L, body, "analyst", null))
+                .thenReturn(FastProblemResponse.builder().id(1L).version(4L).build());
+
+        controller.update(1L, body, null, auth("analyst"));
+
+        verify(problemService).update(1L, body, "analyst", null);
+    }
+
+    @Test
+    void handleConflict_ReturnsCurrentStateAndETag() {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/problems/1");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "1"));
+        when(problemService.getById(1L)).thenReturn(FastProblemResponse.builder().id(1L).version(5L).build());
+
+        ResponseEntity<ApiErrorResponse> res = controller.handleConflict(
+                new VersionConflictException("FastProblem", 1L, 3L, 5L), request);
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(res.getHeaders().getETag()).isEqualTo("\"fp-1-5\"");
+        assertThat(res.getBody().getCode()).isEqualTo("VERSION_CONFLICT");
+        assertThat(res.getBody().getCurrent()).isInstanceOf(FastProblemResponse.class);
+    }
+
+    private static Authentication auth(String username) {
+        return new UsernamePasswordAuthenticationToken(username, "n/a");
+    }
+}
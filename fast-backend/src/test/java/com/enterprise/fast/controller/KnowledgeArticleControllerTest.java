@@ -1,6 +1,8 @@
 package com.enterprise.fast.controller;
 
+import com.enterprise.fast.dto.response.ArticleRecommendationResponse;
 import com.enterprise.fast.dto.response.KnowledgeArticleResponse;
+import com.enterprise.fast.dto.response.KnowledgeSearchResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
 import com.enterprise.fast.service.KnowledgeArticleService;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -82,6 +85,28 @@ class KnowledgeArticleControllerTest {
         verify(articleService).update(eq(1L), eq("Updated"), eq("c"), eq("w"), eq("f"), eq("cat"));
     }
 
+    @Test
+    void search_ReturnsOk() {
+        KnowledgeSearchResponse results = KnowledgeSearchResponse.builder().categories(Map.of("Payments", 1L)).build();
+        when(articleService.search("gateway", "Payments", null, 0, 20)).thenReturn(results);
+        ResponseEntity<KnowledgeSearchResponse> res = controller.search("gateway", "Payments", null, 0, 20);
+        assertThat(res.getStatusCode().value()).isEqualTo(200);
+        assertThat(res.getBody()).isSameAs(results);
+    }
+
+    @Test
+    void recommend_ByProblemOrText_RequiresExactlyOne() {
+        ArticleRecommendationResponse match = ArticleRecommendationResponse.builder()
+                .id(2L).fastProblemId(7L).title("KB: Gateway timeouts").score(3.2).build();
+        when(articleService.recommendForProblem(1L, 5)).thenReturn(List.of(match));
+        when(articleService.recommend("gateway timeout", 3)).thenReturn(List.of(match));
+
+        assertThat(controller.recommend(1L, null, 5).getBody()).containsExactly(match);
+        assertThat(controller.recommend(null, "gateway timeout", 3).getBody()).containsExactly(match);
+        assertThatThrownBy(() -> controller.recommend(null, null, 5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> controller.recommend(1L, "gateway", 5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void getRoleRules_ReturnsOk() {
         ResponseEntity<Map<String, String>> res = controller.getRoleRules();
@@ -3,9 +3,12 @@ package com.enterprise.fast.controller;
 import com.enterprise.fast.domain.entity.Application;
 import com.enterprise.fast.domain.entity.User;
 import com.enterprise.fast.dto.request.UpdateUserRequest;
+import com.enterprise.fast.dto.response.UserResponse;
 import com.enterprise.fast.exception.ResourceNotFoundException;
 import com.enterprise.fast.repository.ApplicationRepository;
 import com.enterprise.fast.repository.UserRepository;
+import com.enterprise.fast.service.ReferenceDataCache;
+import com.enterprise.fast.service.UserApplicationIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.enterprise.fast.domain.enums.UserRole.READ_ONLY;
+import static com.enterprise.fast.domain.enums.UserRole.TECH_LEAD;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -41,6 +45,12 @@ class UserControllerTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private UserApplicationIndex userApplicationIndex;
+
     @InjectMocks
     private UserController controller;
 
@@ -113,6 +123,19 @@ class UserControllerTest {
         assertThat(res.getStatusCode().value()).isEqualTo(200);
         verify(userRepository).findById(1L);
         verify(userRepository).save(u);
+        verify(userApplicationIndex).update(u);
+    }
+
+    @Test
+    void listTechLeads_WithApplicationIds_LoadsOnlyIndexedMembers() {
+        User lead = user(7L, "lead");
+        when(userApplicationIndex.findActiveUserIds(TECH_LEAD, List.of(10L))).thenReturn(List.of(7L));
+        when(userRepository.findWithApplicationsByIdIn(List.of(7L))).thenReturn(List.of(lead));
+
+        ResponseEntity<List<UserResponse>> res = controller.listTechLeads(List.of(10L));
+
+        assertThat(res.getBody()).extracting(UserResponse::getUsername).containsExactly("lead");
+        verify(userRepository, never()).findByRoleInAndActiveTrue(any());
     }
 
     @Test
@@ -154,6 +177,8 @@ class UserControllerTest {
         assertThat(u.getFullName()).isEqualTo("User One Updated");
         assertThat(u.getRole().name()).isEqualTo("TECH_LEAD");
         assertThat(u.getRegion()).isEqualTo("EMEA");
+        verify(referenceDataCache).evictUser("user1");
+        verify(referenceDataCache).evictUser("user1updated");
         assertThat(u.getActive()).isFalse();
     }
 
@@ -4,6 +4,7 @@ import com.enterprise.fast.dto.response.ApiErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -47,6 +48,31 @@ class GlobalExceptionHandlerTest {
         assertThat(res.getBody().getMessage()).isNotEmpty();
     }
 
+    @Test
+    void handleVersionConflict_Returns409() {
+        VersionConflictException ex = new VersionConflictException("FastProblem", 1L, 2L, 3L);
+        ResponseEntity<ApiErrorResponse> res = handler.handleVersionConflict(ex, request);
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(res.getBody()).isNotNull();
+        assertThat(res.getBody().getCode()).isEqualTo("VERSION_CONFLICT");
+    }
+
+    @Test
+    void handlePreconditionFailed_Returns412() {
+        ResponseEntity<ApiErrorResponse> res = handler.handlePreconditionFailed(
+                new PreconditionFailedException("If-Match requires a strong ETag"), request);
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(res.getBody().getCode()).isEqualTo("PRECONDITION_FAILED");
+    }
+
+    @Test
+    void handleOptimisticLockingFailure_Returns409() {
+        ResponseEntity<ApiErrorResponse> res = handler.handleOptimisticLockingFailure(
+                new OptimisticLockingFailureException("row was updated"), request);
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(res.getBody().getCode()).isEqualTo("VERSION_CONFLICT");
+    }
+
     @Test
     void handleIllegalArgument_Returns400() {
         IllegalArgumentException ex = new IllegalArgumentException("Bad value");
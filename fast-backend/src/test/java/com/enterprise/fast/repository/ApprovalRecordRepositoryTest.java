@@ -0,0 +1,113 @@
+package com.enterprise.fast.repository;
+
+import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.ApprovalRecord;
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.entity.User;
+import com.enterprise.fast.domain.enums.ApprovalDecision;
+import com.enterprise.fast.domain.enums.Classification;
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.domain.enums.UserRole;
+import com.enterprise.fast.dto.response.ApprovalResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+class ApprovalRecordRepositoryTest {
+
+    @Autowired
+    private ApprovalRecordRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Application payments;
+    private Application ledger;
+    private User reviewer;
+
+    @BeforeEach
+    void setUp() {
+        payments = entityManager.persist(Application.builder().name("Payments").code("PAY").build());
+        ledger = entityManager.persist(Application.builder().name("Ledger").code("LED").build());
+        reviewer = User.builder().username("reviewer").email("reviewer@enterprise.com").fullName("Reviewer")
+                .role(UserRole.REVIEWER).build();
+        reviewer.getApplications().add(payments);
+        reviewer = entityManager.persist(reviewer);
+    }
+
+    private FastProblem ticket(String title, Application... applications) {
+        FastProblem ticket = FastProblem.builder().title(title).classification(Classification.A)
+                .status(TicketStatus.BACKLOG).deleted(false).createdBy("test").build();
+        ticket.getApplications().addAll(List.of(applications));
+        entityManager.persist(ticket);
+        for (UserRole role : List.of(UserRole.REVIEWER, UserRole.APPROVER)) {
+            entityManager.persist(ApprovalRecord.builder().fastProblem(ticket).approvalRole(role).build());
+        }
+        return ticket;
+    }
+
+    @Test
+    void findPendingResponsesForUser_KeepsRoleSlotsOnTicketsSharingAnApplicationOrHavingNone() {
+        ticket("Payments down", payments);
+        ticket("Ledger and payments", ledger, payments);
+        ticket("No application");
+        ticket("Ledger only", ledger);
+        FastProblem decided = ticket("Already reviewed", payments);
+        entityManager.flush();
+        entityManager.getEntityManager().createQuery("UPDATE ApprovalRecord r SET r.decision = :decision WHERE r.fastProblem = :ticket")
+                .setParameter("decision", ApprovalDecision.APPROVED).setParameter("ticket", decided).executeUpdate();
+        entityManager.clear();
+
+        Page<ApprovalResponse> first = repository.findPendingResponsesForUser(UserRole.REVIEWER, reviewer.getId(), PageRequest.of(0, 2));
+        Page<ApprovalResponse> second = repository.findPendingResponsesForUser(UserRole.REVIEWER, reviewer.getId(), PageRequest.of(1, 2));
+
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getContent()).extracting(ApprovalResponse::getFastProblemTitle)
+                .containsExactly("Payments down", "Ledger and payments");
+        assertThat(second.getContent()).extracting(ApprovalResponse::getFastProblemTitle).containsExactly("No application");
+        assertThat(first.getContent().get(0).getApprovalRole()).isEqualTo("REVIEWER");
+        assertThat(first.getContent().get(0).getDecision()).isEqualTo("PENDING");
+    }
+
+    @Test
+    void findPendingResponses_ReturnsEveryPendingSlot() {
+        ticket("Payments down", payments);
+        ticket("Ledger only", ledger);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(repository.findPendingResponses(PageRequest.of(0, 10)).getContent()).hasSize(4)
+                .extracting(ApprovalResponse::getApprovalRole).containsOnly("REVIEWER", "APPROVER");
+    }
+
+    @Test
+    void countDecisionsByProblemIds_GroupsSlotsPerTicket() {
+        FastProblem partly = ticket("Partly approved", payments);
+        FastProblem untouched = ticket("Untouched", ledger);
+        entityManager.flush();
+        entityManager.getEntityManager().createQuery("UPDATE ApprovalRecord r SET r.decision = :decision "
+                        + "WHERE r.fastProblem = :ticket AND r.approvalRole = :role")
+                .setParameter("decision", ApprovalDecision.APPROVED).setParameter("ticket", partly)
+                .setParameter("role", UserRole.REVIEWER).executeUpdate();
+        entityManager.clear();
+
+        List<ApprovalRecordRepository.DecisionCounts> counts =
+                repository.countDecisionsByProblemIds(List.of(partly.getId(), untouched.getId()));
+
+        assertThat(counts).extracting(ApprovalRecordRepository.DecisionCounts::getProblemId,
+                        ApprovalRecordRepository.DecisionCounts::getTotal, ApprovalRecordRepository.DecisionCounts::getApproved)
+                .containsExactlyInAnyOrder(tuple(partly.getId(), 2L, 1L), tuple(untouched.getId(), 2L, 0L));
+        assertThat(repository.findAllWithProblemByIdIn(List.of(1L, 2L, 3L, 4L)))
+                .allSatisfy(r -> assertThat(r.getFastProblem().getTitle()).isNotNull());
+    }
+}
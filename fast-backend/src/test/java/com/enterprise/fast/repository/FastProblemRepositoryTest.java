@@ -1,5 +1,6 @@
 package com.enterprise.fast.repository;
 
+import com.enterprise.fast.domain.entity.Application;
 import com.enterprise.fast.domain.entity.FastProblem;
 import com.enterprise.fast.domain.entity.FastProblemRegion;
 import com.enterprise.fast.domain.enums.Classification;
@@ -9,8 +10,14 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -19,6 +26,9 @@ class FastProblemRepositoryTest {
     @Autowired
     private FastProblemRepository repository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void findByDeletedFalse_ReturnsOnlyNonDeleted() {
         FastProblem p = FastProblem.builder()
@@ -36,6 +46,66 @@ class FastProblemRepositoryTest {
         assertThat(result.getContent().get(0).getDeleted()).isFalse();
     }
 
+    @Test
+    void save_WithDetachedApplicationCopy_LinksExistingRow() {
+        Application stored = entityManager.persistFlushFind(Application.builder().name("Cached App").code("CA").build());
+        entityManager.clear();
+        // What ReferenceDataCache hands out: a plain copy carrying the id
+        Application copy = Application.builder().id(stored.getId()).name(stored.getName()).code(stored.getCode()).build();
+
+        FastProblem p = FastProblem.builder()
+                .title("Linked")
+                .classification(Classification.A)
+                .status(TicketStatus.BACKLOG)
+                .deleted(false)
+                .createdBy("test")
+                .build();
+        p.getApplications().add(copy);
+        Long id = repository.saveAndFlush(p).getId();
+        entityManager.clear();
+
+        FastProblem reloaded = repository.findById(id).orElseThrow();
+        assertThat(reloaded.getApplications()).extracting(Application::getName).containsExactly("Cached App");
+    }
+
+    @Test
+    void lastCommentDate_DrivesDailyCommentaryCheckAndComplianceReport() {
+        LocalDateTime now = LocalDateTime.now();
+        FastProblem fresh = repository.save(inProgress("commentary-alice", now.minusHours(1), 3));
+        FastProblem stale = repository.save(inProgress("commentary-alice", now.minusDays(3), 1));
+        FastProblem silent = repository.save(inProgress("commentary-bob", null, 0));
+        entityManager.flush();
+        LocalDateTime cutoff = now.minusHours(24);
+
+        assertThat(repository.findInProgressWithoutRecentComment(TicketStatus.IN_PROGRESS, cutoff))
+                .extracting(FastProblem::getId)
+                .contains(stale.getId(), silent.getId())
+                .doesNotContain(fresh.getId());
+
+        Map<String, FastProblemRepository.CommentaryCompliance> byAssignee =
+                repository.findCommentaryComplianceByAssignee(TicketStatus.IN_PROGRESS, cutoff).stream()
+                        .filter(row -> row.getAssignedTo() != null && row.getAssignedTo().startsWith("commentary-"))
+                        .collect(Collectors.toMap(FastProblemRepository.CommentaryCompliance::getAssignedTo, Function.identity()));
+        assertThat(byAssignee.get("commentary-alice").getTickets()).isEqualTo(2);
+        assertThat(byAssignee.get("commentary-alice").getCommentedSinceCutoff()).isEqualTo(1);
+        assertThat(byAssignee.get("commentary-alice").getNeverCommented()).isZero();
+        assertThat(byAssignee.get("commentary-bob").getTickets()).isEqualTo(1);
+        assertThat(byAssignee.get("commentary-bob").getNeverCommented()).isEqualTo(1);
+    }
+
+    private static FastProblem inProgress(String assignee, LocalDateTime lastCommentDate, int commentCount) {
+        return FastProblem.builder()
+                .title("Commentary " + assignee)
+                .classification(Classification.A)
+                .status(TicketStatus.IN_PROGRESS)
+                .assignedTo(assignee)
+                .lastCommentDate(lastCommentDate)
+                .commentCount(commentCount)
+                .deleted(false)
+                .createdBy("test")
+                .build();
+    }
+
     @Test
     @Disabled("H2 dialect differs from Oracle for lower() in specification")
     void findAll_WithSpecification_AppliesFilters() {
@@ -0,0 +1,111 @@
+package com.enterprise.fast.repository;
+
+import com.enterprise.fast.domain.entity.ApprovalRecord;
+import com.enterprise.fast.domain.entity.AuditLog;
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.entity.FastProblemRegion;
+import com.enterprise.fast.domain.enums.Classification;
+import com.enterprise.fast.domain.enums.RegionalCode;
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.domain.enums.UserRole;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round-trip benchmark for the write paths that used to insert row by row under IDENTITY ids.
+ * Prepared statements are counted through Hibernate statistics: a JDBC batch prepares its statement once,
+ * while an IDENTITY insert needs one statement (and round trip) per row.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class JdbcBatchingRoundTripTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static FastProblem ticket(String title) {
+        FastProblem p = FastProblem.builder()
+                .title(title)
+                .classification(Classification.A)
+                .status(TicketStatus.BACKLOG)
+                .deleted(false)
+                .createdBy("bench")
+                .build();
+        for (RegionalCode rc : RegionalCode.values()) {
+            p.getRegions().add(FastProblemRegion.builder().fastProblem(p).regionalCode(rc).build());
+        }
+        return p;
+    }
+
+    @Test
+    void create_TicketsWithRegionsAndAudit_InsertsInBatches() {
+        statistics.clear();
+        List<FastProblem> tickets = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            FastProblem p = ticket("bench " + i);
+            entityManager.persist(p);
+            entityManager.persist(AuditLog.builder().fastProblem(p).action("CREATED").performedBy("bench").build());
+            tickets.add(p);
+        }
+        entityManager.flush();
+
+        int regionCount = RegionalCode.values().length;
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20L * (2 + regionCount));
+        // IDENTITY: one round trip per row (20 * (2 + regions)). Pooled sequences: one id fetch per table
+        // per 50 rows plus one batch per 50 rows per table.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3 + 3 + 2);
+        assertThat(tickets).extracting(FastProblem::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void submitForApproval_ThreeRecords_OneBatch() {
+        FastProblem p = ticket("approval bench");
+        entityManager.persist(p);
+        entityManager.flush();
+        statistics.clear();
+
+        for (UserRole role : List.of(UserRole.REVIEWER, UserRole.APPROVER, UserRole.RTB_OWNER)) {
+            entityManager.persist(ApprovalRecord.builder().fastProblem(p).approvalRole(role).build());
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        // IDENTITY: 3 inserts. Now: at most one sequence call plus one batched insert.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void schedulerBatch_UpdatesAreBatched() {
+        List<FastProblem> tickets = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            FastProblem p = ticket("scheduler bench " + i);
+            entityManager.persist(p);
+            tickets.add(p);
+        }
+        entityManager.flush();
+        statistics.clear();
+
+        tickets.forEach(t -> t.setTicketAgeDays(7));
+        entityManager.flush();
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(50);
+        // 50 UPDATE statements travel as one JDBC batch (previously 50 round trips)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
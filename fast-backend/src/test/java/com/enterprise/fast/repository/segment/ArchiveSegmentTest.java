@@ -0,0 +1,95 @@
+package com.enterprise.fast.repository.segment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchiveSegmentTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] doc(long id) {
+        return ("{\"id\":" + id + ",\"title\":\"Ticket " + id + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private ArchiveSegmentStore storeWith(YearMonth month, long fromId, long toId) throws IOException {
+        ArchiveSegmentStore store = new ArchiveSegmentStore(dir.toString(), 4);
+        try (ArchiveSegmentWriter writer = store.newSegment(month)) {
+            for (long id = fromId; id <= toId; id++) {
+                writer.append(id, month.atDay((int) (id % 28) + 1), doc(id));
+            }
+            store.register(writer.commit());
+        }
+        return store;
+    }
+
+    @Test
+    void find_LooksUpIdsAcrossBlocks() throws IOException {
+        ArchiveSegmentStore store = storeWith(YearMonth.of(2024, 3), 10, 40);
+
+        ArchiveSegmentReader segment = store.segments().get(0);
+        assertThat(segment.getRecordCount()).isEqualTo(31);
+        assertThat(segment.getBlockCount()).isEqualTo(8);
+        assertThat(segment.getMinId()).isEqualTo(10);
+        assertThat(segment.getMaxId()).isEqualTo(40);
+        assertThat(store.find(10)).hasValueSatisfying(d -> assertThat(d).isEqualTo(doc(10)));
+        assertThat(store.find(27)).hasValueSatisfying(d -> assertThat(d).isEqualTo(doc(27)));
+        assertThat(store.find(40)).hasValueSatisfying(d -> assertThat(d).isEqualTo(doc(40)));
+        assertThat(store.find(9)).isEmpty();
+        assertThat(store.find(41)).isEmpty();
+    }
+
+    @Test
+    void forEach_ReturnsOnlyRecordsInTheDateRange() throws IOException {
+        ArchiveSegmentStore store = storeWith(YearMonth.of(2024, 3), 1, 27);
+        List<Long> ids = new ArrayList<>();
+
+        store.segments().get(0).forEach(LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 7), (id, d) -> ids.add(id));
+
+        assertThat(ids).containsExactly(4L, 5L, 6L);
+    }
+
+    @Test
+    void segments_AreFoundByANewStoreOnTheSameDirectory() throws IOException {
+        storeWith(YearMonth.of(2024, 3), 1, 5);
+
+        ArchiveSegmentStore reopened = new ArchiveSegmentStore(dir.toString(), 4);
+
+        assertThat(reopened.find(3)).hasValueSatisfying(d -> assertThat(d).isEqualTo(doc(3)));
+        assertThat(ArchiveSegmentStore.monthOf(reopened.segments().get(0).getPath())).contains(YearMonth.of(2024, 3));
+    }
+
+    @Test
+    void uncommittedSegment_IsDiscarded() throws IOException {
+        ArchiveSegmentStore store = new ArchiveSegmentStore(dir.toString(), 4);
+        try (ArchiveSegmentWriter writer = store.newSegment(YearMonth.of(2024, 3))) {
+            writer.append(1, LocalDate.of(2024, 3, 1), doc(1));
+        }
+
+        try (var files = Files.list(dir)) {
+            assertThat(files).isEmpty();
+        }
+        assertThat(store.find(1)).isEmpty();
+    }
+
+    @Test
+    void append_RejectsIdsOutOfOrder() throws IOException {
+        try (ArchiveSegmentWriter writer = new ArchiveSegmentWriter(dir.resolve("tickets-2024-03-20240401T000000.seg"), 4)) {
+            writer.append(5, LocalDate.of(2024, 3, 1), doc(5));
+            assertThatThrownBy(() -> writer.append(5, LocalDate.of(2024, 3, 1), doc(5)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
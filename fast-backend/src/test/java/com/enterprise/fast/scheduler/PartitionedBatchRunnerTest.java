@@ -0,0 +1,162 @@
+package com.enterprise.fast.scheduler;
+
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.entity.SchedulerCheckpoint;
+import com.enterprise.fast.domain.enums.Classification;
+import com.enterprise.fast.domain.enums.RagStatus;
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.repository.SchedulerCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartitionedBatchRunnerTest {
+
+    private static final List<TicketStatus> CLOSED = List.of(TicketStatus.CLOSED);
+
+    @Autowired
+    private FastProblemRepository problemRepository;
+
+    @Autowired
+    private SchedulerCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PartitionedBatchRunner runner;
+    private List<Long> openIds;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new PartitionedBatchRunner(problemRepository, checkpointRepository,
+                new TransactionTemplate(transactionManager), meterRegistry, 3, 10);
+        ReflectionTestUtils.setField(runner, "entityManager", entityManager);
+        List<FastProblem> tickets = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            tickets.add(FastProblem.builder()
+                    .title("Ticket " + i)
+                    .classification(Classification.A)
+                    .status(i % 9 == 0 ? TicketStatus.CLOSED : TicketStatus.BACKLOG)
+                    .ragStatus(RagStatus.G)
+                    .deleted(false)
+                    .createdBy("test")
+                    .build());
+        }
+        openIds = problemRepository.saveAll(tickets).stream()
+                .filter(t -> t.getStatus() != TicketStatus.CLOSED)
+                .map(FastProblem::getId)
+                .toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        checkpointRepository.deleteAll();
+        problemRepository.deleteAll();
+    }
+
+    private List<FastProblem> reloadOpen() {
+        return problemRepository.findAllById(openIds);
+    }
+
+    private static long rangeOf(long id) {
+        return Math.floorDiv(id, 10) * 10L;
+    }
+
+    @Test
+    void run_ProcessesEveryOpenTicketAndClearsCheckpoints() {
+        runner.run("job", CLOSED, tickets -> tickets.forEach(t -> t.setRagStatus(RagStatus.R)));
+
+        assertThat(reloadOpen()).allMatch(t -> t.getRagStatus() == RagStatus.R);
+        assertThat(problemRepository.findAll()).filteredOn(t -> t.getStatus() == TicketStatus.CLOSED)
+                .allMatch(t -> t.getRagStatus() == RagStatus.G);
+        assertThat(checkpointRepository.count()).isZero();
+        assertThat(meterRegistry.find("fast.scheduler.worker.throughput").tag("job", "job").summary().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void run_AfterInterruptedRun_SkipsCheckpointedRanges() {
+        long firstRange = rangeOf(openIds.get(0));
+        checkpointRepository.save(SchedulerCheckpoint.builder()
+                .jobName("job").runDate(LocalDate.now())
+                .rangeStart(firstRange).rangeEnd(firstRange + 9)
+                .rowsProcessed(0).completedAt(LocalDateTime.now())
+                .build());
+
+        runner.run("job", CLOSED, tickets -> tickets.forEach(t -> t.setRagStatus(RagStatus.R)));
+
+        assertThat(reloadOpen()).allMatch(t -> rangeOf(t.getId()) == firstRange
+                ? t.getRagStatus() == RagStatus.G
+                : t.getRagStatus() == RagStatus.R);
+        assertThat(checkpointRepository.count()).isZero();
+    }
+
+    @Test
+    void run_WhenARangeFails_KeepsCheckpointsOfCommittedRanges() {
+        long failingRange = rangeOf(openIds.get(openIds.size() - 1));
+
+        assertThatThrownBy(() -> runner.run("job", CLOSED, tickets -> {
+            if (tickets.stream().anyMatch(t -> rangeOf(t.getId()) == failingRange)) {
+                throw new IllegalStateException("boom");
+            }
+            tickets.forEach(t -> t.setRagStatus(RagStatus.R));
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(checkpointRepository.findRangeStarts("job", LocalDate.now())).doesNotContain(failingRange);
+        assertThat(checkpointRepository.findJobNamesWithCheckpoints(LocalDate.now())).containsExactly("job");
+        assertThat(reloadOpen()).filteredOn(t -> rangeOf(t.getId()) == failingRange)
+                .isNotEmpty()
+                .allMatch(t -> t.getRagStatus() == RagStatus.G);
+    }
+
+    @Test
+    void resumer_JobThatAlwaysFails_IsRestartedOnlyUntilTheDailyLimit() {
+        AtomicInteger runs = new AtomicInteger();
+        TicketScheduler scheduler = mock(TicketScheduler.class);
+        doAnswer(invocation -> {
+            runs.incrementAndGet();
+            runner.run("updateRagStatus", CLOSED, tickets -> {
+                throw new IllegalStateException("bad range");
+            });
+            return null;
+        }).when(scheduler).updateRagStatus();
+        InterruptedJobResumer resumer = new InterruptedJobResumer(checkpointRepository, scheduler, runner);
+
+        assertThatThrownBy(scheduler::updateRagStatus).hasMessage("bad range");
+        for (int check = 0; check < 10; check++) {
+            resumer.resumeInterruptedJobs();
+        }
+
+        assertThat(runs).hasValue(PartitionedBatchRunner.MAX_FAILED_RUNS);
+        assertThat(runner.hasGivenUp("updateRagStatus", LocalDate.now())).isTrue();
+        assertThat(checkpointRepository.findRangeStarts("updateRagStatus", LocalDate.now())).isEmpty();
+    }
+}
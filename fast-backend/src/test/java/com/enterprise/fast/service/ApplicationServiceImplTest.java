@@ -28,6 +28,9 @@ class ApplicationServiceImplTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private ApplicationServiceImpl service;
 
@@ -53,7 +56,7 @@ class ApplicationServiceImplTest {
 
     @Test
     void findAll_ReturnsList() {
-        when(applicationRepository.findAllByOrderByNameAsc()).thenReturn(List.of(app));
+        when(referenceDataCache.getApplications()).thenReturn(List.of(app));
         List<ApplicationResponse> result = service.findAll();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("TestApp");
@@ -91,6 +94,7 @@ class ApplicationServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("NewApp");
         verify(applicationRepository).save(any());
+        verify(referenceDataCache).evictApplications();
     }
 
     @Test
@@ -127,6 +131,7 @@ class ApplicationServiceImplTest {
         doNothing().when(applicationRepository).deleteById(1L);
         service.deleteById(1L);
         verify(applicationRepository).deleteById(1L);
+        verify(referenceDataCache).evictApplications();
     }
 
     @Test
@@ -1,6 +1,8 @@
 package com.enterprise.fast.service;
 
+import com.enterprise.fast.domain.entity.Application;
 import com.enterprise.fast.domain.entity.ApprovalRecord;
+import com.enterprise.fast.domain.entity.AuditLog;
 import com.enterprise.fast.domain.entity.FastProblem;
 import com.enterprise.fast.domain.entity.User;
 import com.enterprise.fast.domain.enums.ApprovalDecision;
@@ -8,6 +10,8 @@ import com.enterprise.fast.domain.enums.TicketStatus;
 import com.enterprise.fast.domain.enums.UserRole;
 import com.enterprise.fast.dto.request.ApprovalRequest;
 import com.enterprise.fast.dto.response.ApprovalResponse;
+import com.enterprise.fast.dto.response.BulkOperationResponse;
+import com.enterprise.fast.dto.response.PagedResponse;
 import com.enterprise.fast.mapper.FastProblemMapper;
 import com.enterprise.fast.repository.ApprovalRecordRepository;
 import com.enterprise.fast.repository.FastProblemRepository;
@@ -16,18 +20,26 @@ import com.enterprise.fast.service.impl.ApprovalServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +61,12 @@ class ApprovalServiceImplTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private UserApplicationIndex userApplicationIndex;
+
+    @Mock
+    private DuplicateTicketIndex duplicateIndex;
+
     @InjectMocks
     private ApprovalServiceImpl service;
 
@@ -87,7 +105,6 @@ class ApprovalServiceImplTest {
     void approve_WhenAllApprovalsDone_AutoMovesTicketToAccepted() {
         ApprovalRequest request = new ApprovalRequest("Looks good");
         when(approvalRepository.findById(100L)).thenReturn(Optional.of(record));
-        when(userRepository.findByUsernameWithApplicationsIgnoreCase("reviewer")).thenReturn(Optional.of(reviewer));
         when(userRepository.findByUsernameIgnoreCase("reviewer")).thenReturn(Optional.of(reviewer));
         when(approvalRepository.save(any(ApprovalRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(approvalRepository.countByFastProblemIdAndDecision(1L, ApprovalDecision.APPROVED)).thenReturn(3L);
@@ -105,7 +122,6 @@ class ApprovalServiceImplTest {
     void approve_WhenNotAllApprovalsDone_DoesNotChangeTicketStatus() {
         ApprovalRequest request = new ApprovalRequest("Looks good");
         when(approvalRepository.findById(100L)).thenReturn(Optional.of(record));
-        when(userRepository.findByUsernameWithApplicationsIgnoreCase("reviewer")).thenReturn(Optional.of(reviewer));
         when(userRepository.findByUsernameIgnoreCase("reviewer")).thenReturn(Optional.of(reviewer));
         when(approvalRepository.save(any(ApprovalRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(approvalRepository.countByFastProblemIdAndDecision(1L, ApprovalDecision.APPROVED)).thenReturn(2L);
@@ -117,4 +133,119 @@ class ApprovalServiceImplTest {
         assertThat(response).isNotNull();
         verify(problemRepository, never()).save(any(FastProblem.class));
     }
+
+    @Test
+    void approve_WhenUserSharesNoApplicationWithTicket_IsDenied() {
+        problem.setApplications(new ArrayList<>(List.of(Application.builder().id(7L).name("Payments").build())));
+        when(approvalRepository.findById(100L)).thenReturn(Optional.of(record));
+        when(userRepository.findByUsernameIgnoreCase("reviewer")).thenReturn(Optional.of(reviewer));
+        when(userApplicationIndex.sharesApplication(10L, Set.of(7L))).thenReturn(false);
+
+        assertThatThrownBy(() -> service.approve(100L, new ApprovalRequest("ok"), "reviewer"))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(approvalRepository, never()).save(any(ApprovalRecord.class));
+    }
+
+    @Test
+    void reject_SlotOfAnotherRole_IsDenied() {
+        record.setApprovalRole(UserRole.RTB_OWNER);
+        when(approvalRepository.findById(100L)).thenReturn(Optional.of(record));
+        when(userRepository.findByUsernameIgnoreCase("reviewer")).thenReturn(Optional.of(reviewer));
+
+        assertThatThrownBy(() -> service.reject(100L, new ApprovalRequest("no"), "reviewer"))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessageContaining("RTB_OWNER");
+        assertThat(problem.getStatus()).isEqualTo(TicketStatus.BACKLOG);
+        verify(approvalRepository, never()).save(any(ApprovalRecord.class));
+    }
+
+    @Test
+    void getPendingApprovals_ForReviewer_QueriesOnlyTheirRoleAndApplications() {
+        when(userRepository.findByUsernameIgnoreCase("reviewer")).thenReturn(Optional.of(reviewer));
+        ApprovalResponse pending = ApprovalResponse.builder().id(100L).fastProblemId(1L).decision("PENDING").build();
+        when(approvalRepository.findPendingResponsesForUser(UserRole.REVIEWER, 10L, PageRequest.of(0, 20)))
+                .thenReturn(new PageImpl<>(List.of(pending), PageRequest.of(0, 20), 21));
+
+        PagedResponse<ApprovalResponse> page = service.getPendingApprovals("reviewer", 0, 20);
+
+        assertThat(page.getContent()).containsExactly(pending);
+        assertThat(page.getTotalElements()).isEqualTo(21);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        verify(approvalRepository, never()).findPendingResponses(any());
+        verify(mapper, never()).toApprovalResponse(any(ApprovalRecord.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkApprove_ReportsPerItemAndAcceptsCompletedTicketsInOneBatch() {
+        ApprovalRecord decided = ApprovalRecord.builder().id(101L).fastProblem(problem)
+                .approvalRole(UserRole.APPROVER).decision(ApprovalDecision.APPROVED).build();
+        when(userRepository.findByUsernameIgnoreCase("reviewer")).thenReturn(Optional.of(reviewer));
+        when(approvalRepository.findAllWithProblemByIdIn(List.of(100L, 101L, 999L))).thenReturn(List.of(record, decided));
+        when(approvalRepository.countDecisionsByProblemIds(Set.of(1L))).thenReturn(List.of(counts(1L, 3L, 3L)));
+
+        BulkOperationResponse result = service.bulkApprove(List.of(100L, 101L, 999L, 100L), "CAB ok", "reviewer");
+
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BulkOperationResponse.ItemResult::getCode)
+                .containsExactly(null, "INVALID_STATE", "NOT_FOUND");
+        assertThat(record.getDecision()).isEqualTo(ApprovalDecision.APPROVED);
+        assertThat(record.getReviewerEmail()).isEqualTo("reviewer@enterprise.com");
+        assertThat(problem.getStatus()).isEqualTo(TicketStatus.ACCEPTED);
+        verify(approvalRepository).saveAllAndFlush(List.of(record));
+        ArgumentCaptor<List<AuditLog>> audit = ArgumentCaptor.forClass(List.class);
+        verify(auditLogService).logActions(audit.capture());
+        assertThat(audit.getValue()).extracting(AuditLog::getAction).containsExactly("APPROVED", "STATUS_CHANGED");
+        verify(approvalRepository, never()).findById(any());
+        verify(userRepository, times(1)).findByUsernameIgnoreCase("reviewer");
+    }
+
+    @Test
+    void bulkReject_MovesBacklogTicketToRejectedWithoutCounting() {
+        when(userRepository.findByUsernameIgnoreCase("reviewer")).thenReturn(Optional.of(reviewer));
+        when(approvalRepository.findAllWithProblemByIdIn(List.of(100L))).thenReturn(List.of(record));
+
+        BulkOperationResponse result = service.bulkReject(List.of(100L), "Out of scope", "reviewer");
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(problem.getStatus()).isEqualTo(TicketStatus.REJECTED);
+        verify(approvalRepository, never()).countDecisionsByProblemIds(any());
+        verify(duplicateIndex).update(problem);
+    }
+
+    @Test
+    void bulkReject_SkipsSlotsOfOtherRoles() {
+        ApprovalRecord approverSlot = ApprovalRecord.builder().id(101L).fastProblem(problem)
+                .approvalRole(UserRole.APPROVER).decision(ApprovalDecision.PENDING).build();
+        when(userRepository.findByUsernameIgnoreCase("reviewer")).thenReturn(Optional.of(reviewer));
+        when(approvalRepository.findAllWithProblemByIdIn(List.of(101L))).thenReturn(List.of(approverSlot));
+
+        BulkOperationResponse result = service.bulkReject(List.of(101L), "Out of scope", "reviewer");
+
+        assertThat(result.getResults()).extracting(BulkOperationResponse.ItemResult::getCode).containsExactly("FORBIDDEN");
+        assertThat(approverSlot.getDecision()).isEqualTo(ApprovalDecision.PENDING);
+        assertThat(problem.getStatus()).isEqualTo(TicketStatus.BACKLOG);
+        verify(approvalRepository, never()).saveAllAndFlush(any());
+        verify(duplicateIndex, never()).update(any());
+    }
+
+    private static ApprovalRecordRepository.DecisionCounts counts(Long problemId, Long total, Long approved) {
+        return new ApprovalRecordRepository.DecisionCounts() {
+            @Override
+            public Long getProblemId() {
+                return problemId;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+
+            @Override
+            public Long getApproved() {
+                return approved;
+            }
+        };
+    }
 }
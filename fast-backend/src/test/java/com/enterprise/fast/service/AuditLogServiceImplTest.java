@@ -0,0 +1,156 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.AuditLog;
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.enums.Classification;
+import com.enterprise.fast.domain.enums.RagStatus;
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.dto.response.KeysetPageResponse;
+import com.enterprise.fast.repository.AuditLogPartitionRepository;
+import com.enterprise.fast.repository.AuditLogRepository;
+import com.enterprise.fast.repository.FastProblemArchiveRepository;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.service.impl.AuditLogServiceImpl;
+import com.enterprise.fast.service.impl.AuditRetentionServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuditLogServiceImplTest {
+
+    @Autowired
+    private FastProblemRepository problemRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private AuditLogServiceImpl service;
+    private AuditLogPartitionRepository partitionRepository;
+    private FastProblem ticket;
+
+    @BeforeEach
+    void setUp() {
+        NamedParameterJdbcTemplate jdbc = new NamedParameterJdbcTemplate(dataSource);
+        partitionRepository = new AuditLogPartitionRepository(jdbc);
+        service = new AuditLogServiceImpl(auditLogRepository, problemRepository,
+                new FastProblemArchiveRepository(jdbc), mock(ArchiveSegmentService.class));
+        ticket = problemRepository.save(FastProblem.builder()
+                .title("Audited")
+                .classification(Classification.A)
+                .status(TicketStatus.BACKLOG)
+                .ragStatus(RagStatus.G)
+                .deleted(false)
+                .archived(false)
+                .createdBy("test")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLogRepository.deleteAll();
+        problemRepository.deleteAll();
+    }
+
+    private void audit(String action, LocalDateTime timestamp) {
+        auditLogRepository.save(AuditLog.builder().fastProblem(ticket).action(action).performedBy("test")
+                .timestamp(timestamp).build());
+    }
+
+    @Test
+    void getEntries_PagesTheRangeNewestFirstWithoutGapsOrRepeats() {
+        LocalDateTime base = LocalDateTime.of(2025, 3, 10, 12, 0);
+        audit("BEFORE", base.minusDays(1));
+        for (int i = 0; i < 5; i++) {
+            audit("E" + i, base.plusMinutes(i));
+        }
+        // Same timestamp as E4: the id breaks the tie
+        audit("E4b", base.plusMinutes(4));
+        audit("AFTER", base.plusDays(1));
+
+        List<String> actions = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            KeysetPageResponse<AuditLog> page = service.getEntries(base, base.plusHours(1), cursor, 2);
+            page.getContent().forEach(a -> actions.add(a.getAction()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(actions).containsExactly("E4b", "E4", "E3", "E2", "E1", "E0");
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void logActionPerTicket_WritesOneEntryPerKnownTicket() {
+        service.logActionPerTicket(Map.of(ticket.getId(), "SENT:1,FAILED:0", Long.MAX_VALUE, "SENT:0,FAILED:1"),
+                "ACCEPTED_NOTIFICATION", "admin", "acceptedTicketEmailEnabled", "true");
+
+        assertThat(auditLogRepository.findByFastProblemIdOrderByTimestampDesc(ticket.getId()))
+                .singleElement()
+                .satisfies(a -> {
+                    assertThat(a.getAction()).isEqualTo("ACCEPTED_NOTIFICATION");
+                    assertThat(a.getNewValue()).isEqualTo("SENT:1,FAILED:0");
+                });
+        assertThat(auditLogRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void getAuditTrailPage_ReturnsTheTicketTrailInPages() {
+        LocalDateTime base = LocalDateTime.of(2025, 3, 10, 12, 0);
+        audit("CREATED", base);
+        audit("UPDATED", base.plusMinutes(1));
+        audit("CLOSED", base.plusMinutes(2));
+
+        KeysetPageResponse<AuditLog> first = service.getAuditTrailPage(ticket.getId(), null, 2);
+        KeysetPageResponse<AuditLog> second = service.getAuditTrailPage(ticket.getId(), first.getNextCursor(), 2);
+
+        assertThat(first.getContent()).extracting(AuditLog::getAction).containsExactly("CLOSED", "UPDATED");
+        assertThat(second.getContent()).extracting(AuditLog::getAction).containsExactly("CREATED");
+        assertThat(second.getNextCursor()).isNull();
+        assertThatThrownBy(() -> service.getAuditTrailPage(ticket.getId(), "not-a-cursor", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void purgeExpiredEntries_RemovesWholeMonthsPastTheRetention() {
+        YearMonth now = YearMonth.now();
+        audit("OLD", now.minusMonths(14).atDay(3).atStartOfDay());
+        audit("OLD", now.minusMonths(13).atEndOfMonth().atTime(23, 59));
+        audit("KEPT", now.minusMonths(12).atDay(1).atStartOfDay());
+        audit("KEPT", LocalDateTime.now());
+
+        int purged = new AuditRetentionServiceImpl(partitionRepository, new TransactionTemplate(transactionManager), 12, 1)
+                .purgeExpiredEntries();
+
+        assertThat(partitionRepository.isPartitioned()).isFalse();
+        assertThat(purged).isEqualTo(2);
+        assertThat(auditLogRepository.findAll()).extracting(AuditLog::getAction).containsOnly("KEPT").hasSize(2);
+    }
+}
@@ -0,0 +1,125 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.config.Bulkhead;
+import com.enterprise.fast.config.Bulkheads;
+import com.enterprise.fast.config.CircuitBreaker;
+import com.enterprise.fast.config.CircuitBreakers;
+import com.enterprise.fast.dto.response.AdUserResponse;
+import com.enterprise.fast.dto.response.ProfilePhotoResponse;
+import com.enterprise.fast.exception.CircuitOpenException;
+import com.enterprise.fast.service.impl.BamServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class BamServiceImplTest {
+
+    private static final String AD_URL = "http://ad-server/api/getADUsers";
+    private static final String PHONEBOOK_URL = "http://phonebook/photo";
+
+    private MockRestServiceServer server;
+    private BamServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        Bulkheads bulkheads = new Bulkheads(Map.of(
+                Bulkheads.AD, new Bulkhead(Bulkheads.AD, 2, Duration.ZERO, registry),
+                Bulkheads.PHONEBOOK, new Bulkhead(Bulkheads.PHONEBOOK, 2, Duration.ZERO, registry)));
+        CircuitBreakers breakers = new CircuitBreakers(Map.of(
+                CircuitBreakers.AD, new CircuitBreaker(CircuitBreakers.AD, 2, Duration.ofMinutes(1),
+                        e -> !(e instanceof HttpClientErrorException), registry),
+                CircuitBreakers.PHONEBOOK, new CircuitBreaker(CircuitBreakers.PHONEBOOK, 2, Duration.ofMinutes(1),
+                        e -> !(e instanceof HttpClientErrorException), registry)));
+        service = new BamServiceImpl(restTemplate, bulkheads, breakers, 300, 3600, 3600, 86400, 100);
+        ReflectionTestUtils.setField(service, "adUsersUrl", AD_URL);
+        ReflectionTestUtils.setField(service, "phonebookUrl", PHONEBOOK_URL);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    @Test
+    void getAdUserDetails_SecondCallServedFromCache() {
+        signIn("jdoe");
+        server.expect(once(), requestTo(AD_URL)).andRespond(withSuccess(
+                "{\"userName\":\"jdoe\",\"employeeId\":\"E123\"}", MediaType.APPLICATION_JSON));
+
+        AdUserResponse first = service.getAdUserDetails();
+        AdUserResponse second = service.getAdUserDetails();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getProfilePhotoUrl()).isEqualTo(PHONEBOOK_URL + "?brid=E123");
+        server.verify();
+    }
+
+    @Test
+    void getAdUserDetails_WithoutPrincipal_IsNotCached() {
+        server.expect(once(), requestTo(AD_URL)).andRespond(withSuccess(
+                "{\"userName\":\"first\"}", MediaType.APPLICATION_JSON));
+        server.expect(once(), requestTo(AD_URL)).andRespond(withSuccess(
+                "{\"userName\":\"second\"}", MediaType.APPLICATION_JSON));
+
+        assertThat(service.getAdUserDetails().getUserName()).isEqualTo("first");
+        assertThat(service.getAdUserDetails().getUserName()).isEqualTo("second");
+        server.verify();
+    }
+
+    @Test
+    void getAdUserDetails_WhenAdKeepsFailing_OpensCircuit() {
+        server.expect(times(2), requestTo(AD_URL)).andRespond(withServerError());
+
+        assertThatThrownBy(service::getAdUserDetails).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(service::getAdUserDetails).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(service::getAdUserDetails).isInstanceOf(CircuitOpenException.class);
+        server.verify();
+    }
+
+    @Test
+    void getProfilePhoto_CachesPhotosAndMissesByEmployeeId() {
+        server.expect(once(), requestTo(PHONEBOOK_URL + "?brid=E1"))
+                .andRespond(withSuccess(new byte[]{1, 2, 3}, MediaType.IMAGE_PNG));
+        server.expect(once(), requestTo(PHONEBOOK_URL + "?brid=E2")).andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        Optional<ProfilePhotoResponse> photo = service.getProfilePhoto("E1");
+        service.getProfilePhoto("E1");
+        assertThat(service.getProfilePhoto("E2")).isEmpty();
+        assertThat(service.getProfilePhoto("E2")).isEmpty();
+
+        assertThat(photo).get().extracting(ProfilePhotoResponse::getContentType).isEqualTo(MediaType.IMAGE_PNG_VALUE);
+        assertThat(photo.get().getContent()).containsExactly(1, 2, 3);
+        server.verify();
+    }
+}
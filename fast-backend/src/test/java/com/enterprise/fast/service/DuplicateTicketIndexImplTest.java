@@ -0,0 +1,96 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.dto.response.DuplicateCandidateResponse;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.service.impl.DuplicateTicketIndexImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DuplicateTicketIndexImplTest {
+
+    private static final String OUTAGE = "Payment gateway timeouts during end of day batch";
+    private static final String OUTAGE_DETAIL = "Card payments fail with gateway timeout errors while the end of day "
+            + "settlement batch runs; users in the branch network have to retry several times.";
+
+    @Mock
+    private FastProblemRepository repository;
+
+    private DuplicateTicketIndexImpl index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DuplicateTicketIndexImpl(repository, true, 0.5, 5);
+        when(repository.findDuplicateSources(any(), anyLong(), any())).thenReturn(List.of(
+                source(1L, OUTAGE, OUTAGE_DETAIL),
+                source(2L, "Report export produces empty PDF", "The monthly compliance report export creates an empty file."),
+                source(3L, "Login page slow for EMEA users", null)));
+    }
+
+    @Test
+    void findCandidates_MatchesRewordedTicketAndIgnoresUnrelatedOnes() {
+        List<DuplicateCandidateResponse> candidates = index.findCandidates(
+                "Payment gateway timeout during end-of-day batch",
+                "Card payments are failing with gateway timeout errors while the end of day settlement batch runs; "
+                        + "branch users have to retry several times.", null);
+
+        assertThat(candidates).extracting(DuplicateCandidateResponse::getId).containsExactly(1L);
+        assertThat(candidates.get(0).getSimilarity()).isGreaterThanOrEqualTo(0.5);
+        assertThat(candidates.get(0).getStatus()).isEqualTo("BACKLOG");
+        assertThat(index.findCandidates("Printer out of toner on floor 3", null, null)).isEmpty();
+        assertThat(index.findCandidates(OUTAGE, OUTAGE_DETAIL, 1L)).isEmpty();
+        verify(repository, times(1)).findDuplicateSources(any(), anyLong(), any());
+    }
+
+    @Test
+    void update_AddsNewTicketsAndDropsClosedOnes() {
+        FastProblem created = FastProblem.builder().id(4L).title("Printer out of toner on floor 3")
+                .status(TicketStatus.BACKLOG).deleted(false).build();
+        index.update(created);
+        assertThat(index.findCandidates("Printer out of toner on floor 3", null, null))
+                .extracting(DuplicateCandidateResponse::getId).containsExactly(4L);
+
+        FastProblem closed = FastProblem.builder().id(1L).title(OUTAGE).description(OUTAGE_DETAIL)
+                .status(TicketStatus.CLOSED).deleted(false).build();
+        index.update(closed);
+        assertThat(index.findCandidates(OUTAGE, OUTAGE_DETAIL, null)).isEmpty();
+    }
+
+    private static FastProblemRepository.DuplicateSource source(Long id, String title, String description) {
+        return new FastProblemRepository.DuplicateSource() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+
+            @Override
+            public TicketStatus getStatus() {
+                return TicketStatus.BACKLOG;
+            }
+        };
+    }
+}
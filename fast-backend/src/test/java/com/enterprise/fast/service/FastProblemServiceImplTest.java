@@ -1,5 +1,6 @@
 package com.enterprise.fast.service;
 
+import com.enterprise.fast.domain.entity.AuditLog;
 import com.enterprise.fast.domain.entity.FastProblem;
 import com.enterprise.fast.domain.entity.User;
 import com.enterprise.fast.domain.entity.UserGroup;
@@ -9,28 +10,39 @@ import com.enterprise.fast.domain.enums.TicketStatus;
 import com.enterprise.fast.domain.enums.UserRole;
 import com.enterprise.fast.dto.request.CreateFastProblemRequest;
 import com.enterprise.fast.dto.response.AppSettingsResponse;
+import com.enterprise.fast.dto.response.BulkOperationResponse;
+import com.enterprise.fast.dto.response.ArchivedTicketResponse;
+import com.enterprise.fast.dto.response.DuplicateCandidateResponse;
 import com.enterprise.fast.dto.response.FastProblemResponse;
 import com.enterprise.fast.dto.response.PagedResponse;
 import com.enterprise.fast.exception.InvalidStateTransitionException;
 import com.enterprise.fast.exception.ResourceNotFoundException;
+import com.enterprise.fast.exception.VersionConflictException;
 import com.enterprise.fast.mapper.FastProblemMapper;
-import com.enterprise.fast.repository.ApplicationRepository;
+import com.enterprise.fast.repository.FastProblemArchiveRepository;
 import com.enterprise.fast.repository.FastProblemLinkRepository;
 import com.enterprise.fast.repository.FastProblemPropertyRepository;
 import com.enterprise.fast.repository.FastProblemRepository;
 import com.enterprise.fast.repository.UserGroupRepository;
 import com.enterprise.fast.repository.UserRepository;
+import com.enterprise.fast.service.ReferenceDataCache.CachedUser;
 import com.enterprise.fast.service.impl.FastProblemServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Map;
@@ -55,9 +67,6 @@ class FastProblemServiceImplTest {
     @Mock
     private FastProblemLinkRepository linkRepository;
 
-    @Mock
-    private ApplicationRepository applicationRepository;
-
     @Mock
     private UserGroupRepository userGroupRepository;
 
@@ -79,6 +88,24 @@ class FastProblemServiceImplTest {
     @Mock
     private KnowledgeArticleService knowledgeArticleService;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private FastProblemArchiveRepository archiveRepository;
+
+    @Mock
+    private ArchiveSegmentService segmentService;
+
+    @Mock
+    private UserApplicationIndex userApplicationIndex;
+
+    @Mock
+    private DuplicateTicketIndex duplicateIndex;
+
     @InjectMocks
     private FastProblemServiceImpl service;
 
@@ -138,6 +165,20 @@ class FastProblemServiceImplTest {
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("Test Problem");
     }
 
+    @Test
+    void addComment_KeepsLastCommentDateAndCount() {
+        problem.setCommentCount(2);
+        when(repository.findById(1L)).thenReturn(Optional.of(problem));
+        when(repository.save(any())).thenReturn(problem);
+        when(mapper.toResponse(problem)).thenReturn(response);
+
+        service.addComment(1L, " Still investigating ", "tech");
+
+        assertThat(problem.getCommentCount()).isEqualTo(3);
+        assertThat(problem.getLastCommentDate()).isEqualTo(problem.getComments().get(0).getCreatedDate());
+        assertThat(problem.getComments().get(0).getCommentText()).isEqualTo("Still investigating");
+    }
+
     @Test
     void updateStatus_WithValidTransition_Succeeds() {
         when(repository.findById(1L)).thenReturn(Optional.of(problem));
@@ -150,6 +191,30 @@ class FastProblemServiceImplTest {
         verify(auditLogService).logAction(eq(1L), eq("STATUS_CHANGED"), eq("admin"), eq("status"), eq("BACKLOG"), eq("ASSIGNED"));
     }
 
+    @Test
+    void updateStatus_WithStaleExpectedVersion_ThrowsVersionConflict() {
+        problem.setVersion(5L);
+        when(repository.findById(1L)).thenReturn(Optional.of(problem));
+
+        assertThatThrownBy(() -> service.updateStatus(1L, "ASSIGNED", "admin", 4L))
+                .isInstanceOf(VersionConflictException.class)
+                .hasMessageContaining("current version: 5");
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void updateStatus_WithMatchingExpectedVersion_SavesAndFlushes() {
+        problem.setVersion(5L);
+        when(repository.findById(1L)).thenReturn(Optional.of(problem));
+        when(repository.save(any())).thenReturn(problem);
+        when(mapper.toResponse(any())).thenReturn(response);
+
+        service.updateStatus(1L, "ASSIGNED", "admin", 5L);
+
+        verify(repository).save(problem);
+        verify(repository).flush();
+    }
+
     @Test
     void updateStatus_WithInvalidTransition_ThrowsException() {
         when(repository.findById(1L)).thenReturn(Optional.of(problem));
@@ -173,6 +238,73 @@ class FastProblemServiceImplTest {
         verify(repository).findAll(any(Specification.class), any(Pageable.class));
     }
 
+    @Test
+    void getByStatus_WhenArchived_AppendsColdStorageAfterHotRows() {
+        FastProblem cold = FastProblem.builder().id(2L).title("Cold").status(TicketStatus.ARCHIVED).deleted(false).build();
+        FastProblemResponse coldResponse = FastProblemResponse.builder().id(2L).title("Cold").build();
+        when(repository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(problem), PageRequest.of(0, 2), 1));
+        when(archiveRepository.isAvailable()).thenReturn(true);
+        when(archiveRepository.count(FastProblemArchiveRepository.Filter.NONE)).thenReturn(3L);
+        when(archiveRepository.findPage(eq(FastProblemArchiveRepository.Filter.NONE), eq(0L), eq(1), any(Sort.class)))
+                .thenReturn(List.of(cold));
+        when(mapper.toSummaryResponse(problem)).thenReturn(response);
+        when(mapper.toSummaryResponse(cold)).thenReturn(coldResponse);
+
+        PagedResponse<FastProblemResponse> result = service.getByStatus("ARCHIVED", 0, 2);
+
+        assertThat(result.getContent()).extracting(FastProblemResponse::getTitle).containsExactly("Test Problem", "Cold");
+        assertThat(result.getTotalElements()).isEqualTo(4);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        assertThat(result.isLast()).isFalse();
+    }
+
+    @Test
+    void getById_WhenOnlyInArchive_ReturnsArchivedTicket() {
+        FastProblem cold = FastProblem.builder().id(5L).title("Cold").status(TicketStatus.ARCHIVED).deleted(false).build();
+        when(repository.findById(5L)).thenReturn(Optional.empty());
+        when(archiveRepository.isAvailable()).thenReturn(true);
+        when(archiveRepository.findById(5L)).thenReturn(Optional.of(cold));
+        when(mapper.toResponse(cold)).thenReturn(FastProblemResponse.builder().id(5L).status("ARCHIVED").build());
+
+        assertThat(service.getById(5L).getStatus()).isEqualTo("ARCHIVED");
+    }
+
+    @Test
+    void getById_WhenOnlyInSegment_ReturnsStoredTicket() {
+        when(repository.findById(6L)).thenReturn(Optional.empty());
+        when(archiveRepository.isAvailable()).thenReturn(true);
+        when(archiveRepository.findById(6L)).thenReturn(Optional.empty());
+        when(segmentService.findTicket(6L)).thenReturn(Optional.of(ArchivedTicketResponse.builder()
+                .ticket(FastProblemResponse.builder().id(6L).title("Frozen").status("ARCHIVED").build())
+                .auditTrail(List.of())
+                .build()));
+
+        assertThat(service.getById(6L).getTitle()).isEqualTo("Frozen");
+        verify(mapper, never()).toResponse(any(FastProblem.class));
+    }
+
+    @Test
+    void create_ReturnsPossibleDuplicatesAndIndexesTheTicket() {
+        CreateFastProblemRequest request = CreateFastProblemRequest.builder()
+                .title("Test Problem")
+                .anticipatedBenefits("Benefit")
+                .regionalCodes(List.of("AMER"))
+                .build();
+        problem.setUserImpactCount(0);
+        DuplicateCandidateResponse candidate = DuplicateCandidateResponse.builder()
+                .id(7L).title("Test problem (EMEA)").status("BACKLOG").similarity(0.8).build();
+        when(mapper.toEntity(request, "admin")).thenReturn(problem);
+        when(repository.save(problem)).thenReturn(problem);
+        when(mapper.toResponse(problem)).thenReturn(response);
+        when(duplicateIndex.findCandidates("Test Problem", null, 1L)).thenReturn(List.of(candidate));
+
+        FastProblemResponse result = service.create(request, "admin");
+
+        assertThat(result.getPossibleDuplicates()).containsExactly(candidate);
+        verify(duplicateIndex).update(problem);
+    }
+
     @Test
     void create_WithInvalidImpactedUserGroupIds_ThrowsBadRequest() {
         CreateFastProblemRequest request = CreateFastProblemRequest.builder()
@@ -192,7 +324,7 @@ class FastProblemServiceImplTest {
                 .build());
 
         when(mapper.toEntity(request, "admin")).thenReturn(toCreate);
-        when(userGroupRepository.findAllById(List.of(1L, 99L)))
+        when(referenceDataCache.getUserGroups(List.of(1L, 99L)))
                 .thenReturn(List.of(UserGroup.builder().id(1L).name("Finance Controllers").active(true).build()));
 
         assertThatThrownBy(() -> service.create(request, "admin"))
@@ -206,8 +338,8 @@ class FastProblemServiceImplTest {
         problem.setStatus(TicketStatus.ACCEPTED);
         problem.setBtbTechLeadUsername(null);
         when(repository.findById(1L)).thenReturn(Optional.of(problem));
-        when(userRepository.findByUsernameIgnoreCase("admin"))
-                .thenReturn(Optional.of(User.builder().id(1L).username("admin").role(UserRole.ADMIN).active(true).build()));
+        when(referenceDataCache.findUser("admin"))
+                .thenReturn(Optional.of(new CachedUser(1L, "admin", null, "Admin", UserRole.ADMIN, null, true)));
 
         assertThatThrownBy(() -> service.updateStatus(1L, "IN_PROGRESS", "admin"))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -220,8 +352,8 @@ class FastProblemServiceImplTest {
         problem.setStatus(TicketStatus.ACCEPTED);
         problem.setBtbTechLeadUsername("techlead");
         when(repository.findById(1L)).thenReturn(Optional.of(problem));
-        when(userRepository.findByUsernameIgnoreCase("rtb"))
-                .thenReturn(Optional.of(User.builder().id(2L).username("rtb").role(UserRole.RTB_OWNER).active(true).build()));
+        when(referenceDataCache.findUser("rtb"))
+                .thenReturn(Optional.of(new CachedUser(2L, "rtb", null, "RTB", UserRole.RTB_OWNER, null, true)));
 
         assertThatThrownBy(() -> service.updateStatus(1L, "IN_PROGRESS", "rtb"))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -255,4 +387,64 @@ class FastProblemServiceImplTest {
         verify(emailService).sendEmail(eq("techlead@enterprise.com"), contains("accepted"), any());
         verify(auditLogService, atLeastOnce()).logAction(eq(1L), eq("ACCEPTED_NOTIFICATION"), eq("admin"), any(), any(), contains("SENT:1"));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkUpdateStatus_ReportsPerItemAndBatchesAuditRows() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        FastProblem resolved = FastProblem.builder().id(2L).title("Done").status(TicketStatus.RESOLVED).deleted(false).build();
+        when(repository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(problem, resolved));
+
+        BulkOperationResponse result = service.bulkUpdateStatus(List.of(1L, 2L, 3L, 1L), "ASSIGNED", "admin");
+
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BulkOperationResponse.ItemResult::getCode)
+                .containsExactly(null, "INVALID_STATE", "NOT_FOUND");
+        assertThat(problem.getStatus()).isEqualTo(TicketStatus.ASSIGNED);
+        verify(repository).saveAll(List.of(problem));
+        ArgumentCaptor<List<AuditLog>> audit = ArgumentCaptor.forClass(List.class);
+        verify(auditLogService).logActions(audit.capture());
+        assertThat(audit.getValue()).singleElement()
+                .satisfies(a -> assertThat(a.getNewValue()).isEqualTo("ASSIGNED"));
+        verify(auditLogService, never()).logAction(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void bulkUpdateStatus_WhenChunkFails_RetriesItemByItem() {
+        when(transactionTemplate.execute(any()))
+                .thenThrow(new OptimisticLockingFailureException("chunk conflict"))
+                .thenAnswer(inv -> inv.<TransactionCallback<Object>>getArgument(0).doInTransaction(null))
+                .thenThrow(new OptimisticLockingFailureException("item conflict"));
+        when(repository.findAllById(List.of(1L))).thenReturn(List.of(problem));
+
+        BulkOperationResponse result = service.bulkUpdateStatus(List.of(1L, 2L), "ASSIGNED", "admin");
+
+        assertThat(result.getResults()).extracting(BulkOperationResponse.ItemResult::getCode)
+                .containsExactly(null, "VERSION_CONFLICT");
+        assertThat(problem.getStatus()).isEqualTo(TicketStatus.ASSIGNED);
+    }
+
+    @Test
+    void bulkAssign_OnlyAuditsChangedFields() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        problem.setAssignmentGroup("AMER-Problem-Team");
+        when(repository.findAllById(List.of(1L))).thenReturn(List.of(problem));
+
+        BulkOperationResponse result = service.bulkAssign(List.of(1L), "jdoe", "AMER-Problem-Team", "admin");
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(problem.getAssignedTo()).isEqualTo("jdoe");
+        verify(auditLogService).logActions(argThat(entries -> entries.size() == 1
+                && "assignedTo".equals(entries.get(0).getFieldChanged())));
+    }
+
+    @Test
+    void bulkAssign_WithNothingToChange_ThrowsBadRequest() {
+        assertThatThrownBy(() -> service.bulkAssign(List.of(1L), null, null, "admin"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(transactionTemplate);
+    }
 }
@@ -0,0 +1,147 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.entity.KnowledgeArticle;
+import com.enterprise.fast.domain.enums.ArticleStatus;
+import com.enterprise.fast.dto.response.ArticleRecommendationResponse;
+import com.enterprise.fast.repository.KnowledgeArticleRepository;
+import com.enterprise.fast.service.impl.KnowledgeArticleIndexImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KnowledgeArticleIndexImplTest {
+
+    @Mock
+    private KnowledgeArticleRepository repository;
+
+    private KnowledgeArticleIndexImpl index;
+
+    @BeforeEach
+    void setUp() {
+        index = new KnowledgeArticleIndexImpl(repository);
+        when(repository.findIndexSources(anyLong(), any())).thenReturn(List.of(
+                source(1L, 11L, "KB: Payment gateway timeouts", "Connection pool to the card gateway exhausted during settlement",
+                        "Restart the gateway adapter", "Raise the pool size and add a timeout", "Payments"),
+                source(2L, 12L, "KB: Report export empty", "Template missing after the upgrade",
+                        "Export as CSV", "Redeploy the report templates", "Reporting"),
+                source(3L, 13L, "KB: Slow login", "Directory lookups time out for remote users",
+                        null, "Cache directory groups", "Access")));
+    }
+
+    @Test
+    void search_RanksArticlesSharingRareTermsFirstAndSkipsTheTicketsOwnArticle() {
+        List<ArticleRecommendationResponse> results = index.search(
+                "Card payments fail with gateway timeout while the settlement batch runs", null, 5);
+
+        assertThat(results).extracting(ArticleRecommendationResponse::getId).startsWith(1L);
+        assertThat(results.get(0).getFastProblemId()).isEqualTo(11L);
+        assertThat(results.get(0).getScore()).isPositive();
+        assertThat(index.search("gateway settlement", 11L, 5)).isEmpty();
+        assertThat(index.search("printer toner", null, 5)).isEmpty();
+        verify(repository, times(1)).findIndexSources(anyLong(), any());
+    }
+
+    @Test
+    void facetedSearch_FiltersPagesAndCountsFacetsIgnoringTheirOwnFilter() {
+        KnowledgeArticle published = KnowledgeArticle.builder().id(4L).title("KB: Gateway certificate expired")
+                .rootCause("Gateway certificate not renewed").category("Payments").status(ArticleStatus.PUBLISHED).build();
+        index.update(published);
+
+        KnowledgeArticleIndex.SearchPage all = index.facetedSearch("gateway timeouts", null, null, 0, 10);
+        assertThat(all.total()).isEqualTo(2);
+        assertThat(all.hits()).extracting(ArticleRecommendationResponse::getId).containsExactly(1L, 4L);
+        assertThat(all.categories()).containsExactly(Map.entry("Payments", 2L));
+        assertThat(all.statuses()).containsExactly(Map.entry("DRAFT", 1L), Map.entry("PUBLISHED", 1L));
+
+        KnowledgeArticleIndex.SearchPage publishedOnly = index.facetedSearch("gateway", "payments", ArticleStatus.PUBLISHED, 0, 10);
+        assertThat(publishedOnly.total()).isEqualTo(1);
+        assertThat(publishedOnly.hits()).extracting(ArticleRecommendationResponse::getId).containsExactly(4L);
+        assertThat(publishedOnly.statuses()).containsOnlyKeys("DRAFT", "PUBLISHED");
+
+        KnowledgeArticleIndex.SearchPage second = index.facetedSearch("gateway timeouts", null, null, 1, 1);
+        assertThat(second.total()).isEqualTo(2);
+        assertThat(second.hits()).extracting(ArticleRecommendationResponse::getId).containsExactly(4L);
+    }
+
+    @Test
+    void search_IndexesWordsOutsideTheLatinAlphabet() {
+        index.update(KnowledgeArticle.builder().id(5L).title("KB: Шлюз оплаты не отвечает")
+                .rootCause("Größe des Pools überschritten").status(ArticleStatus.PUBLISHED).build());
+
+        assertThat(index.search("Платёж завис: шлюз не отвечает", null, 5))
+                .extracting(ArticleRecommendationResponse::getId).containsExactly(5L);
+        assertThat(index.search("größe pools", null, 5))
+                .extracting(ArticleRecommendationResponse::getId).containsExactly(5L);
+    }
+
+    @Test
+    void update_ReplacesTheArticlesTerms() {
+        KnowledgeArticle edited = KnowledgeArticle.builder().id(2L).fastProblem(FastProblem.builder().id(12L).build())
+                .title("KB: Printer out of toner").rootCause("Toner not reordered").status(ArticleStatus.PUBLISHED).build();
+        index.update(edited);
+
+        assertThat(index.search("printer toner", null, 5))
+                .extracting(ArticleRecommendationResponse::getId).containsExactly(2L);
+        assertThat(index.search("report templates", null, 5)).isEmpty();
+        assertThat(index.search("toner", null, 5).get(0).getStatus()).isEqualTo("PUBLISHED");
+    }
+
+    private static KnowledgeArticleRepository.IndexSource source(Long id, Long problemId, String title, String rootCause,
+                                                                 String workaround, String permanentFix, String category) {
+        return new KnowledgeArticleRepository.IndexSource() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getProblemId() {
+                return problemId;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getRootCause() {
+                return rootCause;
+            }
+
+            @Override
+            public String getWorkaround() {
+                return workaround;
+            }
+
+            @Override
+            public String getPermanentFix() {
+                return permanentFix;
+            }
+
+            @Override
+            public String getCategory() {
+                return category;
+            }
+
+            @Override
+            public ArticleStatus getStatus() {
+                return ArticleStatus.DRAFT;
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.KnowledgeArticle;
+import com.enterprise.fast.domain.enums.ArticleStatus;
+import com.enterprise.fast.dto.response.ArticleRecommendationResponse;
+import com.enterprise.fast.dto.response.KnowledgeSearchHitResponse;
+import com.enterprise.fast.dto.response.KnowledgeSearchResponse;
+import com.enterprise.fast.mapper.FastProblemMapper;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.repository.KnowledgeArticleRepository;
+import com.enterprise.fast.service.impl.KnowledgeArticleServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KnowledgeArticleServiceImplTest {
+
+    @Mock
+    private KnowledgeArticleRepository articleRepository;
+
+    @Mock
+    private FastProblemRepository problemRepository;
+
+    @Mock
+    private FastProblemMapper mapper;
+
+    @Mock
+    private KnowledgeArticleIndex articleIndex;
+
+    @InjectMocks
+    private KnowledgeArticleServiceImpl service;
+
+    @Test
+    void search_ReturnsPageWithHighlightedFieldsAndFacets() {
+        ArticleRecommendationResponse hit = ArticleRecommendationResponse.builder()
+                .id(5L).fastProblemId(9L).title("KB: Gateway time-outs").category("Payments").status("PUBLISHED").score(4.2).build();
+        when(articleIndex.facetedSearch("gateway outs", "Payments", ArticleStatus.PUBLISHED, 20, 10))
+                .thenReturn(new KnowledgeArticleIndex.SearchPage(List.of(hit), 21,
+                        Map.of("Payments", 21L), Map.of("PUBLISHED", 21L)));
+        when(articleRepository.findAllById(List.of(5L))).thenReturn(List.of(KnowledgeArticle.builder().id(5L)
+                .title("KB: Gateway time-outs")
+                .rootCause("The <gateway> pool was exhausted")
+                .workaround("Restart the adapter")
+                .build()));
+
+        KnowledgeSearchResponse response = service.search("gateway outs", " Payments ", "published", 2, 10);
+
+        assertThat(response.getResults().getTotalElements()).isEqualTo(21);
+        assertThat(response.getResults().getTotalPages()).isEqualTo(3);
+        assertThat(response.getResults().isLast()).isTrue();
+        assertThat(response.getCategories()).containsEntry("Payments", 21L);
+        KnowledgeSearchHitResponse result = response.getResults().getContent().get(0);
+        assertThat(result.getHighlights()).containsOnlyKeys("title", "rootCause");
+        assertThat(result.getHighlights().get("title")).isEqualTo("KB: <mark>Gateway</mark> time-<mark>outs</mark>");
+        assertThat(result.getHighlights().get("rootCause")).isEqualTo("The &lt;<mark>gateway</mark>&gt; pool was exhausted");
+    }
+
+    @Test
+    void search_RejectsBlankTextAndUnknownStatus() {
+        assertThatThrownBy(() -> service.search(" ", null, null, 0, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.search("gateway", null, "LIVE", 0, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("LIVE");
+    }
+
+    @Test
+    void search_ClampsPageSize() {
+        when(articleIndex.facetedSearch(any(), any(), any(), anyInt(), anyInt()))
+                .thenReturn(new KnowledgeArticleIndex.SearchPage(List.of(), 0, Map.of(), Map.of()));
+
+        service.search("gateway", null, null, -1, 1000);
+
+        verify(articleIndex).facetedSearch("gateway", null, null, 0, 100);
+    }
+}
@@ -0,0 +1,130 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.User;
+import com.enterprise.fast.domain.entity.UserGroup;
+import com.enterprise.fast.domain.enums.UserRole;
+import com.enterprise.fast.dto.response.CacheStatsResponse;
+import com.enterprise.fast.repository.ApplicationRepository;
+import com.enterprise.fast.repository.UserGroupRepository;
+import com.enterprise.fast.repository.UserRepository;
+import com.enterprise.fast.service.ReferenceDataCache.CachedUser;
+import com.enterprise.fast.service.impl.ReferenceDataCacheImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheImplTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private UserGroupRepository userGroupRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ReferenceDataCacheImpl cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReferenceDataCacheImpl(applicationRepository, userGroupRepository, userRepository, 600, 300, 100);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Application app(long id, String name) {
+        return Application.builder().id(id).name(name).code(name.substring(0, 3).toUpperCase()).build();
+    }
+
+    @Test
+    void getApplications_LoadsTableOnceAndResolvesIdsInRequestOrder() {
+        when(applicationRepository.findAllByOrderByNameAsc()).thenReturn(List.of(app(2L, "Billing"), app(1L, "Payments")));
+
+        assertThat(cache.getApplications()).extracting(Application::getName).containsExactly("Billing", "Payments");
+        assertThat(cache.getApplications(List.of(1L, 99L, 2L, 1L))).extracting(Application::getId).containsExactly(1L, 2L);
+
+        verify(applicationRepository, times(1)).findAllByOrderByNameAsc();
+        CacheStatsResponse stats = cache.getStats().get(0);
+        assertThat(stats.getName()).isEqualTo("applications");
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getApplications_ReturnsCopiesSoCallersCannotChangeTheCache() {
+        when(applicationRepository.findAllByOrderByNameAsc()).thenReturn(List.of(app(1L, "Payments")));
+
+        cache.getApplications(List.of(1L)).get(0).setName("changed");
+
+        assertThat(cache.getApplications(List.of(1L)).get(0).getName()).isEqualTo("Payments");
+    }
+
+    @Test
+    void evictUserGroups_ReloadsOnNextRead() {
+        when(userGroupRepository.findAllByOrderByNameAsc())
+                .thenReturn(List.of(UserGroup.builder().id(1L).name("Ops").active(true).build()))
+                .thenReturn(List.of(UserGroup.builder().id(1L).name("Operations").active(true).build()));
+
+        assertThat(cache.getUserGroups().get(0).getName()).isEqualTo("Ops");
+        cache.evictUserGroups();
+        assertThat(cache.getUserGroups().get(0).getName()).isEqualTo("Operations");
+    }
+
+    @Test
+    void evictInsideTransaction_EvictsAgainAfterCompletion() {
+        when(applicationRepository.findAllByOrderByNameAsc())
+                .thenReturn(List.of(app(1L, "Old")))
+                .thenReturn(List.of(app(1L, "Uncommitted")))
+                .thenReturn(List.of(app(1L, "Committed")));
+        cache.getApplications();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evictApplications();
+        // Another request re-caches before the writer commits
+        assertThat(cache.getApplications().get(0).getName()).isEqualTo("Uncommitted");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(cache.getApplications().get(0).getName()).isEqualTo("Committed");
+    }
+
+    @Test
+    void findUser_IsCaseInsensitiveAndCachesUnknownUsers() {
+        when(userRepository.findByUsernameIgnoreCase("jdoe")).thenReturn(Optional.of(User.builder()
+                .id(5L).username("jdoe").email("jdoe@test.com").fullName("J Doe").role(UserRole.TECH_LEAD).active(true).build()));
+        when(userRepository.findByUsernameIgnoreCase("ghost")).thenReturn(Optional.empty());
+
+        assertThat(cache.findUser("JDoe")).map(CachedUser::role).contains(UserRole.TECH_LEAD);
+        assertThat(cache.findUser(" jdoe ")).map(CachedUser::email).contains("jdoe@test.com");
+        assertThat(cache.findUser("ghost")).isEmpty();
+        assertThat(cache.findUser("ghost")).isEmpty();
+
+        verify(userRepository, times(1)).findByUsernameIgnoreCase("jdoe");
+        verify(userRepository, times(1)).findByUsernameIgnoreCase("ghost");
+
+        cache.evictUser("GHOST");
+        cache.findUser("ghost");
+        verify(userRepository, times(2)).findByUsernameIgnoreCase("ghost");
+    }
+}
@@ -0,0 +1,107 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.dto.response.SchedulerLockResponse;
+import com.enterprise.fast.repository.SchedulerLockRepository;
+import com.enterprise.fast.service.impl.SchedulerLockServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Two service instances with different node ids stand in for two application nodes sharing one database. */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLockServiceImplTest {
+
+    @Autowired
+    private SchedulerLockRepository lockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SchedulerLockServiceImpl nodeA;
+    private SchedulerLockServiceImpl nodeB;
+
+    @BeforeEach
+    void setUp() {
+        lockRepository.deleteAll();
+        nodeA = node("node-a");
+        nodeB = node("node-b");
+    }
+
+    private SchedulerLockServiceImpl node(String nodeId) {
+        return new SchedulerLockServiceImpl(lockRepository, transactionManager, nodeId);
+    }
+
+    @Test
+    void tryAcquire_OnlyOneNodeGetsAFreeLock() {
+        assertThat(nodeA.tryAcquire("job", Duration.ofMinutes(10))).isTrue();
+        assertThat(nodeB.tryAcquire("job", Duration.ofMinutes(10))).isFalse();
+
+        assertThat(nodeB.extend("job", Duration.ofMinutes(10))).isFalse();
+        assertThat(nodeA.extend("job", Duration.ofMinutes(10))).isTrue();
+    }
+
+    @Test
+    void tryAcquire_ConcurrentFirstRun_ExactlyOneNodeWins() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                String name = "job-" + round;
+                CyclicBarrier start = new CyclicBarrier(2);
+                Callable<Boolean> a = () -> { start.await(); return nodeA.tryAcquire(name, Duration.ofMinutes(10)); };
+                Callable<Boolean> b = () -> { start.await(); return nodeB.tryAcquire(name, Duration.ofMinutes(10)); };
+
+                List<Future<Boolean>> results = pool.invokeAll(List.of(a, b), 10, TimeUnit.SECONDS);
+
+                // A lost insert race must report false, not throw
+                assertThat(results.get(0).get() ^ results.get(1).get()).as("round %d", round).isTrue();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void tryAcquire_AfterLeaseExpires_AnotherNodeTakesOver() throws InterruptedException {
+        assertThat(nodeA.tryAcquire("job", Duration.ofMillis(20))).isTrue();
+        Thread.sleep(50);
+
+        assertThat(nodeB.tryAcquire("job", Duration.ofMinutes(10))).isTrue();
+        assertThat(nodeA.extend("job", Duration.ofMinutes(10))).isFalse();
+    }
+
+    @Test
+    void release_RecordsRunAndHoldsLockForMinimumTime() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        nodeA.tryAcquire("job", Duration.ofMinutes(10));
+
+        nodeA.release("job", startedAt, Duration.ofMinutes(1), "success");
+
+        assertThat(nodeB.tryAcquire("job", Duration.ofMinutes(10))).isFalse();
+        SchedulerLockResponse lock = nodeA.getLocks().get(0);
+        assertThat(lock.isHeld()).isTrue();
+        assertThat(lock.getLastOutcome()).isEqualTo("success");
+        assertThat(lock.getLastRunBy()).isEqualTo("node-a");
+        assertThat(lock.getLastDurationMs()).isNotNull().isGreaterThanOrEqualTo(0L);
+
+        nodeA.tryAcquire("other", Duration.ofMinutes(10));
+        nodeA.release("other", LocalDateTime.now().minusMinutes(5), Duration.ZERO, "failure");
+        assertThat(nodeB.tryAcquire("other", Duration.ofMinutes(10))).isTrue();
+    }
+}
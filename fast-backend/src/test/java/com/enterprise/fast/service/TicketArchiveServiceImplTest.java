@@ -0,0 +1,217 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.ApprovalRecord;
+import com.enterprise.fast.domain.entity.AuditLog;
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.domain.entity.FastProblemRegion;
+import com.enterprise.fast.domain.entity.KnowledgeArticle;
+import com.enterprise.fast.domain.entity.TicketComment;
+import com.enterprise.fast.domain.enums.Classification;
+import com.enterprise.fast.domain.enums.RagStatus;
+import com.enterprise.fast.domain.enums.RegionalCode;
+import com.enterprise.fast.domain.enums.TicketStatus;
+import com.enterprise.fast.domain.enums.UserRole;
+import com.enterprise.fast.dto.response.ArchivedTicketResponse;
+import com.enterprise.fast.dto.response.AuditEntryResponse;
+import com.enterprise.fast.mapper.FastProblemMapper;
+import com.enterprise.fast.repository.FastProblemArchiveRepository;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.repository.KnowledgeArticleRepository;
+import com.enterprise.fast.repository.segment.ArchiveSegmentStore;
+import com.enterprise.fast.service.impl.ArchiveSegmentServiceImpl;
+import com.enterprise.fast.service.impl.TicketArchiveServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(scripts = "classpath:db/migration-add-fast-problem-archive.sql")
+class TicketArchiveServiceImplTest {
+
+    private static final String[] ARCHIVE_TABLES = {"fast_problem_archive", "fast_problem_application_archive",
+            "fast_problem_user_group_archive", "fast_problem_region_archive", "fast_problem_property_archive",
+            "fast_problem_link_archive", "approval_record_archive", "incident_link_archive", "ticket_comment_archive",
+            "audit_log_archive"};
+
+    @Autowired
+    private FastProblemRepository problemRepository;
+
+    @Autowired
+    private KnowledgeArticleRepository articleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @TempDir
+    Path segmentDir;
+
+    private NamedParameterJdbcTemplate jdbc;
+    private FastProblemArchiveRepository archiveRepository;
+    private TicketArchiveServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new NamedParameterJdbcTemplate(dataSource);
+        archiveRepository = new FastProblemArchiveRepository(jdbc);
+        service = new TicketArchiveServiceImpl(problemRepository, archiveRepository,
+                new TransactionTemplate(transactionManager), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : ARCHIVE_TABLES) {
+            jdbc.getJdbcTemplate().update("DELETE FROM " + table);
+        }
+        articleRepository.deleteAll();
+        problemRepository.deleteAll();
+    }
+
+    private FastProblem ticket(String title, TicketStatus status, LocalDateTime closedDate) {
+        FastProblem ticket = FastProblem.builder()
+                .title(title)
+                .classification(Classification.A)
+                .status(status)
+                .ragStatus(RagStatus.G)
+                .closedDate(closedDate)
+                .deleted(false)
+                .archived(status == TicketStatus.ARCHIVED)
+                .createdBy("test")
+                .build();
+        ticket.getRegions().add(FastProblemRegion.builder().fastProblem(ticket).regionalCode(RegionalCode.EMEA).build());
+        ticket.getComments().add(TicketComment.builder().fastProblem(ticket).authorUsername("test")
+                .commentText("Closed after fix").build());
+        ticket.getApprovalRecords().add(ApprovalRecord.builder().fastProblem(ticket).approvalRole(UserRole.REVIEWER).build());
+        ticket.getAuditLogs().add(AuditLog.builder().fastProblem(ticket).action("CREATED").performedBy("test").build());
+        return problemRepository.save(ticket);
+    }
+
+    @Test
+    void archiveClosedTickets_MovesEligibleTicketsWithChildrenInChunks() {
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(30);
+        List<Long> eligible = List.of(
+                ticket("Closed 1", TicketStatus.CLOSED, longAgo).getId(),
+                ticket("Closed 2", TicketStatus.CLOSED, longAgo).getId(),
+                ticket("Closed 3", TicketStatus.CLOSED, longAgo).getId(),
+                ticket("Archived by hand", TicketStatus.ARCHIVED, null).getId());
+        Long recent = ticket("Closed yesterday", TicketStatus.CLOSED, LocalDateTime.now().minusDays(1)).getId();
+        Long open = ticket("Open", TicketStatus.BACKLOG, null).getId();
+        FastProblem withArticle = ticket("Has article", TicketStatus.CLOSED, longAgo);
+        articleRepository.save(KnowledgeArticle.builder().fastProblem(withArticle).title("KB").build());
+
+        int archived = service.archiveClosedTickets(LocalDateTime.now().minusDays(7));
+
+        assertThat(archived).isEqualTo(4);
+        assertThat(problemRepository.findAllById(eligible)).isEmpty();
+        assertThat(problemRepository.findAll()).extracting(FastProblem::getId)
+                .containsExactlyInAnyOrder(recent, open, withArticle.getId());
+        assertThat(jdbc.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM ticket_comment", Long.class)).isEqualTo(3);
+        assertThat(jdbc.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM audit_log_archive", Long.class)).isEqualTo(4);
+
+        FastProblem cold = archiveRepository.findById(eligible.get(0)).orElseThrow();
+        assertThat(cold.getStatus()).isEqualTo(TicketStatus.ARCHIVED);
+        assertThat(cold.getTitle()).isEqualTo("Closed 1");
+        assertThat(cold.getRegions()).extracting(FastProblemRegion::getRegionalCode).containsExactly(RegionalCode.EMEA);
+        assertThat(cold.getComments()).extracting(TicketComment::getCommentText).containsExactly("Closed after fix");
+        assertThat(cold.getApprovalRecords()).extracting(ApprovalRecord::getApprovalRole).containsExactly(UserRole.REVIEWER);
+        assertThat(archiveRepository.findAuditTrail(eligible.get(0))).extracting(AuditLog::getAction).containsExactly("CREATED");
+    }
+
+    @Test
+    void findPage_FiltersAndPagesTheArchive() {
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(30);
+        for (int i = 0; i < 5; i++) {
+            ticket("Ledger feed " + i, TicketStatus.CLOSED, longAgo.plusHours(i));
+        }
+        ticket("Payment batch", TicketStatus.CLOSED, longAgo);
+        service.archiveClosedTickets(LocalDateTime.now().minusDays(7));
+
+        FastProblemArchiveRepository.Filter ledger = new FastProblemArchiveRepository.Filter("ledger", "emea", null,
+                LocalDate.now().minusDays(1), null, null);
+        List<FastProblem> page = archiveRepository.findPage(ledger, 2, 2, Sort.by("closedDate").descending());
+
+        assertThat(archiveRepository.count(ledger)).isEqualTo(5);
+        assertThat(archiveRepository.count(FastProblemArchiveRepository.Filter.NONE)).isEqualTo(6);
+        assertThat(page).extracting(FastProblem::getTitle).containsExactly("Ledger feed 2", "Ledger feed 1");
+        assertThat(page.get(0).getRegions()).hasSize(1);
+    }
+
+    @Test
+    void sealArchivedTickets_MovesOldArchiveRowsIntoSegments() throws Exception {
+        LocalDateTime twoYearsAgo = LocalDateTime.now().minusMonths(24);
+        Long old1 = ticket("Old 1", TicketStatus.CLOSED, twoYearsAgo).getId();
+        Long old2 = ticket("Old 2", TicketStatus.CLOSED, twoYearsAgo.plusDays(1)).getId();
+        Long old3 = ticket("Old 3", TicketStatus.CLOSED, twoYearsAgo.plusMonths(1)).getId();
+        Long recent = ticket("Last month", TicketStatus.CLOSED, LocalDateTime.now().minusDays(30)).getId();
+        service.archiveClosedTickets(LocalDateTime.now().minusDays(7));
+        ArchiveSegmentServiceImpl segments = new ArchiveSegmentServiceImpl(archiveRepository,
+                new ArchiveSegmentStore(segmentDir.toString(), 2), new FastProblemMapper(),
+                new TransactionTemplate(transactionManager), true, 12, 2);
+
+        int sealed = segments.sealArchivedTickets();
+
+        assertThat(sealed).isEqualTo(3);
+        assertThat(segments.getSegments()).hasSize(2);
+        assertThat(archiveRepository.count(FastProblemArchiveRepository.Filter.NONE)).isEqualTo(1);
+        assertThat(archiveRepository.findById(recent)).isPresent();
+        assertThat(jdbc.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM audit_log_archive", Long.class)).isEqualTo(1);
+        ArchivedTicketResponse frozen = segments.findTicket(old2).orElseThrow();
+        assertThat(frozen.getTicket().getTitle()).isEqualTo("Old 2");
+        assertThat(frozen.getTicket().getRegionalCodes()).containsExactly("EMEA");
+        assertThat(frozen.getAuditTrail()).extracting(AuditEntryResponse::getAction).containsExactly("CREATED");
+        assertThat(segments.sealArchivedTickets()).isZero();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = segments.export(twoYearsAgo.toLocalDate(), twoYearsAgo.toLocalDate().plusDays(1), out);
+        assertThat(exported).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(2)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"ticket\":"));
+        assertThat(List.of(old1, old3)).allSatisfy(id -> assertThat(segments.findTicket(id)).isPresent());
+    }
+
+    @Test
+    void sealArchivedTickets_WhenATicketCannotBeLoaded_KeepsItAndStops() {
+        LocalDateTime twoYearsAgo = LocalDateTime.now().minusMonths(24);
+        Long sealable = ticket("Old 1", TicketStatus.CLOSED, twoYearsAgo).getId();
+        Long unreadable = ticket("Old 2", TicketStatus.CLOSED, twoYearsAgo.plusDays(1)).getId();
+        service.archiveClosedTickets(LocalDateTime.now().minusDays(7));
+        FastProblemArchiveRepository losingOne = new FastProblemArchiveRepository(jdbc) {
+            @Override
+            public List<FastProblem> findAllById(Collection<Long> ids) {
+                return super.findAllById(ids).stream().filter(t -> !t.getId().equals(unreadable)).toList();
+            }
+        };
+        ArchiveSegmentServiceImpl segments = new ArchiveSegmentServiceImpl(losingOne,
+                new ArchiveSegmentStore(segmentDir.toString(), 2), new FastProblemMapper(),
+                new TransactionTemplate(transactionManager), true, 12, 2);
+
+        assertThat(segments.sealArchivedTickets()).isEqualTo(1);
+        assertThat(segments.findTicket(sealable)).isPresent();
+        assertThat(archiveRepository.findById(unreadable)).isPresent();
+        assertThat(segments.sealArchivedTickets()).isZero();
+    }
+}
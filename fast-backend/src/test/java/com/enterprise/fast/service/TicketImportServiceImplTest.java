@@ -0,0 +1,124 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.FastProblem;
+import com.enterprise.fast.dto.response.TicketImportResponse;
+import com.enterprise.fast.mapper.FastProblemMapper;
+import com.enterprise.fast.repository.ApplicationRepository;
+import com.enterprise.fast.repository.FastProblemRepository;
+import com.enterprise.fast.repository.UserGroupRepository;
+import com.enterprise.fast.service.impl.TicketImportServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketImportServiceImplTest {
+
+    private static final String CSV = "\uFEFFTitle,Regions,Applications,Anticipated Benefits,User Impact\n"
+            + "\"Login fails, intermittently\",AMER;EMEA,PAY,\"Saves 2h/day\",10\n"
+            + "No region,,PAY,Benefit,x\n"
+            + "\n"
+            + "Unknown app,APAC,NOPE,Benefit,1\n";
+
+    @Mock
+    private FastProblemRepository repository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private UserGroupRepository userGroupRepository;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private DuplicateTicketIndex duplicateIndex;
+
+    private TicketImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TicketImportServiceImpl(repository, applicationRepository, userGroupRepository,
+                new FastProblemMapper(), auditLogService,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionTemplate, duplicateIndex);
+        ReflectionTestUtils.setField(service, "entityManager", mock(EntityManager.class));
+    }
+
+    private void stubApplications() {
+        when(applicationRepository.findAll()).thenReturn(List.of(Application.builder().id(7L).code("PAY").name("Payments").build()));
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importCsv_DryRun_ReportsPerRowErrorsWithoutInserting() throws Exception {
+        stubApplications();
+        TicketImportResponse report = service.importCsv(csv(CSV), true, false, "admin");
+
+        assertThat(report.getTotalRows()).isEqualTo(3);
+        assertThat(report.getValidRows()).isEqualTo(1);
+        assertThat(report.getInvalidRows()).isEqualTo(2);
+        assertThat(report.isCommitted()).isFalse();
+        assertThat(report.getErrors()).extracting(TicketImportResponse.RowError::getRow).contains(3L, 5L);
+        assertThat(report.getErrors()).extracting(TicketImportResponse.RowError::getColumn)
+                .contains("userImpactCount", "regionalCodes", "applications");
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void importCsv_CommitWithInvalidRows_InsertsNothingUnlessSkipInvalid() throws Exception {
+        stubApplications();
+        TicketImportResponse refused = service.importCsv(csv(CSV), false, false, "admin");
+        assertThat(refused.isCommitted()).isFalse();
+        verifyNoInteractions(transactionTemplate);
+
+        doAnswer(inv -> {
+            inv.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(applicationRepository.getReferenceById(7L)).thenReturn(Application.builder().id(7L).build());
+
+        TicketImportResponse committed = service.importCsv(csv(CSV), false, true, "admin");
+
+        assertThat(committed.isCommitted()).isTrue();
+        assertThat(committed.getCreated()).isEqualTo(1);
+        verify(repository).saveAll(argThat((List<FastProblem> problems) -> problems.size() == 1
+                && problems.get(0).getTitle().equals("Login fails, intermittently")
+                && problems.get(0).getRegions().size() == 2
+                && problems.get(0).getPriorityScore() > 0));
+        verify(auditLogService).logActions(anyList());
+        verify(duplicateIndex).update(argThat(p -> p.getTitle().equals("Login fails, intermittently")));
+    }
+
+    @Test
+    void importCsv_WithoutTitleColumn_ThrowsBadRequest() {
+        assertThatThrownBy(() -> service.importCsv(csv("name,regions\nx,AMER\n"), true, false, "admin"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("title");
+    }
+}
@@ -0,0 +1,116 @@
+package com.enterprise.fast.service;
+
+import com.enterprise.fast.domain.entity.Application;
+import com.enterprise.fast.domain.entity.User;
+import com.enterprise.fast.domain.enums.UserRole;
+import com.enterprise.fast.repository.UserRepository;
+import com.enterprise.fast.service.impl.UserApplicationIndexImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserApplicationIndexImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserApplicationIndexImpl index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserApplicationIndexImpl(userRepository);
+        when(userRepository.findAllMembershipRows()).thenReturn(List.of(
+                row(1L, UserRole.TECH_LEAD, true),
+                row(2L, UserRole.TECH_LEAD, false),
+                row(3L, UserRole.REVIEWER, true),
+                row(4L, UserRole.TECH_LEAD, true)));
+        when(userRepository.findAllApplicationLinks()).thenReturn(List.of(
+                link(1L, 10L), link(1L, 20L), link(2L, 10L), link(3L, 20L), link(4L, 30L)));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void findActiveUserIds_ReturnsActiveUsersOfTheRoleLinkedToAnyApplication() {
+        assertThat(index.findActiveUserIds(UserRole.TECH_LEAD, List.of(10L, 30L))).containsExactly(1L, 4L);
+        assertThat(index.findActiveUserIds(UserRole.REVIEWER, List.of(10L))).isEmpty();
+        assertThat(index.findActiveUserIds(UserRole.TECH_LEAD, List.of(99L))).isEmpty();
+
+        verify(userRepository, times(1)).findAllMembershipRows();
+    }
+
+    @Test
+    void sharesApplication_ChecksTheUsersLinks() {
+        assertThat(index.sharesApplication(3L, List.of(10L, 20L))).isTrue();
+        assertThat(index.sharesApplication(3L, List.of(10L))).isFalse();
+        assertThat(index.sharesApplication(99L, List.of(10L))).isFalse();
+        assertThat(index.getApplicationIds(1L)).containsExactly(10L, 20L);
+    }
+
+    @Test
+    void update_InsideTransaction_AppliesOnlyAfterCommit() {
+        index.rebuild();
+        User moved = User.builder().id(4L).username("lead").role(UserRole.TECH_LEAD).active(true)
+                .applications(new ArrayList<>(List.of(Application.builder().id(10L).build()))).build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.update(moved);
+        assertThat(index.findActiveUserIds(UserRole.TECH_LEAD, List.of(10L))).containsExactly(1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(index.findActiveUserIds(UserRole.TECH_LEAD, List.of(10L))).containsExactly(1L, 4L);
+        assertThat(index.findActiveUserIds(UserRole.TECH_LEAD, List.of(30L))).isEmpty();
+    }
+
+    private static UserRepository.MembershipRow row(Long id, UserRole role, boolean active) {
+        return new UserRepository.MembershipRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public UserRole getRole() {
+                return role;
+            }
+
+            @Override
+            public Boolean getActive() {
+                return active;
+            }
+        };
+    }
+
+    private static UserRepository.ApplicationLink link(Long userId, Long applicationId) {
+        return new UserRepository.ApplicationLink() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getApplicationId() {
+                return applicationId;
+            }
+        };
+    }
+}
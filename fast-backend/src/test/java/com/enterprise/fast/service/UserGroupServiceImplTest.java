@@ -30,6 +30,9 @@ class UserGroupServiceImplTest {
     @Mock
     private UserGroupRepository repository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private UserGroupServiceImpl service;
 
@@ -50,12 +53,14 @@ class UserGroupServiceImplTest {
 
     @Test
     void findAll_ActiveOnly_ReturnsActiveRecords() {
-        when(repository.findByActiveTrueOrderByNameAsc()).thenReturn(List.of(group));
+        UserGroup inactive = UserGroup.builder().id(2L).name("Legacy").active(false).build();
+        when(referenceDataCache.getUserGroups()).thenReturn(List.of(group, inactive));
 
         List<UserGroupResponse> result = service.findAll(true);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("Finance Controllers");
+        assertThat(service.findAll(false)).hasSize(2);
     }
 
     @Test
@@ -82,6 +87,7 @@ class UserGroupServiceImplTest {
 
         assertThat(result.getId()).isEqualTo(2L);
         assertThat(result.getName()).isEqualTo("Operations");
+        verify(referenceDataCache).evictUserGroups();
     }
 
     @Test